@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongo;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+
+/**
+ * End to end benchmarks of {@link MongoTemplate} operations against a {@link StubMongo} serving a batch of canned
+ * documents, so that query mapping, command execution and conversion are measured without network and server.
+ *
+ * @author agent
+ */
+public class MongoTemplateBenchmark extends AbstractMicrobenchmark {
+
+	private static final String DB_NAME = "template-benchmark";
+	private static final int BATCH_SIZE = 20;
+
+	private MongoTemplate template;
+
+	private Query queryByLastname;
+	private Query queryById;
+	private Update update;
+	private List<Person> bulkInserts;
+
+	@Setup
+	public void setUp() {
+
+		StubMongo mongo = new StubMongo();
+		template = new MongoTemplate(mongo.getDatabaseFactory(DB_NAME));
+
+		List<Document> documents = new ArrayList<>(BATCH_SIZE);
+		bulkInserts = new ArrayList<>(BATCH_SIZE);
+
+		for (int i = 0; i < BATCH_SIZE; i++) {
+
+			Person person = new Person("id-" + i, "luke-" + i, "skywalker", i);
+
+			Document document = new Document();
+			template.getConverter().write(person, document);
+			documents.add(document);
+
+			bulkInserts.add(new Person(null, "leia-" + i, "organa", i));
+		}
+
+		mongo.withResults(template.getCollectionName(Person.class), documents);
+
+		queryByLastname = query(where("lastname").is("skywalker").and("age").gte(0));
+		queryById = query(where("id").is("id-1"));
+		update = new Update().set("address.city", "tatooine").inc("age", 1);
+	}
+
+	@Benchmark
+	public List<Person> find() {
+		return template.find(queryByLastname, Person.class);
+	}
+
+	@Benchmark
+	public Person findOne() {
+		return template.findOne(queryById, Person.class);
+	}
+
+	@Benchmark
+	public long count() {
+		return template.count(queryByLastname, Person.class);
+	}
+
+	@Benchmark
+	public Person insert() {
+		return template.insert(new Person(null, "han", "solo", 32));
+	}
+
+	@Benchmark
+	public UpdateResult updateFirst() {
+		return template.updateFirst(queryById, update, Person.class);
+	}
+
+	@Benchmark
+	public BulkWriteResult bulkInsert() {
+		return template.bulkOps(BulkMode.UNORDERED, Person.class).insert(bulkInserts).execute();
+	}
+
+	@Benchmark
+	public BulkWriteResult bulkUpdate() {
+		return template.bulkOps(BulkMode.ORDERED, Person.class).updateOne(queryById, update)
+				.updateMulti(queryByLastname, update).execute();
+	}
+
+	static class Person {
+
+		@Id String id;
+		String firstname;
+		String lastname;
+		int age;
+		Address address;
+
+		Person() {}
+
+		Person(String id, String firstname, String lastname, int age) {
+
+			this.id = id;
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+			this.address = new Address("melenium falcon 1", "deathstar");
+		}
+	}
+
+	static class Address {
+
+		String street;
+		String city;
+
+		Address() {}
+
+		Address(String street, String city) {
+
+			this.street = street;
+			this.city = city;
+		}
+	}
+}
@@ -15,20 +15,21 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.Collections;
+
 import org.bson.Document;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Setup;
-import org.openjdk.jmh.annotations.TearDown;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.FindWithQuery;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.TerminatingFind;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongo;
 
-import com.mongodb.MongoClient;
-import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoCollection;
 
 /**
@@ -40,7 +41,6 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 	private static final String COLLECTION_NAME = "projections";
 
 	private MongoTemplate template;
-	private MongoClient client;
 	private MongoCollection<Document> mongoCollection;
 
 	private Person source;
@@ -56,8 +56,9 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 	@Setup
 	public void setUp() {
 
-		client = new MongoClient(new ServerAddress());
-		template = new MongoTemplate(client, DB_NAME);
+		StubMongo mongo = new StubMongo();
+		MongoDatabaseFactory factory = mongo.getDatabaseFactory(DB_NAME);
+		template = new MongoTemplate(factory);
 
 		source = new Person();
 		source.firstname = "luke";
@@ -69,6 +70,10 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 
 		template.save(source, COLLECTION_NAME);
 
+		Document document = new Document();
+		template.getConverter().write(source, document);
+		mongo.withResults(COLLECTION_NAME, Collections.singletonList(document));
+
 		asPerson = template.query(Person.class).inCollection(COLLECTION_NAME);
 		asDtoProjection = template.query(Person.class).inCollection(COLLECTION_NAME).as(DtoProjection.class);
 		asClosedProjection = template.query(Person.class).inCollection(COLLECTION_NAME).as(ClosedProjection.class);
@@ -77,14 +82,7 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		asPersonWithFieldsRestriction = template.query(Person.class).inCollection(COLLECTION_NAME)
 				.matching(new BasicQuery(new Document(), fields));
 
-		mongoCollection = client.getDatabase(DB_NAME).getCollection(COLLECTION_NAME);
-	}
-
-	@TearDown
-	public void tearDown() {
-
-		client.dropDatabase(DB_NAME);
-		client.close();
+		mongoCollection = factory.getMongoDatabase().getCollection(COLLECTION_NAME);
 	}
 
 	/**
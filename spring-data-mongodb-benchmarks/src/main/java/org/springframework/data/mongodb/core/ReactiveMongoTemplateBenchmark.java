@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongo;
+
+/**
+ * End to end benchmarks of {@link ReactiveMongoTemplate} operations against a {@link StubMongo}. Results are awaited
+ * on the benchmark thread, so that the measurement includes subscription and emission of the results.
+ *
+ * @author agent
+ */
+public class ReactiveMongoTemplateBenchmark extends AbstractMicrobenchmark {
+
+	private static final String DB_NAME = "reactive-template-benchmark";
+	private static final int BATCH_SIZE = 20;
+
+	private ReactiveMongoTemplate template;
+
+	private Query queryByLastname;
+	private Query queryById;
+
+	@Setup
+	public void setUp() {
+
+		StubMongo mongo = new StubMongo();
+		template = new ReactiveMongoTemplate(mongo.getReactiveDatabaseFactory(DB_NAME));
+
+		List<Document> documents = new ArrayList<>(BATCH_SIZE);
+
+		for (int i = 0; i < BATCH_SIZE; i++) {
+
+			Document document = new Document();
+			template.getConverter().write(new Person("id-" + i, "luke-" + i, "skywalker"), document);
+			documents.add(document);
+		}
+
+		mongo.withResults(template.getCollectionName(Person.class), documents);
+
+		queryByLastname = query(where("lastname").is("skywalker"));
+		queryById = query(where("id").is("id-1"));
+	}
+
+	@Benchmark
+	public List<Person> find() {
+		return template.find(queryByLastname, Person.class).collectList().block();
+	}
+
+	@Benchmark
+	public Person findOne() {
+		return template.findOne(queryById, Person.class).block();
+	}
+
+	@Benchmark
+	public Long count() {
+		return template.count(queryByLastname, Person.class).block();
+	}
+
+	@Benchmark
+	public Person insert() {
+		return template.insert(new Person(null, "han", "solo")).block();
+	}
+
+	static class Person {
+
+		@Id String id;
+		String firstname;
+		String lastname;
+
+		Person() {}
+
+		Person(String id, String firstname, String lastname) {
+
+			this.id = id;
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link AggregationOperationRenderer} rendering a pipeline of typical stages within an untyped, a
+ * strict type based and a relaxed type based {@link AggregationOperationContext}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class AggregationOperationRendererBenchmark extends AbstractMicrobenchmark {
+
+	private List<AggregationOperation> operations;
+
+	private AggregationOperationContext untypedContext;
+	private AggregationOperationContext typedContext;
+	private AggregationOperationContext relaxedTypedContext;
+
+	@Setup
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(Order.class));
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		QueryMapper queryMapper = new QueryMapper(converter);
+
+		untypedContext = Aggregation.DEFAULT_CONTEXT;
+		typedContext = new TypeBasedAggregationOperationContext(Order.class, mappingContext, queryMapper);
+		relaxedTypedContext = new RelaxedTypeBasedAggregationOperationContext(Order.class, mappingContext, queryMapper);
+
+		operations = Arrays.asList( //
+				match(where("customerId").is("c-1").and("items.quantity").gte(2)), //
+				unwind("items"), //
+				project("customerId", "items") //
+						.and("items.price").multiply("items.quantity").as("total") //
+						.and(StringOperators.valueOf("items.sku").toUpper()).as("sku"), //
+				group("customerId", "sku").sum("total").as("revenue").count().as("orders"), //
+				sort(Direction.DESC, "revenue"), //
+				limit(10));
+	}
+
+	@Benchmark
+	public List<Document> renderUntyped() {
+		return AggregationOperationRenderer.toDocument(operations, untypedContext);
+	}
+
+	@Benchmark
+	public List<Document> renderTyped() {
+		return AggregationOperationRenderer.toDocument(operations, typedContext);
+	}
+
+	@Benchmark
+	public List<Document> renderRelaxedTyped() {
+		return AggregationOperationRenderer.toDocument(operations, relaxedTypedContext);
+	}
+
+	static class Order {
+
+		@Id String id;
+		@Field("customer_id") String customerId;
+		List<LineItem> items;
+	}
+
+	static class LineItem {
+
+		@Field("stock_keeping_unit") String sku;
+		@Field("qty") int quantity;
+		double price;
+	}
+}
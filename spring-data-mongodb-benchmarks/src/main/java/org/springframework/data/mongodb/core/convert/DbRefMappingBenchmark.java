@@ -21,22 +21,21 @@ import static org.springframework.data.mongodb.core.query.Query.*;
 import lombok.Data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
-import org.openjdk.jmh.annotations.TearDown;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
-
-import com.mongodb.MongoClient;
-import com.mongodb.ServerAddress;
+import org.springframework.data.mongodb.microbenchmark.StubMongo;
 
 /**
  * @author Christoph Strobl
@@ -46,7 +45,6 @@ public class DbRefMappingBenchmark extends AbstractMicrobenchmark {
 
 	private static final String DB_NAME = "dbref-loading-benchmark";
 
-	private MongoClient client;
 	private MongoTemplate template;
 
 	private Query queryObjectWithDBRef;
@@ -55,8 +53,8 @@ public class DbRefMappingBenchmark extends AbstractMicrobenchmark {
 	@Setup
 	public void setUp() throws Exception {
 
-		client = new MongoClient(new ServerAddress());
-		template = new MongoTemplate(client, DB_NAME);
+		StubMongo mongo = new StubMongo();
+		template = new MongoTemplate(mongo.getDatabaseFactory(DB_NAME));
 
 		List<RefObject> refObjects = new ArrayList<>();
 		for (int i = 0; i < 1; i++) {
@@ -73,15 +71,17 @@ public class DbRefMappingBenchmark extends AbstractMicrobenchmark {
 		multipleDBRefs.refList = refObjects;
 		template.save(multipleDBRefs);
 
-		queryObjectWithDBRef = query(where("id").is(singleDBRef.id));
-		queryObjectWithDBRefList = query(where("id").is(multipleDBRefs.id));
-	}
+		List<Document> refDocuments = new ArrayList<>();
+		for (RefObject refObject : refObjects) {
+			refDocuments.add(toDocument(refObject));
+		}
 
-	@TearDown
-	public void tearDown() {
+		mongo.withResults(template.getCollectionName(RefObject.class), refDocuments);
+		mongo.withResults(template.getCollectionName(ObjectWithDBRef.class),
+				Arrays.asList(toDocument(singleDBRef), toDocument(multipleDBRefs)));
 
-		client.dropDatabase(DB_NAME);
-		client.close();
+		queryObjectWithDBRef = query(where("id").is(singleDBRef.id));
+		queryObjectWithDBRefList = query(where("id").is(multipleDBRefs.id));
 	}
 
 	@Benchmark // DATAMONGO-1720
@@ -94,6 +94,13 @@ public class DbRefMappingBenchmark extends AbstractMicrobenchmark {
 		return template.findOne(queryObjectWithDBRefList, ObjectWithDBRef.class);
 	}
 
+	private Document toDocument(Object source) {
+
+		Document document = new Document();
+		template.getConverter().write(source, document);
+		return document;
+	}
+
 	@Data
 	static class ObjectWithDBRef {
 
@@ -33,16 +33,12 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
-import org.openjdk.jmh.annotations.TearDown;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.geo.Point;
-import org.springframework.data.mongodb.core.SimpleMongoDbFactory;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
-
-import com.mongodb.MongoClient;
-import com.mongodb.ServerAddress;
+import org.springframework.data.mongodb.microbenchmark.StubMongo;
 
 /**
  * @author Christoph Strobl
@@ -52,7 +48,6 @@ public class MappingMongoConverterBenchmark extends AbstractMicrobenchmark {
 
 	private static final String DB_NAME = "mapping-mongo-converter-benchmark";
 
-	private MongoClient client;
 	private MongoMappingContext mappingContext;
 	private MappingMongoConverter converter;
 	private Document documentWith2Properties, documentWith2PropertiesAnd1Nested;
@@ -64,13 +59,11 @@ public class MappingMongoConverterBenchmark extends AbstractMicrobenchmark {
 	@Setup
 	public void setUp() throws Exception {
 
-		client = new MongoClient(new ServerAddress());
-
 		this.mappingContext = new MongoMappingContext();
 		this.mappingContext.setInitialEntitySet(Collections.singleton(Customer.class));
 		this.mappingContext.afterPropertiesSet();
 
-		DbRefResolver dbRefResolver = new DefaultDbRefResolver(new SimpleMongoDbFactory(client, DB_NAME));
+		DbRefResolver dbRefResolver = new DefaultDbRefResolver(new StubMongo().getDatabaseFactory(DB_NAME));
 
 		this.converter = new MappingMongoConverter(dbRefResolver, mappingContext);
 		this.converter.setCustomConversions(new MongoCustomConversions(Collections.emptyList()));
@@ -113,13 +106,6 @@ public class MappingMongoConverterBenchmark extends AbstractMicrobenchmark {
 
 	}
 
-	@TearDown
-	public void tearDown() {
-
-		client.dropDatabase(DB_NAME);
-		client.close();
-	}
-
 	@Benchmark // DATAMONGO-1720
 	public Customer readObjectWith2Properties() {
 		return converter.read(Customer.class, documentWith2Properties);
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link QueryMapper#getMappedObject(org.bson.conversions.Bson, MongoPersistentEntity)} covering
+ * property name and id mapping, nested paths, {@literal $elemMatch}, {@literal $or} and {@link DBRef} conversion.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class QueryMapperBenchmark extends AbstractMicrobenchmark {
+
+	private QueryMapper queryMapper;
+	private MongoPersistentEntity<?> entity;
+
+	private Document simpleQuery;
+	private Document nestedPathQuery;
+	private Document elemMatchQuery;
+	private Document orQuery;
+	private Document dbRefQuery;
+
+	@Setup
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(Customer.class));
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		queryMapper = new QueryMapper(converter);
+		entity = mappingContext.getRequiredPersistentEntity(Customer.class);
+
+		simpleQuery = query(where("id").is(new ObjectId().toHexString()).and("lastname").is("Matthews"))
+				.getQueryObject();
+		nestedPathQuery = query(where("address.zipCode").is("ABCDE").and("address.city").in("Some Place", "Any Place"))
+				.getQueryObject();
+		elemMatchQuery = query(where("orders").elemMatch(where("items.sku").is("sku-1").and("quantity").gte(2)))
+				.getQueryObject();
+		orQuery = query(new Criteria().orOperator(where("firstname").is("Dave"), where("address.city").is("Seattle"),
+				where("id").in(new ObjectId().toHexString(), new ObjectId().toHexString()))).getQueryObject();
+
+		Customer friend = new Customer();
+		friend.id = new ObjectId().toHexString();
+		dbRefQuery = query(where("friend").is(friend).and("friends").in(Arrays.asList(friend, friend)))
+				.getQueryObject();
+	}
+
+	@Benchmark
+	public Document mapSimpleQuery() {
+		return queryMapper.getMappedObject(simpleQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapNestedPathQuery() {
+		return queryMapper.getMappedObject(nestedPathQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapElemMatchQuery() {
+		return queryMapper.getMappedObject(elemMatchQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapOrQuery() {
+		return queryMapper.getMappedObject(orQuery, entity);
+	}
+
+	@Benchmark
+	public Document mapDbRefQuery() {
+		return queryMapper.getMappedObject(dbRefQuery, entity);
+	}
+
+	static class Customer {
+
+		@Id String id;
+		@Field("first_name") String firstname;
+		String lastname;
+		Address address;
+		List<Order> orders;
+		@DBRef Customer friend;
+		@DBRef List<Customer> friends;
+	}
+
+	static class Address {
+
+		@Field("zip") String zipCode;
+		String city;
+	}
+
+	static class Order {
+
+		@Field("qty") int quantity;
+		List<Item> items;
+	}
+
+	static class Item {
+
+		@Field("stock_keeping_unit") String sku;
+	}
+}
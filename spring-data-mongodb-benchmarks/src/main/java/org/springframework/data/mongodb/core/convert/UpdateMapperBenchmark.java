@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link UpdateMapper#getMappedObject(org.bson.conversions.Bson, MongoPersistentEntity)} covering
+ * {@literal $set} of nested values and documents, positional operators and array modifiers.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class UpdateMapperBenchmark extends AbstractMicrobenchmark {
+
+	private UpdateMapper updateMapper;
+	private MongoPersistentEntity<?> entity;
+
+	private Document setNestedValue;
+	private Document setNestedDocument;
+	private Document positionalUpdate;
+	private Document allPositionalUpdate;
+	private Document pushEach;
+
+	@Setup
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(Customer.class));
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		updateMapper = new UpdateMapper(converter);
+		entity = mappingContext.getRequiredPersistentEntity(Customer.class);
+
+		Address address = new Address();
+		address.zipCode = "ABCDE";
+		address.city = "Some Place";
+
+		Item item = new Item();
+		item.sku = "sku-1";
+
+		setNestedValue = new Update().set("address.zipCode", "ABCDE").set("address.city", "Some Place")
+				.getUpdateObject();
+		setNestedDocument = new Update().set("address", address).getUpdateObject();
+		positionalUpdate = new Update().set("orders.$.quantity", 2).inc("orders.$.items.0.count", 1)
+				.getUpdateObject();
+		allPositionalUpdate = new Update().set("orders.$[].quantity", 0).set("orders.$[order].items.$[].sku", "sku-2")
+				.filterArray("order.quantity", 1).getUpdateObject();
+		pushEach = new Update().push("orders.0.items").each(item, item).getUpdateObject();
+	}
+
+	@Benchmark
+	public Document mapSetNestedValue() {
+		return updateMapper.getMappedObject(setNestedValue, entity);
+	}
+
+	@Benchmark
+	public Document mapSetNestedDocument() {
+		return updateMapper.getMappedObject(setNestedDocument, entity);
+	}
+
+	@Benchmark
+	public Document mapPositionalUpdate() {
+		return updateMapper.getMappedObject(positionalUpdate, entity);
+	}
+
+	@Benchmark
+	public Document mapAllPositionalUpdate() {
+		return updateMapper.getMappedObject(allPositionalUpdate, entity);
+	}
+
+	@Benchmark
+	public Document mapPushEach() {
+		return updateMapper.getMappedObject(pushEach, entity);
+	}
+
+	static class Customer {
+
+		@Id String id;
+		Address address;
+		List<Order> orders;
+	}
+
+	static class Address {
+
+		@Field("zip") String zipCode;
+		String city;
+	}
+
+	static class Order {
+
+		@Field("qty") int quantity;
+		List<Item> items;
+	}
+
+	static class Item {
+
+		@Field("stock_keeping_unit") String sku;
+		int count;
+	}
+}
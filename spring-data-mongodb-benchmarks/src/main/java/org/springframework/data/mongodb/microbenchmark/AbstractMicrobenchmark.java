@@ -27,6 +27,7 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
@@ -113,6 +114,7 @@ public class AbstractMicrobenchmark {
 		optionsBuilder = warmup(optionsBuilder);
 		optionsBuilder = measure(optionsBuilder);
 		optionsBuilder = forks(optionsBuilder);
+		optionsBuilder = profilers(optionsBuilder);
 		optionsBuilder = report(optionsBuilder);
 
 		return optionsBuilder;
@@ -158,6 +160,17 @@ public class AbstractMicrobenchmark {
 		return environment.getProperty("forks", Integer.class, -1);
 	}
 
+	/**
+	 * Read {@code profilers} property from {@link org.springframework.core.env.Environment}. Profilers are given as
+	 * comma separated list of profiler class names, {@literal gc} being an alias for the {@link GCProfiler} that reports
+	 * the allocation rate alongside the throughput.
+	 *
+	 * @return {@literal gc} if not set. An empty array if explicitly set to an empty value.
+	 */
+	protected String[] getProfilers() {
+		return StringUtils.commaDelimitedListToStringArray(environment.getProperty("profilers", "gc"));
+	}
+
 	/**
 	 * Read {@code benchmarkReportDir} property from {@link org.springframework.core.env.Environment}.
 	 *
@@ -274,6 +287,33 @@ public class AbstractMicrobenchmark {
 		return optionsBuilder.forks(forks);
 	}
 
+	/**
+	 * Apply profilers option to {@link ChainedOptionsBuilder}.
+	 *
+	 * @param optionsBuilder must not be {@literal null}.
+	 * @return {@link ChainedOptionsBuilder} with options applied.
+	 * @see #getProfilers()
+	 */
+	private ChainedOptionsBuilder profilers(ChainedOptionsBuilder optionsBuilder) {
+
+		for (String profiler : getProfilers()) {
+
+			String profilerToUse = profiler.trim();
+
+			if (!StringUtils.hasText(profilerToUse)) {
+				continue;
+			}
+
+			if ("gc".equalsIgnoreCase(profilerToUse)) {
+				optionsBuilder = optionsBuilder.addProfiler(GCProfiler.class);
+			} else {
+				optionsBuilder = optionsBuilder.addProfiler(profilerToUse);
+			}
+		}
+
+		return optionsBuilder;
+	}
+
 	/**
 	 * Apply report option to {@link ChainedOptionsBuilder}.
 	 *
@@ -0,0 +1,924 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.microbenchmark;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.MongoIterable;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.client.result.UpdateResult;
+
+/**
+ * In-process stand-in for a MongoDB server allowing to benchmark template, repository and bulk operations end to end
+ * without network and server. Provides {@link MongoDatabaseFactory} and {@link ReactiveMongoDatabaseFactory}
+ * implementations handing out stub {@link MongoDatabase databases} and collections of the synchronous and the
+ * reactive driver.
+ * <p />
+ * Read operations serve canned result batches registered per collection via {@link #withResults(String, List)}.
+ * Results are kept in their raw BSON representation and decoded on each read, so that the decoding cost is part of the
+ * measurement. Filters are only evaluated for top level equality and {@code $in} criteria, any other criteria match
+ * all documents. Aggregations return the canned results of the collection they are run against.
+ * <p />
+ * Write operations neither alter the canned results nor keep the written documents. They are counted per collection
+ * and only the last write is kept, see {@link #getWriteCount(String)} and {@link #getLastWrite(String)}.
+ *
+ * <pre class="code">
+ * StubMongo mongo = new StubMongo().withResults("person", Collections.singletonList(new Document("_id", "id-1")));
+ * MongoTemplate template = new MongoTemplate(mongo.getDatabaseFactory("benchmark"));
+ * </pre>
+ *
+ * Sessions, transactions, change streams and map reduce are not supported.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class StubMongo {
+
+	private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+	private final CodecRegistry codecRegistry = MongoClientSettings.getDefaultCodecRegistry();
+	private final Map<String, List<CannedDocument>> results = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> writeCounts = new ConcurrentHashMap<>();
+	private final Map<String, Object> lastWrites = new ConcurrentHashMap<>();
+
+	/**
+	 * Register the documents to serve for read operations on the given collection, replacing previously registered
+	 * ones.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param documents must not be {@literal null}.
+	 * @return this.
+	 */
+	public StubMongo withResults(String collectionName, List<? extends Bson> documents) {
+
+		Assert.hasText(collectionName, "CollectionName must not be null or empty!");
+		Assert.notNull(documents, "Documents must not be null!");
+
+		List<CannedDocument> canned = new ArrayList<>(documents.size());
+
+		for (Bson document : documents) {
+
+			RawBsonDocument raw = document instanceof RawBsonDocument ? (RawBsonDocument) document
+					: new RawBsonDocument(document.toBsonDocument(BsonDocument.class, codecRegistry),
+							BSON_DOCUMENT_CODEC);
+			canned.add(new CannedDocument(raw, raw.decode(BSON_DOCUMENT_CODEC)));
+		}
+
+		results.put(collectionName, Collections.unmodifiableList(canned));
+		return this;
+	}
+
+	/**
+	 * Create a {@link MongoDatabaseFactory} handing out stub databases of the synchronous driver.
+	 *
+	 * @param databaseName must not be {@literal null}.
+	 * @return new instance of {@link MongoDatabaseFactory}.
+	 */
+	public MongoDatabaseFactory getDatabaseFactory(String databaseName) {
+
+		Assert.hasText(databaseName, "DatabaseName must not be null or empty!");
+		return new StubMongoDatabaseFactory(databaseName);
+	}
+
+	/**
+	 * Create a {@link ReactiveMongoDatabaseFactory} handing out stub databases of the reactive streams driver.
+	 *
+	 * @param databaseName must not be {@literal null}.
+	 * @return new instance of {@link ReactiveMongoDatabaseFactory}.
+	 */
+	public ReactiveMongoDatabaseFactory getReactiveDatabaseFactory(String databaseName) {
+
+		Assert.hasText(databaseName, "DatabaseName must not be null or empty!");
+		return new ReactiveStubMongoDatabaseFactory(databaseName);
+	}
+
+	/**
+	 * @param collectionName must not be {@literal null}.
+	 * @return number of documents written to the given collection, including updates and removals.
+	 */
+	public long getWriteCount(String collectionName) {
+
+		LongAdder count = writeCounts.get(collectionName);
+		return count != null ? count.sum() : 0;
+	}
+
+	/**
+	 * @param collectionName must not be {@literal null}.
+	 * @return the last document inserted, the last update or the last filter used for removal. {@literal null} if
+	 *         nothing has been written to the collection.
+	 */
+	@Nullable
+	public Object getLastWrite(String collectionName) {
+		return lastWrites.get(collectionName);
+	}
+
+	/**
+	 * Reset the recorded writes. Canned results are retained.
+	 */
+	public void reset() {
+
+		writeCounts.clear();
+		lastWrites.clear();
+	}
+
+	private void recordWrite(String collectionName, @Nullable Object write) {
+
+		writeCounts.computeIfAbsent(collectionName, key -> new LongAdder()).increment();
+
+		if (write != null) {
+			lastWrites.put(collectionName, write);
+		}
+	}
+
+	private List<CannedDocument> find(String collectionName, @Nullable Object filter) {
+
+		List<CannedDocument> documents = results.getOrDefault(collectionName, Collections.emptyList());
+
+		if (!(filter instanceof Bson)) {
+			return documents;
+		}
+
+		BsonDocument criteria = ((Bson) filter).toBsonDocument(BsonDocument.class, codecRegistry);
+		List<CannedDocument> matches = new ArrayList<>(documents.size());
+
+		for (CannedDocument document : documents) {
+			if (document.matches(criteria)) {
+				matches.add(document);
+			}
+		}
+
+		return matches;
+	}
+
+	private Object decode(CannedDocument document, Class<?> type) {
+
+		if (type.isInstance(document.raw)) {
+			return document.raw;
+		}
+
+		return document.raw.decode(codecRegistry.get(type));
+	}
+
+	private BsonValue idOf(Object document) {
+
+		if (document instanceof Document && !((Document) document).containsKey("_id")) {
+			((Document) document).put("_id", new ObjectId());
+		}
+
+		if (document instanceof Bson) {
+
+			BsonValue id = ((Bson) document).toBsonDocument(BsonDocument.class, codecRegistry).get("_id");
+
+			if (id != null) {
+				return id;
+			}
+		}
+
+		return new BsonObjectId();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+
+		return (T) Proxy.newProxyInstance(StubMongo.class.getClassLoader(), new Class<?>[] { type }, (proxy, method,
+				args) -> {
+
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return type.getSimpleName() + "Stub";
+				default:
+					return handler.invoke(proxy, method, args);
+			}
+		});
+	}
+
+	/**
+	 * Adapt the given value to the return type of the given method. {@link Results} are returned as the type specific
+	 * iterable, publisher or list. Values for methods returning a plain {@link Publisher} are computed on subscription.
+	 */
+	private static Object adapt(Method method, Supplier<Object> value) {
+
+		Class<?> type = method.getReturnType();
+
+		if (type == Publisher.class) {
+
+			return Flux.<Object> defer(() -> {
+
+				Object result = value.get();
+
+				if (result instanceof Results) {
+					return Flux.<Object> fromIterable(((Results) result).get());
+				}
+
+				return result != null ? Flux.just(result) : Flux.empty();
+			});
+		}
+
+		Object result = value.get();
+
+		if (result instanceof Results) {
+			return type == List.class ? new ArrayList<>(((Results) result).get())
+					: proxy(type, new ResultsHandler((Results) result));
+		}
+
+		return type == void.class ? null : result;
+	}
+
+	/**
+	 * Strip a leading {@link com.mongodb.session.ClientSession} from the given arguments.
+	 */
+	private static Object[] arguments(@Nullable Object[] args) {
+
+		if (args == null) {
+			return new Object[0];
+		}
+
+		if (args.length > 0 && args[0] instanceof com.mongodb.session.ClientSession) {
+			return Arrays.copyOfRange(args, 1, args.length);
+		}
+
+		return args;
+	}
+
+	@Nullable
+	private static <T> T argument(Object[] args, int index, Class<T> type) {
+		return args.length > index && type.isInstance(args[index]) ? type.cast(args[index]) : null;
+	}
+
+	private static UnsupportedOperationException unsupported(Method method) {
+		return new UnsupportedOperationException(String.format("%s is not supported by StubMongo!", method));
+	}
+
+	/**
+	 * Stub database of either driver.
+	 */
+	private class DatabaseHandler implements InvocationHandler {
+
+		private final String databaseName;
+
+		DatabaseHandler(String databaseName) {
+			this.databaseName = databaseName;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] arguments) {
+
+			Object[] args = arguments(arguments);
+
+			switch (method.getName()) {
+				case "getName":
+					return databaseName;
+				case "getCodecRegistry":
+					return codecRegistry;
+				case "getReadPreference":
+					return ReadPreference.primary();
+				case "getWriteConcern":
+					return WriteConcern.ACKNOWLEDGED;
+				case "getReadConcern":
+					return ReadConcern.DEFAULT;
+				case "getCollection":
+					Class<?> documentClass = args.length > 1 ? (Class<?>) args[1] : Document.class;
+					return proxy(method.getReturnType(),
+							new CollectionHandler(databaseName, (String) args[0], documentClass));
+				case "runCommand":
+					return adapt(method, () -> new Document("ok", 1.0));
+				case "listCollectionNames":
+					return adapt(method, () -> new Results(() -> new ArrayList<>(results.keySet())));
+				case "createCollection":
+				case "createView":
+				case "drop":
+					return adapt(method, () -> null);
+				default:
+			}
+
+			if (method.getName().startsWith("with") && method.getReturnType().isInstance(proxy)) {
+				return proxy;
+			}
+
+			throw unsupported(method);
+		}
+	}
+
+	/**
+	 * Stub collection of either driver.
+	 */
+	private class CollectionHandler implements InvocationHandler {
+
+		private final String databaseName;
+		private final String collectionName;
+		private final Class<?> documentClass;
+
+		CollectionHandler(String databaseName, String collectionName, Class<?> documentClass) {
+
+			this.databaseName = databaseName;
+			this.collectionName = collectionName;
+			this.documentClass = documentClass;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] arguments) {
+
+			Object[] args = arguments(arguments);
+
+			switch (method.getName()) {
+				case "getNamespace":
+					return new MongoNamespace(databaseName, collectionName);
+				case "getDocumentClass":
+					return documentClass;
+				case "getCodecRegistry":
+					return codecRegistry;
+				case "getReadPreference":
+					return ReadPreference.primary();
+				case "getWriteConcern":
+					return WriteConcern.ACKNOWLEDGED;
+				case "getReadConcern":
+					return ReadConcern.DEFAULT;
+				case "withDocumentClass":
+					return proxy(method.getReturnType(),
+							new CollectionHandler(databaseName, collectionName, (Class<?>) args[0]));
+				default:
+			}
+
+			if (method.getName().startsWith("with") && method.getReturnType().isInstance(proxy)) {
+				return proxy;
+			}
+
+			return adapt(method, () -> execute(method, args));
+		}
+
+		@Nullable
+		private Object execute(Method method, Object[] args) {
+
+			switch (method.getName()) {
+				case "find":
+				case "aggregate":
+					return find(method.getName().equals("find") ? argument(args, 0, Bson.class) : null,
+							resultClass(args, documentClass));
+				case "countDocuments":
+				case "count":
+					return (long) StubMongo.this.find(collectionName, argument(args, 0, Bson.class)).size();
+				case "estimatedDocumentCount":
+					return (long) StubMongo.this.find(collectionName, null).size();
+				case "distinct":
+					return distinct((String) args[0], argument(args, 1, Bson.class), resultClass(args, Object.class));
+				case "insertOne":
+					recordWrite(collectionName, args[0]);
+					return InsertOneResult.acknowledged(idOf(args[0]));
+				case "insertMany":
+					return insertMany((List<?>) args[0]);
+				case "updateOne":
+				case "updateMany":
+				case "replaceOne":
+					return update(method.getName(), (Bson) args[0], args[1], argument(args, 2, Object.class));
+				case "deleteOne":
+				case "deleteMany":
+					return delete(method.getName().equals("deleteOne"), (Bson) args[0]);
+				case "bulkWrite":
+					return bulkWrite((List<?>) args[0]);
+				case "findOneAndUpdate":
+				case "findOneAndReplace":
+				case "findOneAndDelete":
+					return findOneAnd((Bson) args[0], args.length > 1 ? args[1] : args[0]);
+				case "createIndex":
+					IndexOptions options = argument(args, 1, IndexOptions.class);
+					return options != null && options.getName() != null ? options.getName() : "index";
+				case "createIndexes":
+					return new Results(() -> Collections.singletonList("index"));
+				case "listIndexes":
+					return new Results(() -> Collections.singletonList(new Document("v", 2)
+							.append("key", new Document("_id", 1)).append("name", "_id_")));
+				case "dropIndex":
+				case "dropIndexes":
+				case "drop":
+				case "renameCollection":
+					return null;
+				default:
+					throw unsupported(method);
+			}
+		}
+
+		private Class<?> resultClass(Object[] args, Class<?> defaultType) {
+
+			for (int i = args.length - 1; i >= 0; i--) {
+				if (args[i] instanceof Class) {
+					return (Class<?>) args[i];
+				}
+			}
+
+			return defaultType;
+		}
+
+		private Results find(@Nullable Bson filter, Class<?> resultClass) {
+
+			return new Results(() -> {
+
+				List<CannedDocument> documents = StubMongo.this.find(collectionName, filter);
+				List<Object> decoded = new ArrayList<>(documents.size());
+
+				for (CannedDocument document : documents) {
+					decoded.add(decode(document, resultClass));
+				}
+
+				return decoded;
+			});
+		}
+
+		private Results distinct(String fieldName, @Nullable Bson filter, Class<?> resultClass) {
+
+			return new Results(() -> {
+
+				Set<Object> values = new LinkedHashSet<>();
+
+				for (CannedDocument document : StubMongo.this.find(collectionName, filter)) {
+
+					Object value = BsonValue.class.isAssignableFrom(resultClass) ? document.document.get(fieldName)
+							: ((Document) decode(document, Document.class)).get(fieldName);
+
+					if (value != null) {
+						values.add(value);
+					}
+				}
+
+				return new ArrayList<>(values);
+			});
+		}
+
+		private InsertManyResult insertMany(List<?> documents) {
+
+			Map<Integer, BsonValue> ids = new LinkedHashMap<>();
+
+			for (int i = 0; i < documents.size(); i++) {
+
+				recordWrite(collectionName, documents.get(i));
+				ids.put(i, idOf(documents.get(i)));
+			}
+
+			return InsertManyResult.acknowledged(ids);
+		}
+
+		private UpdateResult update(String operation, Bson filter, Object update, @Nullable Object options) {
+
+			int matches = StubMongo.this.find(collectionName, filter).size();
+			long matched = operation.equals("updateMany") ? matches : Math.min(matches, 1);
+
+			recordWrite(collectionName, update);
+
+			boolean upsert = (options instanceof UpdateOptions && ((UpdateOptions) options).isUpsert())
+					|| (options instanceof ReplaceOptions && ((ReplaceOptions) options).isUpsert());
+
+			return UpdateResult.acknowledged(matched, matched, matched == 0 && upsert ? new BsonObjectId() : null);
+		}
+
+		private DeleteResult delete(boolean single, Bson filter) {
+
+			int matches = StubMongo.this.find(collectionName, filter).size();
+
+			recordWrite(collectionName, filter);
+			return DeleteResult.acknowledged(single ? Math.min(matches, 1) : matches);
+		}
+
+		private BulkWriteResult bulkWrite(List<?> requests) {
+
+			int inserted = 0;
+			int matched = 0;
+			int removed = 0;
+
+			for (Object request : requests) {
+
+				WriteModel<?> model = (WriteModel<?>) request;
+
+				if (model instanceof InsertOneModel) {
+
+					Object document = ((InsertOneModel<?>) model).getDocument();
+					idOf(document);
+					recordWrite(collectionName, document);
+					inserted++;
+				} else if (model instanceof UpdateOneModel || model instanceof UpdateManyModel
+						|| model instanceof ReplaceOneModel) {
+
+					recordWrite(collectionName, model);
+					matched++;
+				} else if (model instanceof DeleteOneModel || model instanceof DeleteManyModel) {
+
+					recordWrite(collectionName, model);
+					removed++;
+				}
+			}
+
+			return BulkWriteResult.acknowledged(inserted, matched, removed, matched, Collections.emptyList());
+		}
+
+		@Nullable
+		private Object findOneAnd(Bson filter, Object write) {
+
+			recordWrite(collectionName, write);
+
+			List<CannedDocument> documents = StubMongo.this.find(collectionName, filter);
+			return documents.isEmpty() ? null : decode(documents.get(0), documentClass);
+		}
+	}
+
+	/**
+	 * Result of a read operation computed on iteration or subscription.
+	 */
+	private static class Results {
+
+		private final Supplier<List<?>> source;
+		private int skip;
+		private int limit;
+
+		Results(Supplier<List<?>> source) {
+			this.source = source;
+		}
+
+		List<?> get() {
+
+			List<?> values = source.get();
+
+			int from = Math.min(skip, values.size());
+			int to = limit > 0 ? Math.min(from + limit, values.size()) : values.size();
+
+			return from == 0 && to == values.size() ? values : values.subList(from, to);
+		}
+	}
+
+	/**
+	 * Iterables, cursors and publishers of either driver backed by {@link Results}.
+	 */
+	private static class ResultsHandler implements InvocationHandler {
+
+		private final Results results;
+
+		ResultsHandler(Results results) {
+			this.results = results;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object invoke(Object proxy, Method method, Object[] args) {
+
+			switch (method.getName()) {
+				case "skip":
+					results.skip = (Integer) args[0];
+					return proxy;
+				case "limit":
+					results.limit = (Integer) args[0];
+					return proxy;
+				case "first":
+					return adapt(method, () -> {
+						List<?> values = results.get();
+						return values.isEmpty() ? null : values.get(0);
+					});
+				case "iterator":
+				case "cursor":
+					return proxy(MongoCursor.class, new CursorHandler(results.get().iterator()));
+				case "into":
+					((Collection) args[0]).addAll(results.get());
+					return args[0];
+				case "forEach":
+					results.get().forEach((Consumer) args[0]);
+					return null;
+				case "spliterator":
+					return results.get().spliterator();
+				case "map":
+					Function function = (Function) args[0];
+					return proxy(MongoIterable.class, new ResultsHandler(new Results(() -> {
+
+						List<Object> mapped = new ArrayList<>();
+						results.get().forEach(it -> mapped.add(function.apply(it)));
+						return mapped;
+					})));
+				case "subscribe":
+					Flux.fromIterable(results.get()).subscribe((Subscriber) args[0]);
+					return null;
+				case "toCollection":
+					return adapt(method, () -> null);
+				default:
+			}
+
+			if (method.getReturnType().isInstance(proxy)) {
+				return proxy;
+			}
+
+			throw unsupported(method);
+		}
+	}
+
+	/**
+	 * {@link MongoCursor} over already computed results.
+	 */
+	private static class CursorHandler implements InvocationHandler {
+
+		private final Iterator<?> iterator;
+
+		CursorHandler(Iterator<?> iterator) {
+			this.iterator = iterator;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object invoke(Object proxy, Method method, Object[] args) {
+
+			switch (method.getName()) {
+				case "hasNext":
+					return iterator.hasNext();
+				case "next":
+					return iterator.next();
+				case "tryNext":
+					return iterator.hasNext() ? iterator.next() : null;
+				case "available":
+					return iterator.hasNext() ? 1 : 0;
+				case "forEachRemaining":
+					iterator.forEachRemaining((Consumer) args[0]);
+					return null;
+				case "getServerAddress":
+					return new ServerAddress();
+				case "close":
+				case "getServerCursor":
+					return null;
+				default:
+					throw unsupported(method);
+			}
+		}
+	}
+
+	/**
+	 * Canned document in its raw representation along with the decoded one used for filtering.
+	 */
+	private static class CannedDocument {
+
+		private final RawBsonDocument raw;
+		private final BsonDocument document;
+
+		CannedDocument(RawBsonDocument raw, BsonDocument document) {
+
+			this.raw = raw;
+			this.document = document;
+		}
+
+		boolean matches(BsonDocument criteria) {
+
+			for (Map.Entry<String, BsonValue> criterion : criteria.entrySet()) {
+
+				String key = criterion.getKey();
+				BsonValue expected = criterion.getValue();
+
+				if (key.startsWith("$") || key.contains(".")) {
+					continue;
+				}
+
+				BsonValue actual = document.get(key);
+
+				if (expected.isDocument() && !expected.asDocument().isEmpty()
+						&& expected.asDocument().getFirstKey().startsWith("$")) {
+
+					BsonDocument operators = expected.asDocument();
+
+					if (operators.containsKey("$in")) {
+
+						if (!operators.getArray("$in").contains(actual)) {
+							return false;
+						}
+					} else if (operators.containsKey("$eq") && !operators.get("$eq").equals(actual)) {
+						return false;
+					}
+
+					continue;
+				}
+
+				if (!expected.equals(actual)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * {@link MongoDatabaseFactory} handing out stub databases.
+	 */
+	private class StubMongoDatabaseFactory implements MongoDatabaseFactory {
+
+		private final String databaseName;
+
+		StubMongoDatabaseFactory(String databaseName) {
+			this.databaseName = databaseName;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.MongoDatabaseFactory#getMongoDatabase()
+		 */
+		@Override
+		public MongoDatabase getMongoDatabase() {
+			return getMongoDatabase(databaseName);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.MongoDatabaseFactory#getMongoDatabase(java.lang.String)
+		 */
+		@Override
+		public MongoDatabase getMongoDatabase(String dbName) {
+			return proxy(MongoDatabase.class, new DatabaseHandler(dbName));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.MongoDatabaseFactory#getExceptionTranslator()
+		 */
+		@Override
+		public PersistenceExceptionTranslator getExceptionTranslator() {
+			return new MongoExceptionTranslator();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.MongoDatabaseFactory#getCodecRegistry()
+		 */
+		@Override
+		public CodecRegistry getCodecRegistry() {
+			return codecRegistry;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.MongoDatabaseFactory#getSession(com.mongodb.ClientSessionOptions)
+		 */
+		@Override
+		public ClientSession getSession(ClientSessionOptions options) {
+			throw new UnsupportedOperationException("Sessions are not supported by StubMongo!");
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.MongoDatabaseFactory#withSession(com.mongodb.client.ClientSession)
+		 */
+		@Override
+		public MongoDatabaseFactory withSession(ClientSession session) {
+			throw new UnsupportedOperationException("Sessions are not supported by StubMongo!");
+		}
+	}
+
+	/**
+	 * {@link ReactiveMongoDatabaseFactory} handing out stub databases.
+	 */
+	private class ReactiveStubMongoDatabaseFactory implements ReactiveMongoDatabaseFactory {
+
+		private final String databaseName;
+
+		ReactiveStubMongoDatabaseFactory(String databaseName) {
+			this.databaseName = databaseName;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.ReactiveMongoDatabaseFactory#getMongoDatabase()
+		 */
+		@Override
+		public Mono<com.mongodb.reactivestreams.client.MongoDatabase> getMongoDatabase() {
+			return getMongoDatabase(databaseName);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.ReactiveMongoDatabaseFactory#getMongoDatabase(java.lang.String)
+		 */
+		@Override
+		public Mono<com.mongodb.reactivestreams.client.MongoDatabase> getMongoDatabase(String dbName) {
+			return Mono
+					.just(proxy(com.mongodb.reactivestreams.client.MongoDatabase.class, new DatabaseHandler(dbName)));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.ReactiveMongoDatabaseFactory#getExceptionTranslator()
+		 */
+		@Override
+		public PersistenceExceptionTranslator getExceptionTranslator() {
+			return new MongoExceptionTranslator();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.ReactiveMongoDatabaseFactory#getCodecRegistry()
+		 */
+		@Override
+		public CodecRegistry getCodecRegistry() {
+			return codecRegistry;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.ReactiveMongoDatabaseFactory#getSession(com.mongodb.ClientSessionOptions)
+		 */
+		@Override
+		public Mono<com.mongodb.reactivestreams.client.ClientSession> getSession(ClientSessionOptions options) {
+			return Mono.error(new UnsupportedOperationException("Sessions are not supported by StubMongo!"));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.ReactiveMongoDatabaseFactory#withSession(com.mongodb.reactivestreams.client.ClientSession)
+		 */
+		@Override
+		public ReactiveMongoDatabaseFactory withSession(com.mongodb.reactivestreams.client.ClientSession session) {
+			throw new UnsupportedOperationException("Sessions are not supported by StubMongo!");
+		}
+	}
+}
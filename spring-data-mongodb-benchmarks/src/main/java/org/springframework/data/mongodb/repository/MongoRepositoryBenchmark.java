@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.microbenchmark.StubMongo;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+/**
+ * Benchmarks for derived, string based and CRUD repository methods executed against a {@link StubMongo}, covering
+ * query method lookup, parameter binding and query creation on top of the template operations.
+ *
+ * @author agent
+ */
+public class MongoRepositoryBenchmark extends AbstractMicrobenchmark {
+
+	private static final String DB_NAME = "repository-benchmark";
+	private static final int BATCH_SIZE = 20;
+
+	private PersonRepository repository;
+
+	@Setup
+	public void setUp() {
+
+		StubMongo mongo = new StubMongo();
+		MongoTemplate template = new MongoTemplate(mongo.getDatabaseFactory(DB_NAME));
+
+		List<Document> documents = new ArrayList<>(BATCH_SIZE);
+
+		for (int i = 0; i < BATCH_SIZE; i++) {
+
+			Document document = new Document();
+			template.getConverter().write(new Person("id-" + i, "luke-" + i, "skywalker", i), document);
+			documents.add(document);
+		}
+
+		mongo.withResults(template.getCollectionName(Person.class), documents);
+
+		repository = new MongoRepositoryFactory(template).getRepository(PersonRepository.class);
+	}
+
+	@Benchmark
+	public List<Person> derivedQuery() {
+		return repository.findByLastnameAndAgeGreaterThan("skywalker", 0);
+	}
+
+	@Benchmark
+	public List<Person> stringQuery() {
+		return repository.findByLastnameUsingAnnotatedQuery("skywalker");
+	}
+
+	@Benchmark
+	public Optional<Person> findById() {
+		return repository.findById("id-1");
+	}
+
+	@Benchmark
+	public Person save() {
+		return repository.save(new Person(null, "han", "solo", 32));
+	}
+
+	interface PersonRepository extends MongoRepository<Person, String> {
+
+		List<Person> findByLastnameAndAgeGreaterThan(String lastname, int age);
+
+		@Query("{ 'lastname' : ?0 }")
+		List<Person> findByLastnameUsingAnnotatedQuery(String lastname);
+	}
+
+	static class Person {
+
+		@Id String id;
+		String firstname;
+		String lastname;
+		int age;
+
+		Person() {}
+
+		Person(String id, String firstname, String lastname, int age) {
+
+			this.id = id;
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+		}
+	}
+}
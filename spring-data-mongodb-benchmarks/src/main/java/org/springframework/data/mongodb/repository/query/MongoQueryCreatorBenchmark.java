@@ -0,0 +1,161 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Benchmarks for {@link MongoQueryCreator} deriving a {@link Query} from an already parsed {@link PartTree} and the
+ * actual method arguments, as done on each execution of a derived query method.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class MongoQueryCreatorBenchmark extends AbstractMicrobenchmark {
+
+	private MongoMappingContext mappingContext;
+	private MappingMongoConverter converter;
+
+	private Invocation simpleProperties;
+	private Invocation nestedPropertyIn;
+	private Invocation between;
+	private Invocation startingWithIgnoreCase;
+	private Invocation orWithSort;
+
+	@Setup
+	public void setUp() {
+
+		mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(Person.class));
+		mappingContext.afterPropertiesSet();
+
+		converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		simpleProperties = invocation("findByFirstnameAndLastname", "Dave", "Matthews");
+		nestedPropertyIn = invocation("findByAddressCityIn", Arrays.asList("Seattle", "London"));
+		between = invocation("findByAgeBetween", 18, 65);
+		startingWithIgnoreCase = invocation("findByLastnameStartingWithIgnoreCase", "Mat");
+		orWithSort = invocation("findByFirstnameOrLastnameOrderByAgeDesc", "Dave", "Matthews");
+	}
+
+	@Benchmark
+	public Query createSimplePropertiesQuery() {
+		return simpleProperties.createQuery();
+	}
+
+	@Benchmark
+	public Query createNestedPropertyInQuery() {
+		return nestedPropertyIn.createQuery();
+	}
+
+	@Benchmark
+	public Query createBetweenQuery() {
+		return between.createQuery();
+	}
+
+	@Benchmark
+	public Query createStartingWithIgnoreCaseQuery() {
+		return startingWithIgnoreCase.createQuery();
+	}
+
+	@Benchmark
+	public Query createOrQueryWithSort() {
+		return orWithSort.createQuery();
+	}
+
+	private Invocation invocation(String methodName, Object... args) {
+
+		RepositoryMetadata metadata = new DefaultRepositoryMetadata(PersonRepository.class);
+		Method method = Arrays.stream(PersonRepository.class.getMethods())
+				.filter(it -> it.getName().equals(methodName)) //
+				.findFirst() //
+				.orElseThrow(() -> new IllegalArgumentException("No method named " + methodName));
+
+		MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, new SpelAwareProxyProjectionFactory(),
+				mappingContext);
+
+		PartTree tree = new PartTree(method.getName(), Person.class);
+		ConvertingParameterAccessor accessor = new ConvertingParameterAccessor(converter,
+				new MongoParametersParameterAccessor(queryMethod, args));
+
+		return new Invocation(tree, accessor);
+	}
+
+	private class Invocation {
+
+		private final PartTree tree;
+		private final ConvertingParameterAccessor accessor;
+
+		Invocation(PartTree tree, ConvertingParameterAccessor accessor) {
+
+			this.tree = tree;
+			this.accessor = accessor;
+		}
+
+		Query createQuery() {
+			return new MongoQueryCreator(tree, accessor, mappingContext).createQuery();
+		}
+	}
+
+	interface PersonRepository extends Repository<Person, String> {
+
+		List<Person> findByFirstnameAndLastname(String firstname, String lastname);
+
+		List<Person> findByAddressCityIn(Collection<String> cities);
+
+		List<Person> findByAgeBetween(int from, int to);
+
+		List<Person> findByLastnameStartingWithIgnoreCase(String lastname);
+
+		List<Person> findByFirstnameOrLastnameOrderByAgeDesc(String firstname, String lastname);
+	}
+
+	static class Person {
+
+		@Id String id;
+		@Field("first_name") String firstname;
+		String lastname;
+		int age;
+		Address address;
+	}
+
+	static class Address {
+
+		String city;
+	}
+}
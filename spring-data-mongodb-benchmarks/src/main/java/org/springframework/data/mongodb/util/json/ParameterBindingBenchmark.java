@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util.json;
+
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Benchmarks for {@link ParameterBindingJsonReader} and {@link ParameterBindingDocumentCodec#decode(String,
+ * ParameterBindingContext)} binding positional placeholders and SpEL expressions as used by string based repository
+ * queries.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class ParameterBindingBenchmark extends AbstractMicrobenchmark {
+
+	private static final String PLAIN_JSON = "{ 'lastname' : 'Matthews', 'age' : { '$gt' : 18, '$lt' : 65 } }";
+	private static final String PLACEHOLDER_JSON = "{ 'lastname' : ?0, 'age' : { '$gt' : ?1, '$lt' : ?2 } }";
+	private static final String PLACEHOLDER_IN_STRING_JSON = "{ 'lastname' : { '$regex' : '^?0' } }";
+	private static final String SPEL_JSON = "{ 'lastname' : ?#{[0]}, 'age' : { '$gt' : ?#{[1] + 1} } }";
+	private static final String SPEL_OBJECT_JSON = "{ 'address.city' : ?#{ [3] != null ? { $in : {[3]} } "
+			+ ": { $exists : false } } }";
+
+	private ParameterBindingDocumentCodec codec;
+	private ParameterBindingContext bindingContext;
+	private DecoderContext decoderContext;
+
+	@Setup
+	public void setUp() {
+
+		Object[] values = new Object[] { "Matthews", 18, 65, "Seattle" };
+
+		SpelExpressionParser expressionParser = new SpelExpressionParser();
+		EvaluationContext evaluationContext = new StandardEvaluationContext(values);
+
+		codec = new ParameterBindingDocumentCodec();
+		bindingContext = new ParameterBindingContext(index -> values[index], expressionParser, evaluationContext);
+		decoderContext = DecoderContext.builder().build();
+	}
+
+	@Benchmark
+	public Document readPlainJson() {
+		return codec.decode(new ParameterBindingJsonReader(PLAIN_JSON, bindingContext), decoderContext);
+	}
+
+	@Benchmark
+	public Document readPlaceholders() {
+		return codec.decode(new ParameterBindingJsonReader(PLACEHOLDER_JSON, bindingContext), decoderContext);
+	}
+
+	@Benchmark
+	public Document decodePlaceholders() {
+		return codec.decode(PLACEHOLDER_JSON, bindingContext);
+	}
+
+	@Benchmark
+	public Document decodePlaceholderInString() {
+		return codec.decode(PLACEHOLDER_IN_STRING_JSON, bindingContext);
+	}
+
+	@Benchmark
+	public Document decodeSpelExpressions() {
+		return codec.decode(SPEL_JSON, bindingContext);
+	}
+
+	@Benchmark
+	public Document decodeSpelObjectExpression() {
+		return codec.decode(SPEL_OBJECT_JSON, bindingContext);
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb;
+
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+
+/**
+ * Runs a unit of work within a single causally consistent {@link ClientSession} bound to the current {@link Thread}.
+ * All operations obtaining their {@link com.mongodb.client.MongoDatabase} via {@link MongoDatabaseUtils}, such as those
+ * of {@link org.springframework.data.mongodb.core.MongoTemplate} and the repositories built on top of it, participate
+ * in the session. This allows routing reads to secondaries while still observing the writes issued before within the
+ * same scope (read your own writes).
+ *
+ * <pre class="code">
+ * CausallyConsistentSessionScope.run(factory, () -> {
+ * 	repository.save(order);
+ * 	repository.findById(order.getId()); // annotated with &#64;ReadPreference("secondaryPreferred")
+ * });
+ * </pre>
+ *
+ * In case the {@link MongoDatabaseFactory} is already bound to a session, e.g. within a transaction, the unit of work
+ * participates in the existing one.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public final class CausallyConsistentSessionScope {
+
+	private static final ClientSessionOptions SESSION_OPTIONS = ClientSessionOptions.builder().causallyConsistent(true)
+			.build();
+
+	private CausallyConsistentSessionScope() {}
+
+	/**
+	 * Run the given {@link Runnable} within a causally consistent session.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 */
+	public static void run(MongoDatabaseFactory factory, Runnable action) {
+
+		Assert.notNull(action, "Action must not be null!");
+
+		execute(factory, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Obtain a result from the given {@link Supplier} within a causally consistent session.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @return the result of the {@link Supplier}. Can be {@literal null}.
+	 */
+	@Nullable
+	public static <T> T execute(MongoDatabaseFactory factory, Supplier<T> action) {
+
+		Assert.notNull(factory, "MongoDatabaseFactory must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		if (TransactionSynchronizationManager.hasResource(factory)) {
+			return action.get();
+		}
+
+		ClientSession session = factory.getSession(SESSION_OPTIONS);
+		boolean initSynchronization = !TransactionSynchronizationManager.isSynchronizationActive();
+
+		TransactionSynchronizationManager.bindResource(factory, new MongoResourceHolder(session, factory));
+
+		if (initSynchronization) {
+			TransactionSynchronizationManager.initSynchronization();
+		}
+
+		try {
+			return action.get();
+		} finally {
+
+			if (initSynchronization) {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+
+			TransactionSynchronizationManager.unbindResource(factory);
+			session.close();
+		}
+	}
+}
@@ -114,7 +114,7 @@ public class MongoDatabaseUtils {
 			return StringUtils.hasText(dbName) ? factory.getMongoDatabase(dbName) : factory.getMongoDatabase();
 		}
 
-		MongoDatabaseFactory factoryToUse = factory.withSession(session);
+		MongoDatabaseFactory factoryToUse = getSessionBoundFactory(factory, session);
 		return StringUtils.hasText(dbName) ? factoryToUse.getMongoDatabase(dbName) : factoryToUse.getMongoDatabase();
 	}
 
@@ -138,6 +138,15 @@ public class MongoDatabaseUtils {
 		return resourceHolder != null && resourceHolder.hasActiveTransaction();
 	}
 
+	private static MongoDatabaseFactory getSessionBoundFactory(MongoDatabaseFactory factory, ClientSession session) {
+
+		MongoResourceHolder resourceHolder = (MongoResourceHolder) TransactionSynchronizationManager.getResource(factory);
+
+		return resourceHolder != null && resourceHolder.getSession() == session
+				? resourceHolder.getSessionBoundDbFactory(session)
+				: factory.withSession(session);
+	}
+
 	@Nullable
 	private static ClientSession doGetSession(MongoDatabaseFactory dbFactory,
 			SessionSynchronization sessionSynchronization) {
@@ -37,6 +37,7 @@ class MongoResourceHolder extends ResourceHolderSupport {
 
 	private @Nullable ClientSession session;
 	private MongoDatabaseFactory dbFactory;
+	private @Nullable MongoDatabaseFactory sessionBoundDbFactory;
 
 	/**
 	 * Create a new {@link MongoResourceHolder} for a given {@link ClientSession session}.
@@ -81,13 +82,33 @@ class MongoResourceHolder extends ResourceHolderSupport {
 		return dbFactory;
 	}
 
+	/**
+	 * Obtain the {@link MongoDatabaseFactory#withSession(ClientSession) session bound} {@link MongoDatabaseFactory} for the
+	 * given {@link ClientSession}. The factory is reused as long as the session does not change so that decorated
+	 * databases and collections can be shared across operations.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @return the {@link MongoDatabaseFactory} bound to the given session.
+	 * @since 3.3
+	 */
+	MongoDatabaseFactory getSessionBoundDbFactory(ClientSession session) {
+
+		if (sessionBoundDbFactory == null || this.session != session) {
+			sessionBoundDbFactory = dbFactory.withSession(session);
+		}
+
+		return sessionBoundDbFactory;
+	}
+
 	/**
 	 * Set the {@link ClientSession} to guard.
 	 *
 	 * @param session can be {@literal null}.
 	 */
 	public void setSession(@Nullable ClientSession session) {
+
 		this.session = session;
+		this.sessionBoundDbFactory = null;
 	}
 
 	/**
@@ -143,7 +143,8 @@ public class ReactiveMongoDatabaseUtils {
 				.flatMap(synchronizationManager -> {
 
 					return doGetSession(synchronizationManager, factory, sessionSynchronization) //
-							.flatMap(it -> getMongoDatabaseOrDefault(dbName, factory.withSession(it)));
+							.flatMap(it -> getMongoDatabaseOrDefault(dbName,
+									getSessionBoundFactory(synchronizationManager, factory, it)));
 				}) //
 				.onErrorResume(NoTransactionException.class, e -> getMongoDatabaseOrDefault(dbName, factory))
 				.switchIfEmpty(getMongoDatabaseOrDefault(dbName, factory));
@@ -154,6 +155,18 @@ public class ReactiveMongoDatabaseUtils {
 		return StringUtils.hasText(dbName) ? factory.getMongoDatabase(dbName) : factory.getMongoDatabase();
 	}
 
+	private static ReactiveMongoDatabaseFactory getSessionBoundFactory(
+			TransactionSynchronizationManager synchronizationManager, ReactiveMongoDatabaseFactory factory,
+			ClientSession session) {
+
+		ReactiveMongoResourceHolder resourceHolder = (ReactiveMongoResourceHolder) synchronizationManager
+				.getResource(factory);
+
+		return resourceHolder != null && resourceHolder.getSession() == session
+				? resourceHolder.getSessionBoundDatabaseFactory(session)
+				: factory.withSession(session);
+	}
+
 	private static Mono<ClientSession> doGetSession(TransactionSynchronizationManager synchronizationManager,
 			ReactiveMongoDatabaseFactory dbFactory, SessionSynchronization sessionSynchronization) {
 
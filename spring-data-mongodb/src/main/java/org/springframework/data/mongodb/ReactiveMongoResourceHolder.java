@@ -37,6 +37,7 @@ class ReactiveMongoResourceHolder extends ResourceHolderSupport {
 
 	private @Nullable ClientSession session;
 	private ReactiveMongoDatabaseFactory databaseFactory;
+	private volatile @Nullable ReactiveMongoDatabaseFactory sessionBoundDatabaseFactory;
 
 	/**
 	 * Create a new {@link ReactiveMongoResourceHolder} for a given {@link ClientSession session}.
@@ -79,13 +80,37 @@ class ReactiveMongoResourceHolder extends ResourceHolderSupport {
 		return databaseFactory;
 	}
 
+	/**
+	 * Obtain the {@link ReactiveMongoDatabaseFactory#withSession(ClientSession) session bound}
+	 * {@link ReactiveMongoDatabaseFactory} for the given {@link ClientSession}. The factory is reused as long as the
+	 * session does not change so that decorated databases and collections can be shared across operations.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @return the {@link ReactiveMongoDatabaseFactory} bound to the given session.
+	 * @since 3.3
+	 */
+	ReactiveMongoDatabaseFactory getSessionBoundDatabaseFactory(ClientSession session) {
+
+		ReactiveMongoDatabaseFactory factory = sessionBoundDatabaseFactory;
+
+		if (factory == null || this.session != session) {
+
+			factory = databaseFactory.withSession(session);
+			sessionBoundDatabaseFactory = factory;
+		}
+
+		return factory;
+	}
+
 	/**
 	 * Set the {@link ClientSession} to guard.
 	 *
 	 * @param session can be {@literal null}.
 	 */
 	public void setSession(@Nullable ClientSession session) {
+
 		this.session = session;
+		this.sessionBoundDatabaseFactory = null;
 	}
 
 	/**
@@ -49,14 +49,17 @@ public class MongoJmxParser implements BeanDefinitionParser {
 
 		CompositeComponentDefinition compositeDef = new CompositeComponentDefinition(element.getTagName(), eleSource);
 
-		createBeanDefEntry(AssertMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(BackgroundFlushingMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(BtreeIndexCounters.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(ConnectionMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(GlobalLockMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(MemoryMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(OperationCounters.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(ServerInfo.class, compositeDef, mongoRefName, eleSource, parserContext);
+		// one sampler shared by all monitors so that a single serverStatus command serves all attributes
+		String samplerRefName = registerServerStatusSampler(compositeDef, mongoRefName, eleSource, parserContext);
+
+		createBeanDefEntry(AssertMetrics.class, compositeDef, samplerRefName, eleSource, parserContext);
+		createBeanDefEntry(BackgroundFlushingMetrics.class, compositeDef, samplerRefName, eleSource, parserContext);
+		createBeanDefEntry(BtreeIndexCounters.class, compositeDef, samplerRefName, eleSource, parserContext);
+		createBeanDefEntry(ConnectionMetrics.class, compositeDef, samplerRefName, eleSource, parserContext);
+		createBeanDefEntry(GlobalLockMetrics.class, compositeDef, samplerRefName, eleSource, parserContext);
+		createBeanDefEntry(MemoryMetrics.class, compositeDef, samplerRefName, eleSource, parserContext);
+		createBeanDefEntry(OperationCounters.class, compositeDef, samplerRefName, eleSource, parserContext);
+		createBeanDefEntry(ServerInfo.class, compositeDef, samplerRefName, eleSource, parserContext);
 		createBeanDefEntry(MongoAdmin.class, compositeDef, mongoRefName, eleSource, parserContext);
 
 		parserContext.registerComponent(compositeDef);
@@ -73,4 +76,17 @@ public class MongoJmxParser implements BeanDefinitionParser {
 		compositeDef.addNestedComponent(new BeanComponentDefinition(assertDef, assertName));
 	}
 
+	private String registerServerStatusSampler(CompositeComponentDefinition compositeDef, String mongoRefName,
+			Object eleSource, ParserContext parserContext) {
+
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(ServerStatusSampler.class);
+		builder.getRawBeanDefinition().setSource(eleSource);
+		builder.addConstructorArgReference(mongoRefName);
+		BeanDefinition samplerDef = builder.getBeanDefinition();
+		String samplerName = parserContext.getReaderContext().registerWithGeneratedName(samplerDef);
+		compositeDef.addNestedComponent(new BeanComponentDefinition(samplerDef, samplerName));
+
+		return samplerName;
+	}
+
 }
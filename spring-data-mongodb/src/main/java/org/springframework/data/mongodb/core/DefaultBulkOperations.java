@@ -37,6 +37,8 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvent;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvents;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -75,6 +77,7 @@ class DefaultBulkOperations implements BulkOperations {
 	private final List<SourceAwareWriteModelHolder> models = new ArrayList<>();
 
 	private @Nullable WriteConcern defaultWriteConcern;
+	private @Nullable QueryResultCache queryResultCache;
 
 	private BulkWriteOptions bulkOptions;
 
@@ -109,6 +112,16 @@ class DefaultBulkOperations implements BulkOperations {
 		this.defaultWriteConcern = defaultWriteConcern;
 	}
 
+	/**
+	 * Configures the {@link QueryResultCache} to evict the collection from after execution. Defaults to {@literal null}.
+	 *
+	 * @param queryResultCache can be {@literal null}.
+	 * @since 3.3
+	 */
+	void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.BulkOperations#insert(java.lang.Object)
@@ -285,18 +298,26 @@ class DefaultBulkOperations implements BulkOperations {
 	@Override
 	public com.mongodb.bulk.BulkWriteResult execute() {
 
+		FlightRecorderEvent event = FlightRecorderEvents.beginBulk(bulkOperationContext.getBulkMode().name());
+
 		try {
 
 			com.mongodb.bulk.BulkWriteResult result = mongoOperations.execute(collectionName, this::bulkWriteTo);
 
 			Assert.state(result != null, "Result must not be null.");
 
+			event.end(bulkOperationContext.getEntity().map(MongoPersistentEntity::getType).orElse(null), collectionName,
+					models.size());
+
 			models.forEach(this::maybeEmitAfterSaveEvent);
 			models.forEach(this::maybeInvokeAfterSaveCallback);
 
 			return result;
 		} finally {
+
 			this.bulkOptions = getBulkWriteOptions(bulkOperationContext.getBulkMode());
+
+			MongoTemplate.evictQueryResults(queryResultCache, collectionName);
 		}
 	}
 
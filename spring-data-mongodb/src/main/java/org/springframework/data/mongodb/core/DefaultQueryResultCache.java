@@ -0,0 +1,336 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link QueryResultCache} keeping results in memory up to a total size in bytes and for a given time to live. The size
+ * of a result is estimated from the size of the BSON representation of its documents without actually encoding them.
+ * The least recently used entries are evicted first once the size limit is exceeded. Results larger than the limit are
+ * not cached at all. Documents are copied when put into and read from the cache.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class DefaultQueryResultCache implements QueryResultCache {
+
+	private static final int DEFAULT_VALUE_SIZE = 16;
+
+	private final long maxBytes;
+	private final long timeToLiveNanos;
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+	private final Map<String, Set<Key>> keysByCollection = new HashMap<>();
+	private final Map<String, Long> generations = new HashMap<>();
+
+	private long bytes;
+	private long clearCount;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Create a new {@link DefaultQueryResultCache}.
+	 *
+	 * @param maxBytes the maximum size of all cached results in bytes. Must be greater than zero.
+	 * @param timeToLive the time a result is considered valid after it has been loaded. Must not be {@literal null}.
+	 */
+	public DefaultQueryResultCache(long maxBytes, Duration timeToLive) {
+
+		Assert.isTrue(maxBytes > 0, "MaxBytes must be greater than zero!");
+		Assert.notNull(timeToLive, "TimeToLive must not be null!");
+
+		this.maxBytes = maxBytes;
+		this.timeToLiveNanos = timeToLive.toNanos();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCache#get(org.springframework.data.mongodb.core.QueryResultCache.Key)
+	 */
+	@Nullable
+	@Override
+	public List<Document> get(Key key) {
+
+		Entry entry;
+
+		synchronized (this) {
+
+			entry = entries.get(key);
+
+			if (entry != null && System.nanoTime() - entry.loadedAt >= timeToLiveNanos) {
+
+				remove(key);
+				entry = null;
+			}
+		}
+
+		if (entry == null) {
+
+			misses.increment();
+			return null;
+		}
+
+		hits.increment();
+		return copy(entry.documents);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCache#getGeneration(java.lang.String)
+	 */
+	@Override
+	public synchronized long getGeneration(String collectionName) {
+		return clearCount + generations.getOrDefault(collectionName, 0L);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCache#put(org.springframework.data.mongodb.core.QueryResultCache.Key, java.util.List, long)
+	 */
+	@Override
+	public void put(Key key, List<Document> documents, long generation) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(documents, "Documents must not be null!");
+
+		long size = 0;
+		for (Document document : documents) {
+
+			size += sizeOf(document);
+			if (size > maxBytes) {
+				return;
+			}
+		}
+
+		Entry entry = new Entry(copy(documents), size);
+
+		synchronized (this) {
+
+			if (generation != getGeneration(key.getCollectionName())) {
+				return;
+			}
+
+			Entry previous = entries.put(key, entry);
+			bytes += size - (previous != null ? previous.size : 0);
+			keysByCollection.computeIfAbsent(key.getCollectionName(), it -> new HashSet<>()).add(key);
+
+			Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+			while (bytes > maxBytes && iterator.hasNext()) {
+
+				Map.Entry<Key, Entry> eldest = iterator.next();
+				bytes -= eldest.getValue().size;
+				iterator.remove();
+				unindex(eldest.getKey());
+				evictions.increment();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCache#evict(java.lang.String)
+	 */
+	@Override
+	public synchronized void evict(String collectionName) {
+
+		generations.merge(collectionName, 1L, Long::sum);
+
+		Set<Key> keys = keysByCollection.remove(collectionName);
+
+		if (keys == null) {
+			return;
+		}
+
+		for (Key key : keys) {
+
+			Entry removed = entries.remove(key);
+
+			if (removed != null) {
+
+				bytes -= removed.size;
+				evictions.increment();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.QueryResultCache#clear()
+	 */
+	@Override
+	public synchronized void clear() {
+
+		clearCount++;
+		evictions.add(entries.size());
+		entries.clear();
+		keysByCollection.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * @return the total size of all cached results in bytes.
+	 */
+	public synchronized long getSize() {
+		return bytes;
+	}
+
+	/**
+	 * @return number of lookups served from the cache.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of lookups not served from the cache.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of results removed due to expiration, size limits or invalidation.
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	private void remove(Key key) {
+
+		Entry removed = entries.remove(key);
+
+		if (removed != null) {
+
+			bytes -= removed.size;
+			unindex(key);
+			evictions.increment();
+		}
+	}
+
+	private void unindex(Key key) {
+
+		Set<Key> keys = keysByCollection.get(key.getCollectionName());
+
+		if (keys != null && keys.remove(key) && keys.isEmpty()) {
+			keysByCollection.remove(key.getCollectionName());
+		}
+	}
+
+	private static List<Document> copy(List<Document> documents) {
+
+		List<Document> copy = new ArrayList<>(documents.size());
+		for (Document document : documents) {
+			copy.add(BsonUtils.deepCopy(document));
+		}
+		return copy;
+	}
+
+	/**
+	 * Estimate the size of the BSON representation of the given {@link Document}. Values of unknown types are assumed to
+	 * occupy {@value #DEFAULT_VALUE_SIZE} bytes.
+	 */
+	private static long sizeOf(Document document) {
+
+		long size = 5; // length and terminating zero
+
+		for (Map.Entry<String, Object> entry : document.entrySet()) {
+			size += entry.getKey().length() + 2 + sizeOfValue(entry.getValue());
+		}
+
+		return size;
+	}
+
+	private static long sizeOfValue(@Nullable Object value) {
+
+		if (value == null || value instanceof Boolean) {
+			return value == null ? 0 : 1;
+		}
+
+		if (value instanceof Document) {
+			return sizeOf((Document) value);
+		}
+
+		if (value instanceof Collection) {
+
+			long size = 5;
+			int index = 0;
+			for (Object element : (Collection<?>) value) {
+				size += Integer.toString(index++).length() + 2 + sizeOfValue(element);
+			}
+			return size;
+		}
+
+		if (value instanceof String) {
+			return ((String) value).length() + 5;
+		}
+
+		if (value instanceof Integer) {
+			return 4;
+		}
+
+		if (value instanceof Long || value instanceof Double || value instanceof Date) {
+			return 8;
+		}
+
+		if (value instanceof ObjectId) {
+			return 12;
+		}
+
+		if (value instanceof byte[]) {
+			return ((byte[]) value).length + 5;
+		}
+
+		if (value instanceof Binary) {
+			return ((Binary) value).length() + 5;
+		}
+
+		return DEFAULT_VALUE_SIZE;
+	}
+
+	private static class Entry {
+
+		private final List<Document> documents;
+		private final long size;
+		private final long loadedAt;
+
+		Entry(List<Document> documents, long size) {
+
+			this.documents = documents;
+			this.size = size;
+			this.loadedAt = System.nanoTime();
+		}
+	}
+}
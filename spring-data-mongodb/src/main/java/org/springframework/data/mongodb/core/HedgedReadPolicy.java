@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoExecutionTimeoutException;
+
+/**
+ * Policy for hedging slow reads and tracking latency budgets of {@link ReactiveMongoTemplate} find operations. The
+ * latencies observed per collection are kept in a sliding window. Once a read opted in via
+ * {@link org.springframework.data.mongodb.core.query.Meta#setHedgedReads(Boolean)} takes longer than the configured
+ * percentile of that window, a duplicate read is issued and the result of the one responding first is used. Server
+ * selection picks a random member within the latency window of the read preference, so the duplicate usually ends up
+ * on another eligible member. Reads routed to the primary are never hedged.
+ * <p />
+ * Operations running out of their {@link org.springframework.data.mongodb.core.query.Meta#getLatencyBudget() latency
+ * budget} are counted, as are issued and successful hedges. Use {@link HedgedReadPolicyMetrics} to publish those
+ * counters to Micrometer.
+ *
+ * <pre class="code">
+ * template.setHedgedReadPolicy(new HedgedReadPolicy(0.95, Duration.ofMillis(5)));
+ * </pre>
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class HedgedReadPolicy {
+
+	private static final int WINDOW_SIZE = 1024;
+	private static final int MIN_SAMPLES = 100;
+	private static final int RECOMPUTE_INTERVAL = 64;
+
+	private final double percentile;
+	private final long minimumDelayNanos;
+	private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+	private final LongAdder hedges = new LongAdder();
+	private final LongAdder hedgeWins = new LongAdder();
+	private final LongAdder budgetsExceeded = new LongAdder();
+
+	/**
+	 * Create a new {@link HedgedReadPolicy} hedging reads slower than the 95th percentile but at least 5 milliseconds.
+	 */
+	public HedgedReadPolicy() {
+		this(0.95, Duration.ofMillis(5));
+	}
+
+	/**
+	 * Create a new {@link HedgedReadPolicy}.
+	 *
+	 * @param percentile the latency percentile after which to issue a hedged read. Must be between {@literal 0} and
+	 *          {@literal 1} (exclusive).
+	 * @param minimumDelay the minimum time to wait before issuing a hedged read. Must not be {@literal null}.
+	 */
+	public HedgedReadPolicy(double percentile, Duration minimumDelay) {
+
+		Assert.isTrue(percentile > 0 && percentile < 1, "Percentile must be between 0 and 1!");
+		Assert.notNull(minimumDelay, "MinimumDelay must not be null!");
+		Assert.isTrue(!minimumDelay.isNegative(), "MinimumDelay must not be negative!");
+
+		this.percentile = percentile;
+		this.minimumDelayNanos = minimumDelay.toNanos();
+	}
+
+	/**
+	 * Get the time to wait for a response before issuing a hedged read against the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @return {@literal null} if not enough latencies have been observed yet.
+	 */
+	@Nullable
+	public Duration getHedgeDelay(String collectionName) {
+
+		LatencyWindow window = latencies.get(collectionName);
+		long threshold = window != null ? window.getThreshold() : -1;
+
+		return threshold < 0 ? null : Duration.ofNanos(Math.max(threshold, minimumDelayNanos));
+	}
+
+	/**
+	 * @return number of hedged reads issued.
+	 */
+	public long getHedgeCount() {
+		return hedges.sum();
+	}
+
+	/**
+	 * @return number of hedged reads responding before the original one.
+	 */
+	public long getHedgeWinCount() {
+		return hedgeWins.sum();
+	}
+
+	/**
+	 * @return number of operations exceeding their latency budget, either timed out by the server or taking longer on
+	 *         the client.
+	 */
+	public long getBudgetExceededCount() {
+		return budgetsExceeded.sum();
+	}
+
+	void recordLatency(String collectionName, long nanos) {
+		latencies.computeIfAbsent(collectionName, key -> new LatencyWindow(percentile)).record(nanos);
+	}
+
+	void recordHedge() {
+		hedges.increment();
+	}
+
+	void recordHedgeWin() {
+		hedgeWins.increment();
+	}
+
+	void recordBudgetExceeded() {
+		budgetsExceeded.increment();
+	}
+
+	/**
+	 * Returns whether the given error is the server rejecting an operation exceeding its {@literal maxTimeMS}.
+	 *
+	 * @param error can be {@literal null}.
+	 * @return {@literal true} if the error or one of its causes is a {@link MongoExecutionTimeoutException}.
+	 */
+	static boolean isBudgetExceeded(@Nullable Throwable error) {
+
+		for (Throwable current = error; current != null; current = current.getCause()) {
+
+			if (current instanceof MongoExecutionTimeoutException) {
+				return true;
+			}
+
+			if (current.getCause() == current) {
+				return false;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Sliding window of the latest latencies caching the configured percentile.
+	 *
+	 * @author agent
+	 */
+	private static class LatencyWindow {
+
+		private final double percentile;
+		private final long[] samples = new long[WINDOW_SIZE];
+
+		private long count;
+		private volatile long threshold = -1;
+
+		LatencyWindow(double percentile) {
+			this.percentile = percentile;
+		}
+
+		synchronized void record(long nanos) {
+
+			samples[(int) (count % WINDOW_SIZE)] = nanos;
+			count++;
+
+			if (count >= MIN_SAMPLES && count % RECOMPUTE_INTERVAL == 0) {
+
+				long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, WINDOW_SIZE));
+				Arrays.sort(sorted);
+				threshold = sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+			}
+		}
+
+		long getThreshold() {
+			return threshold;
+		}
+	}
+}
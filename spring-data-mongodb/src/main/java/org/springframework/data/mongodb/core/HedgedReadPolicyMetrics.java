@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collections;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} exposing the counters of a {@link HedgedReadPolicy} to a Micrometer {@link MeterRegistry}:
+ * <ul>
+ * <li>{@literal spring.data.mongodb.hedged-reads.issued} counts the hedged reads issued.</li>
+ * <li>{@literal spring.data.mongodb.hedged-reads.won} counts the hedged reads responding before the original one.</li>
+ * <li>{@literal spring.data.mongodb.latency-budget.exceeded} counts the operations exceeding their latency budget.</li>
+ * </ul>
+ *
+ * <pre class="code">
+ * HedgedReadPolicy policy = new HedgedReadPolicy();
+ * template.setHedgedReadPolicy(policy);
+ * new HedgedReadPolicyMetrics(policy).bindTo(meterRegistry);
+ * </pre>
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class HedgedReadPolicyMetrics implements MeterBinder {
+
+	private final HedgedReadPolicy policy;
+	private final Iterable<Tag> tags;
+
+	/**
+	 * Create a new {@link HedgedReadPolicyMetrics} for the given {@link HedgedReadPolicy}.
+	 *
+	 * @param policy must not be {@literal null}.
+	 */
+	public HedgedReadPolicyMetrics(HedgedReadPolicy policy) {
+		this(policy, Collections.emptyList());
+	}
+
+	/**
+	 * Create a new {@link HedgedReadPolicyMetrics} for the given {@link HedgedReadPolicy} applying the given {@link Tag
+	 * tags} to all meters.
+	 *
+	 * @param policy must not be {@literal null}.
+	 * @param tags must not be {@literal null}.
+	 */
+	public HedgedReadPolicyMetrics(HedgedReadPolicy policy, Iterable<Tag> tags) {
+
+		Assert.notNull(policy, "HedgedReadPolicy must not be null!");
+		Assert.notNull(tags, "Tags must not be null!");
+
+		this.policy = policy;
+		this.tags = Tags.of(tags);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see io.micrometer.core.instrument.binder.MeterBinder#bindTo(io.micrometer.core.instrument.MeterRegistry)
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		bind(registry, "spring.data.mongodb.hedged-reads.issued", "Hedged reads issued",
+				HedgedReadPolicy::getHedgeCount);
+		bind(registry, "spring.data.mongodb.hedged-reads.won", "Hedged reads responding before the original read",
+				HedgedReadPolicy::getHedgeWinCount);
+		bind(registry, "spring.data.mongodb.latency-budget.exceeded", "Operations exceeding their latency budget",
+				HedgedReadPolicy::getBudgetExceededCount);
+	}
+
+	private void bind(MeterRegistry registry, String name, String description,
+			ToDoubleFunction<HedgedReadPolicy> count) {
+
+		FunctionCounter.builder(name, policy, count) //
+				.description(description) //
+				.tags(tags) //
+				.register(registry);
+	}
+}
@@ -15,6 +15,10 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
@@ -165,7 +169,8 @@ public abstract class MongoDatabaseFactorySupport<C> implements MongoDatabaseFac
 
 	/**
 	 * {@link ClientSession} bound {@link MongoDatabaseFactory} decorating the database with a
-	 * {@link SessionAwareMethodInterceptor}.
+	 * {@link SessionAwareMethodInterceptor}. Decorated databases and collections are kept for the lifetime of the factory
+	 * and reused for equally configured targets.
 	 *
 	 * @author Christoph Strobl
 	 * @since 2.1
@@ -174,6 +179,7 @@ public abstract class MongoDatabaseFactorySupport<C> implements MongoDatabaseFac
 
 		private final ClientSession session;
 		private final MongoDatabaseFactory delegate;
+		private final Map<Object, Object> proxies = new ConcurrentHashMap<>();
 
 		public ClientSessionBoundMongoDbFactory(ClientSession session, MongoDatabaseFactory delegate) {
 			this.session = session;
@@ -235,16 +241,27 @@ public abstract class MongoDatabaseFactorySupport<C> implements MongoDatabaseFac
 		}
 
 		private MongoDatabase proxyMongoDatabase(MongoDatabase database) {
-			return createProxyInstance(session, database, MongoDatabase.class);
+			return proxyDatabase(session, database);
 		}
 
 		private MongoDatabase proxyDatabase(com.mongodb.session.ClientSession session, MongoDatabase database) {
-			return createProxyInstance(session, database, MongoDatabase.class);
+
+			Object cacheKey = Arrays.asList(MongoDatabase.class, database.getName(), database.getCodecRegistry(),
+					database.getReadPreference(), database.getWriteConcern(), database.getReadConcern());
+
+			return (MongoDatabase) proxies.computeIfAbsent(cacheKey,
+					key -> createProxyInstance(session, database, MongoDatabase.class));
 		}
 
 		private MongoCollection<?> proxyCollection(com.mongodb.session.ClientSession session,
 				MongoCollection<?> collection) {
-			return createProxyInstance(session, collection, MongoCollection.class);
+
+			Object cacheKey = Arrays.asList(MongoCollection.class, collection.getNamespace(), collection.getDocumentClass(),
+					collection.getCodecRegistry(), collection.getReadPreference(), collection.getWriteConcern(),
+					collection.getReadConcern());
+
+			return (MongoCollection<?>) proxies.computeIfAbsent(cacheKey,
+					key -> createProxyInstance(session, collection, MongoCollection.class));
 		}
 
 		private <T> T createProxyInstance(com.mongodb.session.ClientSession session, T target, Class<T> targetType) {
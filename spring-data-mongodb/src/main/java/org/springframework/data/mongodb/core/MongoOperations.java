@@ -15,6 +15,7 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -1355,6 +1356,29 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	<T> T save(T objectToSave, String collectionName);
 
+	/**
+	 * Save a batch of objects to the specified collection. Each object is saved with the same semantics as
+	 * {@link #save(Object, String)}. Implementations may write the batch more efficiently, e.g. in a single bulk write.
+	 * <p />
+	 * The default implementation saves the objects one by one via {@link #save(Object, String)} and stops at the first
+	 * failing one.
+	 *
+	 * @param batchToSave the batch of objects to save. Must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in. Must not be {@literal null}.
+	 * @return the saved objects.
+	 * @throws org.springframework.dao.OptimisticLockingFailureException in case not all versioned objects matched the
+	 *           stored version.
+	 * @since 3.3
+	 */
+	default <T> Collection<T> saveAll(Collection<? extends T> batchToSave, String collectionName) {
+
+		List<T> saved = new ArrayList<>(batchToSave.size());
+		for (T objectToSave : batchToSave) {
+			saved.add(save(objectToSave, collectionName));
+		}
+		return saved;
+	}
+
 	/**
 	 * Performs an upsert. If no document is found that matches the query, a new document is created and inserted by
 	 * combining the query document and the update document. <br />
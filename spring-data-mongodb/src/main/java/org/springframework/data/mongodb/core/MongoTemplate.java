@@ -18,16 +18,21 @@ package org.springframework.data.mongodb.core;
 import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.SpringProxy;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -54,6 +59,7 @@ import org.springframework.data.mongodb.SessionSynchronization;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.DefaultBulkOperations.BulkOperationContext;
 import org.springframework.data.mongodb.core.EntityOperations.AdaptibleEntity;
+import org.springframework.data.mongodb.core.MongoDatabaseFactorySupport.ClientSessionBoundMongoDbFactory;
 import org.springframework.data.mongodb.core.QueryOperations.AggregationDefinition;
 import org.springframework.data.mongodb.core.QueryOperations.CountContext;
 import org.springframework.data.mongodb.core.QueryOperations.DeleteContext;
@@ -76,6 +82,7 @@ import org.springframework.data.mongodb.core.convert.MongoJsonSchemaMapper;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.index.IndexAdvisor;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.index.IndexOperationsProvider;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
@@ -84,6 +91,9 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.event.*;
+import org.springframework.data.mongodb.core.metrics.CurrentRepositoryMethod;
+import org.springframework.data.mongodb.core.metrics.OperationMetrics;
+import org.springframework.data.mongodb.core.metrics.OperationSample;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.GroupByResults;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
@@ -91,6 +101,7 @@ import org.springframework.data.mongodb.core.mapreduce.MapReduceResults;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.MappedCriteria;
 import org.springframework.data.mongodb.core.query.Meta;
 import org.springframework.data.mongodb.core.query.Meta.CursorOption;
 import org.springframework.data.mongodb.core.query.NearQuery;
@@ -104,11 +115,15 @@ import org.springframework.data.util.CloseableIterator;
 import org.springframework.data.util.Optionals;
 import org.springframework.jca.cci.core.ConnectionCallback;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 
@@ -116,6 +131,7 @@ import com.mongodb.ClientSessionOptions;
 import com.mongodb.MongoException;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.DistinctIterable;
@@ -164,6 +180,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoTemplate.class);
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
 
+	// operators that cannot be used within an aggregation $match stage or rely on the find command
+	private static final Set<String> FIND_ONLY_OPERATORS = new HashSet<>(
+			Arrays.asList("$text", "$near", "$nearSphere", "$where"));
+
 	private final MongoConverter mongoConverter;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final MongoDatabaseFactory mongoDbFactory;
@@ -184,9 +204,17 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private @Nullable EntityCallbacks entityCallbacks;
 	private @Nullable ResourceLoader resourceLoader;
 	private @Nullable MongoPersistentEntityIndexCreator indexCreator;
+	private @Nullable QueryResultCache queryResultCache;
+	private OperationMetrics operationMetrics = OperationMetrics.NONE;
+	private @Nullable SlowOperationDetector slowOperationDetector;
+	private @Nullable IndexAdvisor indexAdvisor;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
+	private final Map<MongoDatabase, Map<String, MongoCollection<Document>>> preparedCollections = //
+			new ConcurrentReferenceHashMap<>();
+	private final boolean prepareCollectionOverridden = overridesPrepareCollection(getClass());
+
 	/**
 	 * Constructor used for a basic template configuration.
 	 *
@@ -267,6 +295,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.operations = that.operations;
 		this.propertyOperations = that.propertyOperations;
 		this.queryOperations = that.queryOperations;
+		this.queryResultCache = that.queryResultCache;
+		this.operationMetrics = that.operationMetrics;
+		this.slowOperationDetector = that.slowOperationDetector;
+		this.indexAdvisor = that.indexAdvisor;
 	}
 
 	/**
@@ -286,7 +318,53 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 * @param writeConcern
 	 */
 	public void setWriteConcern(@Nullable WriteConcern writeConcern) {
+
 		this.writeConcern = writeConcern;
+		this.preparedCollections.clear();
+	}
+
+	/**
+	 * Configures the {@link QueryResultCache} serving the raw results of
+	 * {@link #find(Query, Class, String) find operations}. Entries of a collection are evicted when writing to it through
+	 * this template. Reads within a session do not use the cache.
+	 *
+	 * @param queryResultCache can be {@literal null} to disable caching.
+	 * @since 3.3
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * Configures the {@link OperationMetrics} instrumenting find, count, update and remove operations.
+	 *
+	 * @param operationMetrics can be {@literal null} to disable instrumentation.
+	 * @since 3.3
+	 */
+	public void setOperationMetrics(@Nullable OperationMetrics operationMetrics) {
+		this.operationMetrics = operationMetrics != null ? operationMetrics : OperationMetrics.NONE;
+	}
+
+	/**
+	 * Configures the {@link SlowOperationDetector} recording and explaining find, aggregate, count and update operations
+	 * exceeding its threshold.
+	 *
+	 * @param slowOperationDetector can be {@literal null} to disable detection.
+	 * @since 3.3
+	 */
+	public void setSlowOperationDetector(@Nullable SlowOperationDetector slowOperationDetector) {
+		this.slowOperationDetector = slowOperationDetector;
+	}
+
+	/**
+	 * Configures the {@link IndexAdvisor} recording the shapes of the mapped filter and sort of find and count
+	 * operations.
+	 *
+	 * @param indexAdvisor can be {@literal null} to disable recording.
+	 * @since 3.3
+	 */
+	public void setIndexAdvisor(@Nullable IndexAdvisor indexAdvisor) {
+		this.indexAdvisor = indexAdvisor;
 	}
 
 	/**
@@ -299,6 +377,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				: writeConcernResolver;
 	}
 
+	/**
+	 * @return {@literal true} if an {@link OperationMetrics} instance is configured.
+	 * @since 3.3
+	 */
+	public boolean hasOperationMetrics() {
+		return operationMetrics != OperationMetrics.NONE;
+	}
+
 	/**
 	 * Used by @{link {@link #prepareCollection(MongoCollection)} to set the {@link ReadPreference} before any operations
 	 * are performed.
@@ -306,7 +392,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 * @param readPreference
 	 */
 	public void setReadPreference(@Nullable ReadPreference readPreference) {
+
 		this.readPreference = readPreference;
+		this.preparedCollections.clear();
 	}
 
 	/*
@@ -695,7 +783,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 
-		execute(collectionName, (CollectionCallback<Void>) collection -> {
+		executeWrite(collectionName, (CollectionCallback<Void>) collection -> {
 			collection.drop();
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug("Dropped collection [{}]",
@@ -756,6 +844,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 						eventPublisher, entityCallbacks));
 
 		operations.setDefaultWriteConcern(writeConcern);
+		operations.setQueryResultCache(queryResultCache);
 
 		return operations;
 	}
@@ -787,11 +876,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		if (ObjectUtils.isEmpty(query.getSortObject())) {
 
-			return doFindOne(collectionName, query.getQueryObject(), query.getFieldsObject(),
+			return doFindOne(collectionName, getQueryObject(query, entityClass), query.getFieldsObject(),
 					new QueryCursorPreparer(query, entityClass), entityClass);
 		} else {
-			query.limit(1);
-			List<T> results = find(query, entityClass, collectionName);
+			Query limited = query.isFrozen() ? Query.of(query).limit(1) : query.limit(1);
+			List<T> results = find(limited, entityClass, collectionName);
 			return results.isEmpty() ? null : results.get(0);
 		}
 	}
@@ -818,8 +907,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		QueryContext queryContext = queryOperations.createQueryContext(query);
 		Document mappedQuery = queryContext.getMappedQuery(entityClass, this::getPersistentEntity);
 
-		return execute(collectionName,
-				new ExistsCallback(mappedQuery, queryContext.getCollation(entityClass).orElse(null)));
+		ExistsCallback callback = new ExistsCallback(mappedQuery, queryContext.getCollation(entityClass).orElse(null));
+
+		if (query.hasReadPreference()) {
+			return execute(collectionName,
+					collection -> callback.doInCollection(collection.withReadPreference(query.getReadPreference())));
+		}
+
+		return execute(collectionName, callback);
 	}
 
 	// Find methods that take a Query to express the query and that return a List of objects.
@@ -844,10 +939,231 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 		Assert.notNull(entityClass, "EntityClass must not be null!");
 
-		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
+		// aggregations can only be hinted with an index specification, not with an index name
+		if (query.isResolveDbRefsViaLookup() && query.getFieldsObject().isEmpty()
+				&& (!StringUtils.hasText(query.getHint()) || BsonUtils.isJsonDocument(query.getHint()))
+				&& !containsOperator(query.getQueryObject(), FIND_ONLY_OPERATORS)) {
+
+			MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+			List<Document> lookupStages = entity != null ? createDbRefLookupStages(entity) : Collections.emptyList();
+
+			if (!lookupStages.isEmpty()) {
+				return doFindWithDbRefLookup(collectionName, query, entityClass, lookupStages);
+			}
+		}
+
+		if (queryResultCache != null && !isSessionBound()) {
+			return doFindWithQueryResultCache(collectionName, query, entityClass, queryResultCache);
+		}
+
+		return doFind(collectionName, getQueryObject(query, entityClass), query.getFieldsObject(), entityClass,
 				new QueryCursorPreparer(query, entityClass));
 	}
 
+	/**
+	 * Run the given {@link Query} as aggregation joining the documents referenced by eager {@literal @DBRef} properties.
+	 *
+	 * @since 3.3
+	 */
+	private <T> List<T> doFindWithDbRefLookup(String collectionName, Query query, Class<T> entityClass,
+			List<Document> lookupStages) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		QueryContext queryContext = queryOperations.createQueryContext(query);
+
+		List<Document> pipeline = new ArrayList<>(lookupStages.size() + 4);
+		pipeline.add(new Document("$match", queryContext.getMappedQuery(entity)));
+
+		Document sort = queryContext.getMappedSort(entity);
+		if (!sort.isEmpty()) {
+			pipeline.add(new Document("$sort", sort));
+		}
+		if (query.getSkip() > 0) {
+			pipeline.add(new Document("$skip", query.getSkip()));
+		}
+		if (query.getLimit() > 0) {
+			pipeline.add(new Document("$limit", query.getLimit()));
+		}
+		pipeline.addAll(lookupStages);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("find resolving DBRefs via $lookup using pipeline: {} for class: {} in collection: {}",
+					serializeToJsonSafely(pipeline), entityClass, collectionName);
+		}
+
+		DbRefLookupReadDocumentCallback<T> callback = new DbRefLookupReadDocumentCallback<>(mongoConverter, entityClass,
+				collectionName);
+		Meta meta = query.getMeta();
+
+		return execute(collectionName, collection -> {
+
+			MongoCollection<Document> collectionToUse = query.hasReadPreference()
+					? collection.withReadPreference(query.getReadPreference())
+					: collection;
+			AggregateIterable<Document> aggregateIterable = collectionToUse.aggregate(pipeline, Document.class);
+
+			queryContext.applyCollation(entityClass, aggregateIterable::collation);
+
+			if (StringUtils.hasText(query.getHint())) {
+				aggregateIterable = aggregateIterable.hint(BsonUtils.parse(query.getHint(), mongoDbFactory));
+			}
+
+			if (StringUtils.hasText(meta.getComment())) {
+				aggregateIterable = aggregateIterable.comment(meta.getComment());
+			}
+			if (meta.getMaxTimeMsec() != null) {
+				aggregateIterable = aggregateIterable.maxTime(meta.getMaxTimeMsec(), TimeUnit.MILLISECONDS);
+			}
+			if (meta.getCursorBatchSize() != null) {
+				aggregateIterable = aggregateIterable.batchSize(meta.getCursorBatchSize());
+			}
+			if (meta.getAllowDiskUse() != null) {
+				aggregateIterable = aggregateIterable.allowDiskUse(meta.getAllowDiskUse());
+			}
+
+			return aggregateIterable.map(callback::doWith).into(new ArrayList<>());
+		});
+	}
+
+	/**
+	 * @return {@literal true} if the given {@link Document} uses one of the given operators on any nesting level.
+	 */
+	private static boolean containsOperator(Document source, Set<String> operators) {
+
+		for (Map.Entry<String, Object> entry : source.entrySet()) {
+			if (operators.contains(entry.getKey()) || containsOperator(entry.getValue(), operators)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean containsOperator(@Nullable Object value, Set<String> operators) {
+
+		if (value instanceof Document) {
+			return containsOperator((Document) value, operators);
+		}
+
+		if (value instanceof Collection) {
+			for (Object element : (Collection<?>) value) {
+				if (containsOperator(element, operators)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return {@literal true} if operations run within a {@link com.mongodb.client.ClientSession} or transaction, either
+	 *         explicitly or bound to the current thread.
+	 * @since 3.3
+	 */
+	private boolean isSessionBound() {
+
+		return this instanceof SessionBoundMongoTemplate || MongoDatabaseUtils.isTransactionActive(getMongoDbFactory())
+				|| TransactionSynchronizationManager.hasResource(getMongoDbFactory());
+	}
+
+	/**
+	 * Serve the given {@link Query} from the {@link QueryResultCache} or run it and cache the raw result documents.
+	 *
+	 * @since 3.3
+	 */
+	private <T> List<T> doFindWithQueryResultCache(String collectionName, Query query, Class<T> entityClass,
+			QueryResultCache cache) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		QueryContext queryContext = queryOperations.createQueryContext(query);
+
+		Document mappedQuery = queryContext.getMappedQuery(entity);
+		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
+		QueryResultCache.Key key = QueryResultCache.Key.of(collectionName, mappedQuery, mappedFields,
+				queryContext.getMappedSort(entity), query.getSkip(), query.getLimit(),
+				query.hasReadPreference() ? query.getReadPreference() : readPreference,
+				query.getMeta().getFlags(), query.getHint(), queryContext.getCollation(entityClass).orElse(null));
+
+		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName);
+		List<Document> cached = cache.get(key);
+
+		if (cached != null) {
+
+			List<T> result = new ArrayList<>(cached.size());
+			for (Document document : cached) {
+				result.add(callback.doWith(document));
+			}
+			return result;
+		}
+
+		long generation = cache.getGeneration(collectionName);
+		List<Document> documents = new ArrayList<>();
+		List<T> result = executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields, null),
+				new QueryCursorPreparer(query, entityClass), document -> {
+
+					documents.add(document);
+					return callback.doWith(document);
+				}, collectionName);
+
+		cache.put(key, documents, generation);
+		return result;
+	}
+
+	/**
+	 * Create the stages joining the documents referenced by the top level eager {@literal @DBRef} properties of the given
+	 * entity into {@link MappingMongoConverter#RESOLVED_DBREF_FIELD_PREFIX prefixed} fields. {@literal $lookup} cannot
+	 * match on {@literal $id} of a {@literal DBRef}, so the identifiers are extracted into a temporary field first.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return empty {@link List} if there are no properties to resolve.
+	 * @since 3.3
+	 */
+	List<Document> createDbRefLookupStages(MongoPersistentEntity<?> entity) {
+
+		List<Document> stages = new ArrayList<>();
+		Document idFields = new Document();
+
+		for (MongoPersistentProperty property : entity) {
+
+			org.springframework.data.mongodb.core.mapping.DBRef dbRef = property.getDBRef();
+
+			if (dbRef == null || dbRef.lazy() || StringUtils.hasText(dbRef.db()) || property.isMap()) {
+				continue;
+			}
+
+			MongoPersistentEntity<?> targetEntity = mappingContext.getPersistentEntity(property.getActualType());
+			if (targetEntity == null) {
+				continue;
+			}
+
+			String fieldName = property.getFieldName();
+			String idField = "__dbref_ids_" + fieldName;
+			String source = "$" + fieldName;
+
+			Document references = new Document("$cond",
+					Arrays.asList(new Document("$isArray", source), source, Collections.singletonList(source)));
+			Document extractId = new Document("$let",
+					new Document("vars",
+							new Document("entry",
+									new Document("$arrayElemAt", Arrays.asList(new Document("$objectToArray", "$$ref"), 1))))
+													.append("in", "$$entry.v"));
+
+			stages.add(new Document("$addFields", new Document(idField,
+					new Document("$map", new Document("input", references).append("as", "ref").append("in", extractId)))));
+			stages.add(Aggregation.lookup(targetEntity.getCollection(), idField, "_id",
+					MappingMongoConverter.RESOLVED_DBREF_FIELD_PREFIX + fieldName).toDocument(Aggregation.DEFAULT_CONTEXT));
+
+			idFields.append(idField, 0);
+		}
+
+		if (!idFields.isEmpty()) {
+			stages.add(new Document("$project", idFields));
+		}
+
+		return stages;
+	}
+
 	@Nullable
 	@Override
 	public <T> T findById(Object id, Class<T> entityClass) {
@@ -1023,7 +1339,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			operations.forType(entityClass).getCollation(query).ifPresent(optionsToUse::collation);
 		}
 
-		return doFindAndModify(collectionName, query.getQueryObject(), query.getFieldsObject(),
+		return doFindAndModify(collectionName, getQueryObject(query, entityClass), query.getFieldsObject(),
 				getMappedSortObject(query, entityClass), entityClass, update, optionsToUse);
 	}
 
@@ -1086,7 +1402,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(entityClass, "EntityClass must not be null!");
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 
-		return doFindAndRemove(collectionName, query.getQueryObject(), query.getFieldsObject(),
+		return doFindAndRemove(collectionName, getQueryObject(query, entityClass), query.getFieldsObject(),
 				getMappedSortObject(query, entityClass), operations.forType(entityClass).getCollation(query).orElse(null),
 				entityClass);
 	}
@@ -1112,23 +1428,58 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(query, "Query must not be null!");
 		Assert.hasText(collectionName, "Collection name must not be null or empty!");
 
-		CountContext countContext = queryOperations.countQueryContext(query);
+		return observe("count", collectionName, entityClass, sample -> {
+
+			long mappingStart = System.nanoTime();
+			CountContext countContext = queryOperations.countQueryContext(query);
 
-		CountOptions options = countContext.getCountOptions(entityClass);
-		Document mappedQuery = countContext.getMappedQuery(entityClass, mappingContext::getPersistentEntity);
+			CountOptions options = countContext.getCountOptions(entityClass);
+			Document mappedQuery = countContext.getMappedQuery(entityClass, mappingContext::getPersistentEntity);
+			sample.recordMapping(System.nanoTime() - mappingStart);
 
-		return doCount(collectionName, mappedQuery, options);
+			return doCount(collectionName, query, mappedQuery, options);
+		});
+	}
+
+	private long doCount(String collectionName, Query query, Document mappedQuery, CountOptions options) {
+
+		recordQueryShape(collectionName, mappedQuery, null);
+
+		return detectSlowOperation("count", collectionName, () -> countCommand(collectionName, mappedQuery),
+				() -> doCount(collectionName, mappedQuery, options, query.getReadPreference()));
 	}
 
-	@SuppressWarnings("ConstantConditions")
 	protected long doCount(String collectionName, Document filter, CountOptions options) {
+		return doCount(collectionName, filter, options, null);
+	}
+
+	/**
+	 * Run the actual count operation against the collection with given name, reading from the given
+	 * {@link ReadPreference} if present.
+	 *
+	 * @param collectionName the name of the collection to count matching documents in.
+	 * @param filter the filter to apply. Must not be {@literal null}.
+	 * @param options options to apply. Like collation and the such.
+	 * @param readPreference the {@link ReadPreference} to use. Can be {@literal null} to use the collection default.
+	 * @return the number of matching documents.
+	 * @since 3.3
+	 */
+	@SuppressWarnings("ConstantConditions")
+	protected long doCount(String collectionName, Document filter, CountOptions options,
+			@Nullable ReadPreference readPreference) {
 
 		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug("Executing count: {} in collection: {}", serializeToJsonSafely(filter), collectionName);
+			LOGGER.debug("Executing count: {} in collection: {}{}", serializeToJsonSafely(filter), collectionName,
+					readPreference != null ? " reading from " + readPreference : "");
 		}
 
-		return execute(collectionName,
-				collection -> collection.countDocuments(CountQuery.of(filter).toQueryDocument(), options));
+		return execute(collectionName, collection -> {
+
+			MongoCollection<Document> collectionToUse = readPreference != null
+					? collection.withReadPreference(readPreference)
+					: collection;
+			return collectionToUse.countDocuments(CountQuery.of(filter).toQueryDocument(), options);
+		});
 	}
 
 	/*
@@ -1199,7 +1550,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	/**
 	 * Prepare the collection before any processing is done using it. This allows a convenient way to apply settings like
-	 * withCodecRegistry() etc. Can be overridden in sub-classes.
+	 * withCodecRegistry() etc. Can be overridden in sub-classes. The prepared collection is reused for further
+	 * operations against the same {@link MongoDatabase} if {@link #isPreparedCollectionReusable()} returns
+	 * {@literal true}.
 	 *
 	 * @param collection
 	 */
@@ -1212,6 +1565,21 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return collection;
 	}
 
+	/**
+	 * Returns whether a collection {@link #prepareCollection(MongoCollection) prepared} for a {@link MongoDatabase} may
+	 * be reused for further operations against the very same {@link MongoDatabase} instance. Prepared collections are
+	 * held per {@link MongoDatabase} instance, so that factories routing to different clients or databases never share
+	 * them, and are released under memory pressure. Collections of session bound databases are never reused. Reuse is
+	 * disabled for subclasses overriding {@link #prepareCollection(MongoCollection)}. Those may opt in by returning
+	 * {@literal true} if their preparation is free of side effects and does not change between operations.
+	 *
+	 * @return {@literal true} unless {@link #prepareCollection(MongoCollection)} is overridden.
+	 * @since 3.3
+	 */
+	protected boolean isPreparedCollectionReusable() {
+		return !prepareCollectionOverridden;
+	}
+
 	/**
 	 * Prepare the WriteConcern before any processing is done using it. This allows a convenient way to apply custom
 	 * settings in sub-classes. <br />
@@ -1386,6 +1754,218 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	}
 
+	/**
+	 * Save a batch of objects to the specified collection in a single bulk write to the database. New objects are
+	 * inserted. Existing {@link org.springframework.data.annotation.Version versioned} objects replace the stored
+	 * document only if its version still matches, and have their version incremented. Unversioned existing objects and
+	 * versioned ones with a mutable shard key are saved one by one as with {@link #save(Object, String)}.
+	 *
+	 * @param batchToSave the batch of objects to save. Must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in. Must not be {@literal null}.
+	 * @return the saved objects.
+	 * @throws OptimisticLockingFailureException in case not all versioned objects matched the stored version. All other
+	 *           writes of the batch have been applied and the objects written successfully have been populated and
+	 *           published as if saved one by one.
+	 * @see MongoOperations#saveAll(Collection, String)
+	 * @since 3.3
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Collection<T> saveAll(Collection<? extends T> batchToSave, String collectionName) {
+
+		Assert.notNull(batchToSave, "BatchToSave must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		return (Collection<T>) doSaveBatch(collectionName, batchToSave);
+	}
+
+	/**
+	 * Insert new and replace existing versioned objects guarded by their version using a single unordered bulk write.
+	 * Existing objects without a version or with a mutable shard key are saved one by one.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param batchToSave must not be {@literal null}.
+	 * @return the saved objects in the order of the given batch.
+	 * @since 3.3
+	 */
+	protected <T> Collection<T> doSaveBatch(String collectionName, Collection<? extends T> batchToSave) {
+
+		List<T> savedObjects = new ArrayList<>(batchToSave.size());
+		List<Integer> positions = new ArrayList<>(batchToSave.size());
+		List<T> initializedBatchToSave = new ArrayList<>(batchToSave.size());
+		List<Document> documentList = new ArrayList<>(batchToSave.size());
+		List<WriteModel<Document>> writes = new ArrayList<>(batchToSave.size());
+		List<Integer> replacements = new ArrayList<>();
+
+		for (T element : batchToSave) {
+
+			Assert.notNull(element, "Object to save must not be null!");
+			ensureNotCollectionLike(element);
+
+			AdaptibleEntity<T> source = operations.forEntity(element, mongoConverter.getConversionService());
+
+			// a changed shard key requires looking up the stored one which cannot be done within the bulk write
+			if (!source.isNew() && (!source.isVersionedEntity() || hasMutableShardKey(element.getClass()))) {
+
+				savedObjects.add(save(element, collectionName));
+				continue;
+			}
+
+			T initialized;
+			MappedDocument mapped;
+
+			if (source.isNew()) {
+
+				initialized = maybeEmitEvent(new BeforeConvertEvent<>(element, collectionName)).getSource();
+				initialized = maybeCallBeforeConvert(initialized, collectionName);
+
+				AdaptibleEntity<T> entity = operations.forEntity(initialized, mongoConverter.getConversionService());
+				entity.assertUpdateableIdIfNotSet();
+
+				initialized = entity.initializeVersionProperty();
+				mapped = entity.toMappedDocument(mongoConverter);
+
+				maybeEmitEvent(new BeforeSaveEvent<>(initialized, mapped.getDocument(), collectionName));
+				initialized = maybeCallBeforeSave(initialized, mapped.getDocument(), collectionName);
+
+				writes.add(new InsertOneModel<>(mapped.getDocument()));
+			} else {
+
+				Query query = source.getQueryForVersion();
+
+				initialized = source.incrementVersion();
+				initialized = maybeEmitEvent(new BeforeConvertEvent<>(initialized, collectionName)).getSource();
+				initialized = maybeCallBeforeConvert(initialized, collectionName);
+
+				if (source.getBean() != initialized) {
+					source = operations.forEntity(initialized, mongoConverter.getConversionService());
+				}
+
+				source.assertUpdateableIdIfNotSet();
+				mapped = source.toMappedDocument(mongoConverter);
+
+				maybeEmitEvent(new BeforeSaveEvent<>(initialized, mapped.getDocument(), collectionName));
+				initialized = maybeCallBeforeSave(initialized, mapped.getDocument(), collectionName);
+
+				MongoPersistentEntity<?> entity = getPersistentEntity(initialized.getClass());
+				UpdateContext updateContext = queryOperations.replaceSingleContext(query, mapped, false);
+				Document filter = updateContext.getMappedQuery(entity);
+
+				if (updateContext.requiresShardKey(filter, entity)) {
+					filter = updateContext.applyShardKey(entity, filter, null);
+				}
+
+				writes.add(new ReplaceOneModel<>(filter, mapped.getDocument(),
+						updateContext.getReplaceOptions(initialized.getClass())));
+				replacements.add(initializedBatchToSave.size());
+			}
+
+			positions.add(savedObjects.size());
+			savedObjects.add(initialized);
+			initializedBatchToSave.add(initialized);
+			documentList.add(mapped.getDocument());
+		}
+
+		if (writes.isEmpty()) {
+			return savedObjects;
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Saving list of Documents containing {} items in collection: {}", writes.size(), collectionName);
+		}
+
+		BulkWriteResult result = executeWrite(collectionName, collection -> {
+
+			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.BULK, collectionName, null, null,
+					null);
+			WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
+
+			return (writeConcernToUse != null ? collection.withWriteConcern(writeConcernToUse) : collection)
+					.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+		});
+
+		Set<Integer> unmatched = result.wasAcknowledged() && result.getMatchedCount() < replacements.size()
+				? findUnmatchedReplacements(collectionName, replacements, initializedBatchToSave, documentList)
+				: Collections.emptySet();
+
+		for (int i = 0; i < initializedBatchToSave.size(); i++) {
+
+			if (unmatched.contains(i)) {
+				continue;
+			}
+
+			Document document = documentList.get(i);
+			T saved = populateIdIfNecessary(initializedBatchToSave.get(i), MappedDocument.of(document).getId());
+
+			maybeEmitEvent(new AfterSaveEvent<>(saved, document, collectionName));
+			savedObjects.set(positions.get(i), maybeCallAfterSave(saved, document, collectionName));
+		}
+
+		if (!unmatched.isEmpty()) {
+
+			throw new OptimisticLockingFailureException(String.format(
+					"Cannot save %s of %s versioned entities to collection %s. Have they been modified meanwhile?",
+					unmatched.size(), replacements.size(), collectionName));
+		}
+
+		return savedObjects;
+	}
+
+	private boolean hasMutableShardKey(Class<?> type) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+		return entity != null && entity.isSharded() && !entity.getShardKey().isImmutable();
+	}
+
+	/**
+	 * Determine the replacements of a bulk write that did not match the stored version by comparing the stored versions
+	 * with the ones written.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param replacements positions of the replacements within {@literal objects} and {@literal documents}.
+	 * @param objects the objects written.
+	 * @param documents the documents written.
+	 * @return the positions of the replacements that have not been applied.
+	 */
+	private Set<Integer> findUnmatchedReplacements(String collectionName, List<Integer> replacements, List<?> objects,
+			List<Document> documents) {
+
+		List<Object> ids = new ArrayList<>(replacements.size());
+		Document projection = new Document();
+
+		for (Integer position : replacements) {
+
+			ids.add(documents.get(position).get("_id"));
+			projection.append(getVersionFieldName(objects.get(position)), 1);
+		}
+
+		List<Document> stored = execute(collectionName, collection -> collection
+				.find(new Document("_id", new Document("$in", ids)), Document.class).projection(projection)
+				.into(new ArrayList<>()));
+
+		Map<Object, Document> storedById = new HashMap<>(stored.size());
+		stored.forEach(document -> storedById.put(document.get("_id"), document));
+
+		Set<Integer> unmatched = new LinkedHashSet<>();
+
+		for (Integer position : replacements) {
+
+			Document written = documents.get(position);
+			Document current = storedById.get(written.get("_id"));
+			String versionField = getVersionFieldName(objects.get(position));
+
+			if (current == null || !ObjectUtils.nullSafeEquals(current.get(versionField), written.get(versionField))) {
+				unmatched.add(position);
+			}
+		}
+
+		return unmatched;
+	}
+
+	private String getVersionFieldName(Object source) {
+		return mappingContext.getRequiredPersistentEntity(source.getClass()).getRequiredVersionProperty().getFieldName();
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T doSaveVersioned(AdaptibleEntity<T> source, String collectionName) {
 
@@ -1412,9 +1992,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		maybeEmitEvent(new BeforeSaveEvent<>(toSave, mapped.getDocument(), collectionName));
 		toSave = maybeCallBeforeSave(toSave, mapped.getDocument(), collectionName);
-		UpdateDefinition update = mapped.updateWithoutId();
 
-		UpdateResult result = doUpdate(collectionName, query, update, toSave.getClass(), false, false);
+		UpdateResult result = doReplaceVersioned(collectionName, query, mapped, toSave.getClass());
 
 		if (result.getModifiedCount() == 0) {
 
@@ -1427,6 +2006,64 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return maybeCallAfterSave(toSave, mapped.getDocument(), collectionName);
 	}
 
+	/**
+	 * Replace the stored document with the already mapped one if it still matches the given version {@link Query}. Values
+	 * of a mutable shard key are taken from the replacement and only loaded from the stored document if the guarded
+	 * replace did not match, e.g. because the shard key has been changed.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param versionQuery the {@link Query} matching id and version of the document to replace.
+	 * @param mapped the mapped replacement.
+	 * @param entityClass the domain type.
+	 * @return the {@link UpdateResult} of the replace operation.
+	 * @since 3.3
+	 */
+	private UpdateResult doReplaceVersioned(String collectionName, Query versionQuery, MappedDocument mapped,
+			Class<?> entityClass) {
+
+		MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		UpdateContext updateContext = queryOperations.replaceSingleContext(versionQuery, mapped, false);
+
+		Document filter = updateContext.getMappedQuery(entity);
+		Document replacement = mapped.getDocument();
+
+		MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.SAVE, collectionName, entityClass,
+				replacement, filter);
+		WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
+
+		return executeWrite(collectionName, collection -> {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Calling replace using query: {} in collection: {}", serializeToJsonSafely(filter),
+						collectionName);
+			}
+
+			MongoCollection<Document> collectionToUse = writeConcernToUse != null
+					? collection.withWriteConcern(writeConcernToUse)
+					: collection;
+			ReplaceOptions replaceOptions = updateContext.getReplaceOptions(entityClass);
+
+			if (!updateContext.requiresShardKey(filter, entity)) {
+				return collectionToUse.replaceOne(filter, replacement, replaceOptions);
+			}
+
+			UpdateResult result = collectionToUse.replaceOne(updateContext.applyShardKey(entity, filter, null), replacement,
+					replaceOptions);
+
+			if (result.getMatchedCount() != 0 || entity.getShardKey().isImmutable()) {
+				return result;
+			}
+
+			Document existing = collection.find(filter, Document.class).projection(updateContext.getMappedShardKey(entity))
+					.first();
+
+			return existing != null
+					? collectionToUse.replaceOne(updateContext.applyShardKey(entity, filter, existing), replacement,
+							replaceOptions)
+					: result;
+		});
+	}
+
 	protected <T> T doSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
 		objectToSave = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName)).getSource();
@@ -1455,7 +2092,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Inserting Document containing fields: {} in collection: {}", document.keySet(), collectionName);
 		}
 
-		return execute(collectionName, collection -> {
+		return executeWrite(collectionName, collection -> {
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT, collectionName, entityClass,
 					document, null);
 			WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
@@ -1480,7 +2117,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Inserting list of Documents containing {} items", documents.size());
 		}
 
-		execute(collectionName, collection -> {
+		executeWrite(collectionName, collection -> {
 
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT_LIST, collectionName, null,
 					null, null);
@@ -1504,7 +2141,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Saving Document containing fields: {}", dbDoc.keySet());
 		}
 
-		return execute(collectionName, collection -> {
+		return executeWrite(collectionName, collection -> {
 
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.SAVE, collectionName, entityClass,
 					dbDoc, null);
@@ -1596,9 +2233,15 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return doUpdate(collectionName, query, update, entityClass, false, true);
 	}
 
-	@SuppressWarnings("ConstantConditions")
 	protected UpdateResult doUpdate(String collectionName, Query query, UpdateDefinition update,
 			@Nullable Class<?> entityClass, boolean upsert, boolean multi) {
+		return observe("update", collectionName, entityClass,
+				sample -> doUpdate(collectionName, query, update, entityClass, upsert, multi, sample));
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	private UpdateResult doUpdate(String collectionName, Query query, UpdateDefinition update,
+			@Nullable Class<?> entityClass, boolean upsert, boolean multi, OperationSample sample) {
 
 		Assert.notNull(collectionName, "CollectionName must not be null!");
 		Assert.notNull(query, "Query must not be null!");
@@ -1612,6 +2255,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = entityClass == null ? null : getPersistentEntity(entityClass);
 
+		long mappingStart = System.nanoTime();
 		UpdateContext updateContext = multi ? queryOperations.updateContext(update, query, upsert)
 				: queryOperations.updateSingleContext(update, query, upsert);
 		updateContext.increaseVersionForUpdateIfNecessary(entity);
@@ -1622,29 +2266,52 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		if (updateContext.isAggregationUpdate()) {
 
 			List<Document> pipeline = updateContext.getUpdatePipeline(entityClass);
+			sample.recordMapping(System.nanoTime() - mappingStart);
+
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.UPDATE, collectionName, entityClass,
 					update.getUpdateObject(), queryObj);
 			WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
 
-			return execute(collectionName, collection -> {
-
-				if (LOGGER.isDebugEnabled()) {
-					LOGGER.debug("Calling update using query: {} and update: {} in collection: {}",
-							serializeToJsonSafely(queryObj), serializeToJsonSafely(pipeline), collectionName);
-				}
-
-				collection = writeConcernToUse != null ? collection.withWriteConcern(writeConcernToUse) : collection;
-
-				return multi ? collection.updateMany(queryObj, pipeline, opts) : collection.updateOne(queryObj, pipeline, opts);
-			});
+			return detectSlowOperation("update", collectionName,
+					() -> updateCommand(collectionName, queryObj, pipeline, upsert, multi),
+					() -> doUpdate(collectionName, queryObj, pipeline, opts, multi, writeConcernToUse));
 		}
 
 		Document updateObj = updateContext.getMappedUpdate(entity);
+		sample.recordMapping(System.nanoTime() - mappingStart);
+
 		MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.UPDATE, collectionName, entityClass,
 				updateObj, queryObj);
 		WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
 
-		return execute(collectionName, collection -> {
+		return detectSlowOperation("update", collectionName,
+				() -> updateCommand(collectionName, queryObj, updateObj, upsert, multi),
+				() -> doUpdate(collectionName, updateContext, entity, entityClass, queryObj, updateObj, opts, multi,
+						writeConcernToUse));
+	}
+
+	private UpdateResult doUpdate(String collectionName, Document queryObj, List<Document> pipeline, UpdateOptions opts,
+			boolean multi, @Nullable WriteConcern writeConcernToUse) {
+
+		return executeWrite(collectionName, collection -> {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Calling update using query: {} and update: {} in collection: {}",
+						serializeToJsonSafely(queryObj), serializeToJsonSafely(pipeline), collectionName);
+			}
+
+			collection = writeConcernToUse != null ? collection.withWriteConcern(writeConcernToUse) : collection;
+
+			return multi ? collection.updateMany(queryObj, pipeline, opts) : collection.updateOne(queryObj, pipeline, opts);
+		});
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	private UpdateResult doUpdate(String collectionName, UpdateContext updateContext,
+			@Nullable MongoPersistentEntity<?> entity, @Nullable Class<?> entityClass, Document queryObj,
+			Document updateObj, UpdateOptions opts, boolean multi, @Nullable WriteConcern writeConcernToUse) {
+
+		return executeWrite(collectionName, collection -> {
 
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug("Calling update using query: {} and update: {} in collection: {}", serializeToJsonSafely(queryObj),
@@ -1712,26 +2379,35 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return doRemove(collectionName, query, entityClass, true);
 	}
 
-	@SuppressWarnings("ConstantConditions")
 	protected <T> DeleteResult doRemove(String collectionName, Query query, @Nullable Class<T> entityClass,
 			boolean multi) {
 
 		Assert.notNull(query, "Query must not be null!");
 		Assert.hasText(collectionName, "Collection name must not be null or empty!");
 
+		return observe("remove", collectionName, entityClass,
+				sample -> doRemove(collectionName, query, entityClass, multi, sample));
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	private <T> DeleteResult doRemove(String collectionName, Query query, @Nullable Class<T> entityClass, boolean multi,
+			OperationSample sample) {
+
 		MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
 
+		long mappingStart = System.nanoTime();
 		DeleteContext deleteContext = multi ? queryOperations.deleteQueryContext(query)
 				: queryOperations.deleteSingleContext(query);
 		Document queryObject = deleteContext.getMappedQuery(entity);
 		DeleteOptions options = deleteContext.getDeleteOptions(entityClass);
+		sample.recordMapping(System.nanoTime() - mappingStart);
 
 		MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.REMOVE, collectionName, entityClass,
 				null, queryObject);
 
 		WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
 
-		return execute(collectionName, collection -> {
+		return executeWrite(collectionName, collection -> {
 
 			maybeEmitEvent(new BeforeDeleteEvent<>(queryObject, entityClass, collectionName));
 
@@ -1907,8 +2583,15 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		List<T> mappedResults = new ArrayList<>();
 		DocumentCallback<T> callback = new ReadDocumentCallback<>(mongoConverter, resultType, inputCollectionName);
 
-		for (Document document : mapReduce) {
-			mappedResults.add(callback.doWith(document));
+		try {
+			for (Document document : mapReduce) {
+				mappedResults.add(callback.doWith(document));
+			}
+		} finally {
+			if (mapReduceOptions != null && StringUtils.hasText(mapReduceOptions.getOutputCollection())
+					&& !mapReduceOptions.usesInlineOutput()) {
+				evictQueryResults(mapReduceOptions.getOutputCollection());
+			}
 		}
 
 		return mappedResults;
@@ -2145,9 +2828,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			LOGGER.debug("Executing aggregation: {} in collection {}", serializeToJsonSafely(pipeline), collectionName);
 		}
 
-		return execute(collectionName, collection -> {
+		return detectSlowOperation("aggregate", collectionName, () -> aggregateCommand(collectionName, pipeline),
+				() -> doAggregate(aggregation, collectionName, pipeline, options, callback));
+	}
 
-			List<Document> rawResult = new ArrayList<>();
+	private <O> AggregationResults<O> doAggregate(Aggregation aggregation, String collectionName,
+			List<Document> pipeline, AggregationOptions options, ReadDocumentCallback<O> callback) {
+
+		return executeAggregation(collectionName, pipeline, collection -> {
 
 			Class<?> domainType = aggregation instanceof TypedAggregation ? ((TypedAggregation<?>) aggregation).getInputType()
 					: null;
@@ -2182,6 +2870,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				return new AggregationResults<>(Collections.emptyList(), new Document());
 			}
 
+			if (!options.isRetainRawResults()) {
+				return new AggregationResults<>(aggregateIterable.map(callback::doWith).into(new ArrayList<>()),
+						new Document("ok", 1.0D));
+			}
+
+			List<Document> rawResult = new ArrayList<>();
 			MongoIterable<O> iterable = aggregateIterable.map(val -> {
 
 				rawResult.add(val);
@@ -2213,7 +2907,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName);
 
-		return execute(collectionName, (CollectionCallback<CloseableIterator<O>>) collection -> {
+		return executeAggregation(collectionName, pipeline, (CollectionCallback<CloseableIterator<O>>) collection -> {
 
 			AggregateIterable<Document> cursor = collection.aggregate(pipeline, Document.class) //
 					.allowDiskUse(options.isAllowDiskUse());
@@ -2476,12 +3170,21 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	@SuppressWarnings("ConstantConditions")
 	protected <T> T doFindOne(String collectionName, Document query, Document fields, CursorPreparer preparer,
 			Class<T> entityClass) {
+		return observe("findOne", collectionName, entityClass,
+				sample -> doFindOne(collectionName, query, fields, preparer, entityClass, sample));
+	}
+
+	@Nullable
+	private <T> T doFindOne(String collectionName, Document query, Document fields, CursorPreparer preparer,
+			Class<T> entityClass, OperationSample sample) {
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
+		long mappingStart = System.nanoTime();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		sample.recordMapping(System.nanoTime() - mappingStart);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("findOne using query: {} fields: {} for class: {} in collection: {}", serializeToJsonSafely(query),
@@ -2489,7 +3192,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 
 		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, preparer),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+				sampled(new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), sample),
+				collectionName);
 	}
 
 	/**
@@ -2528,12 +3232,20 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> entityClass,
 			@Nullable CursorPreparer preparer, DocumentCallback<T> objectCallback) {
+		return observe("find", collectionName, entityClass,
+				sample -> doFind(collectionName, query, fields, entityClass, preparer, objectCallback, sample));
+	}
+
+	private <S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> entityClass,
+			@Nullable CursorPreparer preparer, DocumentCallback<T> objectCallback, OperationSample sample) {
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
+		long mappingStart = System.nanoTime();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		sample.recordMapping(System.nanoTime() - mappingStart);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
@@ -2541,7 +3253,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 
 		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields, null),
-				preparer != null ? preparer : CursorPreparer.NO_OP_PREPARER, objectCallback, collectionName);
+				preparer != null ? preparer : CursorPreparer.NO_OP_PREPARER, sampled(objectCallback, sample), collectionName);
 	}
 
 	/**
@@ -2552,12 +3264,20 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 */
 	<S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> sourceClass,
 			Class<T> targetClass, CursorPreparer preparer) {
+		return observe("find", collectionName, sourceClass,
+				sample -> doFind(collectionName, query, fields, sourceClass, targetClass, preparer, sample));
+	}
+
+	private <S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> sourceClass,
+			Class<T> targetClass, CursorPreparer preparer, OperationSample sample) {
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
 
+		long mappingStart = System.nanoTime();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, targetClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		sample.recordMapping(System.nanoTime() - mappingStart);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
@@ -2565,7 +3285,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 
 		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields, null), preparer,
-				new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), collectionName);
+				sampled(new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), sample),
+				collectionName);
 	}
 
 	/**
@@ -2656,9 +3377,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		return executeFindOneInternal(
-				new FindAndRemoveCallback(queryMapper.getMappedObject(query, entity), fields, sort, collation),
-				new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		try {
+			return executeFindOneInternal(
+					new FindAndRemoveCallback(queryMapper.getMappedObject(query, entity), fields, sort, collation),
+					new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		} finally {
+			evictQueryResults(collectionName);
+		}
 	}
 
 	@SuppressWarnings("ConstantConditions")
@@ -2687,10 +3412,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					collectionName);
 		}
 
-		return executeFindOneInternal(
-				new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate,
-						update.getArrayFilters().stream().map(ArrayFilter::asDocument).collect(Collectors.toList()), options),
-				new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		try {
+			return executeFindOneInternal(
+					new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate,
+							update.getArrayFilters().stream().map(ArrayFilter::asDocument).collect(Collectors.toList()), options),
+					new ReadDocumentCallback<>(readerToUse, entityClass, collectionName), collectionName);
+		} finally {
+			evictQueryResults(collectionName);
+		}
 	}
 
 	/**
@@ -2720,9 +3449,108 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					entityType, serializeToJsonSafely(replacement), collectionName);
 		}
 
-		return executeFindOneInternal(
-				new FindAndReplaceCallback(mappedQuery, mappedFields, mappedSort, replacement, collation, options),
-				new ProjectingReadCallback<>(mongoConverter, entityType, resultType, collectionName), collectionName);
+		try {
+			return executeFindOneInternal(
+					new FindAndReplaceCallback(mappedQuery, mappedFields, mappedSort, replacement, collation, options),
+					new ProjectingReadCallback<>(mongoConverter, entityType, resultType, collectionName), collectionName);
+		} finally {
+			evictQueryResults(collectionName);
+		}
+	}
+
+	/**
+	 * Execute a write operation and evict the {@link QueryResultCache cached results} of the affected collection
+	 * afterwards.
+	 *
+	 * @since 3.3
+	 */
+	@Nullable
+	private <T> T executeWrite(String collectionName, CollectionCallback<T> callback) {
+
+		try {
+			return execute(collectionName, callback);
+		} finally {
+			evictQueryResults(collectionName);
+		}
+	}
+
+	/**
+	 * Execute an aggregation and evict the {@link QueryResultCache cached results} of the collection written by a
+	 * trailing {@literal $out} or {@literal $merge} stage afterwards.
+	 *
+	 * @since 3.3
+	 */
+	@Nullable
+	private <T> T executeAggregation(String collectionName, List<Document> pipeline, CollectionCallback<T> callback) {
+
+		String outputCollection = getOutputCollection(pipeline);
+
+		if (outputCollection == null) {
+			return execute(collectionName, callback);
+		}
+
+		try {
+			return execute(collectionName, callback);
+		} finally {
+			evictQueryResults(outputCollection);
+		}
+	}
+
+	/**
+	 * @return the name of the collection written by the trailing {@literal $out} or {@literal $merge} stage of the given
+	 *         pipeline. {@literal null} if the pipeline does not write to a collection.
+	 */
+	@Nullable
+	private static String getOutputCollection(List<Document> pipeline) {
+
+		if (pipeline.isEmpty()) {
+			return null;
+		}
+
+		Document stage = pipeline.get(pipeline.size() - 1);
+		Object target = stage.containsKey("$out") ? stage.get("$out") : stage.get("$merge");
+
+		if (target instanceof Document && ((Document) target).containsKey("into")) {
+			target = ((Document) target).get("into");
+		}
+
+		if (target instanceof Document) {
+			target = ((Document) target).get("coll");
+		}
+
+		return target instanceof String ? (String) target : null;
+	}
+
+	private void evictQueryResults(String collectionName) {
+		evictQueryResults(queryResultCache, collectionName);
+	}
+
+	/**
+	 * Evict the {@link QueryResultCache cached results} of the given collection. Results of queries running concurrently
+	 * to a transaction might not see its changes, so the collection is evicted once more after transaction completion.
+	 *
+	 * @param cache can be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @since 3.3
+	 */
+	static void evictQueryResults(@Nullable QueryResultCache cache, String collectionName) {
+
+		if (cache == null) {
+			return;
+		}
+
+		cache.evict(collectionName);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					cache.evict(collectionName);
+				}
+			});
+		}
 	}
 
 	/**
@@ -2738,15 +3566,184 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	}
 
 	private MongoCollection<Document> getAndPrepareCollection(MongoDatabase db, String collectionName) {
+
 		try {
-			MongoCollection<Document> collection = db.getCollection(collectionName, Document.class);
-			collection = prepareCollection(collection);
-			return collection;
+
+			if (!isPreparedCollectionReusable() || isSessionBoundDatabase(db)) {
+				return prepareCollection(db.getCollection(collectionName, Document.class));
+			}
+
+			return preparedCollections.computeIfAbsent(db, key -> new ConcurrentHashMap<>()) //
+					.computeIfAbsent(collectionName, key -> prepareCollection(db.getCollection(key, Document.class)));
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
 		}
 	}
 
+	/**
+	 * Session bound databases are proxies created per {@link com.mongodb.session.ClientSession} and must not be used as
+	 * cache key as they would keep the session reachable.
+	 */
+	private boolean isSessionBoundDatabase(MongoDatabase db) {
+		return db instanceof SpringProxy || isSessionBound()
+				|| mongoDbFactory instanceof ClientSessionBoundMongoDbFactory;
+	}
+
+	private static boolean overridesPrepareCollection(Class<?> type) {
+
+		Method method = ReflectionUtils.findMethod(type, "prepareCollection", MongoCollection.class);
+		return method != null && !MongoTemplate.class.equals(method.getDeclaringClass());
+	}
+
+	/**
+	 * Run the given action and record it with the configured {@link SlowOperationDetector} if it exceeds the threshold.
+	 * New shapes are explained asynchronously.
+	 *
+	 * @param operation the name of the operation.
+	 * @param collectionName the collection the operation is run against.
+	 * @param command supplier of the mapped command, only called if the operation is slow.
+	 * @param action the action to run.
+	 * @return the result of the action.
+	 */
+	private <T> T detectSlowOperation(String operation, String collectionName, Supplier<Document> command,
+			Supplier<T> action) {
+
+		SlowOperationDetector detector = slowOperationDetector;
+
+		if (detector == null) {
+			return action.get();
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return action.get();
+		} finally {
+
+			try {
+
+				SlowOperation slowOperation = detector.record(operation, collectionName, command,
+						System.nanoTime() - start);
+
+				// explains run on the detector executor and must not share the session of the operation
+				if (slowOperation != null && !isSessionBound()) {
+					detector.explain(slowOperation, explain -> getUnboundDatabase().runCommand(explain, Document.class));
+				}
+			} catch (RuntimeException e) {
+				LOGGER.debug("Failed to record slow operation", e);
+			}
+		}
+	}
+
+	private MongoDatabase getUnboundDatabase() {
+
+		MongoDatabaseFactory factory = mongoDbFactory instanceof ClientSessionBoundMongoDbFactory
+				? ((ClientSessionBoundMongoDbFactory) mongoDbFactory).getDelegate()
+				: mongoDbFactory;
+
+		return factory.getMongoDatabase();
+	}
+
+	private Document findCommand(String collectionName, CollectionCallback<FindIterable<Document>> collectionCallback,
+			CursorPreparer preparer) {
+
+		Document command = new Document("find", collectionName);
+
+		if (collectionCallback instanceof FindCallback) {
+
+			FindCallback findCallback = (FindCallback) collectionCallback;
+			command.append("filter", findCallback.query).append("projection", findCallback.fields);
+		}
+
+		if (preparer instanceof QueryCursorPreparer) {
+			((QueryCursorPreparer) preparer).appendCursorOptions(command);
+		}
+
+		return command;
+	}
+
+	/**
+	 * Record the shape of the given mapped query with the configured {@link IndexAdvisor}.
+	 *
+	 * @param collectionName the collection the query is run against.
+	 * @param query the mapped query.
+	 * @param preparer the preparer providing the mapped sort. Can be {@literal null}.
+	 */
+	private void recordQueryShape(String collectionName, @Nullable Document query, @Nullable CursorPreparer preparer) {
+
+		IndexAdvisor advisor = indexAdvisor;
+
+		if (advisor == null) {
+			return;
+		}
+
+		Document sort = preparer instanceof QueryCursorPreparer ? ((QueryCursorPreparer) preparer).getSortObject()
+				: null;
+		advisor.record(collectionName, query != null ? query : new Document(), sort);
+	}
+
+	private static Document aggregateCommand(String collectionName, List<Document> pipeline) {
+		return new Document("aggregate", collectionName).append("pipeline", pipeline).append("cursor", new Document());
+	}
+
+	private static Document countCommand(String collectionName, Document filter) {
+		return new Document("count", collectionName).append("query", filter);
+	}
+
+	private static Document updateCommand(String collectionName, Document query, Object update, boolean upsert,
+			boolean multi) {
+
+		Document statement = new Document("q", query).append("u", update).append("upsert", upsert).append("multi",
+				multi);
+		return new Document("update", collectionName).append("updates", Collections.singletonList(statement));
+	}
+
+	/**
+	 * Run the given action as operation sampled by the configured {@link OperationMetrics}.
+	 *
+	 * @param operation the name of the operation.
+	 * @param collectionName the collection the operation is run against.
+	 * @param entityType the domain type. Can be {@literal null}.
+	 * @param action the action to run receiving the {@link OperationSample} to record to.
+	 * @return the result of the action.
+	 */
+	private <T> T observe(String operation, String collectionName, @Nullable Class<?> entityType,
+			Function<OperationSample, T> action) {
+
+		OperationSample sample = operationMetrics.start(operation, collectionName, entityType,
+				CurrentRepositoryMethod.get(), System.nanoTime());
+
+		try {
+
+			T result = action.apply(sample);
+			sample.stop(null);
+			return result;
+		} catch (RuntimeException e) {
+
+			sample.stop(e);
+			throw e;
+		}
+	}
+
+	private static <T> DocumentCallback<T> sampled(DocumentCallback<T> callback, OperationSample sample) {
+
+		if (!sample.isRecording()) {
+			return callback;
+		}
+
+		return document -> {
+
+			long start = System.nanoTime();
+			T result = callback.doWith(document);
+
+			if (document != null) {
+				sample.recordConversion(System.nanoTime() - start, document);
+			}
+
+			return result;
+		};
+	}
+
 	/**
 	 * Internal method using callbacks to do queries against the datastore that requires reading a single object from a
 	 * collection of objects. It will take the following steps
@@ -2765,6 +3762,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private <T> T executeFindOneInternal(CollectionCallback<Document> collectionCallback,
 			DocumentCallback<T> objectCallback, String collectionName) {
 
+		if (collectionCallback instanceof FindOneCallback) {
+
+			FindOneCallback findOneCallback = (FindOneCallback) collectionCallback;
+			recordQueryShape(collectionName, findOneCallback.query, findOneCallback.cursorPreparer);
+		}
+
 		try {
 
 			T result = objectCallback
@@ -2796,6 +3799,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private <T> List<T> executeFindMultiInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
 			CursorPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
 
+		if (collectionCallback instanceof FindCallback) {
+			recordQueryShape(collectionName, ((FindCallback) collectionCallback).query, preparer);
+		}
+
+		return detectSlowOperation("find", collectionName,
+				() -> findCommand(collectionName, collectionCallback, preparer),
+				() -> doExecuteFindMultiInternal(collectionCallback, preparer, objectCallback, collectionName));
+	}
+
+	private <T> List<T> doExecuteFindMultiInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
+			CursorPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
+
 		try {
 
 			MongoCursor<Document> cursor = null;
@@ -2877,6 +3892,25 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return converter;
 	}
 
+	/**
+	 * Obtain the query {@link Document} to hand on for the given {@link Query}. {@link Query#isFrozen() Frozen} queries
+	 * are mapped once per type and passed on as {@link MappedCriteria} so that they do not get mapped again.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param type the type to map the query against.
+	 * @return never {@literal null}.
+	 */
+	private Document getQueryObject(Query query, Class<?> type) {
+
+		if (!query.isFrozen()) {
+			return query.getQueryObject();
+		}
+
+		Document mappedQuery = queryOperations.createQueryContext(query)
+				.getMappedQuery(mappingContext.getPersistentEntity(type));
+		return MappedCriteria.of(mappedQuery).getCriteriaObject();
+	}
+
 	private Document getMappedSortObject(Query query, Class<?> type) {
 
 		if (query == null || ObjectUtils.isEmpty(query.getSortObject())) {
@@ -3187,6 +4221,65 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * {@link DocumentCallback} for documents carrying references resolved via {@literal $lookup}. The
+	 * {@link MappingMongoConverter#RESOLVED_DBREF_FIELD_PREFIX resolved} fields are only handed to the reader and
+	 * removed from the {@link Document} published with events and passed to callbacks.
+	 *
+	 * @param <T>
+	 * @since 3.3
+	 */
+	private class DbRefLookupReadDocumentCallback<T> implements DocumentCallback<T> {
+
+		private final EntityReader<? super T, Bson> reader;
+		private final Class<T> type;
+		private final String collectionName;
+
+		DbRefLookupReadDocumentCallback(EntityReader<? super T, Bson> reader, Class<T> type, String collectionName) {
+
+			this.reader = reader;
+			this.type = type;
+			this.collectionName = collectionName;
+		}
+
+		@Nullable
+		public T doWith(@Nullable Document document) {
+
+			if (document == null) {
+				return null;
+			}
+
+			Document resolved = new Document();
+			for (Iterator<Map.Entry<String, Object>> it = document.entrySet().iterator(); it.hasNext();) {
+
+				Map.Entry<String, Object> entry = it.next();
+				if (entry.getKey().startsWith(MappingMongoConverter.RESOLVED_DBREF_FIELD_PREFIX)) {
+
+					resolved.put(entry.getKey(), entry.getValue());
+					it.remove();
+				}
+			}
+
+			maybeEmitEvent(new AfterLoadEvent<>(document, type, collectionName));
+
+			Document toRead = document;
+			if (!resolved.isEmpty()) {
+
+				toRead = new Document(document);
+				toRead.putAll(resolved);
+			}
+
+			T source = reader.read(type, toRead);
+
+			if (source != null) {
+				maybeEmitEvent(new AfterConvertEvent<>(document, source, collectionName));
+				source = maybeCallAfterConvert(source, document, collectionName);
+			}
+
+			return source;
+		}
+	}
+
 	/**
 	 * {@link DocumentCallback} transforming {@link Document} into the given {@code targetType} or decorating the
 	 * {@code sourceType} with a {@literal projection} in case the {@code targetType} is an {@literal interface}.
@@ -3251,6 +4344,53 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			this.type = type;
 		}
 
+		/**
+		 * @return the mapped sort. {@literal null} if the query is not sorted.
+		 */
+		@Nullable
+		Document getSortObject() {
+
+			if (ObjectUtils.isEmpty(query.getSortObject())) {
+				return null;
+			}
+
+			return type != null ? getMappedSortObject(query, type) : query.getSortObject();
+		}
+
+		/**
+		 * Append sort, hint, skip, limit and collation of the {@link Query} to the given {@literal find} command the way
+		 * they are applied to the cursor.
+		 *
+		 * @param command the {@literal find} command. Must not be {@literal null}.
+		 */
+		void appendCursorOptions(Document command) {
+
+			Document sort = getSortObject();
+
+			if (sort != null) {
+				command.append("sort", sort);
+			}
+
+			if (StringUtils.hasText(query.getHint())) {
+
+				String hint = query.getHint();
+				command.append("hint", BsonUtils.isJsonDocument(hint) //
+						? BsonUtils.parse(hint, mongoDbFactory) //
+						: hint);
+			}
+
+			if (query.getSkip() > 0) {
+				command.append("skip", query.getSkip());
+			}
+
+			if (query.getLimit() > 0) {
+				command.append("limit", query.getLimit());
+			}
+
+			operations.forType(type).getCollation(query) //
+					.ifPresent(collation -> command.append("collation", collation.toDocument()));
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.mongodb.core.CursorPreparer#prepare(com.mongodb.DBCursor)
@@ -3338,6 +4478,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		@Override
 		public ReadPreference getReadPreference() {
+
+			if (query.hasReadPreference()) {
+				return query.getReadPreference();
+			}
+
 			return (query.getMeta().getFlags().contains(CursorOption.SECONDARY_READS)
 					|| query.getMeta().getFlags().contains(CursorOption.SLAVE_OK)) ? ReadPreference.primaryPreferred() : null;
 		}
@@ -58,6 +58,7 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -86,6 +87,9 @@ class QueryOperations {
 	private final AggregationUtil aggregationUtil;
 	private final Map<Class<?>, Document> mappedShardKey = new ConcurrentHashMap<>(1);
 
+	// mapped frozen queries per entity, released under memory pressure
+	private final Map<Query, Map<Object, Document>> mappedFrozenQueries = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * Create a new instance of {@link QueryOperations}.
 	 *
@@ -182,6 +186,17 @@ class QueryOperations {
 		return new UpdateContext(replacement, upsert);
 	}
 
+	/**
+	 * @param query the {@link Query} identifying the document to replace. Must not be {@literal null}.
+	 * @param replacement the {@link MappedDocument mapped replacement} document.
+	 * @param upsert use {@literal true} to insert diff when no existing document found.
+	 * @return new instance of {@link UpdateContext}.
+	 * @since 3.3
+	 */
+	UpdateContext replaceSingleContext(Query query, MappedDocument replacement, boolean upsert) {
+		return new UpdateContext(query, replacement, upsert);
+	}
+
 	/**
 	 * Create a new {@link DeleteContext} instance removing all matching documents.
 	 *
@@ -285,6 +300,17 @@ class QueryOperations {
 		 * @return never {@literal null}.
 		 */
 		<T> Document getMappedQuery(@Nullable MongoPersistentEntity<T> entity) {
+
+			if (query.isFrozen()) {
+
+				Map<Object, Document> mappedQueries = mappedFrozenQueries.computeIfAbsent(query,
+						key -> new ConcurrentHashMap<>(2));
+				Document mappedQuery = mappedQueries.computeIfAbsent(entity != null ? entity : Object.class,
+						key -> queryMapper.getMappedObject(query.getQueryObject(), entity));
+
+				return BsonUtils.deepCopy(mappedQuery);
+			}
+
 			return queryMapper.getMappedObject(getQueryObject(), entity);
 		}
 
@@ -612,8 +638,12 @@ class QueryOperations {
 		}
 
 		UpdateContext(MappedDocument update, boolean upsert) {
+			this(new BasicQuery(new Document(BsonUtils.asMap(update.getIdFilter()))), update, upsert);
+		}
 
-			super(new BasicQuery(new Document(BsonUtils.asMap(update.getIdFilter()))));
+		UpdateContext(Query query, MappedDocument update, boolean upsert) {
+
+			super(query);
 			this.multi = false;
 			this.upsert = upsert;
 			this.mappedDocument = update;
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Second level cache for the raw result {@link Document documents} of queries run via
+ * {@link MongoTemplate#find(org.springframework.data.mongodb.core.query.Query, Class, String)}. {@link MongoTemplate}
+ * {@link #evict(String) evicts} all entries of a collection when writing to it, and once more after completion of a
+ * surrounding transaction. Writes from other processes can be picked up via
+ * {@link org.springframework.data.mongodb.core.messaging.QueryResultCacheInvalidator}.
+ * <p />
+ * Results are only {@link #put(Key, List, long) cached} if no eviction happened for the collection since the query was
+ * started, identified by the {@link #getGeneration(String) generation} of the collection.
+ *
+ * @author agent
+ * @since 3.3
+ * @see MongoTemplate#setQueryResultCache(QueryResultCache)
+ * @see DefaultQueryResultCache
+ */
+public interface QueryResultCache {
+
+	/**
+	 * Get the cached result for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return {@literal null} if not present. Returned documents are not shared with other callers.
+	 */
+	@Nullable
+	List<Document> get(Key key);
+
+	/**
+	 * Get the current generation of the given collection, changing with every {@link #evict(String) eviction}. Obtain
+	 * the generation before running the query to {@link #put(Key, List, long) cache}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @return the current generation.
+	 */
+	long getGeneration(String collectionName);
+
+	/**
+	 * Cache the result for the given {@link Key} unless the {@link #getGeneration(String) generation} of its collection
+	 * changed in the meantime.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param documents must not be {@literal null}.
+	 * @param generation the generation of the collection obtained before running the query.
+	 */
+	void put(Key key, List<Document> documents, long generation);
+
+	/**
+	 * Evict all entries of the given collection and advance its {@link #getGeneration(String) generation}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 */
+	void evict(String collectionName);
+
+	/**
+	 * Evict all entries and advance the {@link #getGeneration(String) generation} of all collections.
+	 */
+	void clear();
+
+	/**
+	 * Value object identifying a query result by everything that influences the returned documents.
+	 *
+	 * @author agent
+	 * @since 3.3
+	 */
+	final class Key {
+
+		private final String collectionName;
+		private final List<Object> parts;
+
+		private Key(String collectionName, List<Object> parts) {
+
+			this.collectionName = collectionName;
+			this.parts = parts;
+		}
+
+		/**
+		 * Create a new {@link Key}.
+		 *
+		 * @param collectionName must not be {@literal null}.
+		 * @param query the mapped query. Must not be {@literal null}.
+		 * @param fields the mapped fields. Must not be {@literal null}.
+		 * @param sort the mapped sort. Must not be {@literal null}.
+		 * @param skip number of documents to skip.
+		 * @param limit max number of documents.
+		 * @param options further options like read preference, collation or hint. Elements can be {@literal null}.
+		 * @return new instance of {@link Key}.
+		 */
+		public static Key of(String collectionName, Document query, Document fields, Document sort, long skip, int limit,
+				Object... options) {
+
+			Assert.notNull(collectionName, "CollectionName must not be null!");
+			Assert.notNull(query, "Query must not be null!");
+			Assert.notNull(fields, "Fields must not be null!");
+			Assert.notNull(sort, "Sort must not be null!");
+
+			return new Key(collectionName,
+					Arrays.asList(collectionName, query, fields, sort, skip, limit, Arrays.asList(options)));
+		}
+
+		/**
+		 * @return the collection the query targets.
+		 */
+		public String getCollectionName() {
+			return collectionName;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			return parts.equals(((Key) o).parts);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return parts.hashCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "QueryResultCache.Key" + parts;
+		}
+	}
+}
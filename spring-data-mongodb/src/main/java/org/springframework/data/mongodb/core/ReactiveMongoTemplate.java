@@ -19,13 +19,20 @@ import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bson.BsonValue;
@@ -36,6 +43,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.SpringProxy;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -66,6 +74,7 @@ import org.springframework.data.mongodb.core.QueryOperations.DeleteContext;
 import org.springframework.data.mongodb.core.QueryOperations.DistinctQueryContext;
 import org.springframework.data.mongodb.core.QueryOperations.QueryContext;
 import org.springframework.data.mongodb.core.QueryOperations.UpdateContext;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory.ClientSessionBoundMongoDbFactory;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
@@ -83,8 +92,10 @@ import org.springframework.data.mongodb.core.convert.MongoWriter;
 import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.index.IndexAdvisor;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
 import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperationsProvider;
 import org.springframework.data.mongodb.core.index.ReactiveMongoPersistentEntityIndexCreator;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
@@ -92,8 +103,12 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.MongoSimpleTypes;
 import org.springframework.data.mongodb.core.mapping.event.*;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
+import org.springframework.data.mongodb.core.metrics.CurrentRepositoryMethod;
+import org.springframework.data.mongodb.core.metrics.OperationMetrics;
+import org.springframework.data.mongodb.core.metrics.OperationSample;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.MappedCriteria;
 import org.springframework.data.mongodb.core.query.Meta;
 import org.springframework.data.mongodb.core.query.Meta.CursorOption;
 import org.springframework.data.mongodb.core.query.NearQuery;
@@ -108,8 +123,10 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 
@@ -150,12 +167,16 @@ import com.mongodb.reactivestreams.client.MongoDatabase;
  * @author Yadhukrishna S Pai
  * @since 2.0
  */
-public class ReactiveMongoTemplate implements ReactiveMongoOperations, ApplicationContextAware {
+public class ReactiveMongoTemplate
+		implements ReactiveMongoOperations, ReactiveIndexOperationsProvider, ApplicationContextAware {
 
 	public static final DbRefResolver NO_OP_REF_RESOLVER = NoOpDbRefResolver.INSTANCE;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveMongoTemplate.class);
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
+	private static final Set<String> HEDGEABLE_READ_PREFERENCES = new HashSet<>(
+			Arrays.asList(ReadPreference.secondary().getName(), ReadPreference.secondaryPreferred().getName(),
+					ReadPreference.nearest().getName()));
 
 	private final MongoConverter mongoConverter;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
@@ -177,9 +198,17 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private @Nullable ApplicationEventPublisher eventPublisher;
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 	private @Nullable ReactiveMongoPersistentEntityIndexCreator indexCreator;
+	private @Nullable HedgedReadPolicy hedgedReadPolicy;
+	private OperationMetrics operationMetrics = OperationMetrics.NONE;
+	private @Nullable SlowOperationDetector slowOperationDetector;
+	private @Nullable IndexAdvisor indexAdvisor;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
+	private final Map<MongoDatabase, Map<String, MongoCollection<Document>>> preparedCollections = //
+			new ConcurrentReferenceHashMap<>();
+	private final boolean prepareCollectionOverridden = overridesPrepareCollection(getClass());
+
 	/**
 	 * Constructor used for a basic template configuration.
 	 *
@@ -273,6 +302,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.propertyOperations = that.propertyOperations;
 		this.sessionSynchronization = that.sessionSynchronization;
 		this.queryOperations = that.queryOperations;
+		this.hedgedReadPolicy = that.hedgedReadPolicy;
+		this.operationMetrics = that.operationMetrics;
+		this.slowOperationDetector = that.slowOperationDetector;
+		this.indexAdvisor = that.indexAdvisor;
 	}
 
 	private void onCheckForIndexes(MongoPersistentEntity<?> entity, Consumer<Throwable> subscriptionExceptionHandler) {
@@ -303,7 +336,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 * @param writeConcern can be {@literal null}.
 	 */
 	public void setWriteConcern(@Nullable WriteConcern writeConcern) {
+
 		this.writeConcern = writeConcern;
+		this.preparedCollections.clear();
 	}
 
 	/**
@@ -322,7 +357,56 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 * @param readPreference
 	 */
 	public void setReadPreference(ReadPreference readPreference) {
+
 		this.readPreference = readPreference;
+		this.preparedCollections.clear();
+	}
+
+	/**
+	 * Configure the {@link HedgedReadPolicy} applied to find operations opting in via
+	 * {@link Meta#setHedgedReads(Boolean)} and tracking the {@link Meta#getLatencyBudget() latency budget} of those
+	 * defining one.
+	 *
+	 * @param hedgedReadPolicy can be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setHedgedReadPolicy(@Nullable HedgedReadPolicy hedgedReadPolicy) {
+		this.hedgedReadPolicy = hedgedReadPolicy;
+	}
+
+	/**
+	 * Configures the {@link OperationMetrics} instrumenting find and count operations. The repository method an operation
+	 * is issued from is obtained from the subscriber {@link reactor.util.context.Context} via
+	 * {@link CurrentRepositoryMethod#CONTEXT_KEY}.
+	 *
+	 * @param operationMetrics can be {@literal null} to disable instrumentation.
+	 * @since 3.3
+	 */
+	public void setOperationMetrics(@Nullable OperationMetrics operationMetrics) {
+		this.operationMetrics = operationMetrics != null ? operationMetrics : OperationMetrics.NONE;
+	}
+
+	/**
+	 * Configures the {@link SlowOperationDetector} recording and explaining find, aggregate and count operations
+	 * exceeding its threshold. Explains are run non-blocking once an operation completes.
+	 *
+	 * @param slowOperationDetector can be {@literal null} to disable detection.
+	 * @since 3.3
+	 */
+	public void setSlowOperationDetector(@Nullable SlowOperationDetector slowOperationDetector) {
+		this.slowOperationDetector = slowOperationDetector;
+	}
+
+	/**
+	 * Configures the {@link IndexAdvisor} recording the shapes of the mapped filter and sort of find and count
+	 * operations. Use {@link org.springframework.data.mongodb.core.index.ReactiveIndexAdvisor} to match them against the
+	 * existing indexes.
+	 *
+	 * @param indexAdvisor can be {@literal null} to disable recording.
+	 * @since 3.3
+	 */
+	public void setIndexAdvisor(@Nullable IndexAdvisor indexAdvisor) {
+		this.indexAdvisor = indexAdvisor;
 	}
 
 	/*
@@ -347,6 +431,14 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		projectionFactory.setBeanClassLoader(applicationContext.getClassLoader());
 	}
 
+	/**
+	 * @return {@literal true} if an {@link OperationMetrics} instance is configured.
+	 * @since 3.3
+	 */
+	public boolean hasOperationMetrics() {
+		return operationMetrics != OperationMetrics.NONE;
+	}
+
 	/**
 	 * Set the {@link ReactiveEntityCallbacks} instance to use when invoking
 	 * {@link org.springframework.data.mapping.callback.EntityCallback callbacks} like the
@@ -775,12 +867,12 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	public <T> Mono<T> findOne(Query query, Class<T> entityClass, String collectionName) {
 
 		if (ObjectUtils.isEmpty(query.getSortObject())) {
-			return doFindOne(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
+			return doFindOne(collectionName, getQueryObject(query, entityClass), query.getFieldsObject(), entityClass,
 					new QueryFindPublisherPreparer(query, entityClass));
 		}
 
-		query.limit(1);
-		return find(query, entityClass, collectionName).next();
+		Query limited = query.isFrozen() ? Query.of(query).limit(1) : query.limit(1);
+		return find(limited, entityClass, collectionName).next();
 	}
 
 	/*
@@ -814,7 +906,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			QueryContext queryContext = queryOperations.createQueryContext(query);
 			Document filter = queryContext.getMappedQuery(entityClass, this::getPersistentEntity);
 
-			FindPublisher<Document> findPublisher = collection.find(filter, Document.class)
+			MongoCollection<Document> collectionToUse = query.hasReadPreference()
+					? collection.withReadPreference(query.getReadPreference())
+					: collection;
+			FindPublisher<Document> findPublisher = collectionToUse.find(filter, Document.class)
 					.projection(new Document("_id", 1));
 
 			if (LOGGER.isDebugEnabled()) {
@@ -845,7 +940,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			return findAll(entityClass, collectionName);
 		}
 
-		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
+		return doFind(collectionName, getQueryObject(query, entityClass), query.getFieldsObject(), entityClass,
 				new QueryFindPublisherPreparer(query, entityClass));
 	}
 
@@ -980,10 +1075,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		}
 
 		ReadDocumentCallback<O> readCallback = new ReadDocumentCallback<>(mongoConverter, outputType, collectionName);
-		return execute(collectionName,
-				collection -> aggregateAndMap(collection, ctx.getAggregationPipeline(), ctx.isOutOrMerge(), options,
-						readCallback,
-						ctx.getInputType()));
+		return detectSlowOperation("aggregate", collectionName,
+				() -> aggregateCommand(collectionName, ctx.getAggregationPipeline()),
+				execute(collectionName, collection -> aggregateAndMap(collection, ctx.getAggregationPipeline(),
+						ctx.isOutOrMerge(), options, readCallback, ctx.getInputType())));
 	}
 
 	private <O> Flux<O> aggregateAndMap(MongoCollection<Document> collection, List<Document> pipeline,
@@ -1012,7 +1107,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			return (isOutOrMerge ? Flux.from(cursor.toCollection()) : Flux.from(cursor.first())).thenMany(Mono.empty());
 		}
 
-		return Flux.from(cursor).concatMap(readCallback::doWith);
+		// keep the number of converted but not yet consumed results in line with the cursor batch size
+		return options.getCursorBatchSize() != null
+				? Flux.from(cursor).concatMap(readCallback::doWith, Math.max(1, options.getCursorBatchSize()))
+				: Flux.from(cursor).concatMap(readCallback::doWith);
 	}
 
 	/*
@@ -1104,7 +1202,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			operations.forType(entityClass).getCollation(query).ifPresent(optionsToUse::collation);
 		}
 
-		return doFindAndModify(collectionName, query.getQueryObject(), query.getFieldsObject(),
+		return doFindAndModify(collectionName, getQueryObject(query, entityClass), query.getFieldsObject(),
 				getMappedSortObject(query, entityClass), entityClass, update, optionsToUse);
 	}
 
@@ -1174,7 +1272,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	public <T> Mono<T> findAndRemove(Query query, Class<T> entityClass, String collectionName) {
 
 		operations.forType(entityClass).getCollation(query);
-		return doFindAndRemove(collectionName, query.getQueryObject(), query.getFieldsObject(),
+		return doFindAndRemove(collectionName, getQueryObject(query, entityClass), query.getFieldsObject(),
 				getMappedSortObject(query, entityClass), operations.forType(entityClass).getCollation(query).orElse(null),
 				entityClass);
 	}
@@ -1207,19 +1305,24 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		Assert.notNull(query, "Query must not be null!");
 		Assert.hasText(collectionName, "Collection name must not be null or empty!");
 
-		return createMono(collectionName, collection -> {
+		return observeMono("count", collectionName, entityClass, 0, sample -> createMono(collectionName, collection -> {
 
+			long mappingStart = System.nanoTime();
 			CountContext countContext = queryOperations.countQueryContext(query);
 
 			CountOptions options = countContext.getCountOptions(entityClass);
 			Document filter = countContext.getMappedQuery(entityClass, mappingContext::getPersistentEntity);
+			sample.recordMapping(System.nanoTime() - mappingStart);
 
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug("Executing count: {} in collection: {}", serializeToJsonSafely(filter), collectionName);
 			}
 
-			return doCount(collectionName, filter, options);
-		});
+			recordQueryShape(collectionName, filter, null);
+
+			return detectSlowOperation("count", collectionName, () -> countCommand(collectionName, filter),
+					doCount(collectionName, filter, options, query.getReadPreference()));
+		}));
 	}
 
 	/*
@@ -1240,9 +1343,30 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 * @return
 	 */
 	protected Mono<Long> doCount(String collectionName, Document filter, CountOptions options) {
+		return doCount(collectionName, filter, options, null);
+	}
 
-		return createMono(collectionName,
-				collection -> collection.countDocuments(CountQuery.of(filter).toQueryDocument(), options));
+	/**
+	 * Run the actual count operation against the collection with given name, reading from the given
+	 * {@link ReadPreference} if present.
+	 *
+	 * @param collectionName the name of the collection to count matching documents in.
+	 * @param filter the filter to apply. Must not be {@literal null}.
+	 * @param options options to apply. Like collation and the such.
+	 * @param readPreference the {@link ReadPreference} to use. Can be {@literal null} to use the collection default.
+	 * @return
+	 * @since 3.3
+	 */
+	protected Mono<Long> doCount(String collectionName, Document filter, CountOptions options,
+			@Nullable ReadPreference readPreference) {
+
+		return createMono(collectionName, collection -> {
+
+			MongoCollection<Document> collectionToUse = readPreference != null
+					? collection.withReadPreference(readPreference)
+					: collection;
+			return collectionToUse.countDocuments(CountQuery.of(filter).toQueryDocument(), options);
+		});
 	}
 
 	protected Mono<Long> doEstimatedCount(String collectionName, EstimatedDocumentCountOptions options) {
@@ -2358,18 +2482,22 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
+		long mappingStart = System.nanoTime();
 		QueryContext queryContext = queryOperations
 				.createQueryContext(new BasicQuery(query, fields != null ? fields : new Document()));
 		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		long mappingNanos = System.nanoTime() - mappingStart;
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(String.format("findOne using query: %s fields: %s for class: %s in collection: %s",
 					serializeToJsonSafely(query), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, preparer),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+		return observeMono("findOne", collectionName, entityClass, mappingNanos,
+				sample -> executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, preparer),
+						sampled(new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), sample),
+						collectionName));
 	}
 
 	/**
@@ -2411,17 +2539,20 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
+		long mappingStart = System.nanoTime();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, entityClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		long mappingNanos = System.nanoTime() - mappingStart;
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(String.format("find using query: %s fields: %s for class: %s in collection: %s",
 					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
-				collectionName);
+		return observe("find", collectionName, entityClass, mappingNanos,
+				sample -> executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
+						sampled(objectCallback, sample), collectionName));
 	}
 
 	/**
@@ -2435,17 +2566,104 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
 
+		long mappingStart = System.nanoTime();
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
 		Document mappedFields = queryContext.getMappedFields(entity, targetClass, projectionFactory);
 		Document mappedQuery = queryContext.getMappedQuery(entity);
+		long mappingNanos = System.nanoTime() - mappingStart;
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
 					serializeToJsonSafely(mappedQuery), mappedFields, sourceClass, collectionName);
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
-				new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), collectionName);
+		return observe("find", collectionName, sourceClass, mappingNanos,
+				sample -> executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
+						sampled(new ProjectingReadCallback<>(mongoConverter, sourceClass, targetClass, collectionName), sample),
+						collectionName));
+	}
+
+	/**
+	 * Sample the {@link Flux} created by the given action with the configured {@link OperationMetrics}. The sample is
+	 * started on subscription and stopped on completion, error or cancellation.
+	 *
+	 * @param operation the name of the operation.
+	 * @param collectionName the collection the operation is run against.
+	 * @param entityType the domain type. Can be {@literal null}.
+	 * @param mappingNanos the time already spent mapping the operation before subscription.
+	 * @param action the action creating the {@link Flux} receiving the {@link OperationSample} to record to.
+	 * @return the sampled {@link Flux}.
+	 */
+	private <T> Flux<T> observe(String operation, String collectionName, @Nullable Class<?> entityType,
+			long mappingNanos, Function<OperationSample, Flux<T>> action) {
+
+		if (operationMetrics == OperationMetrics.NONE) {
+			return action.apply(OperationSample.NONE);
+		}
+
+		return Flux.deferContextual(context -> {
+
+			OperationSample sample = startSample(operation, collectionName, entityType, mappingNanos,
+					context.getOrDefault(CurrentRepositoryMethod.CONTEXT_KEY, null));
+
+			return action.apply(sample) //
+					.doOnComplete(() -> sample.stop(null)) //
+					.doOnError(sample::stop) //
+					.doOnCancel(() -> sample.stop(null));
+		});
+	}
+
+	/**
+	 * Sample the {@link Mono} created by the given action with the configured {@link OperationMetrics}.
+	 *
+	 * @see #observe(String, String, Class, long, Function)
+	 */
+	private <T> Mono<T> observeMono(String operation, String collectionName, @Nullable Class<?> entityType,
+			long mappingNanos, Function<OperationSample, Mono<T>> action) {
+
+		if (operationMetrics == OperationMetrics.NONE) {
+			return action.apply(OperationSample.NONE);
+		}
+
+		return Mono.deferContextual(context -> {
+
+			OperationSample sample = startSample(operation, collectionName, entityType, mappingNanos,
+					context.getOrDefault(CurrentRepositoryMethod.CONTEXT_KEY, null));
+
+			return action.apply(sample) //
+					.doOnSuccess(it -> sample.stop(null)) //
+					.doOnError(sample::stop) //
+					.doOnCancel(() -> sample.stop(null));
+		});
+	}
+
+	private OperationSample startSample(String operation, String collectionName, @Nullable Class<?> entityType,
+			long mappingNanos, @Nullable String repositoryMethod) {
+
+		OperationSample sample = operationMetrics.start(operation, collectionName, entityType, repositoryMethod,
+				System.nanoTime() - mappingNanos);
+
+		if (mappingNanos > 0) {
+			sample.recordMapping(mappingNanos);
+		}
+
+		return sample;
+	}
+
+	private static <T> DocumentCallback<T> sampled(DocumentCallback<T> callback, OperationSample sample) {
+
+		if (!sample.isRecording()) {
+			return callback;
+		}
+
+		return document -> {
+
+			long start = System.nanoTime();
+			Mono<T> result = callback.doWith(document);
+			sample.recordConversion(System.nanoTime() - start, document);
+
+			return result;
+		};
 	}
 
 	private Document getMappedFieldsObject(Document fields, @Nullable MongoPersistentEntity<?> entity,
@@ -2648,13 +2866,33 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private MongoCollection<Document> getAndPrepareCollection(MongoDatabase db, String collectionName) {
 
 		try {
-			MongoCollection<Document> collection = db.getCollection(collectionName, Document.class);
-			return prepareCollection(collection);
+
+			if (!isPreparedCollectionReusable() || isSessionBoundDatabase(db)) {
+				return prepareCollection(db.getCollection(collectionName, Document.class));
+			}
+
+			return preparedCollections.computeIfAbsent(db, key -> new ConcurrentHashMap<>()) //
+					.computeIfAbsent(collectionName, key -> prepareCollection(db.getCollection(key, Document.class)));
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
 		}
 	}
 
+	/**
+	 * Session bound databases are proxies created per {@link com.mongodb.session.ClientSession} and must not be used as
+	 * cache key as they would keep the session reachable.
+	 */
+	private boolean isSessionBoundDatabase(MongoDatabase db) {
+		return db instanceof SpringProxy || this instanceof ReactiveSessionBoundMongoTemplate
+				|| mongoDatabaseFactory instanceof ClientSessionBoundMongoDbFactory;
+	}
+
+	private static boolean overridesPrepareCollection(Class<?> type) {
+
+		Method method = ReflectionUtils.findMethod(type, "prepareCollection", MongoCollection.class);
+		return method != null && !ReactiveMongoTemplate.class.equals(method.getDeclaringClass());
+	}
+
 	/**
 	 * Ensure the given {@literal source} is not an {@link java.lang.reflect.Array}, {@link Collection} or
 	 * {@link Iterator}.
@@ -2682,7 +2920,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 	/**
 	 * Prepare the collection before any processing is done using it. This allows a convenient way to apply settings like
-	 * withCodecRegistry() etc. Can be overridden in sub-classes.
+	 * withCodecRegistry() etc. Can be overridden in sub-classes. The prepared collection is reused for further
+	 * operations against the same {@link MongoDatabase} if {@link #isPreparedCollectionReusable()} returns
+	 * {@literal true}.
 	 *
 	 * @param collection
 	 */
@@ -2690,6 +2930,21 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return this.readPreference != null ? collection.withReadPreference(readPreference) : collection;
 	}
 
+	/**
+	 * Returns whether a collection {@link #prepareCollection(MongoCollection) prepared} for a {@link MongoDatabase} may
+	 * be reused for further operations against the very same {@link MongoDatabase} instance. Prepared collections are
+	 * held per {@link MongoDatabase} instance, so that factories routing to different clients or databases never share
+	 * them, and are released under memory pressure. Collections of session bound databases are never reused. Reuse is
+	 * disabled for subclasses overriding {@link #prepareCollection(MongoCollection)}. Those may opt in by returning
+	 * {@literal true} if their preparation is free of side effects and does not change between operations.
+	 *
+	 * @return {@literal true} unless {@link #prepareCollection(MongoCollection)} is overridden.
+	 * @since 3.3
+	 */
+	protected boolean isPreparedCollectionReusable() {
+		return !prepareCollectionOverridden;
+	}
+
 	/**
 	 * @param database
 	 * @return
@@ -2753,6 +3008,12 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private <T> Mono<T> executeFindOneInternal(ReactiveCollectionCallback<Document> collectionCallback,
 			DocumentCallback<T> objectCallback, String collectionName) {
 
+		if (collectionCallback instanceof FindOneCallback) {
+
+			FindOneCallback findOneCallback = (FindOneCallback) collectionCallback;
+			recordQueryShape(collectionName, findOneCallback.query, findOneCallback.preparer);
+		}
+
 		return createMono(collectionName,
 				collection -> Mono.from(collectionCallback.doInCollection(collection)).flatMap(objectCallback::doWith));
 	}
@@ -2778,10 +3039,248 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private <T> Flux<T> executeFindMultiInternal(ReactiveCollectionQueryCallback<Document> collectionCallback,
 			@Nullable FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
 
-		return createFlux(collectionName, collection -> {
+		if (collectionCallback instanceof FindCallback && !(preparer instanceof TailingQueryFindPublisherPreparer)) {
+			recordQueryShape(collectionName, ((FindCallback) collectionCallback).query, preparer);
+		}
+
+		Flux<T> result = createFlux(collectionName, collection -> {
 			return Flux.from(preparer.initiateFind(collection, collectionCallback::doInCollection))
 					.concatMap(objectCallback::doWith);
 		});
+
+		if (preparer instanceof TailingQueryFindPublisherPreparer) {
+			return result;
+		}
+
+		if (hedgedReadPolicy != null && preparer instanceof QueryFindPublisherPreparer) {
+			result = applyHedgedReadPolicy(result, (QueryFindPublisherPreparer) preparer, collectionName,
+					hedgedReadPolicy);
+		}
+
+		return detectSlowOperation("find", collectionName,
+				() -> findCommand(collectionName, collectionCallback, preparer), result);
+	}
+
+	/**
+	 * Record the given {@link Flux} with the configured {@link SlowOperationDetector} if it takes longer than the
+	 * threshold from subscription to termination. New shapes are explained non-blocking.
+	 *
+	 * @param operation the name of the operation.
+	 * @param collectionName the collection the operation is run against.
+	 * @param command supplier of the mapped command, only called if the operation is slow.
+	 * @param source the operation.
+	 * @return the {@link Flux} to subscribe to.
+	 */
+	private <T> Flux<T> detectSlowOperation(String operation, String collectionName, Supplier<Document> command,
+			Flux<T> source) {
+
+		SlowOperationDetector detector = slowOperationDetector;
+
+		if (detector == null) {
+			return source;
+		}
+
+		return Flux.deferContextual(context -> {
+
+			long start = System.nanoTime();
+			return source.doOnTerminate(() -> recordSlowOperation(detector, operation, collectionName, command,
+					System.nanoTime() - start, context));
+		});
+	}
+
+	/**
+	 * Record the given {@link Mono} with the configured {@link SlowOperationDetector}.
+	 *
+	 * @see #detectSlowOperation(String, String, Supplier, Flux)
+	 */
+	private <T> Mono<T> detectSlowOperation(String operation, String collectionName, Supplier<Document> command,
+			Mono<T> source) {
+
+		SlowOperationDetector detector = slowOperationDetector;
+
+		if (detector == null) {
+			return source;
+		}
+
+		return Mono.deferContextual(context -> {
+
+			long start = System.nanoTime();
+			return source.doOnTerminate(() -> recordSlowOperation(detector, operation, collectionName, command,
+					System.nanoTime() - start, context));
+		});
+	}
+
+	private void recordSlowOperation(SlowOperationDetector detector, String operation, String collectionName,
+			Supplier<Document> command, long durationNanos, ContextView context) {
+
+		try {
+
+			SlowOperation slowOperation = detector.record(operation, collectionName, command, durationNanos);
+
+			if (slowOperation != null) {
+				explainSlowOperation(detector, slowOperation, context);
+			}
+		} catch (RuntimeException e) {
+			LOGGER.debug("Failed to record slow operation", e);
+		}
+	}
+
+	/**
+	 * Explain the given {@link SlowOperation} against the unbound database. Explains are subscribed to outside of the
+	 * operation and therefore skipped if it ran within a {@link ClientSession} or transaction.
+	 */
+	private void explainSlowOperation(SlowOperationDetector detector, SlowOperation slowOperation, ContextView context) {
+
+		if (this instanceof ReactiveSessionBoundMongoTemplate || context.hasKey(ClientSession.class)) {
+			return;
+		}
+
+		ReactiveMongoDatabaseUtils.isTransactionActive(mongoDatabaseFactory) //
+				.filter(active -> !active) //
+				.flatMap(it -> getUnboundDatabase()) //
+				.flatMap(db -> Mono.from(db.runCommand(detector.createExplainCommand(slowOperation), Document.class))) //
+				.contextWrite(Context.of(context)) //
+				.subscribe(slowOperation::setExplainPlan, error -> detector.explainFailed(slowOperation, error));
+	}
+
+	private Mono<MongoDatabase> getUnboundDatabase() {
+
+		ReactiveMongoDatabaseFactory factory = mongoDatabaseFactory instanceof ClientSessionBoundMongoDbFactory
+				? ((ClientSessionBoundMongoDbFactory) mongoDatabaseFactory).getDelegate()
+				: mongoDatabaseFactory;
+
+		return factory.getMongoDatabase();
+	}
+
+	private static Document findCommand(String collectionName,
+			ReactiveCollectionQueryCallback<Document> collectionCallback, @Nullable FindPublisherPreparer preparer) {
+
+		Document command = new Document("find", collectionName);
+
+		if (collectionCallback instanceof FindCallback) {
+
+			FindCallback findCallback = (FindCallback) collectionCallback;
+
+			if (findCallback.query != null) {
+				command.append("filter", findCallback.query);
+			}
+
+			if (findCallback.fields != null) {
+				command.append("projection", findCallback.fields);
+			}
+		}
+
+		if (preparer instanceof QueryFindPublisherPreparer) {
+			((QueryFindPublisherPreparer) preparer).appendCursorOptions(command);
+		}
+
+		return command;
+	}
+
+	/**
+	 * Record the shape of the given mapped query with the configured {@link IndexAdvisor}.
+	 *
+	 * @param collectionName the collection the query is run against.
+	 * @param query the mapped query.
+	 * @param preparer the preparer providing the mapped sort. Can be {@literal null}.
+	 */
+	private void recordQueryShape(String collectionName, @Nullable Document query,
+			@Nullable FindPublisherPreparer preparer) {
+
+		IndexAdvisor advisor = indexAdvisor;
+
+		if (advisor == null) {
+			return;
+		}
+
+		Document sort = preparer instanceof QueryFindPublisherPreparer
+				? ((QueryFindPublisherPreparer) preparer).getSortObject()
+				: null;
+		advisor.record(collectionName, query != null ? query : new Document(), sort);
+	}
+
+	private static Document aggregateCommand(String collectionName, List<Document> pipeline) {
+		return new Document("aggregate", collectionName).append("pipeline", pipeline).append("cursor", new Document());
+	}
+
+	private static Document countCommand(String collectionName, Document filter) {
+		return new Document("count", collectionName).append("query", filter);
+	}
+
+	/**
+	 * Hedge the given find {@link Flux} by subscribing to it a second time once the first subscription did not respond
+	 * within the {@link HedgedReadPolicy#getHedgeDelay(String) hedge delay}, and track the latency budget of the query.
+	 * Reads bound to a {@link ClientSession} are not hedged as the session must not be used concurrently.
+	 *
+	 * @param source the cold find {@link Flux}.
+	 * @param preparer the preparer holding the {@link Query}.
+	 * @param collectionName the collection to be queried.
+	 * @param policy the {@link HedgedReadPolicy} to apply.
+	 * @return the potentially hedged {@link Flux}.
+	 */
+	private <T> Flux<T> applyHedgedReadPolicy(Flux<T> source, QueryFindPublisherPreparer preparer,
+			String collectionName, HedgedReadPolicy policy) {
+
+		Meta meta = preparer.getQuery().getMeta();
+		Duration budget = meta.getLatencyBudget();
+		boolean hedge = Boolean.TRUE.equals(meta.getHedgedReads()) //
+				&& !(this instanceof ReactiveSessionBoundMongoTemplate) //
+				&& isHedgeable(preparer.hasReadPreference() ? preparer.getReadPreference() : readPreference);
+
+		if (budget == null && !hedge) {
+			return source;
+		}
+
+		return Flux.deferContextual(context -> {
+
+			long start = System.nanoTime();
+			AtomicBoolean responded = new AtomicBoolean();
+
+			Flux<T> result = source.doOnEach(signal -> {
+				if (!signal.isOnError() && responded.compareAndSet(false, true)) {
+					policy.recordLatency(collectionName, System.nanoTime() - start);
+				}
+			});
+
+			Duration hedgeDelay = hedge && !context.hasKey(ClientSession.class) ? policy.getHedgeDelay(collectionName)
+					: null;
+
+			if (hedgeDelay != null) {
+
+				Flux<T> hedged = Mono.delay(hedgeDelay) //
+						.doOnNext(it -> policy.recordHedge()) //
+						.thenMany(source) //
+						.doOnEach(signal -> {
+
+							// the original read is cancelled, record the time it took so far as lower bound of its latency
+							if (!signal.isOnError() && responded.compareAndSet(false, true)) {
+
+								policy.recordHedgeWin();
+								policy.recordLatency(collectionName, System.nanoTime() - start);
+							}
+						});
+
+				result = Flux.firstWithSignal(result, hedged);
+			}
+
+			if (budget == null) {
+				return result;
+			}
+
+			return result.doOnError(error -> {
+				if (HedgedReadPolicy.isBudgetExceeded(error)) {
+					policy.recordBudgetExceeded();
+				}
+			}).doOnComplete(() -> {
+				if (System.nanoTime() - start > budget.toNanos()) {
+					policy.recordBudgetExceeded();
+				}
+			});
+		});
+	}
+
+	private static boolean isHedgeable(@Nullable ReadPreference readPreference) {
+		return readPreference != null && HEDGEABLE_READ_PREFERENCES.contains(readPreference.getName());
 	}
 
 	/**
@@ -2836,6 +3335,25 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return converter;
 	}
 
+	/**
+	 * Obtain the query {@link Document} to hand on for the given {@link Query}. {@link Query#isFrozen() Frozen} queries
+	 * are mapped once per type and passed on as {@link MappedCriteria} so that they do not get mapped again.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param type the type to map the query against.
+	 * @return never {@literal null}.
+	 */
+	private Document getQueryObject(Query query, Class<?> type) {
+
+		if (!query.isFrozen()) {
+			return query.getQueryObject();
+		}
+
+		Document mappedQuery = queryOperations.createQueryContext(query)
+				.getMappedQuery(mappingContext.getPersistentEntity(type));
+		return MappedCriteria.of(mappedQuery).getCriteriaObject();
+	}
+
 	private Document getMappedSortObject(Query query, Class<?> type) {
 
 		if (query == null) {
@@ -3271,6 +3789,57 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			this.type = type;
 		}
 
+		Query getQuery() {
+			return query;
+		}
+
+		/**
+		 * @return the mapped sort. {@literal null} if the query is not sorted.
+		 */
+		@Nullable
+		Document getSortObject() {
+
+			if (ObjectUtils.isEmpty(query.getSortObject())) {
+				return null;
+			}
+
+			return type != null ? getMappedSortObject(query, type) : query.getSortObject();
+		}
+
+		/**
+		 * Append sort, hint, skip, limit and collation of the {@link Query} to the given {@literal find} command the way
+		 * they are applied to the cursor.
+		 *
+		 * @param command the {@literal find} command. Must not be {@literal null}.
+		 */
+		void appendCursorOptions(Document command) {
+
+			Document sort = getSortObject();
+
+			if (sort != null) {
+				command.append("sort", sort);
+			}
+
+			if (StringUtils.hasText(query.getHint())) {
+
+				String hint = query.getHint();
+				command.append("hint", BsonUtils.isJsonDocument(hint) //
+						? BsonUtils.parse(hint, mongoDatabaseFactory) //
+						: hint);
+			}
+
+			if (query.getSkip() > 0) {
+				command.append("skip", query.getSkip());
+			}
+
+			if (query.getLimit() > 0) {
+				command.append("limit", query.getLimit());
+			}
+
+			operations.forType(type).getCollation(query) //
+					.ifPresent(collation -> command.append("collation", collation.toDocument()));
+		}
+
 		public FindPublisher<Document> prepare(FindPublisher<Document> findPublisher) {
 
 			FindPublisher<Document> findPublisherToUse = operations.forType(type) //
@@ -3339,6 +3908,11 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		@Override
 		public ReadPreference getReadPreference() {
+
+			if (query.hasReadPreference()) {
+				return query.getReadPreference();
+			}
+
 			return (query.getMeta().getFlags().contains(CursorOption.SECONDARY_READS)
 					|| query.getMeta().getFlags().contains(CursorOption.SLAVE_OK)) ? ReadPreference.primaryPreferred() : null;
 		}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.beans.factory.DisposableBean;
 
 import com.mongodb.ClientSessionOptions;
@@ -33,6 +36,8 @@ import com.mongodb.client.MongoDatabase;
 public class SimpleMongoClientDatabaseFactory extends MongoDatabaseFactorySupport<MongoClient>
 		implements DisposableBean {
 
+	private final Map<String, MongoDatabase> databases = new ConcurrentHashMap<>(2);
+
 	/**
 	 * Creates a new {@link SimpleMongoClientDatabaseFactory} instance for the given {@code connectionString}.
 	 *
@@ -99,6 +104,6 @@ public class SimpleMongoClientDatabaseFactory extends MongoDatabaseFactorySuppor
 	 */
 	@Override
 	protected MongoDatabase doGetMongoDatabase(String dbName) {
-		return getMongoClient().getDatabase(dbName);
+		return databases.computeIfAbsent(dbName, getMongoClient()::getDatabase);
 	}
 }
@@ -17,6 +17,10 @@ package org.springframework.data.mongodb.core;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.bson.codecs.configuration.CodecRegistry;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.DisposableBean;
@@ -55,6 +59,8 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 
 	private @Nullable WriteConcern writeConcern;
 
+	private final Map<String, MongoDatabase> databases = new ConcurrentHashMap<>(2);
+
 	/**
 	 * Creates a new {@link SimpleReactiveMongoDatabaseFactory} instance from the given {@link ConnectionString}.
 	 *
@@ -94,7 +100,9 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 	 * @param writeConcern the writeConcern to set
 	 */
 	public void setWriteConcern(WriteConcern writeConcern) {
+
 		this.writeConcern = writeConcern;
+		this.databases.clear();
 	}
 
 	/*
@@ -113,12 +121,12 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 
 		Assert.hasText(dbName, "Database name must not be empty.");
 
-		return Mono.fromSupplier(() -> {
+		return Mono.fromSupplier(() -> databases.computeIfAbsent(dbName, key -> {
 
-			MongoDatabase db = mongo.getDatabase(dbName);
+			MongoDatabase db = mongo.getDatabase(key);
 
 			return writeConcern != null ? db.withWriteConcern(writeConcern) : db;
-		});
+		}));
 	}
 
 	/**
@@ -170,7 +178,8 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 
 	/**
 	 * {@link ClientSession} bound {@link ReactiveMongoDatabaseFactory} decorating the database with a
-	 * {@link SessionAwareMethodInterceptor}.
+	 * {@link SessionAwareMethodInterceptor}. Decorated databases and collections are kept for the lifetime of the factory
+	 * and reused for equally configured targets.
 	 *
 	 * @author Christoph Strobl
 	 * @since 2.1
@@ -179,6 +188,7 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 
 		private final ClientSession session;
 		private final ReactiveMongoDatabaseFactory delegate;
+		private final Map<Object, Object> proxies = new ConcurrentHashMap<>();
 
 		ClientSessionBoundMongoDbFactory(ClientSession session, ReactiveMongoDatabaseFactory delegate) {
 
@@ -250,15 +260,26 @@ public class SimpleReactiveMongoDatabaseFactory implements DisposableBean, React
 		}
 
 		private MongoDatabase decorateDatabase(MongoDatabase database) {
-			return createProxyInstance(session, database, MongoDatabase.class);
+			return proxyDatabase(session, database);
 		}
 
 		private MongoDatabase proxyDatabase(com.mongodb.session.ClientSession session, MongoDatabase database) {
-			return createProxyInstance(session, database, MongoDatabase.class);
+
+			Object cacheKey = Arrays.asList(MongoDatabase.class, database.getName(), database.getCodecRegistry(),
+					database.getReadPreference(), database.getWriteConcern(), database.getReadConcern());
+
+			return (MongoDatabase) proxies.computeIfAbsent(cacheKey,
+					key -> createProxyInstance(session, database, MongoDatabase.class));
 		}
 
 		private MongoCollection proxyCollection(com.mongodb.session.ClientSession session, MongoCollection collection) {
-			return createProxyInstance(session, collection, MongoCollection.class);
+
+			Object cacheKey = Arrays.asList(MongoCollection.class, collection.getNamespace(), collection.getDocumentClass(),
+					collection.getCodecRegistry(), collection.getReadPreference(), collection.getWriteConcern(),
+					collection.getReadConcern());
+
+			return (MongoCollection) proxies.computeIfAbsent(cacheKey,
+					key -> createProxyInstance(session, collection, MongoCollection.class));
 		}
 
 		private <T> T createProxyInstance(com.mongodb.session.ClientSession session, T target, Class<T> targetType) {
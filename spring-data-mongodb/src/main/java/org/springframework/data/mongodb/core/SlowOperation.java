@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.lang.Nullable;
+
+/**
+ * An operation shape that took longer than the threshold of a {@link SlowOperationDetector}, along with the mapped
+ * command of its first occurrence and the explain plan obtained for it.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class SlowOperation {
+
+	private final String operation;
+	private final String collectionName;
+	private final String shape;
+	private final Document command;
+
+	private long count;
+	private long maxDurationNanos;
+	private long lastDurationNanos;
+	private Instant lastSeen;
+	private volatile @Nullable Document explainPlan;
+
+	SlowOperation(String operation, String collectionName, String shape, Document command, long durationNanos) {
+
+		this.operation = operation;
+		this.collectionName = collectionName;
+		this.shape = shape;
+		this.command = command;
+
+		record(durationNanos);
+	}
+
+	synchronized void record(long durationNanos) {
+
+		count++;
+		maxDurationNanos = Math.max(maxDurationNanos, durationNanos);
+		lastDurationNanos = durationNanos;
+		lastSeen = Instant.now();
+	}
+
+	void setExplainPlan(Document explainPlan) {
+		this.explainPlan = explainPlan;
+	}
+
+	/**
+	 * @return the name of the operation, e.g. {@literal find} or {@literal aggregate}.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the name of the collection the operation was run against.
+	 */
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * @return the shape of the command, that is the command with all values replaced by placeholders.
+	 */
+	public String getShape() {
+		return shape;
+	}
+
+	/**
+	 * @return the mapped command of the first occurrence of the shape.
+	 */
+	public Document getCommand() {
+		return command;
+	}
+
+	/**
+	 * @return the number of times the shape exceeded the threshold.
+	 */
+	public synchronized long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the longest duration observed.
+	 */
+	public synchronized Duration getMaxDuration() {
+		return Duration.ofNanos(maxDurationNanos);
+	}
+
+	/**
+	 * @return the duration of the most recent occurrence.
+	 */
+	public synchronized Duration getLastDuration() {
+		return Duration.ofNanos(lastDurationNanos);
+	}
+
+	/**
+	 * @return the time of the most recent occurrence.
+	 */
+	public synchronized Instant getLastSeen() {
+		return lastSeen;
+	}
+
+	/**
+	 * @return the explain plan of the command. {@literal null} if not (yet) available.
+	 */
+	@Nullable
+	public Document getExplainPlan() {
+		return explainPlan;
+	}
+
+	/**
+	 * @return {@literal true} if the {@link #getExplainPlan() explain plan} contains a {@literal COLLSCAN} stage.
+	 */
+	public boolean isCollectionScan() {
+
+		Document plan = explainPlan;
+		return plan != null && containsStage(plan, "COLLSCAN");
+	}
+
+	private static boolean containsStage(Object value, String stage) {
+
+		if (value instanceof Map) {
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+
+				if ("stage".equals(entry.getKey()) && stage.equals(entry.getValue())) {
+					return true;
+				}
+
+				if (containsStage(entry.getValue(), stage)) {
+					return true;
+				}
+			}
+		}
+
+		if (value instanceof Collection) {
+			for (Object element : (Collection<?>) value) {
+				if (containsStage(element, stage)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s on %s (%d times, max %d ms%s): %s", operation, collectionName, getCount(),
+				getMaxDuration().toMillis(), isCollectionScan() ? ", COLLSCAN" : "", shape);
+	}
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Detector for {@literal find}, {@literal aggregate}, {@literal count} and {@literal update} operations of
+ * {@link MongoTemplate} and {@link ReactiveMongoTemplate} taking longer than a given threshold. Slow operations are
+ * de-duplicated by the shape of their mapped command and kept in a bounded ring, evicting the least recently seen
+ * shape first. For every new shape an {@literal explain} is run asynchronously, so that collection scans show up in
+ * {@link #getSlowOperations()} along with the query causing them. Operations run within a session or transaction are
+ * recorded but not explained, as explains run outside of the operation.
+ *
+ * <pre class="code">
+ * SlowOperationDetector detector = new SlowOperationDetector(Duration.ofMillis(100), 256);
+ * template.setSlowOperationDetector(detector);
+ * </pre>
+ *
+ * @author agent
+ * @since 3.3
+ * @see org.springframework.data.mongodb.monitor.SlowOperationMonitor
+ */
+public class SlowOperationDetector implements DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SlowOperationDetector.class);
+	private static final String PLACEHOLDER = "?";
+
+	private final long thresholdNanos;
+	private final Map<String, SlowOperation> operations;
+
+	private Verbosity verbosity = Verbosity.QUERY_PLANNER;
+	private Executor executor;
+	private @Nullable ExecutorService defaultExecutor;
+
+	/**
+	 * Create a new {@link SlowOperationDetector}.
+	 *
+	 * @param threshold the duration after which an operation is considered slow. Must not be {@literal null}.
+	 * @param capacity the maximum number of shapes to keep. Must be greater than zero.
+	 */
+	public SlowOperationDetector(Duration threshold, int capacity) {
+
+		Assert.notNull(threshold, "Threshold must not be null!");
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+		this.thresholdNanos = threshold.toNanos();
+		this.operations = new LinkedHashMap<String, SlowOperation>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, SlowOperation> eldest) {
+				return size() > capacity;
+			}
+		};
+
+		this.defaultExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+				runnable -> {
+
+					Thread thread = new Thread(runnable, "slow-operation-explain");
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.DiscardPolicy());
+		this.executor = defaultExecutor;
+	}
+
+	/**
+	 * Set the {@link Verbosity} of explain plans. Defaults to {@link Verbosity#QUERY_PLANNER}.
+	 *
+	 * @param verbosity must not be {@literal null}.
+	 */
+	public void setVerbosity(Verbosity verbosity) {
+
+		Assert.notNull(verbosity, "Verbosity must not be null!");
+		this.verbosity = verbosity;
+	}
+
+	/**
+	 * Set the {@link Executor} to run explains of {@link MongoTemplate} operations on. Defaults to a single daemon thread
+	 * dropping explains once {@literal capacity} explains are pending. {@link ReactiveMongoTemplate} runs explains
+	 * non-blocking and does not use the executor.
+	 *
+	 * @param executor must not be {@literal null}.
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+
+		destroy();
+		this.executor = executor;
+	}
+
+	/**
+	 * @return the slow operations currently kept, the slowest first.
+	 */
+	public List<SlowOperation> getSlowOperations() {
+
+		List<SlowOperation> result;
+
+		synchronized (operations) {
+			result = new ArrayList<>(operations.values());
+		}
+
+		result.sort(Comparator.comparing(SlowOperation::getMaxDuration).reversed());
+		return result;
+	}
+
+	/**
+	 * Remove all slow operations.
+	 */
+	public void clear() {
+
+		synchronized (operations) {
+			operations.clear();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		if (defaultExecutor != null) {
+
+			defaultExecutor.shutdownNow();
+			defaultExecutor = null;
+		}
+	}
+
+	/**
+	 * @param durationNanos the duration of an operation.
+	 * @return {@literal true} if the operation is considered slow.
+	 */
+	boolean isSlow(long durationNanos) {
+		return durationNanos >= thresholdNanos;
+	}
+
+	/**
+	 * Record the given operation if it is slow.
+	 *
+	 * @param operation the name of the operation.
+	 * @param collectionName the collection the operation was run against.
+	 * @param command supplier of the mapped command, only called if the operation is slow.
+	 * @param durationNanos the duration of the operation.
+	 * @return the {@link SlowOperation} to explain if the operation is slow and its shape not yet known, {@literal null}
+	 *         otherwise.
+	 */
+	@Nullable
+	SlowOperation record(String operation, String collectionName, Supplier<Document> command, long durationNanos) {
+
+		if (!isSlow(durationNanos)) {
+			return null;
+		}
+
+		Document commandToUse = command.get();
+		String shape = operation + " " + collectionName + " " + ((Document) shapeOf(commandToUse)).toJson();
+
+		synchronized (operations) {
+
+			SlowOperation existing = operations.get(shape);
+
+			if (existing != null) {
+
+				existing.record(durationNanos);
+				return null;
+			}
+
+			SlowOperation slowOperation = new SlowOperation(operation, collectionName, shape, commandToUse, durationNanos);
+			operations.put(shape, slowOperation);
+
+			return slowOperation;
+		}
+	}
+
+	/**
+	 * @param slowOperation must not be {@literal null}.
+	 * @return the {@literal explain} command for the given {@link SlowOperation}.
+	 */
+	Document createExplainCommand(SlowOperation slowOperation) {
+		return new Document("explain", slowOperation.getCommand()).append("verbosity", verbosity.value);
+	}
+
+	/**
+	 * Explain the given {@link SlowOperation} asynchronously using the configured {@link Executor}.
+	 *
+	 * @param slowOperation must not be {@literal null}.
+	 * @param runCommand function running a command against the database.
+	 */
+	void explain(SlowOperation slowOperation, Function<Document, Document> runCommand) {
+
+		Document explain = createExplainCommand(slowOperation);
+
+		try {
+			executor.execute(() -> {
+
+				try {
+					slowOperation.setExplainPlan(runCommand.apply(explain));
+				} catch (RuntimeException e) {
+					explainFailed(slowOperation, e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			explainFailed(slowOperation, e);
+		}
+	}
+
+	void explainFailed(SlowOperation slowOperation, Throwable error) {
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Failed to explain slow operation %s", slowOperation), error);
+		}
+	}
+
+	/**
+	 * Replace all values of the given command by placeholders, retaining field names and operators.
+	 */
+	private static Object shapeOf(@Nullable Object value) {
+
+		if (value instanceof Map) {
+
+			Document shape = new Document();
+			((Map<?, ?>) value).forEach((key, nested) -> shape.put(key.toString(), shapeOf(nested)));
+			return shape;
+		}
+
+		if (value instanceof Collection) {
+
+			List<Object> shape = new ArrayList<>();
+
+			for (Object element : (Collection<?>) value) {
+				if (element instanceof Map) {
+					shape.add(shapeOf(element));
+				}
+			}
+
+			return shape.isEmpty() ? PLACEHOLDER : shape;
+		}
+
+		return PLACEHOLDER;
+	}
+
+	/**
+	 * Verbosity of explain plans.
+	 *
+	 * @author agent
+	 */
+	public enum Verbosity {
+
+		/**
+		 * Show the winning plan chosen by the query planner without executing it.
+		 */
+		QUERY_PLANNER("queryPlanner"),
+
+		/**
+		 * Execute the winning plan and report its execution statistics.
+		 */
+		EXECUTION_STATS("executionStats");
+
+		private final String value;
+
+		Verbosity(String value) {
+			this.value = value;
+		}
+	}
+}
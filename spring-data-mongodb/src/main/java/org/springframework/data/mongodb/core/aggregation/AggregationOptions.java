@@ -56,6 +56,7 @@ public class AggregationOptions {
 	private final Optional<Document> hint;
 	private Duration maxTime = Duration.ZERO;
 	private ResultOptions resultOptions = ResultOptions.READ;
+	private boolean retainRawResults = true;
 	private DomainTypeMapping domainTypeMapping = DomainTypeMapping.RELAXED;
 
 	/**
@@ -262,6 +263,15 @@ public class AggregationOptions {
 		return ResultOptions.SKIP.equals(resultOptions);
 	}
 
+	/**
+	 * @return {@literal true} to keep the raw result {@link Document documents} next to the mapped ones so that they can
+	 *         be obtained via {@link AggregationResults#getRawResults()}.
+	 * @since 3.3
+	 */
+	public boolean isRetainRawResults() {
+		return retainRawResults;
+	}
+
 	/**
 	 * @return the domain type mapping strategy do apply. Never {@literal null}.
 	 * @since 3.2
@@ -368,6 +378,7 @@ public class AggregationOptions {
 		private @Nullable Duration maxTime;
 		private @Nullable ResultOptions resultOptions;
 		private @Nullable DomainTypeMapping domainTypeMapping;
+		private boolean retainRawResults = true;
 
 		/**
 		 * Defines whether to off-load intensive sort-operations to disk.
@@ -485,6 +496,23 @@ public class AggregationOptions {
 			return this;
 		}
 
+		/**
+		 * Do not keep the raw result {@link Document documents} once they have been mapped. By default, every result
+		 * {@link Document} is kept next to its mapped representation so that it can be obtained via
+		 * {@link AggregationResults#getRawResults()}, which holds the result set in memory twice. When discarded,
+		 * {@link AggregationResults#getRawResults()} does not contain a {@literal results} entry. <br />
+		 * Use {@link org.springframework.data.mongodb.core.MongoOperations#aggregateStream(Aggregation, String, Class)} to
+		 * map results lazily while iterating.
+		 *
+		 * @return this.
+		 * @since 3.3
+		 */
+		public Builder discardRawResults() {
+
+			this.retainRawResults = false;
+			return this;
+		}
+
 		/**
 		 * Apply a strict domain type mapping considering {@link org.springframework.data.mongodb.core.mapping.Field}
 		 * annotations throwing errors for non-existent, but referenced fields.
@@ -540,6 +568,7 @@ public class AggregationOptions {
 			if (domainTypeMapping != null) {
 				options.domainTypeMapping = domainTypeMapping;
 			}
+			options.retainRawResults = retainRawResults;
 
 			return options;
 		}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link Aggregation} that is rendered only once and then executed many times with different values bound to named
+ * {@link #parameter(String) parameter} slots.
+ *
+ * <pre class="code">
+ * PreparedAggregation&lt;TypedAggregation&lt;Order&gt;&gt; prepared = PreparedAggregation.of(newAggregation(Order.class,
+ * 		match(where("status").is(parameter("status"))), group("customerId").count().as("total")));
+ *
+ * template.aggregate(prepared.bind("status", "OPEN"), OrderStats.class);
+ * </pre>
+ *
+ * The rendered pipeline is cached per {@link AggregationOperationContext} kind, input type and mapping setup. Parameters
+ * stand in for plain values (e.g. the right-hand side of a {@link org.springframework.data.mongodb.core.query.Criteria})
+ * and are replaced as a whole. They cannot be used as field names, within SpEL expressions or as part of a regular
+ * expression. Bound values are inserted into the rendered pipeline as they are. They are not mapped against the domain
+ * type property they are bound to and, when running with {@link Aggregation#DEFAULT_CONTEXT} or
+ * {@link AggregationOptions.DomainTypeMapping#NONE}, not converted at all. Bind values in their store representation,
+ * e.g. {@link org.bson.types.ObjectId} for identifiers, the name of an {@link Enum} or the result of custom conversions.
+ *
+ * @author agent
+ * @since 3.3
+ * @param <A> the {@link Aggregation} type.
+ */
+public class PreparedAggregation<A extends Aggregation> {
+
+	private static final String PARAMETER_MARKER = "\u0000:";
+
+	private final A aggregation;
+	private final Map<Object, List<Document>> pipelines = new ConcurrentHashMap<>(4);
+
+	private PreparedAggregation(A aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null!");
+		this.aggregation = aggregation;
+	}
+
+	/**
+	 * Prepare the given {@link Aggregation}.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 */
+	public static PreparedAggregation<Aggregation> of(Aggregation aggregation) {
+		return new PreparedAggregation<>(aggregation);
+	}
+
+	/**
+	 * Prepare the given {@link TypedAggregation}.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 */
+	public static <T> PreparedAggregation<TypedAggregation<T>> of(TypedAggregation<T> aggregation) {
+		return new PreparedAggregation<>(aggregation);
+	}
+
+	/**
+	 * Create a placeholder for the value bound to the parameter with the given name.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return the placeholder to use instead of a value.
+	 */
+	public static Object parameter(String name) {
+
+		Assert.hasText(name, "Parameter name must not be null or empty!");
+		return PARAMETER_MARKER + name;
+	}
+
+	/**
+	 * Bind the given value to the parameter with the given name.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 * @return new {@link Aggregation} ready for execution.
+	 */
+	public A bind(String name, @Nullable Object value) {
+
+		Assert.notNull(name, "Parameter name must not be null!");
+		return bind(Collections.singletonMap(name, value));
+	}
+
+	/**
+	 * Bind the given values to the parameters with the name of the corresponding keys. All parameters of the pipeline
+	 * require a value.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return new {@link Aggregation} ready for execution.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public A bind(Map<String, ?> values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		Map<String, Object> valuesToUse = new HashMap<>(values);
+
+		if (aggregation instanceof TypedAggregation) {
+			return (A) new BoundTypedAggregation(this, ((TypedAggregation<?>) aggregation).getInputType(), valuesToUse,
+					aggregation.getOptions());
+		}
+
+		return (A) new BoundAggregation(this, valuesToUse, aggregation.getOptions());
+	}
+
+	/**
+	 * @return the underlying {@link Aggregation}.
+	 */
+	public A getAggregation() {
+		return aggregation;
+	}
+
+	List<Document> toPipeline(AggregationOperationContext context, Map<String, Object> values) {
+
+		Object cacheKey = getCacheKey(context);
+		List<Document> pipeline = cacheKey != null
+				? pipelines.computeIfAbsent(cacheKey, key -> aggregation.toPipeline(context))
+				: aggregation.toPipeline(context);
+
+		List<Document> result = new ArrayList<>(pipeline.size());
+		for (Document stage : pipeline) {
+			result.add((Document) bindValues(stage, values));
+		}
+		return result;
+	}
+
+	@Nullable
+	private static Object getCacheKey(AggregationOperationContext context) {
+
+		if (context == Aggregation.DEFAULT_CONTEXT) {
+			return context;
+		}
+
+		if (context instanceof TypeBasedAggregationOperationContext) {
+			return ((TypeBasedAggregationOperationContext) context).getCacheKey();
+		}
+
+		return null;
+	}
+
+	@Nullable
+	private static Object bindValues(@Nullable Object source, Map<String, Object> values) {
+
+		if (source instanceof String) {
+
+			String value = (String) source;
+			if (!value.startsWith(PARAMETER_MARKER)) {
+				return value;
+			}
+
+			String name = value.substring(PARAMETER_MARKER.length());
+			if (!values.containsKey(name)) {
+				throw new IllegalArgumentException(String.format("No value bound for parameter '%s'!", name));
+			}
+			return values.get(name);
+		}
+
+		if (source instanceof Document) {
+
+			Document target = new Document();
+			((Document) source).forEach((key, value) -> target.put(key, bindValues(value, values)));
+			return target;
+		}
+
+		if (source instanceof Collection) {
+
+			Collection<?> collection = (Collection<?>) source;
+			List<Object> target = new ArrayList<>(collection.size());
+			for (Object element : collection) {
+				target.add(bindValues(element, values));
+			}
+			return target;
+		}
+
+		return source;
+	}
+
+	/**
+	 * {@link Aggregation} rendering its pipeline through the {@link PreparedAggregation}.
+	 */
+	private static class BoundAggregation extends Aggregation {
+
+		private final PreparedAggregation<?> prepared;
+		private final Map<String, Object> values;
+
+		BoundAggregation(PreparedAggregation<?> prepared, Map<String, Object> values, AggregationOptions options) {
+
+			super(prepared.aggregation.getPipeline().getOperations(), options);
+
+			this.prepared = prepared;
+			this.values = values;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.aggregation.Aggregation#withOptions(org.springframework.data.mongodb.core.aggregation.AggregationOptions)
+		 */
+		@Override
+		public Aggregation withOptions(AggregationOptions options) {
+
+			Assert.notNull(options, "AggregationOptions must not be null.");
+			return new BoundAggregation(prepared, values, options);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.aggregation.Aggregation#toPipeline(org.springframework.data.mongodb.core.aggregation.AggregationOperationContext)
+		 */
+		@Override
+		public List<Document> toPipeline(AggregationOperationContext rootContext) {
+			return prepared.toPipeline(rootContext, values);
+		}
+	}
+
+	/**
+	 * {@link TypedAggregation} rendering its pipeline through the {@link PreparedAggregation}.
+	 */
+	private static class BoundTypedAggregation<I> extends TypedAggregation<I> {
+
+		private final PreparedAggregation<?> prepared;
+		private final Map<String, Object> values;
+
+		BoundTypedAggregation(PreparedAggregation<?> prepared, Class<I> inputType, Map<String, Object> values,
+				AggregationOptions options) {
+
+			super(inputType, prepared.aggregation.getPipeline().getOperations(), options);
+
+			this.prepared = prepared;
+			this.values = values;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.aggregation.TypedAggregation#withOptions(org.springframework.data.mongodb.core.aggregation.AggregationOptions)
+		 */
+		@Override
+		public TypedAggregation<I> withOptions(AggregationOptions options) {
+
+			Assert.notNull(options, "AggregationOptions must not be null.");
+			return new BoundTypedAggregation<>(prepared, getInputType(), values, options);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.aggregation.Aggregation#toPipeline(org.springframework.data.mongodb.core.aggregation.AggregationOperationContext)
+		 */
+		@Override
+		public List<Document> toPipeline(AggregationOperationContext rootContext) {
+			return prepared.toPipeline(rootContext, values);
+		}
+	}
+}
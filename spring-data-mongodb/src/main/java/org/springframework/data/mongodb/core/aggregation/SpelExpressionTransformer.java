@@ -45,6 +45,7 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -60,6 +61,10 @@ class SpelExpressionTransformer implements AggregationExpressionTransformer {
 	// TODO: remove explicit usage of a configuration once SPR-11031 gets fixed
 	private static final SpelParserConfiguration CONFIG = new SpelParserConfiguration(false, false);
 	private static final SpelExpressionParser PARSER = new SpelExpressionParser(CONFIG);
+
+	// parsed expressions only hold the AST, parameters are bound via the ExpressionState on each transformation
+	private static final ConcurrentLruCache<String, SpelExpression> EXPRESSION_CACHE = new ConcurrentLruCache<>(256,
+			it -> (SpelExpression) PARSER.parseExpression(it));
 	private final List<ExpressionNodeConversion<? extends ExpressionNode>> conversions;
 
 	/**
@@ -98,7 +103,7 @@ class SpelExpressionTransformer implements AggregationExpressionTransformer {
 		Assert.notNull(context, "AggregationOperationContext must not be null!");
 		Assert.notNull(params, "Parameters must not be null!");
 
-		SpelExpression spelExpression = (SpelExpression) PARSER.parseExpression(expression);
+		SpelExpression spelExpression = EXPRESSION_CACHE.get(expression);
 		ExpressionState state = new ExpressionState(new StandardEvaluationContext(params), CONFIG);
 		ExpressionNode node = ExpressionNode.from(spelExpression.getAST(), state);
 
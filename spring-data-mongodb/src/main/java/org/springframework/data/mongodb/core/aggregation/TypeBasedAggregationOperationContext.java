@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.core.aggregation;
 import static org.springframework.data.mongodb.core.aggregation.Fields.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.bson.Document;
@@ -170,4 +171,12 @@ public class TypeBasedAggregationOperationContext implements AggregationOperatio
 	public Class<?> getType() {
 		return type;
 	}
+
+	/**
+	 * @return key identifying contexts rendering the same pipeline. Used to cache rendered pipelines.
+	 * @since 3.3
+	 */
+	Object getCacheKey() {
+		return Arrays.asList(getClass(), type, mappingContext, mapper);
+	}
 }
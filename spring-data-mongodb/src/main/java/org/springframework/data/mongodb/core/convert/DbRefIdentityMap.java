@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.DBRef;
+
+/**
+ * Identity map bound to the current thread holding the documents loaded for and the objects converted from
+ * {@link DBRef}s within one unit of work. While a {@link DbRefIdentityMap} is {@link #open() open},
+ * {@link DefaultDbRefResolver} and {@link MappingMongoConverter} fetch and convert each referenced document at most
+ * once, no matter how many parent documents point to it.
+ *
+ * <pre class="code">
+ * try (DbRefIdentityMap scope = DbRefIdentityMap.open()) {
+ * 	List&lt;Order&gt; orders = template.findAll(Order.class);
+ * }
+ * </pre>
+ *
+ * Scopes are not shared across threads. Nested {@link #open()} calls create an independent scope that restores the
+ * enclosing one on {@link #close()}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class DbRefIdentityMap implements AutoCloseable {
+
+	private static final ThreadLocal<DbRefIdentityMap> CURRENT = new NamedThreadLocal<>("DBRef identity map");
+
+	private final @Nullable DbRefIdentityMap previous;
+	private final Map<List<Object>, Document> documents = new HashMap<>();
+	private final Map<List<Object>, Object> objects = new HashMap<>();
+
+	private DbRefIdentityMap(@Nullable DbRefIdentityMap previous) {
+		this.previous = previous;
+	}
+
+	/**
+	 * Open a new {@link DbRefIdentityMap} and bind it to the current thread.
+	 *
+	 * @return the new {@link DbRefIdentityMap}. Must be {@link #close() closed} once the unit of work is done.
+	 */
+	public static DbRefIdentityMap open() {
+
+		DbRefIdentityMap identityMap = new DbRefIdentityMap(CURRENT.get());
+		CURRENT.set(identityMap);
+		return identityMap;
+	}
+
+	/**
+	 * Run the given {@link Supplier} within a new {@link DbRefIdentityMap}.
+	 *
+	 * @param unitOfWork must not be {@literal null}.
+	 * @return the result of the {@link Supplier}.
+	 */
+	public static <T> T execute(Supplier<T> unitOfWork) {
+
+		Assert.notNull(unitOfWork, "Unit of work must not be null!");
+
+		try (DbRefIdentityMap ignored = open()) {
+			return unitOfWork.get();
+		}
+	}
+
+	/**
+	 * @return the {@link DbRefIdentityMap} bound to the current thread. Can be {@literal null}.
+	 */
+	@Nullable
+	public static DbRefIdentityMap getCurrent() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Get the document already loaded for the given {@link DBRef}.
+	 *
+	 * @param dbRef must not be {@literal null}.
+	 * @return {@literal null} if not loaded yet.
+	 */
+	@Nullable
+	public Document getDocument(DBRef dbRef) {
+		return documents.get(documentKey(dbRef));
+	}
+
+	/**
+	 * Register the document loaded for the given {@link DBRef}.
+	 *
+	 * @param dbRef must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 */
+	public void putDocument(DBRef dbRef, Document document) {
+
+		Assert.notNull(document, "Document must not be null!");
+		documents.put(documentKey(dbRef), document);
+	}
+
+	/**
+	 * Get the object already converted from the document with the given {@literal id} into the given type.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param id can be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@literal null} if not converted yet.
+	 */
+	@Nullable
+	public Object getObject(String collection, @Nullable Object id, Class<?> type) {
+		return objects.get(Arrays.asList(collection, id, type));
+	}
+
+	/**
+	 * Register the object converted from the document with the given {@literal id} into the given type.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param id can be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param object must not be {@literal null}.
+	 */
+	public void putObject(String collection, @Nullable Object id, Class<?> type, Object object) {
+
+		Assert.notNull(object, "Object must not be null!");
+		objects.put(Arrays.asList(collection, id, type), object);
+	}
+
+	/**
+	 * Discard all loaded documents and converted objects and restore the previously bound {@link DbRefIdentityMap}, if
+	 * any.
+	 */
+	@Override
+	public void close() {
+
+		documents.clear();
+		objects.clear();
+
+		if (previous != null) {
+			CURRENT.set(previous);
+		} else {
+			CURRENT.remove();
+		}
+	}
+
+	private static List<Object> documentKey(DBRef dbRef) {
+
+		Assert.notNull(dbRef, "DBRef must not be null!");
+		return Arrays.asList(dbRef.getDatabaseName(), dbRef.getCollectionName(), dbRef.getId());
+	}
+}
@@ -47,8 +47,11 @@ import org.springframework.data.mongodb.LazyLoadingException;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.MongoDatabaseUtils;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvent;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvents;
 import org.springframework.lang.Nullable;
 import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -75,6 +78,8 @@ public class DefaultDbRefResolver implements DbRefResolver {
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final ObjenesisStd objenesis;
 
+	private @Nullable ReferenceDocumentCache referenceCache;
+
 	/**
 	 * Creates a new {@link DefaultDbRefResolver} with the given {@link MongoDatabaseFactory}.
 	 *
@@ -89,6 +94,17 @@ public class DefaultDbRefResolver implements DbRefResolver {
 		this.objenesis = new ObjenesisStd(true);
 	}
 
+	/**
+	 * Configure the {@link ReferenceDocumentCache} to serve documents of
+	 * {@link org.springframework.data.mongodb.core.mapping.CachedReference cacheable} collections from.
+	 *
+	 * @param referenceCache can be {@literal null} to disable caching.
+	 * @since 3.3
+	 */
+	public void setReferenceCache(@Nullable ReferenceDocumentCache referenceCache) {
+		this.referenceCache = referenceCache;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.convert.DbRefResolver#resolveDbRef(org.springframework.data.mongodb.core.mapping.MongoPersistentProperty, org.springframework.data.mongodb.core.convert.DbRefResolverCallback)
@@ -115,6 +131,13 @@ public class DefaultDbRefResolver implements DbRefResolver {
 	@Override
 	public Document fetch(DBRef dbRef) {
 
+		DbRefIdentityMap identityMap = DbRefIdentityMap.getCurrent();
+		Document cached = getLoaded(identityMap, dbRef);
+
+		if (cached != null) {
+			return cached;
+		}
+
 		MongoCollection<Document> mongoCollection = getCollection(dbRef);
 
 		if (LOGGER.isTraceEnabled()) {
@@ -124,7 +147,15 @@ public class DefaultDbRefResolver implements DbRefResolver {
 					dbRef.getCollectionName());
 		}
 
-		return mongoCollection.find(Filters.eq("_id", dbRef.getId())).first();
+		FlightRecorderEvent event = FlightRecorderEvents.beginDbRefFetch();
+		Document document = mongoCollection.find(Filters.eq("_id", dbRef.getId())).first();
+		event.end(null, dbRef.getCollectionName(), document != null ? 1 : 0);
+
+		if (document != null) {
+			registerLoaded(identityMap, dbRef, document);
+		}
+
+		return document;
 	}
 
 	/*
@@ -144,6 +175,10 @@ public class DefaultDbRefResolver implements DbRefResolver {
 		String collection = refs.iterator().next().getCollectionName();
 		List<Object> ids = new ArrayList<>(refs.size());
 
+		DbRefIdentityMap identityMap = DbRefIdentityMap.getCurrent();
+		List<Document> result = new ArrayList<>(refs.size());
+		List<Object> idsToFetch = new ArrayList<>(refs.size());
+
 		for (DBRef ref : refs) {
 
 			if (!collection.equals(ref.getCollectionName())) {
@@ -152,27 +187,88 @@ public class DefaultDbRefResolver implements DbRefResolver {
 			}
 
 			ids.add(ref.getId());
+
+			Document cached = getLoaded(identityMap, ref);
+			if (cached != null) {
+				result.add(cached);
+			} else {
+				idsToFetch.add(ref.getId());
+			}
+		}
+
+		if (idsToFetch.isEmpty()) {
+			return ids.stream() //
+					.flatMap(id -> documentWithId(id, result)) //
+					.collect(Collectors.toList());
 		}
 
 		DBRef databaseSource = refs.iterator().next();
 		MongoCollection<Document> mongoCollection = getCollection(databaseSource);
 
 		if (LOGGER.isTraceEnabled()) {
-			LOGGER.trace("Bulk fetching DBRefs {} from {}.{}.", ids,
+			LOGGER.trace("Bulk fetching DBRefs {} from {}.{}.", idsToFetch,
 					StringUtils.hasText(databaseSource.getDatabaseName()) ? databaseSource.getDatabaseName()
 							: mongoCollection.getNamespace().getDatabaseName(),
 					databaseSource.getCollectionName());
 		}
 
-		List<Document> result = mongoCollection //
-				.find(new Document("_id", new Document("$in", ids))) //
+		FlightRecorderEvent event = FlightRecorderEvents.beginDbRefFetch();
+		List<Document> fetched = mongoCollection //
+				.find(new Document("_id", new Document("$in", idsToFetch))) //
 				.into(new ArrayList<>());
+		event.end(null, collection, fetched.size());
+
+		if (identityMap != null || referenceCache != null) {
+			for (Document document : fetched) {
+				registerLoaded(identityMap,
+						new DBRef(databaseSource.getDatabaseName(), collection, document.get("_id")), document);
+			}
+		}
+
+		result.addAll(fetched);
 
 		return ids.stream() //
 				.flatMap(id -> documentWithId(id, result)) //
 				.collect(Collectors.toList());
 	}
 
+	@Nullable
+	private Document getLoaded(@Nullable DbRefIdentityMap identityMap, DBRef dbRef) {
+
+		Document document = identityMap != null ? identityMap.getDocument(dbRef) : null;
+
+		if (document == null && referenceCache != null && !isSessionBound()) {
+
+			document = referenceCache.get(dbRef);
+
+			if (document != null && identityMap != null) {
+				identityMap.putDocument(dbRef, document);
+			}
+		}
+
+		return document;
+	}
+
+	private void registerLoaded(@Nullable DbRefIdentityMap identityMap, DBRef dbRef, Document document) {
+
+		if (identityMap != null) {
+			identityMap.putDocument(dbRef, document);
+		}
+
+		if (referenceCache != null && !isSessionBound()) {
+			referenceCache.put(dbRef, document);
+		}
+	}
+
+	/**
+	 * Documents read within a session or transaction may not be committed yet and must neither be served from nor put
+	 * into the {@link ReferenceDocumentCache}.
+	 */
+	private boolean isSessionBound() {
+		return MongoDatabaseUtils.isTransactionActive(mongoDbFactory)
+				|| TransactionSynchronizationManager.hasResource(mongoDbFactory);
+	}
+
 	/**
 	 * Creates a proxy for the given {@link MongoPersistentProperty} using the given {@link DbRefResolverCallback} to
 	 * eventually resolve the value of the property.
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -70,6 +71,8 @@ import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvent;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvents;
 import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
@@ -106,6 +109,15 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 	public static final ClassTypeInformation<Bson> BSON = ClassTypeInformation.from(Bson.class);
 
+	/**
+	 * Prefix of the field holding the documents referenced by a {@link DBRef} property that have already been joined into
+	 * the parent document, e.g. via {@literal $lookup}. The field is consumed instead of fetching the references through
+	 * the {@link DbRefResolver}.
+	 *
+	 * @since 3.3
+	 */
+	public static final String RESOLVED_DBREF_FIELD_PREFIX = "__resolved_";
+
 	protected static final Logger LOGGER = LoggerFactory.getLogger(MappingMongoConverter.class);
 
 	protected final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
@@ -271,7 +283,19 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	 * @see org.springframework.data.mongodb.core.core.MongoReader#read(java.lang.Class, com.mongodb.Document)
 	 */
 	public <S extends Object> S read(Class<S> clazz, final Bson bson) {
-		return read(ClassTypeInformation.from(clazz), bson);
+
+		FlightRecorderEvent event = FlightRecorderEvents.beginRead();
+		int count = 0;
+
+		try {
+
+			S result = read(ClassTypeInformation.from(clazz), bson);
+			count = 1;
+
+			return result;
+		} finally {
+			event.end(clazz, null, count);
+		}
 	}
 
 	protected <S extends Object> S read(TypeInformation<S> type, Bson bson) {
@@ -447,7 +471,8 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 					callback = getDbRefResolverCallback(context, documentAccessor, evaluator);
 				}
 
-				readAssociation(prop.getRequiredAssociation(), accessor, documentAccessor, dbRefProxyHandler, callback);
+				readAssociation(context, prop.getRequiredAssociation(), accessor, documentAccessor, dbRefProxyHandler,
+						callback);
 				continue;
 			}
 
@@ -474,7 +499,8 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 					callback = getDbRefResolverCallback(context, documentAccessor, evaluator);
 				}
 
-				readAssociation(prop.getRequiredAssociation(), accessor, documentAccessor, dbRefProxyHandler, callback);
+				readAssociation(context, prop.getRequiredAssociation(), accessor, documentAccessor, dbRefProxyHandler,
+						callback);
 				continue;
 			}
 
@@ -489,8 +515,9 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				(prop, bson, e, path) -> MappingMongoConverter.this.getValueInternal(context, prop, bson, e));
 	}
 
-	private void readAssociation(Association<MongoPersistentProperty> association, PersistentPropertyAccessor<?> accessor,
-			DocumentAccessor documentAccessor, DbRefProxyHandler handler, DbRefResolverCallback callback) {
+	private void readAssociation(ConversionContext context, Association<MongoPersistentProperty> association,
+			PersistentPropertyAccessor<?> accessor, DocumentAccessor documentAccessor, DbRefProxyHandler handler,
+			DbRefResolverCallback callback) {
 
 		MongoPersistentProperty property = association.getInverse();
 		Object value = documentAccessor.get(property);
@@ -499,10 +526,101 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			return;
 		}
 
+		Object resolved = BsonUtils.asMap(documentAccessor.getDocument())
+				.get(RESOLVED_DBREF_FIELD_PREFIX + property.getFieldName());
+
+		if (resolved instanceof List && !property.isLazyLoaded()) {
+
+			Object target = readResolvedDbRefs(context, property, value, (List<?>) resolved);
+
+			if (target != null) {
+				accessor.setProperty(property, target);
+				return;
+			}
+		}
+
 		DBRef dbref = value instanceof DBRef ? (DBRef) value : null;
 		accessor.setProperty(property, dbRefResolver.resolveDbRef(property, dbref, callback, handler));
 	}
 
+	/**
+	 * Convert the already joined documents referenced by the given {@link DBRef} or {@link Collection} of {@link DBRef}s
+	 * retaining the order of the references. The join only covers the collection of the property type within the current
+	 * database, hence references pointing elsewhere, as well as ones the join did not return a document for, are left to
+	 * the {@link DbRefResolver}.
+	 *
+	 * @return {@literal null} if the references cannot be read from the resolved documents.
+	 */
+	@Nullable
+	private Object readResolvedDbRefs(ConversionContext context, MongoPersistentProperty property, Object value,
+			List<?> resolved) {
+
+		Map<Object, Document> documentsById = new HashMap<>(resolved.size());
+		for (Object candidate : resolved) {
+			if (candidate instanceof Document) {
+				documentsById.put(((Document) candidate).get("_id"), (Document) candidate);
+			}
+		}
+
+		TypeInformation<?> type = property.getTypeInformation();
+		String joinedCollection = mappingContext.getRequiredPersistentEntity(property.getActualType()).getCollection();
+
+		if (value instanceof DBRef) {
+
+			Document document = getJoinedDocument((DBRef) value, joinedCollection, documentsById);
+
+			if (property.isCollectionLike() || document == null) {
+				return null;
+			}
+
+			List<Object> result = convertReferencedDocuments(context, Collections.singletonList(document), type,
+					((DBRef) value).getCollectionName());
+			return result.iterator().next();
+		}
+
+		if (!(value instanceof Collection) || !Collection.class.isAssignableFrom(type.getType())) {
+			return null;
+		}
+
+		Collection<?> references = (Collection<?>) value;
+		if (references.isEmpty() || !isCollectionOfDbRefWhereBulkFetchIsPossible(references)) {
+			return null;
+		}
+
+		List<Document> documents = new ArrayList<>(references.size());
+		for (Object reference : references) {
+
+			Document document = getJoinedDocument((DBRef) reference, joinedCollection, documentsById);
+
+			if (document == null) {
+				return null;
+			}
+
+			documents.add(document);
+		}
+
+		TypeInformation<?> componentType = type.getComponentType() != null ? type.getComponentType()
+				: ClassTypeInformation.OBJECT;
+		Collection<Object> target = CollectionFactory.createCollection(type.getType(), componentType.getType(),
+				documents.size());
+
+		target.addAll(convertReferencedDocuments(context, documents, componentType,
+				((DBRef) references.iterator().next()).getCollectionName()));
+
+		return getPotentiallyConvertedSimpleRead(target, type.getType());
+	}
+
+	@Nullable
+	private static Document getJoinedDocument(DBRef reference, String joinedCollection,
+			Map<Object, Document> documentsById) {
+
+		if (reference.getDatabaseName() != null || !joinedCollection.equals(reference.getCollectionName())) {
+			return null;
+		}
+
+		return documentsById.get(reference.getId());
+	}
+
 	@Nullable
 	private Object readUnwrapped(ConversionContext context, DocumentAccessor documentAccessor,
 			MongoPersistentProperty prop,
@@ -558,11 +676,21 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 		Object target = obj instanceof LazyLoadingProxy ? ((LazyLoadingProxy) obj).getTarget() : obj;
 
-		writeInternal(target, bson, type);
-		BsonUtils.removeNullId(bson);
+		FlightRecorderEvent event = FlightRecorderEvents.beginWrite();
+		int count = 0;
+
+		try {
 
-		if (requiresTypeHint(entityType)) {
-			typeMapper.writeType(type, bson);
+			writeInternal(target, bson, type);
+			BsonUtils.removeNullId(bson);
+
+			if (requiresTypeHint(entityType)) {
+				typeMapper.writeType(type, bson);
+			}
+
+			count = 1;
+		} finally {
+			event.end(entityType, null, count);
 		}
 	}
 
@@ -1440,10 +1568,27 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 				: bulkReadRefs(dbrefs);
 		String collectionName = dbrefs.iterator().next().getCollectionName();
 
-		List<T> targetList = new ArrayList<>(dbrefs.size());
+		return convertReferencedDocuments(context, referencedRawDocuments, type, collectionName);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> convertReferencedDocuments(ConversionContext context, List<Document> referencedRawDocuments,
+			TypeInformation<?> type, String collectionName) {
+
+		List<T> targetList = new ArrayList<>(referencedRawDocuments.size());
+		DbRefIdentityMap identityMap = DbRefIdentityMap.getCurrent();
 
 		for (Document document : referencedRawDocuments) {
 
+			Object known = identityMap != null && document != null
+					? identityMap.getObject(collectionName, document.get("_id"), type.getType())
+					: null;
+
+			if (known != null) {
+				targetList.add((T) known);
+				continue;
+			}
+
 			T target = null;
 			if (document != null) {
 
@@ -1455,6 +1600,10 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			if (target != null) {
 				maybeEmitEvent(new AfterConvertEvent<>(document, target, collectionName));
 				target = maybeCallAfterConvert(target, document, collectionName);
+
+				if (identityMap != null && target != null) {
+					identityMap.putObject(collectionName, document.get("_id"), type.getType(), target);
+				}
 			}
 
 			targetList.add(target);
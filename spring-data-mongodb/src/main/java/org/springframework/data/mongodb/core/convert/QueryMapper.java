@@ -41,6 +41,9 @@ import org.springframework.data.mongodb.core.convert.MappingMongoConverter.Neste
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty.PropertyToFieldNameConverter;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvent;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvents;
+import org.springframework.data.mongodb.core.query.MappedCriteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.mongodb.util.DotPath;
@@ -110,9 +113,25 @@ public class QueryMapper {
 	 * @param entity can be {@literal null}.
 	 * @return
 	 */
-	@SuppressWarnings("deprecation")
 	public Document getMappedObject(Bson query, @Nullable MongoPersistentEntity<?> entity) {
 
+		FlightRecorderEvent event = FlightRecorderEvents.beginQueryMapping();
+		int count = 0;
+
+		try {
+
+			Document result = mapObject(query, entity);
+			count = 1;
+
+			return result;
+		} finally {
+			event.end(entity != null ? entity.getType() : null, null, count);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private Document mapObject(Bson query, @Nullable MongoPersistentEntity<?> entity) {
+
 		if (isNestedKeyword(query)) {
 			return getMappedKeyword(new Keyword(query), entity);
 		}
@@ -134,6 +153,13 @@ public class QueryMapper {
 				continue;
 			}
 
+			if (MappedCriteria.isMappedCriteriaKey(key)) {
+
+				Document mappedCriteria = BsonUtils.get(query, key);
+				result.putAll(mappedCriteria);
+				continue;
+			}
+
 			if (isKeyword(key)) {
 				result.putAll(getMappedKeyword(new Keyword(query, key), entity));
 				continue;
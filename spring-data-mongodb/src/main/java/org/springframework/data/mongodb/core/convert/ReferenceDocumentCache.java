@@ -0,0 +1,349 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.bson.Document;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.CachedReference;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.DBRef;
+
+/**
+ * Process wide read-through cache for documents loaded via {@link DBRef} from collections of entities marked with
+ * {@link CachedReference}. Each collection holds up to {@link CachedReference#maxSize()} documents, evicting the least
+ * recently used ones first, and keeps them for {@link CachedReference#timeToLive()} seconds at most. Documents are
+ * copied when put into and read from the cache so that callers are free to modify them.
+ * <p />
+ * The cache can be invalidated by a change stream on the cached collections via
+ * {@link org.springframework.data.mongodb.core.messaging.ReferenceCacheInvalidator} which gets notified about
+ * collections as soon as they are {@link #addCollectionListener(Consumer) cached the first time}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class ReferenceDocumentCache {
+
+	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private final Map<String, Region> regions = new ConcurrentHashMap<>();
+	private final Set<String> cachedCollections = ConcurrentHashMap.newKeySet();
+	private final List<Consumer<String>> collectionListeners = new CopyOnWriteArrayList<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Create a new {@link ReferenceDocumentCache} inspecting the given {@link MappingContext} for {@link CachedReference}
+	 * annotations.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public ReferenceDocumentCache(
+			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null!");
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * @param collectionName must not be {@literal null}.
+	 * @return {@literal true} if documents of the given collection are cached.
+	 */
+	public boolean isCacheable(String collectionName) {
+		return getRegion(collectionName) != null;
+	}
+
+	/**
+	 * Get the cached document referenced by the given {@link DBRef}.
+	 *
+	 * @param dbRef must not be {@literal null}.
+	 * @return {@literal null} if not cached, expired or the collection is not cacheable.
+	 */
+	@Nullable
+	public Document get(DBRef dbRef) {
+
+		Region region = getRegion(dbRef.getCollectionName());
+
+		if (region == null) {
+			return null;
+		}
+
+		Document document = region.get(key(dbRef));
+
+		if (document == null) {
+
+			misses.increment();
+			return null;
+		}
+
+		hits.increment();
+		return BsonUtils.deepCopy(document);
+	}
+
+	/**
+	 * Cache the document loaded for the given {@link DBRef} if its collection is cacheable.
+	 *
+	 * @param dbRef must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 */
+	public void put(DBRef dbRef, Document document) {
+
+		Assert.notNull(document, "Document must not be null!");
+
+		Region region = getRegion(dbRef.getCollectionName());
+
+		if (region == null) {
+			return;
+		}
+
+		if (cachedCollections.add(dbRef.getCollectionName())) {
+			collectionListeners.forEach(it -> it.accept(dbRef.getCollectionName()));
+		}
+
+		region.put(key(dbRef), BsonUtils.deepCopy(document));
+	}
+
+	/**
+	 * Register a listener to be notified with the collection name the first time a document of a collection gets
+	 * cached. The listener is notified about collections already cached right away.
+	 *
+	 * @param listener must not be {@literal null}.
+	 */
+	public void addCollectionListener(Consumer<String> listener) {
+
+		Assert.notNull(listener, "Listener must not be null!");
+
+		collectionListeners.add(listener);
+		cachedCollections.forEach(listener);
+	}
+
+	/**
+	 * Evict the document with the given {@literal id} from the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 */
+	public void evict(String collectionName, Object id) {
+
+		Region region = regions.get(collectionName);
+
+		if (region != null) {
+			region.evictId(id);
+		}
+	}
+
+	/**
+	 * Evict all documents of the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 */
+	public void evict(String collectionName) {
+		Region region = regions.get(collectionName);
+
+		if (region != null) {
+			region.clear();
+		}
+	}
+
+	/**
+	 * Evict all documents.
+	 */
+	public void clear() {
+		regions.values().forEach(Region::clear);
+	}
+
+	/**
+	 * @return the names of all collections marked as cacheable by the entities currently known to the
+	 *         {@link MappingContext}.
+	 */
+	public Set<String> getCacheableCollections() {
+
+		Set<String> collections = new LinkedHashSet<>();
+
+		for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+			if (isCacheable(entity.getCollection())) {
+				collections.add(entity.getCollection());
+			}
+		}
+
+		return collections;
+	}
+
+	/**
+	 * @return number of lookups served from the cache.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of lookups for cacheable collections not served from the cache.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of documents removed due to expiration, size limits or invalidation.
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Regions are only created for cacheable collections. Collections not (yet) cacheable are looked up in the
+	 * {@link MappingContext} again on each access as the entity marking them as cacheable might be added later on.
+	 */
+	@Nullable
+	private Region getRegion(String collectionName) {
+
+		Region region = regions.get(collectionName);
+
+		if (region != null) {
+			return region;
+		}
+
+		CachedReference annotation = findAnnotation(collectionName);
+		return annotation != null ? regions.computeIfAbsent(collectionName, it -> new Region(annotation)) : null;
+	}
+
+	@Nullable
+	private CachedReference findAnnotation(String collectionName) {
+
+		for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+
+			CachedReference annotation = entity.findAnnotation(CachedReference.class);
+
+			if (annotation != null && collectionName.equals(entity.getCollection())) {
+				return annotation;
+			}
+
+			for (MongoPersistentProperty property : entity) {
+
+				annotation = property.isDbReference() ? property.findAnnotation(CachedReference.class) : null;
+
+				if (annotation == null) {
+					continue;
+				}
+
+				MongoPersistentEntity<?> target = mappingContext.getPersistentEntity(property.getActualType());
+
+				if (target != null && collectionName.equals(target.getCollection())) {
+					return annotation;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private static List<Object> key(DBRef dbRef) {
+		return Arrays.asList(dbRef.getDatabaseName(), dbRef.getId());
+	}
+
+	/**
+	 * Size and time bounded cache of a single collection.
+	 */
+	private class Region {
+
+		private final long timeToLiveNanos;
+		private final int maxSize;
+		private final LinkedHashMap<List<Object>, Entry> entries;
+
+		Region(CachedReference annotation) {
+
+			this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(annotation.timeToLive());
+			this.maxSize = annotation.maxSize();
+			this.entries = new LinkedHashMap<List<Object>, Entry>(16, 0.75F, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry> eldest) {
+
+					boolean remove = size() > Region.this.maxSize;
+					if (remove) {
+						evictions.increment();
+					}
+					return remove;
+				}
+			};
+		}
+
+		@Nullable
+		synchronized Document get(List<Object> key) {
+
+			Entry entry = entries.get(key);
+
+			if (entry == null) {
+				return null;
+			}
+
+			if (System.nanoTime() - entry.loadedAt >= timeToLiveNanos) {
+
+				entries.remove(key);
+				evictions.increment();
+				return null;
+			}
+
+			return entry.document;
+		}
+
+		synchronized void put(List<Object> key, Document document) {
+			entries.put(key, new Entry(document));
+		}
+
+		synchronized void evictId(Object id) {
+
+			int size = entries.size();
+			entries.keySet().removeIf(key -> id.equals(key.get(1)));
+			evictions.add(size - entries.size());
+		}
+
+		synchronized void clear() {
+
+			evictions.add(entries.size());
+			entries.clear();
+		}
+	}
+
+	private static class Entry {
+
+		private final Document document;
+		private final long loadedAt;
+
+		Entry(Document document) {
+
+			this.document = document;
+			this.loadedAt = System.nanoTime();
+		}
+	}
+}
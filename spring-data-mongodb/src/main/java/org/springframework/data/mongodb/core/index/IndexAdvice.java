@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Outcome of matching a {@link QueryShape} against the indexes of its collection.
+ *
+ * @author agent
+ * @since 3.3
+ * @see IndexAdvisor
+ */
+public class IndexAdvice {
+
+	private final QueryShape shape;
+	private final long count;
+	private final Support support;
+	private final @Nullable String indexName;
+
+	IndexAdvice(QueryShape shape, long count, Support support, @Nullable String indexName) {
+
+		this.shape = shape;
+		this.count = count;
+		this.support = support;
+		this.indexName = indexName;
+	}
+
+	/**
+	 * @return the observed {@link QueryShape}.
+	 */
+	public QueryShape getShape() {
+		return shape;
+	}
+
+	/**
+	 * @return number of times the shape has been observed.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return how well the best matching index supports the shape.
+	 */
+	public Support getSupport() {
+		return support;
+	}
+
+	/**
+	 * @return the name of the best matching index. {@literal null} if {@link Support#NONE none} could be used.
+	 */
+	@Nullable
+	public String getIndexName() {
+		return indexName;
+	}
+
+	/**
+	 * Returns the {@link CompoundIndex} declaration supporting the shape, using field names as stored in the database.
+	 *
+	 * @return {@literal null} if the shape is {@link Support#FULL fully} supported.
+	 */
+	@Nullable
+	public String getSuggestion() {
+		return support == Support.FULL ? null
+				: String.format("@CompoundIndex(def = \"%s\")", shape.toIndexDefinition());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		String suggestion = getSuggestion();
+		return String.format("%s count: %s, support: %s%s%s", shape, count, support,
+				indexName != null ? " by " + indexName : "", suggestion != null ? ", consider " + suggestion : "");
+	}
+
+	/**
+	 * Degree of index support for a {@link QueryShape}.
+	 *
+	 * @author agent
+	 * @since 3.3
+	 */
+	public enum Support {
+
+		/**
+		 * An index covers all equality fields followed by the sort and range fields.
+		 */
+		FULL,
+
+		/**
+		 * An index can be used, but requires an in-memory sort or examines more keys than necessary.
+		 */
+		PARTIAL,
+
+		/**
+		 * No index can be used resulting in a collection scan.
+		 */
+		NONE
+	}
+}
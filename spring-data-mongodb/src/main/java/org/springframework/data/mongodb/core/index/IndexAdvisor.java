@@ -0,0 +1,465 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.IndexAdvice.Support;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Records the {@link QueryShape shapes} of mapped queries and matches them against the indexes of their collection.
+ * Shapes are matched following the equality, sort, range rule: an index fully supports a shape if its keys start with
+ * all equality fields, followed by the sort fields in sort order or its exact inverse and the range fields. Indexes
+ * starting with a field of the shape are still usable but result in an in-memory sort or examine more keys than
+ * necessary. Sparse indexes are not matched as they do not contain all documents, partial ones only if the shape
+ * constrains all fields of their filter expression. Indexes not being the best match for any shape of their collection
+ * are reported as unused, unless they are unique, TTL, partial or sparse ones. Those exist for reasons other than
+ * serving the observed queries and are reported as {@link IndexReport#getNonQueryServingIndexes() not query-serving}
+ * instead.
+ * <p />
+ * Register the advisor with the template to record the shapes of find and count operations and check the existing
+ * indexes at runtime
+ *
+ * <pre class="code">
+ * IndexAdvisor advisor = new IndexAdvisor();
+ * template.setIndexAdvisor(advisor);
+ *
+ * // run the application or an integration test
+ *
+ * IndexReport report = advisor.advise(template);
+ * </pre>
+ *
+ * or the ones declared via {@link Indexed} and {@link CompoundIndex} using
+ * {@link #adviseDeclared(String, Iterable)} along with an {@link IndexResolver}. Use {@link ReactiveIndexAdvisor} to
+ * check the indexes via {@link ReactiveIndexOperations}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class IndexAdvisor {
+
+	private static final String ID_INDEX_NAME = "_id_";
+	private static final int DEFAULT_CAPACITY = 1000;
+
+	private final int capacity;
+	private final Map<QueryShape, LongAdder> shapes = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link IndexAdvisor} recording up to 1000 distinct shapes.
+	 */
+	public IndexAdvisor() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new {@link IndexAdvisor}.
+	 *
+	 * @param capacity the maximum number of distinct shapes to record. Further shapes are ignored. Must be greater than
+	 *          zero.
+	 */
+	public IndexAdvisor(int capacity) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Record the shape of the given mapped query and sort.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param mappedQuery the query using field names as stored in the database. Must not be {@literal null}.
+	 * @param mappedSort the sort using field names as stored in the database. Can be {@literal null}.
+	 */
+	public void record(String collectionName, Document mappedQuery, @Nullable Document mappedSort) {
+
+		for (QueryShape shape : QueryShape.of(collectionName, mappedQuery, mappedSort)) {
+
+			LongAdder counter = shapes.get(shape);
+
+			if (counter == null) {
+
+				if (shapes.size() >= capacity) {
+					continue;
+				}
+
+				counter = shapes.computeIfAbsent(shape, key -> new LongAdder());
+			}
+
+			counter.increment();
+		}
+	}
+
+	/**
+	 * @return the names of all collections with recorded shapes.
+	 */
+	public Set<String> getCollectionNames() {
+
+		Set<String> collectionNames = new TreeSet<>();
+		shapes.keySet().forEach(it -> collectionNames.add(it.getCollectionName()));
+		return collectionNames;
+	}
+
+	/**
+	 * Remove all recorded shapes.
+	 */
+	public void clear() {
+		shapes.clear();
+	}
+
+	/**
+	 * Match the recorded shapes of all collections against their existing indexes.
+	 *
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @return new instance of {@link IndexReport}.
+	 */
+	public IndexReport advise(IndexOperationsProvider indexOperationsProvider) {
+
+		Assert.notNull(indexOperationsProvider, "IndexOperationsProvider must not be null!");
+
+		List<IndexReport> reports = new ArrayList<>();
+
+		for (String collectionName : getCollectionNames()) {
+			reports.add(advise(collectionName, indexOperationsProvider.indexOps(collectionName).getIndexInfo()));
+		}
+
+		return IndexReport.merge(reports);
+	}
+
+	/**
+	 * Match the recorded shapes of the given collection against the given {@link IndexInfo indexes}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param indexes must not be {@literal null}.
+	 * @return new instance of {@link IndexReport}.
+	 */
+	public IndexReport advise(String collectionName, List<IndexInfo> indexes) {
+
+		Assert.hasText(collectionName, "CollectionName must not be null or empty!");
+		Assert.notNull(indexes, "Indexes must not be null!");
+
+		List<Candidate> candidates = new ArrayList<>(indexes.size());
+
+		for (IndexInfo index : indexes) {
+
+			List<String> fields = new ArrayList<>();
+			List<Integer> directions = new ArrayList<>();
+			boolean text = false;
+
+			for (IndexField field : index.getIndexFields()) {
+
+				fields.add(field.getKey());
+				directions.add(field.getDirection() == null || field.isHashed() ? 0
+						: field.getDirection() == Direction.ASC ? 1 : -1);
+				text |= field.isText();
+			}
+
+			String partialFilter = index.getPartialFilterExpression();
+			boolean queryServing = !index.isUnique() && !index.isSparse() && !index.getExpireAfter().isPresent()
+					&& !StringUtils.hasText(partialFilter);
+
+			candidates.add(new Candidate(index.getName(), fields, directions, text, queryServing, index.isSparse(),
+					StringUtils.hasText(partialFilter) ? getFilterFields(Document.parse(partialFilter)) : null));
+		}
+
+		return evaluate(collectionName, candidates);
+	}
+
+	/**
+	 * Match the recorded shapes of the given collection against the given declared {@link IndexDefinition indexes},
+	 * e.g. resolved via {@link IndexResolver#resolveIndexFor(Class)}. The index on {@literal _id} is always considered
+	 * present.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param definitions must not be {@literal null}.
+	 * @return new instance of {@link IndexReport}.
+	 */
+	public IndexReport adviseDeclared(String collectionName, Iterable<? extends IndexDefinition> definitions) {
+
+		Assert.hasText(collectionName, "CollectionName must not be null or empty!");
+		Assert.notNull(definitions, "Definitions must not be null!");
+
+		List<Candidate> candidates = new ArrayList<>();
+		candidates.add(
+				new Candidate(ID_INDEX_NAME, Collections.singletonList("_id"), Collections.singletonList(1), false,
+						true, false, null));
+
+		for (IndexDefinition definition : definitions) {
+
+			List<String> fields = new ArrayList<>();
+			List<Integer> directions = new ArrayList<>();
+			StringJoiner generatedName = new StringJoiner("_");
+			boolean text = false;
+
+			for (Map.Entry<String, Object> key : definition.getIndexKeys().entrySet()) {
+
+				Object value = key.getValue();
+
+				fields.add(key.getKey());
+				directions.add(value instanceof Number ? (((Number) value).intValue() < 0 ? -1 : 1) : 0);
+				generatedName.add(key.getKey()).add(String.valueOf(value));
+				text |= "text".equals(value);
+			}
+
+			Document options = definition.getIndexOptions();
+			String name = options.getString("name");
+			String candidateName = StringUtils.hasText(name) ? name : generatedName.toString();
+			boolean sparse = Boolean.TRUE.equals(options.get("sparse"));
+			Object partialFilter = options.get("partialFilterExpression");
+			boolean queryServing = !Boolean.TRUE.equals(options.get("unique")) && !sparse
+					&& !options.containsKey("expireAfterSeconds") && partialFilter == null;
+
+			candidates.add(new Candidate(candidateName, fields, directions, text, queryServing, sparse,
+					partialFilter == null ? null
+							: getFilterFields(partialFilter instanceof Document ? (Document) partialFilter
+									: Document.parse(partialFilter.toString()))));
+		}
+
+		return evaluate(collectionName, candidates);
+	}
+
+	private IndexReport evaluate(String collectionName, List<Candidate> candidates) {
+
+		List<Map.Entry<QueryShape, LongAdder>> observed = new ArrayList<>();
+
+		shapes.entrySet().forEach(it -> {
+			if (it.getKey().getCollectionName().equals(collectionName)) {
+				observed.add(it);
+			}
+		});
+
+		observed.sort(Comparator.comparing((Map.Entry<QueryShape, LongAdder> it) -> it.getValue().sum()).reversed());
+
+		List<IndexAdvice> advice = new ArrayList<>(observed.size());
+		Set<String> used = new HashSet<>();
+
+		for (Map.Entry<QueryShape, LongAdder> entry : observed) {
+
+			QueryShape shape = entry.getKey();
+			Match best = null;
+
+			for (Candidate candidate : candidates) {
+
+				Match match = candidate.match(shape);
+
+				if (best == null || match.isBetterThan(best)) {
+					best = match;
+				}
+			}
+
+			if (best == null || best.support == Support.NONE) {
+
+				advice.add(new IndexAdvice(shape, entry.getValue().sum(), Support.NONE, null));
+				continue;
+			}
+
+			used.add(best.candidate.name);
+			advice.add(new IndexAdvice(shape, entry.getValue().sum(), best.support, best.candidate.name));
+		}
+
+		if (observed.isEmpty()) {
+			return new IndexReport(advice, Collections.emptyMap(), Collections.emptyMap());
+		}
+
+		Set<String> unused = new LinkedHashSet<>();
+		Set<String> nonQueryServing = new LinkedHashSet<>();
+
+		for (Candidate candidate : candidates) {
+
+			if (candidate.text || ID_INDEX_NAME.equals(candidate.name) || used.contains(candidate.name)) {
+				continue;
+			}
+
+			(candidate.queryServing ? unused : nonQueryServing).add(candidate.name);
+		}
+
+		return new IndexReport(advice, byCollection(collectionName, unused),
+				byCollection(collectionName, nonQueryServing));
+	}
+
+	private static Map<String, Set<String>> byCollection(String collectionName, Set<String> indexNames) {
+		return indexNames.isEmpty() ? Collections.emptyMap() : Collections.singletonMap(collectionName, indexNames);
+	}
+
+	/**
+	 * Collect the fields constrained by the given partial filter expression, descending into {@literal $and}.
+	 */
+	private static Set<String> getFilterFields(Document filter) {
+
+		Set<String> fields = new HashSet<>();
+
+		filter.forEach((key, value) -> {
+
+			if (!key.startsWith("$")) {
+				fields.add(key);
+			} else if (value instanceof List) {
+
+				for (Object element : (List<?>) value) {
+					if (element instanceof Document) {
+						fields.addAll(getFilterFields((Document) element));
+					}
+				}
+			}
+		});
+
+		return fields;
+	}
+
+	/**
+	 * An index to match shapes against.
+	 */
+	private static class Candidate {
+
+		private final String name;
+		private final List<String> fields;
+		private final List<Integer> directions;
+		private final boolean text;
+		private final boolean queryServing;
+		private final boolean sparse;
+		private final @Nullable Set<String> filterFields;
+
+		/**
+		 * @param directions {@literal 1} or {@literal -1} for ascending and descending keys, {@literal 0} for keys not
+		 *          supporting sort or range queries, like hashed or geo ones.
+		 * @param queryServing {@literal false} for unique, TTL, partial and sparse indexes that must not be reported as
+		 *          unused.
+		 * @param sparse {@literal true} for sparse indexes that are never matched.
+		 * @param filterFields the fields of the partial filter expression a shape needs to constrain. {@literal null} if
+		 *          the index is not partial.
+		 */
+		Candidate(String name, List<String> fields, List<Integer> directions, boolean text, boolean queryServing,
+				boolean sparse, @Nullable Set<String> filterFields) {
+
+			this.name = name;
+			this.fields = fields;
+			this.directions = directions;
+			this.text = text;
+			this.queryServing = queryServing;
+			this.sparse = sparse;
+			this.filterFields = filterFields;
+		}
+
+		Match match(QueryShape shape) {
+
+			if (text || sparse || fields.isEmpty() || !coversFilter(shape)) {
+				return new Match(this, Support.NONE, 0);
+			}
+
+			int position = 0;
+			Set<String> equality = new HashSet<>(shape.getEqualityFields());
+
+			while (position < fields.size() && equality.remove(fields.get(position))) {
+				position++;
+			}
+
+			boolean supported = equality.isEmpty();
+			int sortDirection = 0;
+
+			for (Map.Entry<String, Integer> sort : shape.getSortFields().entrySet()) {
+
+				if (!supported || shape.getEqualityFields().contains(sort.getKey())) {
+					continue;
+				}
+
+				int direction = position < fields.size() && fields.get(position).equals(sort.getKey())
+						? directions.get(position) * sort.getValue()
+						: 0;
+
+				if (direction == 0 || (sortDirection != 0 && direction != sortDirection)) {
+					supported = false;
+				} else {
+
+					sortDirection = direction;
+					position++;
+				}
+			}
+
+			Set<String> range = new HashSet<>(shape.getRangeFields());
+			range.removeAll(shape.getSortFields().keySet());
+
+			while (supported && position < fields.size() && directions.get(position) != 0
+					&& range.remove(fields.get(position))) {
+				position++;
+			}
+
+			if (supported && range.isEmpty()) {
+				return new Match(this, Support.FULL, position);
+			}
+
+			String first = fields.get(0);
+			Iterator<String> sortFields = shape.getSortFields().keySet().iterator();
+			boolean usable = shape.getEqualityFields().contains(first) || shape.getRangeFields().contains(first)
+					|| (sortFields.hasNext() && sortFields.next().equals(first));
+
+			return new Match(this, usable ? Support.PARTIAL : Support.NONE, position);
+		}
+
+		private boolean coversFilter(QueryShape shape) {
+
+			if (filterFields == null) {
+				return true;
+			}
+
+			Set<String> constrained = new HashSet<>(shape.getEqualityFields());
+			constrained.addAll(shape.getRangeFields());
+
+			return constrained.containsAll(filterFields);
+		}
+	}
+
+	/**
+	 * Result of matching a single {@link Candidate}.
+	 */
+	private static class Match {
+
+		private final Candidate candidate;
+		private final Support support;
+		private final int prefix;
+
+		Match(Candidate candidate, Support support, int prefix) {
+
+			this.candidate = candidate;
+			this.support = support;
+			this.prefix = prefix;
+		}
+
+		boolean isBetterThan(Match other) {
+
+			if (support != other.support) {
+				return support.ordinal() < other.support.ordinal();
+			}
+
+			return prefix > other.prefix
+					|| (prefix == other.prefix && candidate.fields.size() < other.candidate.fields.size());
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.mongodb.core.index.IndexAdvice.Support;
+
+/**
+ * Result of an {@link IndexAdvisor} run holding the {@link IndexAdvice} per observed {@link QueryShape} and the indexes
+ * not used by any of them. Unused unique, TTL, partial and sparse indexes are reported separately as
+ * {@link #getNonQueryServingIndexes() not query-serving}.
+ *
+ * <pre class="code">
+ * IndexReport report = advisor.advise(template);
+ *
+ * assertThat(report.getUnsupportedShapes()).isEmpty();
+ * assertThat(report.getUnusedIndexes()).isEmpty();
+ * </pre>
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class IndexReport {
+
+	private final List<IndexAdvice> advice;
+	private final Map<String, Set<String>> unusedIndexes;
+	private final Map<String, Set<String>> nonQueryServingIndexes;
+
+	IndexReport(List<IndexAdvice> advice, Map<String, Set<String>> unusedIndexes,
+			Map<String, Set<String>> nonQueryServingIndexes) {
+
+		this.advice = Collections.unmodifiableList(advice);
+		this.unusedIndexes = Collections.unmodifiableMap(unusedIndexes);
+		this.nonQueryServingIndexes = Collections.unmodifiableMap(nonQueryServingIndexes);
+	}
+
+	/**
+	 * Combine the given reports, e.g. of different collections.
+	 *
+	 * @param reports must not be {@literal null}.
+	 * @return new instance of {@link IndexReport}.
+	 */
+	static IndexReport merge(Iterable<IndexReport> reports) {
+
+		List<IndexAdvice> advice = new ArrayList<>();
+		Map<String, Set<String>> unusedIndexes = new LinkedHashMap<>();
+		Map<String, Set<String>> nonQueryServingIndexes = new LinkedHashMap<>();
+
+		for (IndexReport report : reports) {
+
+			advice.addAll(report.advice);
+			unusedIndexes.putAll(report.unusedIndexes);
+			nonQueryServingIndexes.putAll(report.nonQueryServingIndexes);
+		}
+
+		return new IndexReport(advice, unusedIndexes, nonQueryServingIndexes);
+	}
+
+	/**
+	 * @return the {@link IndexAdvice} for all observed shapes, most frequently observed first.
+	 */
+	public List<IndexAdvice> getAdvice() {
+		return advice;
+	}
+
+	/**
+	 * @return the {@link IndexAdvice} for shapes not {@link Support#FULL fully} supported by an index.
+	 */
+	public List<IndexAdvice> getUnsupportedShapes() {
+		return advice.stream().filter(it -> it.getSupport() != Support.FULL).collect(Collectors.toList());
+	}
+
+	/**
+	 * @return the names of indexes not being the best match for any observed shape, by collection name. Collections
+	 *         without observed shapes are not included.
+	 */
+	public Map<String, Set<String>> getUnusedIndexes() {
+		return unusedIndexes;
+	}
+
+	/**
+	 * @return the names of unique, TTL, partial and sparse indexes not being the best match for any observed shape, by
+	 *         collection name. Those are required for reasons other than serving queries and therefore not considered
+	 *         {@link #getUnusedIndexes() unused}.
+	 */
+	public Map<String, Set<String>> getNonQueryServingIndexes() {
+		return nonQueryServingIndexes;
+	}
+
+	/**
+	 * @return {@literal true} if all shapes are fully supported and all indexes are used.
+	 */
+	public boolean isEmpty() {
+		return getUnsupportedShapes().isEmpty() && unusedIndexes.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder builder = new StringBuilder();
+
+		for (IndexAdvice it : advice) {
+			builder.append(it).append(System.lineSeparator());
+		}
+
+		unusedIndexes.forEach((collection, indexes) -> builder.append(collection).append(" unused indexes: ")
+				.append(indexes).append(System.lineSeparator()));
+
+		nonQueryServingIndexes.forEach((collection, indexes) -> builder.append(collection)
+				.append(" not query-serving indexes: ").append(indexes).append(System.lineSeparator()));
+
+		return builder.toString();
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Normalized shape of a mapped query consisting of the fields compared for equality, the fields used for sorting and
+ * the fields restricted to a range of values. Values are not part of the shape, so queries only differing in their
+ * arguments share the same {@link QueryShape}.
+ * <p />
+ * {@code $in} counts as equality unless the query is sorted, in which case the server has to merge the results of the
+ * individual values and the field behaves like a range. Each branch of a top level {@code $or} results in a shape of
+ * its own as the server picks an index per branch. {@code $text}, {@code $expr} and {@code $where} are not considered.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public final class QueryShape {
+
+	private static final Set<String> EQUALITY_OPERATORS = new HashSet<>(Arrays.asList("$eq", "$elemMatch", "$all"));
+
+	private final String collectionName;
+	private final Set<String> equality;
+	private final Map<String, Integer> sort;
+	private final Set<String> range;
+
+	private QueryShape(String collectionName, Set<String> equality, Map<String, Integer> sort, Set<String> range) {
+
+		this.collectionName = collectionName;
+		this.equality = Collections.unmodifiableSet(equality);
+		this.sort = Collections.unmodifiableMap(sort);
+		this.range = Collections.unmodifiableSet(range);
+	}
+
+	/**
+	 * Create the {@link QueryShape shapes} of the given mapped query and sort.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param mappedQuery the query using field names as stored in the database. Must not be {@literal null}.
+	 * @param mappedSort the sort using field names as stored in the database. Can be {@literal null}.
+	 * @return the shapes of the query. Empty if the query neither filters nor sorts on any field.
+	 */
+	public static List<QueryShape> of(String collectionName, Document mappedQuery, @Nullable Document mappedSort) {
+
+		Assert.hasText(collectionName, "CollectionName must not be null or empty!");
+		Assert.notNull(mappedQuery, "MappedQuery must not be null!");
+
+		Map<String, Integer> sort = new LinkedHashMap<>();
+
+		if (mappedSort != null) {
+			for (Map.Entry<String, Object> entry : mappedSort.entrySet()) {
+				if (entry.getValue() instanceof Number) {
+					sort.put(entry.getKey(), ((Number) entry.getValue()).intValue() < 0 ? -1 : 1);
+				}
+			}
+		}
+
+		Set<String> equality = new TreeSet<>();
+		Set<String> range = new TreeSet<>();
+		List<Document> branches = new ArrayList<>();
+
+		collect(mappedQuery, !sort.isEmpty(), equality, range, branches);
+
+		List<QueryShape> shapes = new ArrayList<>();
+
+		if (branches.isEmpty()) {
+			shapes.add(create(collectionName, equality, sort, range));
+		}
+
+		for (Document branch : branches) {
+
+			Set<String> branchEquality = new TreeSet<>(equality);
+			Set<String> branchRange = new TreeSet<>(range);
+			collect(branch, !sort.isEmpty(), branchEquality, branchRange, new ArrayList<>());
+
+			shapes.add(create(collectionName, branchEquality, sort, branchRange));
+		}
+
+		shapes.removeIf(QueryShape::isEmpty);
+		return shapes;
+	}
+
+	private static QueryShape create(String collectionName, Set<String> equality, Map<String, Integer> sort,
+			Set<String> range) {
+
+		range.removeAll(equality);
+		return new QueryShape(collectionName, equality, sort, range);
+	}
+
+	private static void collect(Document query, boolean sorted, Set<String> equality, Set<String> range,
+			List<Document> branches) {
+
+		for (Map.Entry<String, Object> entry : query.entrySet()) {
+
+			String key = entry.getKey();
+			Object value = entry.getValue();
+
+			if ("$and".equals(key) && value instanceof Collection) {
+
+				for (Object element : (Collection<?>) value) {
+					if (element instanceof Document) {
+						collect((Document) element, sorted, equality, range, branches);
+					}
+				}
+				continue;
+			}
+
+			if ("$or".equals(key) && value instanceof Collection && branches.isEmpty()) {
+
+				for (Object element : (Collection<?>) value) {
+					if (element instanceof Document) {
+						branches.add((Document) element);
+					}
+				}
+				continue;
+			}
+
+			if (key.startsWith("$")) {
+				continue;
+			}
+
+			if (isEquality(value, sorted)) {
+				equality.add(key);
+			} else {
+				range.add(key);
+			}
+		}
+	}
+
+	private static boolean isEquality(@Nullable Object value, boolean sorted) {
+
+		if (value instanceof Pattern || value instanceof BsonRegularExpression) {
+			return false;
+		}
+
+		if (!(value instanceof Document) || ((Document) value).isEmpty()
+				|| !((Document) value).keySet().iterator().next().startsWith("$")) {
+			return true;
+		}
+
+		for (String operator : ((Document) value).keySet()) {
+
+			if ("$in".equals(operator) ? sorted : !EQUALITY_OPERATORS.contains(operator)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the name of the collection the query was run against.
+	 */
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * @return the fields compared for equality in alphabetical order.
+	 */
+	public Set<String> getEqualityFields() {
+		return equality;
+	}
+
+	/**
+	 * @return the fields used for sorting along with their direction ({@literal 1} or {@literal -1}) in sort order.
+	 */
+	public Map<String, Integer> getSortFields() {
+		return sort;
+	}
+
+	/**
+	 * @return the fields restricted to a range of values in alphabetical order.
+	 */
+	public Set<String> getRangeFields() {
+		return range;
+	}
+
+	/**
+	 * @return {@literal true} if the shape neither filters nor sorts on any field.
+	 */
+	public boolean isEmpty() {
+		return equality.isEmpty() && sort.isEmpty() && range.isEmpty();
+	}
+
+	/**
+	 * Returns the index definition ideal for the shape following the equality, sort, range rule, e.g.
+	 * <code>{ 'lastname' : 1, 'age' : -1, 'createdAt' : 1 }</code>.
+	 *
+	 * @return the index keys as used by {@link CompoundIndex#def()}.
+	 */
+	public String toIndexDefinition() {
+
+		StringJoiner joiner = new StringJoiner(", ", "{", "}");
+
+		for (String field : equality) {
+			joiner.add(String.format("'%s': 1", field));
+		}
+
+		for (Map.Entry<String, Integer> entry : sort.entrySet()) {
+			if (!equality.contains(entry.getKey())) {
+				joiner.add(String.format("'%s': %s", entry.getKey(), entry.getValue()));
+			}
+		}
+
+		for (String field : range) {
+			if (!sort.containsKey(field)) {
+				joiner.add(String.format("'%s': 1", field));
+			}
+		}
+
+		return joiner.toString();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		QueryShape that = (QueryShape) o;
+
+		return collectionName.equals(that.collectionName) && equality.equals(that.equality)
+				&& ObjectUtils.nullSafeEquals(new ArrayList<>(sort.entrySet()), new ArrayList<>(that.sort.entrySet()))
+				&& range.equals(that.range);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = collectionName.hashCode();
+		result = 31 * result + equality.hashCode();
+		result = 31 * result + new ArrayList<>(sort.entrySet()).hashCode();
+		result = 31 * result + range.hashCode();
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s { equality: %s, sort: %s, range: %s }", collectionName, equality, sort, range);
+	}
+}
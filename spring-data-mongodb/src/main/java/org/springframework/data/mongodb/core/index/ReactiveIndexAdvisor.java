@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * Reactive variant of {@link IndexAdvisor#advise(IndexOperationsProvider)} matching the shapes recorded by an
+ * {@link IndexAdvisor} against the indexes obtained via {@link ReactiveIndexOperations}.
+ *
+ * <pre class="code">
+ * IndexAdvisor advisor = new IndexAdvisor();
+ * reactiveTemplate.setIndexAdvisor(advisor);
+ *
+ * // run the application or an integration test
+ *
+ * Mono&lt;IndexReport&gt; report = new ReactiveIndexAdvisor(advisor).advise(reactiveTemplate);
+ * </pre>
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class ReactiveIndexAdvisor {
+
+	private final IndexAdvisor advisor;
+
+	/**
+	 * Create a new {@link ReactiveIndexAdvisor}.
+	 *
+	 * @param advisor the {@link IndexAdvisor} holding the recorded shapes. Must not be {@literal null}.
+	 */
+	public ReactiveIndexAdvisor(IndexAdvisor advisor) {
+
+		Assert.notNull(advisor, "IndexAdvisor must not be null!");
+		this.advisor = advisor;
+	}
+
+	/**
+	 * Match the recorded shapes of all collections against their existing indexes.
+	 *
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @return a {@link Mono} emitting the {@link IndexReport}.
+	 */
+	public Mono<IndexReport> advise(ReactiveIndexOperationsProvider indexOperationsProvider) {
+
+		Assert.notNull(indexOperationsProvider, "ReactiveIndexOperationsProvider must not be null!");
+
+		return Flux.fromIterable(advisor.getCollectionNames()) //
+				.concatMap(collectionName -> indexOperationsProvider.indexOps(collectionName).getIndexInfo() //
+						.collectList() //
+						.map(indexes -> advisor.advise(collectionName, indexes))) //
+				.collectList() //
+				.map(IndexReport::merge);
+	}
+}
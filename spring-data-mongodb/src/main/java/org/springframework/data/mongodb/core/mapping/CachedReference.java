@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the documents of an entity as cacheable when being loaded via {@link DBRef}. Can be placed on the referenced
+ * {@link Document entity type} or on the {@link DBRef} property pointing to it. Caching requires a
+ * {@link org.springframework.data.mongodb.core.convert.ReferenceDocumentCache} to be configured on the
+ * {@link org.springframework.data.mongodb.core.convert.DefaultDbRefResolver}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.FIELD })
+public @interface CachedReference {
+
+	/**
+	 * The time in seconds a cached document is considered valid after it has been loaded.
+	 *
+	 * @return {@literal 60} by default.
+	 */
+	long timeToLive() default 60;
+
+	/**
+	 * The maximum number of documents kept for the referenced collection. The least recently used ones are evicted
+	 * first.
+	 *
+	 * @return {@literal 1000} by default.
+	 */
+	int maxSize() default 1000;
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.QueryResultCache;
+import org.springframework.util.Assert;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+/**
+ * {@link MessageListener} evicting the cached results of a collection from a {@link QueryResultCache} on any change
+ * event. Picks up writes not issued through the {@link org.springframework.data.mongodb.core.MongoTemplate} owning the
+ * cache, e.g. from other application instances.
+ *
+ * <pre class="code">
+ * QueryResultCacheInvalidator invalidator = new QueryResultCacheInvalidator(cache);
+ * invalidator.register(new DefaultMessageListenerContainer(template), "countries", "currencies");
+ * </pre>
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class QueryResultCacheInvalidator implements MessageListener<ChangeStreamDocument<Document>, Object> {
+
+	private final QueryResultCache cache;
+
+	/**
+	 * Create a new {@link QueryResultCacheInvalidator} for the given {@link QueryResultCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	public QueryResultCacheInvalidator(QueryResultCache cache) {
+
+		Assert.notNull(cache, "QueryResultCache must not be null!");
+		this.cache = cache;
+	}
+
+	/**
+	 * Register this listener for the change streams of the given collections.
+	 *
+	 * @param container must not be {@literal null}.
+	 * @param collectionNames must not be {@literal null}.
+	 * @return the {@link Subscription subscriptions}, one per collection.
+	 */
+	public List<Subscription> register(MessageListenerContainer container, String... collectionNames) {
+
+		Assert.notNull(container, "MessageListenerContainer must not be null!");
+		Assert.notNull(collectionNames, "CollectionNames must not be null!");
+
+		List<Subscription> subscriptions = new ArrayList<>(collectionNames.length);
+
+		for (String collection : collectionNames) {
+
+			ChangeStreamRequest<Object> request = ChangeStreamRequest.builder(this) //
+					.collection(collection) //
+					.build();
+
+			subscriptions.add(container.register(request, Object.class));
+		}
+
+		return subscriptions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.MessageListener#onMessage(org.springframework.data.mongodb.core.messaging.Message)
+	 */
+	@Override
+	public void onMessage(Message<ChangeStreamDocument<Document>, Object> message) {
+
+		String collection = message.getProperties().getCollectionName();
+
+		if (collection != null) {
+			cache.evict(collection);
+		}
+	}
+}
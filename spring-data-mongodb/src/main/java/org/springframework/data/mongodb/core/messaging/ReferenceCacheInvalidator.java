@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.messaging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.ReferenceDocumentCache;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.util.Assert;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+/**
+ * {@link MessageListener} evicting documents from a {@link ReferenceDocumentCache} when they are changed. Use
+ * {@link #register(MessageListenerContainer)} to listen to the change streams of all cacheable collections, including
+ * the ones only becoming known to the {@link org.springframework.data.mapping.context.MappingContext} later on.
+ *
+ * <pre class="code">
+ * ReferenceCacheInvalidator invalidator = new ReferenceCacheInvalidator(cache);
+ * invalidator.register(new DefaultMessageListenerContainer(template));
+ * </pre>
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class ReferenceCacheInvalidator implements MessageListener<ChangeStreamDocument<Document>, Object> {
+
+	private final ReferenceDocumentCache cache;
+	private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link ReferenceCacheInvalidator} for the given {@link ReferenceDocumentCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	public ReferenceCacheInvalidator(ReferenceDocumentCache cache) {
+
+		Assert.notNull(cache, "ReferenceDocumentCache must not be null!");
+		this.cache = cache;
+	}
+
+	/**
+	 * Register this listener for the change streams of all collections currently marked as
+	 * {@link ReferenceDocumentCache#getCacheableCollections() cacheable}. Collections not known upfront are subscribed
+	 * to as soon as their first document gets cached.
+	 *
+	 * @param container must not be {@literal null}.
+	 * @return the {@link Subscription subscriptions} established upfront, one per collection.
+	 * @see #getSubscriptions()
+	 * @see ReferenceDocumentCache#addCollectionListener(java.util.function.Consumer)
+	 */
+	public List<Subscription> register(MessageListenerContainer container) {
+
+		Assert.notNull(container, "MessageListenerContainer must not be null!");
+
+		List<Subscription> subscriptions = new ArrayList<>();
+
+		for (String collection : cache.getCacheableCollections()) {
+			subscriptions.add(subscribe(container, collection));
+		}
+
+		cache.addCollectionListener(collection -> subscribe(container, collection));
+
+		return subscriptions;
+	}
+
+	/**
+	 * @return all {@link Subscription subscriptions} established so far, one per collection.
+	 */
+	public Collection<Subscription> getSubscriptions() {
+		return Collections.unmodifiableCollection(subscriptions.values());
+	}
+
+	private Subscription subscribe(MessageListenerContainer container, String collection) {
+
+		return subscriptions.computeIfAbsent(collection, key -> {
+
+			ChangeStreamRequest<Object> request = ChangeStreamRequest.builder(this) //
+					.collection(key) //
+					.build();
+
+			return container.register(request, Object.class);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.messaging.MessageListener#onMessage(org.springframework.data.mongodb.core.messaging.Message)
+	 */
+	@Override
+	public void onMessage(Message<ChangeStreamDocument<Document>, Object> message) {
+
+		ChangeStreamDocument<Document> event = message.getRaw();
+		String collection = message.getProperties().getCollectionName();
+
+		if (event == null || collection == null) {
+			return;
+		}
+
+		OperationType operationType = event.getOperationType();
+
+		if (operationType == OperationType.INSERT) {
+			return;
+		}
+
+		BsonDocument documentKey = event.getDocumentKey();
+		BsonValue id = documentKey != null ? documentKey.get("_id") : null;
+
+		if (id != null && (id.isString() || id.isObjectId() || id.isInt32() || id.isInt64())) {
+			cache.evict(collection, BsonUtils.toJavaType(id));
+		} else {
+			cache.evict(collection);
+		}
+	}
+}
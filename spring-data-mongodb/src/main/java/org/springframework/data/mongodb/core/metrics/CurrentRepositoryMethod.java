@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+
+/**
+ * Holder of the name of the repository method currently invoked, used to attribute template operations to it. The
+ * name is bound to the current {@link Thread} for imperative repositories and put into the Reactor
+ * {@link reactor.util.context.Context} under {@link #CONTEXT_KEY} for reactive ones.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public final class CurrentRepositoryMethod {
+
+	/**
+	 * Key of the repository method name within the Reactor {@link reactor.util.context.Context}.
+	 */
+	public static final String CONTEXT_KEY = CurrentRepositoryMethod.class.getName();
+
+	private static final ThreadLocal<String> CURRENT = new NamedThreadLocal<>("Current MongoDB repository method");
+
+	private CurrentRepositoryMethod() {}
+
+	/**
+	 * @return the name of the repository method invoked on the current {@link Thread}. {@literal null} if none.
+	 */
+	@Nullable
+	public static String get() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Bind the given repository method name to the current {@link Thread}.
+	 *
+	 * @param repositoryMethod can be {@literal null} to remove the current binding.
+	 * @return the previously bound name, to be passed on to {@link #bind(String)} again when the invocation completes.
+	 */
+	@Nullable
+	public static String bind(@Nullable String repositoryMethod) {
+
+		String previous = CURRENT.get();
+
+		if (repositoryMethod != null) {
+			CURRENT.set(repositoryMethod);
+		} else {
+			CURRENT.remove();
+		}
+
+		return previous;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Handle of a Java Flight Recorder event started via {@link FlightRecorderEvents}. The duration of the event spans
+ * from its creation to {@link #end(Class, String, long)}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public interface FlightRecorderEvent {
+
+	/**
+	 * {@link FlightRecorderEvent} not recording anything, used if the event is disabled or Java Flight Recorder is not
+	 * available.
+	 */
+	FlightRecorderEvent NONE = new FlightRecorderEvent() {
+
+		@Override
+		public boolean isRecording() {
+			return false;
+		}
+
+		@Override
+		public void end(@Nullable Class<?> entityType, @Nullable String collectionName, long documentCount) {}
+	};
+
+	/**
+	 * @return {@literal false} if the event is not recorded, so callers can skip computing its attributes.
+	 */
+	default boolean isRecording() {
+		return true;
+	}
+
+	/**
+	 * End the event and commit it to the recording if it passes the configured threshold.
+	 *
+	 * @param entityType the domain type involved. Can be {@literal null}.
+	 * @param collectionName the collection involved. Can be {@literal null}.
+	 * @param documentCount the number of documents read, written or affected.
+	 */
+	void end(@Nullable Class<?> entityType, @Nullable String collectionName, long documentCount);
+}
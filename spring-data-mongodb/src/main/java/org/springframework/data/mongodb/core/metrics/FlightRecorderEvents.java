@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Entry point for emitting Java Flight Recorder events for mapping, conversion and repository execution. All events
+ * are disabled by default and are recorded only if enabled via the recording settings, e.g. a {@literal .jfc} file
+ * containing
+ *
+ * <pre class="code">
+ * &lt;event name="org.springframework.data.mongodb.Read"&gt;
+ *   &lt;setting name="enabled"&gt;true&lt;/setting&gt;
+ *   &lt;setting name="threshold"&gt;1 ms&lt;/setting&gt;
+ * &lt;/event&gt;
+ * </pre>
+ *
+ * The following events are available:
+ * <ul>
+ * <li>{@literal org.springframework.data.mongodb.Read} and {@literal org.springframework.data.mongodb.Write}: reading
+ * and writing an entity via the {@link org.springframework.data.mongodb.core.convert.MappingMongoConverter}.</li>
+ * <li>{@literal org.springframework.data.mongodb.QueryMapping}: mapping a query via the
+ * {@link org.springframework.data.mongodb.core.convert.QueryMapper}.</li>
+ * <li>{@literal org.springframework.data.mongodb.RepositoryQuery}: executing a query method.</li>
+ * <li>{@literal org.springframework.data.mongodb.DbRefFetch}: resolving {@link com.mongodb.DBRef}s.</li>
+ * <li>{@literal org.springframework.data.mongodb.Bulk}: executing bulk operations.</li>
+ * <li>{@literal org.springframework.data.mongodb.Operation}: template operations recorded via
+ * {@link FlightRecorderOperationMetrics}.</li>
+ * </ul>
+ * Without Java Flight Recorder on the classpath all methods return {@link FlightRecorderEvent#NONE}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public final class FlightRecorderEvents {
+
+	static final boolean JFR_PRESENT = ClassUtils.isPresent("jdk.jfr.Event",
+			FlightRecorderEvents.class.getClassLoader());
+
+	private FlightRecorderEvents() {}
+
+	/**
+	 * Begin reading an entity from a document.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public static FlightRecorderEvent beginRead() {
+		return JFR_PRESENT ? JfrEvents.beginRead() : FlightRecorderEvent.NONE;
+	}
+
+	/**
+	 * Begin writing an entity to a document.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public static FlightRecorderEvent beginWrite() {
+		return JFR_PRESENT ? JfrEvents.beginWrite() : FlightRecorderEvent.NONE;
+	}
+
+	/**
+	 * Begin mapping a query document.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public static FlightRecorderEvent beginQueryMapping() {
+		return JFR_PRESENT ? JfrEvents.beginQueryMapping() : FlightRecorderEvent.NONE;
+	}
+
+	/**
+	 * Begin executing the given repository query method.
+	 *
+	 * @param method the name of the query method. Must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public static FlightRecorderEvent beginRepositoryQuery(String method) {
+		return JFR_PRESENT ? JfrEvents.beginRepositoryQuery(method) : FlightRecorderEvent.NONE;
+	}
+
+	/**
+	 * Begin fetching one or more {@link com.mongodb.DBRef}s.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public static FlightRecorderEvent beginDbRefFetch() {
+		return JFR_PRESENT ? JfrEvents.beginDbRefFetch() : FlightRecorderEvent.NONE;
+	}
+
+	/**
+	 * Begin executing bulk operations.
+	 *
+	 * @param mode the bulk mode, e.g. {@literal ORDERED}. Must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public static FlightRecorderEvent beginBulk(String mode) {
+		return JFR_PRESENT ? JfrEvents.beginBulk(mode) : FlightRecorderEvent.NONE;
+	}
+}
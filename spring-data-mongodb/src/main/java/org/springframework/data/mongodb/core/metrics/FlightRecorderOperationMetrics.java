@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link OperationMetrics} emitting a Java Flight Recorder event named
+ * {@literal org.springframework.data.mongodb.Operation} per template operation, carrying operation, collection, entity type, repository method, the number of documents
+ * read and the time spent mapping and converting. Like all {@link FlightRecorderEvents events} it is disabled by
+ * default and operations are only sampled while a recording has it enabled.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class FlightRecorderOperationMetrics implements OperationMetrics {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.metrics.OperationMetrics#start(java.lang.String, java.lang.String, java.lang.Class, java.lang.String, long)
+	 */
+	@Override
+	public OperationSample start(String operation, String collectionName, @Nullable Class<?> entityType,
+			@Nullable String repositoryMethod, long startNanos) {
+
+		return FlightRecorderEvents.JFR_PRESENT
+				? JfrEvents.beginOperation(operation, collectionName, entityType, repositoryMethod)
+				: OperationSample.NONE;
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import org.bson.Document;
+import org.springframework.lang.Nullable;
+
+/**
+ * Java Flight Recorder event types. Only referenced if {@link FlightRecorderEvents#JFR_PRESENT Java Flight Recorder is
+ * present}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+class JfrEvents {
+
+	static FlightRecorderEvent beginRead() {
+		return begin(new ReadEvent());
+	}
+
+	static FlightRecorderEvent beginWrite() {
+		return begin(new WriteEvent());
+	}
+
+	static FlightRecorderEvent beginQueryMapping() {
+		return begin(new QueryMappingEvent());
+	}
+
+	static FlightRecorderEvent beginRepositoryQuery(String method) {
+
+		RepositoryQueryEvent event = new RepositoryQueryEvent();
+		event.method = method;
+		return begin(event);
+	}
+
+	static FlightRecorderEvent beginDbRefFetch() {
+		return begin(new DbRefFetchEvent());
+	}
+
+	static FlightRecorderEvent beginBulk(String mode) {
+
+		BulkEvent event = new BulkEvent();
+		event.mode = mode;
+		return begin(event);
+	}
+
+	static OperationSample beginOperation(String operation, String collectionName, @Nullable Class<?> entityType,
+			@Nullable String repositoryMethod) {
+
+		OperationEvent event = new OperationEvent();
+
+		if (!event.isEnabled()) {
+			return OperationSample.NONE;
+		}
+
+		event.operation = operation;
+		event.collection = collectionName;
+		event.entityType = entityType;
+		event.method = repositoryMethod;
+		event.begin();
+
+		return event;
+	}
+
+	private static FlightRecorderEvent begin(MongoEvent event) {
+
+		if (!event.isEnabled()) {
+			return FlightRecorderEvent.NONE;
+		}
+
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Base class of events carrying the entity type, collection and number of documents involved.
+	 */
+	@Category({ "Spring Data", "MongoDB" })
+	@Enabled(false)
+	@StackTrace(false)
+	abstract static class MongoEvent extends Event implements FlightRecorderEvent {
+
+		@Label("Entity Type") Class<?> entityType;
+
+		@Label("Collection") String collection;
+
+		@Label("Document Count") long documentCount;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.metrics.FlightRecorderEvent#end(java.lang.Class, java.lang.String, long)
+		 */
+		@Override
+		public void end(@Nullable Class<?> entityType, @Nullable String collectionName, long documentCount) {
+
+			end();
+
+			if (shouldCommit()) {
+
+				this.entityType = entityType;
+				this.collection = collectionName;
+				this.documentCount = documentCount;
+				commit();
+			}
+		}
+	}
+
+	@Name("org.springframework.data.mongodb.Read")
+	@Label("Read Entity")
+	@Description("Reading an entity from a document via the MappingMongoConverter")
+	static class ReadEvent extends MongoEvent {}
+
+	@Name("org.springframework.data.mongodb.Write")
+	@Label("Write Entity")
+	@Description("Writing an entity to a document via the MappingMongoConverter")
+	static class WriteEvent extends MongoEvent {}
+
+	@Name("org.springframework.data.mongodb.QueryMapping")
+	@Label("Query Mapping")
+	@Description("Mapping a query document via the QueryMapper")
+	static class QueryMappingEvent extends MongoEvent {}
+
+	@Name("org.springframework.data.mongodb.RepositoryQuery")
+	@Label("Repository Query")
+	@Description("Executing a repository query method")
+	static class RepositoryQueryEvent extends MongoEvent {
+
+		@Label("Method") String method;
+	}
+
+	@Name("org.springframework.data.mongodb.DbRefFetch")
+	@Label("DBRef Fetch")
+	@Description("Resolving one or more DBRefs")
+	static class DbRefFetchEvent extends MongoEvent {}
+
+	@Name("org.springframework.data.mongodb.Bulk")
+	@Label("Bulk Operations")
+	@Description("Executing bulk operations")
+	static class BulkEvent extends MongoEvent {
+
+		@Label("Mode") String mode;
+	}
+
+	@Name("org.springframework.data.mongodb.Operation")
+	@Label("Template Operation")
+	@Description("Executing an operation via MongoTemplate or ReactiveMongoTemplate")
+	@Category({ "Spring Data", "MongoDB" })
+	@Enabled(false)
+	@StackTrace(false)
+	static class OperationEvent extends Event implements OperationSample {
+
+		@Label("Operation") String operation;
+
+		@Label("Collection") String collection;
+
+		@Label("Entity Type") Class<?> entityType;
+
+		@Label("Method") String method;
+
+		@Label("Document Count") long documentCount;
+
+		@Label("Mapping Time") @Timespan long mappingTime;
+
+		@Label("Conversion Time") @Timespan long conversionTime;
+
+		@Label("Exception") String exception;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.metrics.OperationSample#recordMapping(long)
+		 */
+		@Override
+		public void recordMapping(long nanos) {
+			mappingTime += nanos;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.metrics.OperationSample#recordConversion(long, org.bson.Document)
+		 */
+		@Override
+		public void recordConversion(long nanos, Document document) {
+
+			conversionTime += nanos;
+			documentCount++;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.metrics.OperationSample#stop(java.lang.Throwable)
+		 */
+		@Override
+		public void stop(@Nullable Throwable error) {
+
+			end();
+
+			if (shouldCommit()) {
+
+				exception = error != null ? error.getClass().getSimpleName() : null;
+				commit();
+			}
+		}
+	}
+}
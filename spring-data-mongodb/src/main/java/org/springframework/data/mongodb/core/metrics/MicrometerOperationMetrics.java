@@ -0,0 +1,236 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * {@link OperationMetrics} publishing to a Micrometer {@link MeterRegistry}. Every operation is counted, while timers
+ * and distribution summaries are recorded for sampled operations only:
+ * <ul>
+ * <li>{@literal spring.data.mongodb.operations.invocations} counts all operations.</li>
+ * <li>{@literal spring.data.mongodb.operations} times the operation as a whole.</li>
+ * <li>{@literal spring.data.mongodb.operations.mapping} times mapping the query and update via
+ * {@link org.springframework.data.mongodb.core.convert.QueryMapper} and
+ * {@link org.springframework.data.mongodb.core.convert.UpdateMapper}.</li>
+ * <li>{@literal spring.data.mongodb.operations.server} times the server round trip, that is everything not spent
+ * mapping or converting.</li>
+ * <li>{@literal spring.data.mongodb.operations.conversion} times reading results via the
+ * {@link org.springframework.data.mongodb.core.convert.MongoConverter}.</li>
+ * <li>{@literal spring.data.mongodb.operations.documents} summarizes the number of documents read.</li>
+ * <li>{@literal spring.data.mongodb.operations.documents.size} summarizes the BSON size of the documents read if
+ * {@link #setRecordDocumentSize(boolean) enabled}.</li>
+ * </ul>
+ * Meters are tagged with {@literal operation}, {@literal collection} and {@literal exception}, and unless
+ * {@link #setLowCardinalityTags(boolean) low cardinality tags} are requested also with {@literal entity} and
+ * {@literal method}, the repository method issuing the operation.
+ * <p />
+ * Use {@link #setSampleRate(double)} to record only a share of the operations on hot paths.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class MicrometerOperationMetrics implements OperationMetrics {
+
+	private static final String METRIC_NAME = "spring.data.mongodb.operations";
+	private static final String NONE = "none";
+	private final MeterRegistry registry;
+	private final Map<String, Map<String, Counter>> invocations = new ConcurrentHashMap<>();
+
+	private double sampleRate = 1D;
+	private boolean lowCardinalityTags = false;
+	private boolean recordDocumentSize = false;
+	private Codec<Document> documentCodec = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+
+	/**
+	 * Create a new {@link MicrometerOperationMetrics} for the given {@link MeterRegistry}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public MicrometerOperationMetrics(MeterRegistry registry) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null!");
+		this.registry = registry;
+	}
+
+	/**
+	 * Set the share of operations to record timers and distribution summaries for. Defaults to {@literal 1}, recording
+	 * every operation.
+	 *
+	 * @param sampleRate must be greater than {@literal 0} and not greater than {@literal 1}.
+	 */
+	public void setSampleRate(double sampleRate) {
+
+		Assert.isTrue(sampleRate > 0 && sampleRate <= 1, "SampleRate must be greater than 0 and not greater than 1!");
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Restrict tags to {@literal operation}, {@literal collection} and {@literal exception}, omitting the entity type
+	 * and repository method. Defaults to {@literal false}.
+	 *
+	 * @param lowCardinalityTags {@literal true} to omit high cardinality tags.
+	 */
+	public void setLowCardinalityTags(boolean lowCardinalityTags) {
+		this.lowCardinalityTags = lowCardinalityTags;
+	}
+
+	/**
+	 * Compute the BSON size of documents read for sampled operations. This re-encodes every document read and therefore
+	 * comes at a cost. Defaults to {@literal false}.
+	 *
+	 * @param recordDocumentSize {@literal true} to record the document size.
+	 * @see #setCodecRegistry(CodecRegistry)
+	 */
+	public void setRecordDocumentSize(boolean recordDocumentSize) {
+		this.recordDocumentSize = recordDocumentSize;
+	}
+
+	/**
+	 * Set the {@link CodecRegistry} to encode documents with when {@link #setRecordDocumentSize(boolean) recording their
+	 * size}. Use the one of the {@link org.springframework.data.mongodb.MongoDatabaseFactory} the template operates on,
+	 * so that values like {@link java.util.UUID} are encoded the way they are stored. Defaults to
+	 * {@link MongoClientSettings#getDefaultCodecRegistry()}.
+	 *
+	 * @param codecRegistry must not be {@literal null}.
+	 */
+	public void setCodecRegistry(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null!");
+		this.documentCodec = codecRegistry.get(Document.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.metrics.OperationMetrics#start(java.lang.String, java.lang.String, java.lang.Class, java.lang.String, long)
+	 */
+	@Override
+	public OperationSample start(String operation, String collectionName, @Nullable Class<?> entityType,
+			@Nullable String repositoryMethod, long startNanos) {
+
+		invocations.computeIfAbsent(operation, key -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(collectionName, key -> Counter.builder(METRIC_NAME + ".invocations") //
+						.tag("operation", operation) //
+						.tag("collection", collectionName) //
+						.register(registry)) //
+				.increment();
+
+		if (sampleRate < 1D && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			return OperationSample.NONE;
+		}
+
+		Tags tags = Tags.of("operation", operation, "collection", collectionName);
+
+		if (!lowCardinalityTags) {
+			tags = tags.and("entity", entityType != null ? entityType.getSimpleName() : NONE, "method",
+					repositoryMethod != null ? repositoryMethod : NONE);
+		}
+
+		return new MicrometerOperationSample(tags, startNanos);
+	}
+
+	/**
+	 * {@link OperationSample} recording to the {@link MeterRegistry} when stopped.
+	 *
+	 * @author agent
+	 */
+	private class MicrometerOperationSample implements OperationSample {
+
+		private final Tags tags;
+		private final long startNanos;
+
+		private long mappingNanos;
+		private long conversionNanos;
+		private long documents;
+		private long bytes;
+
+		MicrometerOperationSample(Tags tags, long startNanos) {
+
+			this.tags = tags;
+			this.startNanos = startNanos;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.metrics.OperationSample#recordMapping(long)
+		 */
+		@Override
+		public void recordMapping(long nanos) {
+			mappingNanos += nanos;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.metrics.OperationSample#recordConversion(long, org.bson.Document)
+		 */
+		@Override
+		public void recordConversion(long nanos, Document document) {
+
+			conversionNanos += nanos;
+			documents++;
+
+			if (recordDocumentSize) {
+				bytes += new RawBsonDocument(document, documentCodec).getByteBuffer().remaining();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.metrics.OperationSample#stop(java.lang.Throwable)
+		 */
+		@Override
+		public void stop(@Nullable Throwable error) {
+
+			long totalNanos = System.nanoTime() - startNanos;
+			Tags tagsToUse = tags.and("exception", error != null ? error.getClass().getSimpleName() : NONE);
+
+			timer(METRIC_NAME, tagsToUse).record(totalNanos, TimeUnit.NANOSECONDS);
+			timer(METRIC_NAME + ".mapping", tagsToUse).record(mappingNanos, TimeUnit.NANOSECONDS);
+			timer(METRIC_NAME + ".conversion", tagsToUse).record(conversionNanos, TimeUnit.NANOSECONDS);
+			timer(METRIC_NAME + ".server", tagsToUse).record(Math.max(0, totalNanos - mappingNanos - conversionNanos),
+					TimeUnit.NANOSECONDS);
+
+			DistributionSummary.builder(METRIC_NAME + ".documents").tags(tagsToUse).register(registry).record(documents);
+
+			if (recordDocumentSize) {
+				DistributionSummary.builder(METRIC_NAME + ".documents.size").baseUnit("bytes").tags(tagsToUse)
+						.register(registry).record(bytes);
+			}
+		}
+
+		private Timer timer(String name, Tags tags) {
+			return Timer.builder(name).tags(tags).register(registry);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * SPI for instrumenting operations of {@link org.springframework.data.mongodb.core.MongoTemplate} and
+ * {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate}. The templates start an {@link OperationSample}
+ * for each operation, report the time spent mapping the query and update as well as converting results to it and
+ * stop it once the operation completes. The time not spent mapping or converting is attributed to the server round
+ * trip.
+ * <p />
+ * Implementations decide whether to sample an operation at all by returning {@link OperationSample#NONE} to keep the
+ * overhead of instrumentation low.
+ *
+ * @author agent
+ * @since 3.3
+ * @see MicrometerOperationMetrics
+ * @see FlightRecorderOperationMetrics
+ */
+public interface OperationMetrics {
+
+	/**
+	 * {@link OperationMetrics} not recording any operation.
+	 */
+	OperationMetrics NONE = (operation, collectionName, entityType, repositoryMethod,
+			startNanos) -> OperationSample.NONE;
+
+	/**
+	 * Start sampling an operation.
+	 *
+	 * @param operation the name of the operation, e.g. {@literal find} or {@literal update}. Never {@literal null}.
+	 * @param collectionName the collection the operation is run against. Never {@literal null}.
+	 * @param entityType the domain type of the operation. Can be {@literal null}.
+	 * @param repositoryMethod the repository method issuing the operation, if any. Can be {@literal null}.
+	 * @param startNanos the {@link System#nanoTime()} at which the operation started.
+	 * @return never {@literal null}. {@link OperationSample#NONE} if the operation is not sampled.
+	 */
+	OperationSample start(String operation, String collectionName, @Nullable Class<?> entityType,
+			@Nullable String repositoryMethod, long startNanos);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import org.bson.Document;
+import org.springframework.lang.Nullable;
+
+/**
+ * A single sampled operation collecting the time spent in its individual phases. Obtained via
+ * {@link OperationMetrics#start(String, String, Class, String, long)}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public interface OperationSample {
+
+	/**
+	 * {@link OperationSample} ignoring all recordings.
+	 */
+	OperationSample NONE = new OperationSample() {
+
+		@Override
+		public boolean isRecording() {
+			return false;
+		}
+
+		@Override
+		public void recordMapping(long nanos) {}
+
+		@Override
+		public void recordConversion(long nanos, Document document) {}
+
+		@Override
+		public void stop(@Nullable Throwable error) {}
+	};
+
+	/**
+	 * @return {@literal false} if recordings are ignored, so callers can skip measuring them.
+	 */
+	default boolean isRecording() {
+		return true;
+	}
+
+	/**
+	 * Record time spent mapping the query, fields, sort or update of the operation.
+	 *
+	 * @param nanos the elapsed time in nanoseconds.
+	 */
+	void recordMapping(long nanos);
+
+	/**
+	 * Record time spent converting a result {@link Document} into the domain type.
+	 *
+	 * @param nanos the elapsed time in nanoseconds.
+	 * @param document the converted {@link Document}. Never {@literal null}.
+	 */
+	void recordConversion(long nanos, Document document);
+
+	/**
+	 * Stop the sample once the operation completed.
+	 *
+	 * @param error the error the operation failed with. {@literal null} if completed successfully.
+	 */
+	void stop(@Nullable Throwable error);
+}
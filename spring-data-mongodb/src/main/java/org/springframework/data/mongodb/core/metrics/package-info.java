@@ -0,0 +1,6 @@
+/**
+ * Instrumentation of template operations breaking down the time spent mapping, on the server and converting results,
+ * and Java Flight Recorder events for mapping, conversion and repository execution.
+ */
+@org.springframework.lang.NonNullApi
+package org.springframework.data.mongodb.core.metrics;
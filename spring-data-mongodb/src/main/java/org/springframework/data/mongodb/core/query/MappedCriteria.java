@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import org.bson.Document;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link CriteriaDefinition} holding criteria that are already in their MongoDB representation, using
+ * field names and values as stored in the database.
+ * {@link org.springframework.data.mongodb.core.convert.QueryMapper} takes those over as they are instead of resolving
+ * property paths and converting values once more.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class MappedCriteria implements CriteriaDefinition {
+
+	private static final String MAPPED_CRITERIA_KEY = "_$MAPPED_CRITERIA";
+
+	private final Document mappedObject;
+
+	private MappedCriteria(Document mappedObject) {
+		this.mappedObject = mappedObject;
+	}
+
+	/**
+	 * Create new {@link MappedCriteria} for the given already mapped {@link Document}.
+	 *
+	 * @param mappedObject must not be {@literal null}.
+	 * @return new instance of {@link MappedCriteria}.
+	 */
+	public static MappedCriteria of(Document mappedObject) {
+
+		Assert.notNull(mappedObject, "MappedObject must not be null!");
+		return new MappedCriteria(mappedObject);
+	}
+
+	/**
+	 * @return the already mapped criteria {@link Document}.
+	 */
+	public Document getMappedObject() {
+		return mappedObject;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.query.CriteriaDefinition#getKey()
+	 */
+	@Override
+	public String getKey() {
+		return MAPPED_CRITERIA_KEY;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.query.CriteriaDefinition#getCriteriaObject()
+	 */
+	@Override
+	public Document getCriteriaObject() {
+		return new Document(MAPPED_CRITERIA_KEY, mappedObject);
+	}
+
+	/**
+	 * Returns whether the given key is the one used to hold {@link MappedCriteria} within a query {@link Document}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return {@literal true} if the value of the given key is an already mapped criteria {@link Document}.
+	 */
+	public static boolean isMappedCriteriaKey(String key) {
+		return MAPPED_CRITERIA_KEY.equals(key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return SerializationUtils.serializeToJsonSafely(mappedObject);
+	}
+}
@@ -24,6 +24,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
@@ -53,6 +54,9 @@ public class Meta {
 	private final Set<CursorOption> flags = new LinkedHashSet<>();
 	private Integer cursorBatchSize;
 	private Boolean allowDiskUse;
+	private @Nullable Duration latencyBudget;
+	private @Nullable Boolean hedgedReads;
+	private boolean frozen;
 
 	public Meta() {}
 
@@ -67,6 +71,8 @@ public class Meta {
 		this.flags.addAll(source.flags);
 		this.cursorBatchSize = source.cursorBatchSize;
 		this.allowDiskUse = source.allowDiskUse;
+		this.latencyBudget = source.latencyBudget;
+		this.hedgedReads = source.hedgedReads;
 	}
 
 	/**
@@ -145,6 +151,8 @@ public class Meta {
 	 * @since 2.1
 	 */
 	public void setCursorBatchSize(int cursorBatchSize) {
+
+		assertNotFrozen();
 		this.cursorBatchSize = cursorBatchSize;
 	}
 
@@ -158,6 +166,7 @@ public class Meta {
 	public boolean addFlag(CursorOption option) {
 
 		Assert.notNull(option, "CursorOption must not be null!");
+		assertNotFrozen();
 		return this.flags.add(option);
 	}
 
@@ -166,7 +175,7 @@ public class Meta {
 	 * @since 1.10
 	 */
 	public Set<CursorOption> getFlags() {
-		return flags;
+		return frozen ? Collections.unmodifiableSet(flags) : flags;
 	}
 
 	/**
@@ -191,14 +200,68 @@ public class Meta {
 	 * @since 3.0
 	 */
 	public void setAllowDiskUse(@Nullable Boolean allowDiskUse) {
+
+		assertNotFrozen();
 		this.allowDiskUse = allowDiskUse;
 	}
 
+	/**
+	 * @return {@literal null} if not set.
+	 * @since 3.3
+	 */
+	@Nullable
+	public Duration getLatencyBudget() {
+		return latencyBudget;
+	}
+
+	/**
+	 * Set the latency budget of the operation. The budget is sent to the server as {@literal maxTimeMS} unless a maximum
+	 * time limit has been set explicitly, and operations exceeding it are reported by the
+	 * {@link org.springframework.data.mongodb.core.HedgedReadPolicy}.
+	 *
+	 * @param latencyBudget must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setLatencyBudget(Duration latencyBudget) {
+
+		Assert.notNull(latencyBudget, "LatencyBudget must not be null!");
+		assertNotFrozen();
+
+		this.latencyBudget = latencyBudget;
+
+		if (getMaxTimeMsec() == null) {
+			setMaxTime(latencyBudget);
+		}
+	}
+
+	/**
+	 * @return {@literal null} if not set.
+	 * @since 3.3
+	 */
+	@Nullable
+	public Boolean getHedgedReads() {
+		return hedgedReads;
+	}
+
+	/**
+	 * Allow issuing a hedged duplicate read against another eligible replica set member when the operation takes longer
+	 * than the latency percentile configured via {@link org.springframework.data.mongodb.core.HedgedReadPolicy}.
+	 *
+	 * @param hedgedReads use {@literal null} for template defaults.
+	 * @since 3.3
+	 */
+	public void setHedgedReads(@Nullable Boolean hedgedReads) {
+
+		assertNotFrozen();
+		this.hedgedReads = hedgedReads;
+	}
+
 	/**
 	 * @return
 	 */
 	public boolean hasValues() {
-		return !this.values.isEmpty() || !this.flags.isEmpty() || this.cursorBatchSize != null || this.allowDiskUse != null;
+		return !this.values.isEmpty() || !this.flags.isEmpty() || this.cursorBatchSize != null || this.allowDiskUse != null
+				|| this.latencyBudget != null || this.hedgedReads != null;
 	}
 
 	/**
@@ -219,6 +282,7 @@ public class Meta {
 	void setValue(String key, @Nullable Object value) {
 
 		Assert.hasText(key, "Meta key must not be 'null' or blank.");
+		assertNotFrozen();
 
 		if (value == null || (value instanceof String && !StringUtils.hasText((String) value))) {
 			this.values.remove(key);
@@ -226,6 +290,27 @@ public class Meta {
 		this.values.put(key, value);
 	}
 
+	/**
+	 * Create an immutable copy of this {@link Meta}. Any attempt to modify the copy results in an
+	 * {@link InvalidMongoDbApiUsageException}.
+	 *
+	 * @return new instance of {@link Meta}.
+	 * @since 3.3
+	 */
+	Meta freeze() {
+
+		Meta frozen = new Meta(this);
+		frozen.frozen = true;
+		return frozen;
+	}
+
+	private void assertNotFrozen() {
+
+		if (frozen) {
+			throw new InvalidMongoDbApiUsageException("Meta of a frozen Query must not be modified!");
+		}
+	}
+
 	@Nullable
 	@SuppressWarnings("unchecked")
 	private <T> T getValue(String key) {
@@ -21,6 +21,7 @@ import static org.springframework.util.ObjectUtils.*;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -38,6 +39,8 @@ import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import com.mongodb.ReadPreference;
+
 /**
  * MongoDB Query object representing criteria, projection, sorting and query hints.
  *
@@ -64,6 +67,12 @@ public class Query {
 
 	private Optional<Collation> collation = Optional.empty();
 
+	private boolean resolveDbRefsViaLookup = false;
+
+	private @Nullable ReadPreference readPreference;
+
+	private boolean frozen = false;
+
 	/**
 	 * Static factory method to create a {@link Query} using the provided {@link CriteriaDefinition}.
 	 *
@@ -96,6 +105,7 @@ public class Query {
 	 */
 	public Query addCriteria(CriteriaDefinition criteriaDefinition) {
 
+		assertNotFrozen();
 		Assert.notNull(criteriaDefinition, "CriteriaDefinition must not be null!");
 
 		CriteriaDefinition existing = this.criteria.get(criteriaDefinition.getKey());
@@ -114,6 +124,7 @@ public class Query {
 
 	public Field fields() {
 
+		assertNotFrozen();
 		if (this.fieldSpec == null) {
 			this.fieldSpec = new Field();
 		}
@@ -128,6 +139,8 @@ public class Query {
 	 * @return this.
 	 */
 	public Query skip(long skip) {
+
+		assertNotFrozen();
 		this.skip = skip;
 		return this;
 	}
@@ -139,6 +152,8 @@ public class Query {
 	 * @return this.
 	 */
 	public Query limit(int limit) {
+
+		assertNotFrozen();
 		this.limit = limit;
 		return this;
 	}
@@ -153,6 +168,7 @@ public class Query {
 	 */
 	public Query withHint(String hint) {
 
+		assertNotFrozen();
 		Assert.hasText(hint, "Hint must not be empty or null!");
 		this.hint = hint;
 		return this;
@@ -167,6 +183,7 @@ public class Query {
 	 */
 	public Query withHint(Document hint) {
 
+		assertNotFrozen();
 		Assert.notNull(hint, "Hint must not be null!");
 		this.hint = hint.toJson();
 		return this;
@@ -181,6 +198,7 @@ public class Query {
 	 */
 	public Query with(Pageable pageable) {
 
+		assertNotFrozen();
 		if (pageable.isUnpaged()) {
 			return this;
 		}
@@ -199,6 +217,7 @@ public class Query {
 	 */
 	public Query with(Sort sort) {
 
+		assertNotFrozen();
 		Assert.notNull(sort, "Sort must not be null!");
 
 		if (sort.isUnsorted()) {
@@ -232,6 +251,7 @@ public class Query {
 	 */
 	public Query restrict(Class<?> type, Class<?>... additionalTypes) {
 
+		assertNotFrozen();
 		Assert.notNull(type, "Type must not be null!");
 		Assert.notNull(additionalTypes, "AdditionalTypes must not be null");
 
@@ -328,6 +348,7 @@ public class Query {
 	 */
 	public Query maxTimeMsec(long maxTimeMsec) {
 
+		assertNotFrozen();
 		meta.setMaxTimeMsec(maxTimeMsec);
 		return this;
 	}
@@ -343,6 +364,7 @@ public class Query {
 	@Deprecated
 	public Query maxTime(long timeout, TimeUnit timeUnit) {
 
+		assertNotFrozen();
 		meta.setMaxTime(timeout, timeUnit);
 		return this;
 	}
@@ -355,6 +377,7 @@ public class Query {
 	 */
 	public Query maxTime(Duration timeout) {
 
+		assertNotFrozen();
 		meta.setMaxTime(timeout);
 		return this;
 	}
@@ -369,6 +392,7 @@ public class Query {
 	 */
 	public Query comment(String comment) {
 
+		assertNotFrozen();
 		meta.setComment(comment);
 		return this;
 	}
@@ -387,6 +411,7 @@ public class Query {
 	 */
 	public Query allowDiskUse(boolean allowDiskUse) {
 
+		assertNotFrozen();
 		meta.setAllowDiskUse(allowDiskUse);
 		return this;
 	}
@@ -403,6 +428,7 @@ public class Query {
 	 */
 	public Query cursorBatchSize(int batchSize) {
 
+		assertNotFrozen();
 		meta.setCursorBatchSize(batchSize);
 		return this;
 	}
@@ -414,6 +440,7 @@ public class Query {
 	 */
 	public Query noCursorTimeout() {
 
+		assertNotFrozen();
 		meta.addFlag(Meta.CursorOption.NO_TIMEOUT);
 		return this;
 	}
@@ -425,6 +452,7 @@ public class Query {
 	 */
 	public Query exhaust() {
 
+		assertNotFrozen();
 		meta.addFlag(Meta.CursorOption.EXHAUST);
 		return this;
 	}
@@ -440,6 +468,7 @@ public class Query {
 	@Deprecated
 	public Query slaveOk() {
 
+		assertNotFrozen();
 		meta.addFlag(Meta.CursorOption.SLAVE_OK);
 		return this;
 	}
@@ -453,6 +482,7 @@ public class Query {
 	 */
 	public Query allowSecondaryReads() {
 
+		assertNotFrozen();
 		meta.addFlag(Meta.CursorOption.SECONDARY_READS);
 		return this;
 	}
@@ -464,6 +494,7 @@ public class Query {
 	 */
 	public Query partialResults() {
 
+		assertNotFrozen();
 		meta.addFlag(Meta.CursorOption.PARTIAL);
 		return this;
 	}
@@ -482,6 +513,7 @@ public class Query {
 	 */
 	public void setMeta(Meta meta) {
 
+		assertNotFrozen();
 		Assert.notNull(meta, "Query meta might be empty but must not be null.");
 		this.meta = meta;
 	}
@@ -495,6 +527,7 @@ public class Query {
 	 */
 	public Query collation(@Nullable Collation collation) {
 
+		assertNotFrozen();
 		this.collation = Optional.ofNullable(collation);
 		return this;
 	}
@@ -509,10 +542,103 @@ public class Query {
 		return collation;
 	}
 
+	/**
+	 * Resolve eager {@link org.springframework.data.mongodb.core.mapping.DBRef} associations of the queried type on the
+	 * server by running the query as aggregation with one {@literal $lookup} stage per association. Parents and
+	 * referenced documents are then fetched in a single round trip instead of issuing one query per parent. References
+	 * into other collections or databases, as well as ones not found by the join, are still resolved one by one. Queries
+	 * defining a {@link #fields() field projection} or a {@link #withHint(String) hint} by index name are executed as
+	 * regular {@literal find}.
+	 *
+	 * @return this.
+	 * @since 3.3
+	 */
+	public Query resolveDbRefsViaLookup() {
+
+		assertNotFrozen();
+		this.resolveDbRefsViaLookup = true;
+		return this;
+	}
+
+	/**
+	 * @return {@literal true} if eager {@link org.springframework.data.mongodb.core.mapping.DBRef} associations should be
+	 *         resolved via {@literal $lookup}.
+	 * @since 3.3
+	 */
+	public boolean isResolveDbRefsViaLookup() {
+		return resolveDbRefsViaLookup;
+	}
+
+	/**
+	 * Route the query to the members matching the given {@link ReadPreference} instead of the default one configured for
+	 * the template or collection.
+	 *
+	 * @param readPreference can be {@literal null} to fall back to the default.
+	 * @return this.
+	 * @since 3.3
+	 */
+	public Query withReadPreference(@Nullable ReadPreference readPreference) {
+
+		assertNotFrozen();
+		this.readPreference = readPreference;
+		return this;
+	}
+
+	/**
+	 * @return {@literal true} if a {@link ReadPreference} has been set for the query.
+	 * @since 3.3
+	 */
+	public boolean hasReadPreference() {
+		return readPreference != null;
+	}
+
+	/**
+	 * @return the {@link ReadPreference} to route the query with or {@literal null} if not set.
+	 * @since 3.3
+	 */
+	@Nullable
+	public ReadPreference getReadPreference() {
+		return readPreference;
+	}
+
 	protected List<CriteriaDefinition> getCriteria() {
 		return new ArrayList<>(this.criteria.values());
 	}
 
+	/**
+	 * Create an immutable copy of the current {@link Query} that renders its query, fields and sort {@link Document}s
+	 * only once. Any attempt to modify the frozen {@link Query} results in an {@link InvalidMongoDbApiUsageException}.
+	 * Frozen queries are safe to be shared, e.g. as constants, and additionally allow templates to map them only once
+	 * per domain type. The rendered {@link Document}s are handed out as is and must not be modified.
+	 *
+	 * <pre class="code">
+	 * static final Query ACTIVE_USERS = query(where("active").is(true)).with(Sort.by("lastname")).freeze();
+	 * </pre>
+	 *
+	 * @return a frozen {@link Query}. This instance if already {@link #isFrozen() frozen}.
+	 * @since 3.3
+	 */
+	public Query freeze() {
+		return frozen ? this : new FrozenQuery(this);
+	}
+
+	/**
+	 * @return {@literal true} if the {@link Query} must not be modified any longer.
+	 * @see #freeze()
+	 * @since 3.3
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void assertNotFrozen() {
+
+		if (frozen) {
+			throw new InvalidMongoDbApiUsageException(
+					String.format("Query %s is frozen and must not be modified!", serializeToJsonSafely(getQueryObject())));
+		}
+	}
+
 	/**
 	 * Create an independent copy of the given {@link Query}. <br />
 	 * The resulting {@link Query} will not be {@link Object#equals(Object) binary equal} to the given source but
@@ -557,6 +683,8 @@ public class Query {
 		target.limit = source.getLimit();
 		target.hint = source.getHint();
 		target.collation = source.getCollation();
+		target.resolveDbRefsViaLookup = source.isResolveDbRefsViaLookup();
+		target.readPreference = source.getReadPreference();
 		target.restrictedTypes.addAll(source.getRestrictedTypes());
 
 		if (source.getMeta().hasValues()) {
@@ -610,9 +738,11 @@ public class Query {
 		boolean limitEqual = this.limit == that.limit;
 		boolean metaEqual = nullSafeEquals(this.meta, that.meta);
 		boolean collationEqual = nullSafeEquals(this.collation.orElse(null), that.collation.orElse(null));
+		boolean lookupEqual = this.resolveDbRefsViaLookup == that.resolveDbRefsViaLookup;
+		boolean readPreferenceEqual = nullSafeEquals(this.readPreference, that.readPreference);
 
 		return criteriaEqual && fieldsEqual && sortEqual && hintEqual && skipEqual && limitEqual && metaEqual
-				&& collationEqual;
+				&& collationEqual && lookupEqual && readPreferenceEqual;
 	}
 
 	/*
@@ -632,6 +762,8 @@ public class Query {
 		result += 31 * limit;
 		result += 31 * nullSafeHashCode(meta);
 		result += 31 * nullSafeHashCode(collation.orElse(null));
+		result += 31 * (resolveDbRefsViaLookup ? 1 : 0);
+		result += 31 * nullSafeHashCode(readPreference);
 
 		return result;
 	}
@@ -648,4 +780,124 @@ public class Query {
 	public static boolean isRestrictedTypeKey(String key) {
 		return RESTRICTED_TYPES_KEY.equals(key);
 	}
+
+	/**
+	 * {@link Query} holding a copy of the rendered {@link Document}s of its source taken once on creation. Accessors
+	 * hand out those {@link Document}s without copying them again.
+	 *
+	 * @author agent
+	 * @since 3.3
+	 */
+	private static final class FrozenQuery extends Query {
+
+		private final Document queryObject;
+		private final Document fieldsObject;
+		private final Document sortObject;
+		private final int hashCode;
+
+		FrozenQuery(Query source) {
+
+			this.queryObject = BsonUtils.deepCopy(source.getQueryObject());
+			this.fieldsObject = BsonUtils.deepCopy(source.getFieldsObject());
+			this.sortObject = BsonUtils.deepCopy(source.getSortObject());
+
+			Query target = this;
+			target.skip = source.getSkip();
+			target.limit = source.getLimit();
+			target.hint = source.getHint();
+			target.collation = source.getCollation();
+			target.resolveDbRefsViaLookup = source.isResolveDbRefsViaLookup();
+			target.readPreference = source.getReadPreference();
+			target.restrictedTypes.addAll(source.getRestrictedTypes());
+			target.meta = source.getMeta().freeze();
+			target.frozen = true;
+
+			this.hashCode = computeHashCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#getQueryObject()
+		 */
+		@Override
+		public Document getQueryObject() {
+			return queryObject;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#getFieldsObject()
+		 */
+		@Override
+		public Document getFieldsObject() {
+			return fieldsObject;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#getSortObject()
+		 */
+		@Override
+		public Document getSortObject() {
+			return sortObject;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#isSorted()
+		 */
+		@Override
+		public boolean isSorted() {
+			return !sortObject.isEmpty();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#getRestrictedTypes()
+		 */
+		@Override
+		public Set<Class<?>> getRestrictedTypes() {
+			return Collections.unmodifiableSet(super.getRestrictedTypes());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof FrozenQuery)) {
+				return false;
+			}
+
+			FrozenQuery that = (FrozenQuery) obj;
+
+			return querySettingsEquals(that) && queryObject.equals(that.queryObject)
+					&& fieldsObject.equals(that.fieldsObject) && sortObject.equals(that.sortObject);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		private int computeHashCode() {
+
+			int result = super.hashCode();
+			result = 31 * result + queryObject.hashCode();
+			result = 31 * result + fieldsObject.hashCode();
+			result = 31 * result + sortObject.hashCode();
+
+			return result;
+		}
+	}
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link InputStream} adapter for a {@link Publisher} of {@link DataBuffer}s. Requests at most {@literal prefetch}
+ * buffers ahead of the reader and {@link DataBufferUtils#release(DataBuffer) releases} each buffer once it has been
+ * read, so memory consumption is bounded regardless of the total content size. Reading blocks until data is available.
+ *
+ * @author agent
+ * @since 3.3
+ */
+class BoundedDataBufferInputStream extends InputStream {
+
+	private static final Object COMPLETE = new Object();
+
+	private final BlockingQueue<Object> queue;
+	private final DataBufferSubscriber subscriber;
+
+	private @Nullable DataBuffer current;
+	private boolean done = false;
+	private volatile boolean closed = false;
+
+	private BoundedDataBufferInputStream(int prefetch, MonoSink<InputStream> sink) {
+
+		this.queue = new ArrayBlockingQueue<>(prefetch + 1);
+		this.subscriber = new DataBufferSubscriber(prefetch, sink);
+	}
+
+	/**
+	 * Create a {@link Mono} emitting a {@link BoundedDataBufferInputStream} as soon as the first {@link DataBuffer} is
+	 * available. Completes empty if the source does not emit any {@link DataBuffer} and propagates errors that occur
+	 * before the first element.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param prefetch number of buffers to request ahead of the reader.
+	 * @return never {@literal null}.
+	 */
+	static Mono<InputStream> from(Publisher<DataBuffer> source, int prefetch) {
+
+		return Mono.create(sink -> {
+
+			BoundedDataBufferInputStream stream = new BoundedDataBufferInputStream(prefetch, sink);
+			sink.onCancel(stream::close);
+			Flux.from(source).subscribe(stream.subscriber);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read()
+	 */
+	@Override
+	public int read() throws IOException {
+		return ensureBuffer() ? current.read() & 0xFF : -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+
+		if (len == 0) {
+			return 0;
+		}
+
+		if (!ensureBuffer()) {
+			return -1;
+		}
+
+		int count = Math.min(len, current.readableByteCount());
+		current.read(b, off, count);
+
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#available()
+	 */
+	@Override
+	public int available() {
+		return current != null ? current.readableByteCount() : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#close()
+	 */
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		subscriber.dispose();
+		releaseCurrent();
+		releaseQueued();
+	}
+
+	private boolean ensureBuffer() throws IOException {
+
+		if (closed) {
+			throw new IOException("Stream already closed.");
+		}
+
+		while (current == null || current.readableByteCount() == 0) {
+
+			if (current != null) {
+
+				releaseCurrent();
+				subscriber.request(1);
+			}
+
+			if (done) {
+				return false;
+			}
+
+			Object next = take();
+
+			if (next == COMPLETE) {
+
+				done = true;
+				return false;
+			}
+
+			if (next instanceof Throwable) {
+
+				done = true;
+
+				if (next instanceof RuntimeException) {
+					throw (RuntimeException) next;
+				}
+				throw new IOException("Failed to read content.", (Throwable) next);
+			}
+
+			current = (DataBuffer) next;
+		}
+
+		return true;
+	}
+
+	private Object take() throws IOException {
+
+		try {
+			return queue.take();
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for data.");
+		}
+	}
+
+	private void releaseQueued() {
+
+		Object next;
+		while ((next = queue.poll()) != null) {
+			if (next instanceof DataBuffer) {
+				DataBufferUtils.release((DataBuffer) next);
+			}
+		}
+	}
+
+	private void releaseCurrent() {
+
+		if (current != null) {
+
+			DataBufferUtils.release(current);
+			current = null;
+		}
+	}
+
+	private class DataBufferSubscriber extends BaseSubscriber<DataBuffer> {
+
+		private final int prefetch;
+		private @Nullable MonoSink<InputStream> sink;
+
+		DataBufferSubscriber(int prefetch, MonoSink<InputStream> sink) {
+
+			this.prefetch = prefetch;
+			this.sink = sink;
+		}
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+			subscription.request(prefetch);
+		}
+
+		@Override
+		protected void hookOnNext(DataBuffer buffer) {
+
+			if (closed) {
+
+				DataBufferUtils.release(buffer);
+				return;
+			}
+
+			queue.offer(buffer);
+
+			// close() may have drained the queue in between, so release what it might have missed.
+			if (closed) {
+
+				releaseQueued();
+				return;
+			}
+
+			if (sink != null) {
+
+				MonoSink<InputStream> sink = this.sink;
+				this.sink = null;
+				sink.success(BoundedDataBufferInputStream.this);
+			}
+		}
+
+		@Override
+		protected void hookOnComplete() {
+
+			if (sink != null) {
+				sink.success();
+				return;
+			}
+
+			queue.offer(COMPLETE);
+		}
+
+		@Override
+		protected void hookOnError(Throwable throwable) {
+
+			if (sink != null) {
+				sink.error(throwable);
+				return;
+			}
+
+			queue.offer(throwable);
+		}
+	}
+}
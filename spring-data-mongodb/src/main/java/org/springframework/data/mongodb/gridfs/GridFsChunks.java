@@ -0,0 +1,250 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.client.model.IndexOptions;
+
+/**
+ * Utility methods to read and write the raw {@literal files} and {@literal chunks} documents of a GridFS bucket
+ * following the <a href="https://github.com/mongodb/specifications/blob/master/source/gridfs/gridfs-spec.rst">GridFS
+ * specification</a>. Used by {@link ParallelChunkTransfer parallel chunk transfer}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+class GridFsChunks {
+
+	static final String DEFAULT_BUCKET = "fs";
+	static final int DEFAULT_CHUNK_SIZE = 255 * 1024;
+
+	static final String FILES_ID = "files_id";
+	static final String N = "n";
+	static final String DATA = "data";
+
+	static final Document FILES_INDEX = new Document("filename", 1).append("uploadDate", 1);
+	static final Document CHUNKS_INDEX = new Document(FILES_ID, 1).append(N, 1);
+	static final IndexOptions CHUNKS_INDEX_OPTIONS = new IndexOptions().unique(true);
+
+	/**
+	 * Reads one batch of chunks at a time. Used for range reads when no {@link ParallelChunkTransfer} is configured.
+	 */
+	static final ParallelChunkTransfer SEQUENTIAL = ParallelChunkTransfer.concurrency(1);
+
+	private GridFsChunks() {}
+
+	static String filesCollection(@Nullable String bucket) {
+		return (bucket != null ? bucket : DEFAULT_BUCKET) + ".files";
+	}
+
+	static String chunksCollection(@Nullable String bucket) {
+		return (bucket != null ? bucket : DEFAULT_BUCKET) + ".chunks";
+	}
+
+	static int chunkSize(GridFSUploadOptions options) {
+		return options.getChunkSizeBytes() != null ? options.getChunkSizeBytes() : DEFAULT_CHUNK_SIZE;
+	}
+
+	/**
+	 * @param file must not be {@literal null}.
+	 * @return the total number of chunks of the given {@link GridFSFile}.
+	 */
+	static int chunkCount(GridFSFile file) {
+		return Math.toIntExact((file.getLength() + file.getChunkSize() - 1) / file.getChunkSize());
+	}
+
+	/**
+	 * Compute the {@link ChunkRange} covering {@literal length} bytes starting at {@literal offset}. The length is
+	 * truncated to the end of the file.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param offset the zero based position of the first byte. Must not be negative.
+	 * @param length the number of bytes. Must not be negative.
+	 * @return never {@literal null}.
+	 */
+	static ChunkRange range(GridFSFile file, long offset, long length) {
+
+		Assert.isTrue(offset >= 0, "Offset must not be negative!");
+		Assert.isTrue(length >= 0, "Length must not be negative!");
+
+		long effectiveLength = Math.max(0, Math.min(length, file.getLength() - offset));
+
+		if (effectiveLength == 0) {
+			return new ChunkRange(0, 0, 0, 0);
+		}
+
+		int chunkSize = file.getChunkSize();
+		int from = Math.toIntExact(offset / chunkSize);
+		int to = Math.toIntExact((offset + effectiveLength + chunkSize - 1) / chunkSize);
+
+		return new ChunkRange(from, to, (int) (offset % chunkSize), effectiveLength);
+	}
+
+	static Document chunk(BsonValue fileId, int n, byte[] data) {
+		return new Document("_id", new ObjectId()).append(FILES_ID, fileId).append(N, n).append(DATA, new Binary(data));
+	}
+
+	static Document file(BsonValue fileId, String filename, long length, int chunkSize, @Nullable Document metadata) {
+
+		Document file = new Document("_id", fileId) //
+				.append("filename", filename) //
+				.append("length", length) //
+				.append("chunkSize", chunkSize) //
+				.append("uploadDate", new Date());
+
+		if (metadata != null) {
+			file.append("metadata", metadata);
+		}
+
+		return file;
+	}
+
+	/**
+	 * @param fileId must not be {@literal null}.
+	 * @return filter matching all chunks of the given file.
+	 */
+	static Document chunksOf(BsonValue fileId) {
+		return new Document(FILES_ID, fileId);
+	}
+
+	/**
+	 * @param fileId must not be {@literal null}.
+	 * @param from first chunk index (inclusive).
+	 * @param to last chunk index (exclusive).
+	 * @return filter matching the chunks within the given range.
+	 */
+	static Document chunkRange(BsonValue fileId, int from, int to) {
+		return new Document(FILES_ID, fileId).append(N, new Document("$gte", from).append("$lt", to));
+	}
+
+	/**
+	 * Extract the chunk payloads from the given {@literal chunks} ordered by {@literal n} and verify they form the
+	 * complete, contiguous range {@code [from, to)} of the given {@link GridFSFile}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param chunks must not be {@literal null}.
+	 * @param from first expected chunk index (inclusive).
+	 * @param to last expected chunk index (exclusive).
+	 * @return the chunk payloads in order.
+	 * @throws MongoGridFSException if a chunk is missing or of unexpected size.
+	 */
+	static List<byte[]> readChunks(GridFSFile file, List<Document> chunks, int from, int to) {
+
+		if (chunks.size() != to - from) {
+			throw new MongoGridFSException(
+					String.format("Could not find file chunks for file id %s. Expected %s chunks in range [%s, %s) but found %s.",
+							file.getId(), to - from, from, to, chunks.size()));
+		}
+
+		int chunkCount = chunkCount(file);
+		List<byte[]> result = new ArrayList<>(chunks.size());
+		int expected = from;
+
+		for (Document chunk : chunks) {
+
+			int n = chunk.get(N, Number.class).intValue();
+			if (n != expected) {
+				throw new MongoGridFSException(
+						String.format("Could not find file chunk for file id %s at index %s.", file.getId(), expected));
+			}
+
+			byte[] data = chunk.get(DATA, Binary.class).getData();
+			long expectedLength = n == chunkCount - 1 ? file.getLength() - ((long) n * file.getChunkSize())
+					: file.getChunkSize();
+
+			if (data.length != expectedLength) {
+				throw new MongoGridFSException(String.format("Chunk size data length is not the expected size. "
+						+ "The size was %s for file id %s chunk index %s it should be %s bytes.", data.length, file.getId(), n,
+						expectedLength));
+			}
+
+			result.add(data);
+			expected++;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Read the next chunk of at most {@literal chunkSize} bytes from the given {@link InputStream}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param chunkSize the chunk size.
+	 * @return {@literal null} if the stream is exhausted.
+	 * @throws IOException
+	 */
+	@Nullable
+	static byte[] readChunk(InputStream content, int chunkSize) throws IOException {
+
+		byte[] buffer = new byte[chunkSize];
+		int position = 0;
+
+		while (position < chunkSize) {
+
+			int read = content.read(buffer, position, chunkSize - position);
+			if (read == -1) {
+				break;
+			}
+			position += read;
+		}
+
+		if (position == 0) {
+			return null;
+		}
+
+		return position == chunkSize ? buffer : Arrays.copyOf(buffer, position);
+	}
+
+	/**
+	 * Range of chunks {@code [from, to)} along with the number of leading bytes to skip in the first chunk and the total
+	 * number of bytes to read.
+	 */
+	static class ChunkRange {
+
+		final int from;
+		final int to;
+		final int skip;
+		final long length;
+
+		ChunkRange(int from, int to, int skip, long length) {
+
+			this.from = from;
+			this.to = to;
+			this.skip = skip;
+			this.length = length;
+		}
+
+		boolean isEmpty() {
+			return length == 0;
+		}
+	}
+}
@@ -15,7 +15,11 @@
  */
 package org.springframework.data.mongodb.gridfs;
 
+import static org.springframework.data.mongodb.core.query.Query.*;
+import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
+
 import java.io.InputStream;
+import java.util.stream.Stream;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -23,11 +27,14 @@ import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.gridfs.GridFsUpload.GridFsUploadBuilder;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.gridfs.GridFSFindIterable;
+import com.mongodb.client.gridfs.model.GridFSFile;
 
 /**
  * Collection of operations to store and read files from MongoDB GridFS.
@@ -218,4 +225,34 @@ public interface GridFsOperations extends ResourcePatternResolver {
 	 * @see ResourcePatternResolver#getResources(String)
 	 */
 	GridFsResource[] getResources(String filenamePattern);
+
+	/**
+	 * Returns a {@link Stream} of {@link GridFsResource}s matching the given file name pattern. Matching files are
+	 * fetched while the {@link Stream} is consumed and the content of each {@link GridFsResource} is only downloaded when
+	 * its {@link GridFsResource#getInputStream() InputStream} is requested. The {@link Stream} holds an open cursor and
+	 * should be {@link Stream#close() closed} after use. The default implementation streams the result of
+	 * {@link #find(Query)} and resolves each file via {@link #getResource(GridFSFile)}.
+	 *
+	 * @param filenamePattern must not be {@literal null}.
+	 * @return an empty {@link Stream} if none found.
+	 * @since 3.3
+	 */
+	default Stream<GridFsResource> streamResources(String filenamePattern) {
+
+		if (!StringUtils.hasText(filenamePattern)) {
+			return Stream.empty();
+		}
+
+		AntPath path = new AntPath(filenamePattern);
+
+		if (!path.isPattern()) {
+			return Stream.of(getResource(filenamePattern));
+		}
+
+		MongoCursor<GridFSFile> cursor = find(query(whereFilename().regex(path.toRegex()))).iterator();
+
+		return StreamUtils.createStreamFromIterator(cursor) //
+				.map(this::getResource) //
+				.onClose(cursor::close);
+	}
 }
@@ -17,9 +17,12 @@ package org.springframework.data.mongodb.gridfs;
 
 import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
@@ -45,6 +48,8 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 
 	private final @Nullable GridFSFile file;
 	private final String filename;
+	private final @Nullable Supplier<InputStream> inputStreamSupplier;
+	private final @Nullable BiFunction<Long, Long, InputStream> rangeReader;
 
 	/**
 	 * Creates a new, absent {@link GridFsResource}.
@@ -58,6 +63,8 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 
 		this.file = null;
 		this.filename = filename;
+		this.inputStreamSupplier = null;
+		this.rangeReader = null;
 	}
 
 	/**
@@ -81,6 +88,43 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 
 		this.file = file;
 		this.filename = file.getFilename();
+		this.inputStreamSupplier = null;
+		this.rangeReader = null;
+	}
+
+	/**
+	 * Creates a new {@link GridFsResource} from the given {@link GridFSFile} obtaining its content lazily from the given
+	 * {@link Supplier}. The {@link Supplier} is called on each {@link #getInputStream()} invocation, so no download
+	 * stream is opened unless the content is actually read.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param inputStreamSupplier must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public GridFsResource(GridFSFile file, Supplier<InputStream> inputStreamSupplier) {
+		this(file, inputStreamSupplier, null);
+	}
+
+	/**
+	 * Creates a new {@link GridFsResource} obtaining its content lazily from the given {@link Supplier} and byte ranges
+	 * from the given {@literal rangeReader}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param inputStreamSupplier must not be {@literal null}.
+	 * @param rangeReader function reading {@literal length} bytes starting at {@literal offset}. Can be {@literal null}.
+	 * @since 3.3
+	 */
+	GridFsResource(GridFSFile file, Supplier<InputStream> inputStreamSupplier,
+			@Nullable BiFunction<Long, Long, InputStream> rangeReader) {
+
+		super(new ByteArrayInputStream(new byte[] {}), String.format("GridFs resource [%s]", file.getFilename()));
+
+		Assert.notNull(inputStreamSupplier, "InputStream supplier must not be null!");
+
+		this.file = file;
+		this.filename = file.getFilename();
+		this.inputStreamSupplier = inputStreamSupplier;
+		this.rangeReader = rangeReader;
 	}
 
 	/**
@@ -105,9 +149,61 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 	public InputStream getInputStream() throws IOException, IllegalStateException {
 
 		verifyExists();
+
+		if (inputStreamSupplier != null) {
+			return inputStreamSupplier.get();
+		}
+
 		return super.getInputStream();
 	}
 
+	/**
+	 * Obtain an {@link InputStream} reading {@literal length} bytes of the content starting at the given
+	 * {@literal offset}, e.g. to serve HTTP range requests. Resources obtained from {@link GridFsTemplate} only read the
+	 * chunks covering the requested range. The {@literal length} is truncated to the end of the file.
+	 *
+	 * @param offset the zero based position of the first byte to read. Must not be negative.
+	 * @param length the number of bytes to read. Must not be negative.
+	 * @return never {@literal null}.
+	 * @throws FileNotFoundException if the file does not {@link #exists()}.
+	 * @throws IOException in case the content cannot be read.
+	 * @since 3.3
+	 */
+	public InputStream getRange(long offset, long length) throws IOException {
+
+		Assert.isTrue(offset >= 0, "Offset must not be negative!");
+		Assert.isTrue(length >= 0, "Length must not be negative!");
+
+		verifyExists();
+
+		if (rangeReader != null) {
+			return rangeReader.apply(offset, length);
+		}
+
+		InputStream content = getInputStream();
+		long skipped = 0;
+
+		while (skipped < offset) {
+
+			long count = content.skip(offset - skipped);
+			if (count <= 0) {
+				break;
+			}
+			skipped += count;
+		}
+
+		return new LimitedInputStream(content, length);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.io.InputStreamResource#isOpen()
+	 */
+	@Override
+	public boolean isOpen() {
+		return inputStreamSupplier == null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.core.io.AbstractResource#contentLength()
@@ -236,4 +332,64 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 			throw new FileNotFoundException(String.format("%s does not exist.", getDescription()));
 		}
 	}
+
+	/**
+	 * {@link FilterInputStream} reading at most a given number of bytes from the underlying {@link InputStream}.
+	 */
+	private static class LimitedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		LimitedInputStream(InputStream in, long limit) {
+
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			if (remaining <= 0) {
+				return -1;
+			}
+
+			int result = super.read();
+			if (result != -1) {
+				remaining--;
+			}
+			return result;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+
+			if (remaining <= 0) {
+				return -1;
+			}
+
+			int result = super.read(b, off, (int) Math.min(len, remaining));
+			if (result > 0) {
+				remaining -= result;
+			}
+			return result;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+
+			long result = super.skip(Math.min(n, remaining));
+			remaining -= result;
+			return result;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
 }
@@ -18,11 +18,20 @@ package org.springframework.data.mongodb.gridfs;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.core.io.support.ResourcePatternResolver;
@@ -30,13 +39,18 @@ import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.gridfs.GridFSBucket;
 import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.gridfs.GridFSDownloadStream;
 import com.mongodb.client.gridfs.GridFSFindIterable;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.gridfs.model.GridFSUploadOptions;
@@ -60,6 +74,10 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 
 	private final @Nullable String bucket;
 
+	private int chunkReadAhead = 0;
+	private @Nullable ParallelChunkTransfer parallelChunkTransfer;
+	private @Nullable Executor parallelChunkTransferExecutor;
+
 	/**
 	 * Creates a new {@link GridFsTemplate} using the given {@link MongoDatabaseFactory} and {@link MongoConverter}.
 	 *
@@ -87,6 +105,41 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 		this.bucket = bucket;
 	}
 
+	/**
+	 * Configure the number of chunks to read ahead when consuming the content of a {@link GridFsResource}. A value
+	 * greater than zero is applied as {@link GridFSDownloadStream#batchSize(int) batch size} of the chunk cursor, so that
+	 * sequential consumers obtain up to the given number of chunks per server round trip. Defaults to {@literal 0} which
+	 * uses the server default.
+	 *
+	 * @param chunkReadAhead number of chunks to fetch per round trip. Must not be negative.
+	 * @since 3.3
+	 */
+	public void setChunkReadAhead(int chunkReadAhead) {
+
+		Assert.isTrue(chunkReadAhead >= 0, "Chunk read ahead must not be negative!");
+
+		this.chunkReadAhead = chunkReadAhead;
+	}
+
+	/**
+	 * Enable {@link ParallelChunkTransfer parallel chunk transfer} for storing and reading file content. Chunk batches are
+	 * written and read on the given {@link Executor}. Use {@literal null} to restore the default, sequential transfer
+	 * through {@link GridFSBucket}.
+	 *
+	 * @param parallelChunkTransfer can be {@literal null}.
+	 * @param executor must not be {@literal null} if {@literal parallelChunkTransfer} is set.
+	 * @since 3.3
+	 */
+	public void setParallelChunkTransfer(@Nullable ParallelChunkTransfer parallelChunkTransfer,
+			@Nullable Executor executor) {
+
+		Assert.isTrue(parallelChunkTransfer == null || executor != null,
+				"Executor must not be null when using parallel chunk transfer!");
+
+		this.parallelChunkTransfer = parallelChunkTransfer;
+		this.parallelChunkTransferExecutor = executor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.io.InputStream, java.lang.String, java.lang.String, java.lang.Object)
@@ -109,6 +162,15 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 			uploadOptions.chunkSizeBytes(upload.getOptions().getChunkSize());
 		}
 
+		if (parallelChunkTransfer != null) {
+
+			BsonValue fileId = upload.getFileId() != null ? BsonUtils.simpleToBsonValue(upload.getFileId())
+					: new BsonObjectId();
+
+			uploadInParallel(fileId, upload.getFilename(), upload.getContent(), uploadOptions);
+			return upload.getFileId() != null ? upload.getFileId() : (T) fileId.asObjectId().getValue();
+		}
+
 		if (upload.getFileId() == null) {
 			return (T) getGridFs().uploadFromStream(upload.getFilename(), upload.getContent(), uploadOptions);
 		}
@@ -188,7 +250,7 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 
 		Assert.notNull(file, "GridFSFile must not be null!");
 
-		return new GridFsResource(file, getGridFs().openDownloadStream(file.getId()));
+		return getResource(file, getGridFs());
 	}
 
 	/*
@@ -206,10 +268,11 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 		if (path.isPattern()) {
 
 			GridFSFindIterable files = find(query(whereFilename().regex(path.toRegex())));
+			GridFSBucket gridFs = getGridFs();
 			List<GridFsResource> resources = new ArrayList<>();
 
 			for (GridFSFile file : files) {
-				resources.add(getResource(file));
+				resources.add(getResource(file, gridFs));
 			}
 
 			return resources.toArray(new GridFsResource[0]);
@@ -218,6 +281,135 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 		return new GridFsResource[] { getResource(locationPattern) };
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#streamResources(java.lang.String)
+	 */
+	@Override
+	public Stream<GridFsResource> streamResources(String filenamePattern) {
+
+		if (!StringUtils.hasText(filenamePattern)) {
+			return Stream.empty();
+		}
+
+		AntPath path = new AntPath(filenamePattern);
+
+		if (!path.isPattern()) {
+			return Stream.of(getResource(filenamePattern));
+		}
+
+		GridFSBucket gridFs = getGridFs();
+		MongoCursor<GridFSFile> cursor = find(query(whereFilename().regex(path.toRegex()))).iterator();
+
+		return StreamUtils.createStreamFromIterator(cursor) //
+				.map(file -> getResource(file, gridFs)) //
+				.onClose(cursor::close);
+	}
+
+	private GridFsResource getResource(GridFSFile file, GridFSBucket gridFs) {
+		return new GridFsResource(file, () -> openDownloadStream(file, gridFs),
+				(offset, length) -> openRangeStream(file, offset, length));
+	}
+
+	private InputStream openRangeStream(GridFSFile file, long offset, long length) {
+
+		ParallelChunkTransfer transfer = parallelChunkTransfer != null ? parallelChunkTransfer : GridFsChunks.SEQUENTIAL;
+		Executor executor = parallelChunkTransferExecutor != null ? parallelChunkTransferExecutor : Runnable::run;
+
+		return new ParallelChunkInputStream(file, getChunksCollection(), GridFsChunks.range(file, offset, length), transfer,
+				executor);
+	}
+
+	private InputStream openDownloadStream(GridFSFile file, GridFSBucket gridFs) {
+
+		if (parallelChunkTransfer != null) {
+			return new ParallelChunkInputStream(file, getChunksCollection(), parallelChunkTransfer,
+					parallelChunkTransferExecutor);
+		}
+
+		GridFSDownloadStream stream = gridFs.openDownloadStream(file.getId());
+		return chunkReadAhead > 0 ? stream.batchSize(chunkReadAhead) : stream;
+	}
+
+	private void uploadInParallel(BsonValue fileId, String filename, InputStream content,
+			GridFSUploadOptions uploadOptions) {
+
+		MongoDatabase db = dbFactory.getMongoDatabase();
+		MongoCollection<Document> files = db.getCollection(GridFsChunks.filesCollection(bucket));
+		MongoCollection<Document> chunks = db.getCollection(GridFsChunks.chunksCollection(bucket));
+
+		files.createIndex(GridFsChunks.FILES_INDEX);
+		chunks.createIndex(GridFsChunks.CHUNKS_INDEX, GridFsChunks.CHUNKS_INDEX_OPTIONS);
+
+		int chunkSize = GridFsChunks.chunkSize(uploadOptions);
+		int chunksPerBatch = parallelChunkTransfer.getChunksPerBatch();
+		Semaphore inFlight = new Semaphore(parallelChunkTransfer.getConcurrency());
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+		long length = 0;
+		int n = 0;
+
+		try {
+
+			List<Document> batch = new ArrayList<>(chunksPerBatch);
+			byte[] data;
+
+			while (failure.get() == null && (data = GridFsChunks.readChunk(content, chunkSize)) != null) {
+
+				batch.add(GridFsChunks.chunk(fileId, n++, data));
+				length += data.length;
+
+				if (batch.size() == chunksPerBatch) {
+
+					batches.add(insertChunks(chunks, batch, inFlight, failure));
+					batch = new ArrayList<>(chunksPerBatch);
+				}
+			}
+
+			if (!batch.isEmpty() && failure.get() == null) {
+				batches.add(insertChunks(chunks, batch, inFlight, failure));
+			}
+
+			CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+			files.insertOne(GridFsChunks.file(fileId, filename, length, chunkSize, uploadOptions.getMetadata()));
+		} catch (IOException | InterruptedException | RuntimeException e) {
+
+			CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).handle((it, ex) -> it).join();
+			chunks.deleteMany(GridFsChunks.chunksOf(fileId));
+
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			throw new MongoGridFSException("Failed to upload file chunks.", cause);
+		}
+	}
+
+	private CompletableFuture<Void> insertChunks(MongoCollection<Document> chunks, List<Document> batch,
+			Semaphore inFlight, AtomicReference<Throwable> failure) throws InterruptedException {
+
+		inFlight.acquire();
+
+		return CompletableFuture.runAsync(() -> chunks.insertMany(batch), parallelChunkTransferExecutor)
+				.whenComplete((it, ex) -> {
+
+					if (ex != null) {
+						failure.compareAndSet(null, ex);
+					}
+					inFlight.release();
+				});
+	}
+
+	private MongoCollection<Document> getChunksCollection() {
+		return dbFactory.getMongoDatabase().getCollection(GridFsChunks.chunksCollection(bucket));
+	}
+
 	private GridFSBucket getGridFs() {
 
 		MongoDatabase db = dbFactory.getMongoDatabase();
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.bson.Document;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * {@link InputStream} reading the chunks of a {@link GridFSFile} via range queries on {@literal n}, keeping up to
+ * {@link ParallelChunkTransfer#getConcurrency()} batches in flight ahead of the consumer. Can be limited to a
+ * {@link GridFsChunks.ChunkRange} to read only a section of the file.
+ *
+ * @author agent
+ * @since 3.3
+ */
+class ParallelChunkInputStream extends InputStream {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private final GridFSFile file;
+	private final MongoCollection<Document> chunks;
+	private final ParallelChunkTransfer transfer;
+	private final Executor executor;
+	private final int endChunk;
+	private final Deque<CompletableFuture<List<byte[]>>> pending = new ArrayDeque<>();
+
+	private int nextChunk;
+	private int skip;
+	private long remaining;
+	private Iterator<byte[]> current = Collections.emptyIterator();
+	private byte[] buffer = EMPTY;
+	private int position = 0;
+	private boolean closed = false;
+
+	ParallelChunkInputStream(GridFSFile file, MongoCollection<Document> chunks, ParallelChunkTransfer transfer,
+			Executor executor) {
+
+		this(file, chunks, GridFsChunks.range(file, 0, file.getLength()), transfer, executor);
+	}
+
+	ParallelChunkInputStream(GridFSFile file, MongoCollection<Document> chunks, GridFsChunks.ChunkRange range,
+			ParallelChunkTransfer transfer, Executor executor) {
+
+		this.file = file;
+		this.chunks = chunks;
+		this.transfer = transfer;
+		this.executor = executor;
+		this.nextChunk = range.from;
+		this.endChunk = range.to;
+		this.skip = range.skip;
+		this.remaining = range.length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read()
+	 */
+	@Override
+	public int read() throws IOException {
+
+		if (!ensureBuffer()) {
+			return -1;
+		}
+
+		remaining--;
+		return buffer[position++] & 0xFF;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+
+		if (len == 0) {
+			return 0;
+		}
+
+		if (!ensureBuffer()) {
+			return -1;
+		}
+
+		int count = (int) Math.min(Math.min(len, buffer.length - position), remaining);
+		System.arraycopy(buffer, position, b, off, count);
+		position += count;
+		remaining -= count;
+
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#available()
+	 */
+	@Override
+	public int available() {
+		return (int) Math.min(buffer.length - position, remaining);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#close()
+	 */
+	@Override
+	public void close() {
+
+		closed = true;
+		pending.forEach(it -> it.cancel(false));
+		pending.clear();
+		buffer = EMPTY;
+		current = Collections.emptyIterator();
+	}
+
+	private boolean ensureBuffer() throws IOException {
+
+		if (closed) {
+			throw new IOException("Stream already closed.");
+		}
+
+		if (remaining <= 0) {
+			return false;
+		}
+
+		while (position >= buffer.length) {
+
+			if (current.hasNext()) {
+
+				buffer = current.next();
+				position = Math.min(skip, buffer.length);
+				skip -= position;
+				continue;
+			}
+
+			requestBatches();
+
+			if (pending.isEmpty()) {
+				return false;
+			}
+
+			current = await(pending.poll()).iterator();
+		}
+
+		return true;
+	}
+
+	private void requestBatches() {
+
+		while (pending.size() < transfer.getConcurrency() && nextChunk < endChunk) {
+
+			int from = nextChunk;
+			int to = Math.min(from + transfer.getChunksPerBatch(), endChunk);
+
+			pending.add(CompletableFuture.supplyAsync(() -> fetch(from, to), executor));
+			nextChunk = to;
+		}
+	}
+
+	private List<byte[]> fetch(int from, int to) {
+
+		List<Document> result = chunks.find(GridFsChunks.chunkRange(file.getId(), from, to)) //
+				.sort(new Document(GridFsChunks.N, 1)) //
+				.batchSize(to - from) //
+				.into(new ArrayList<>(to - from));
+
+		return GridFsChunks.readChunks(file, result, from, to);
+	}
+
+	private static List<byte[]> await(CompletableFuture<List<byte[]>> batch) {
+
+		try {
+			return batch.join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new MongoGridFSException("Failed to read file chunks.", e.getCause());
+		}
+	}
+}
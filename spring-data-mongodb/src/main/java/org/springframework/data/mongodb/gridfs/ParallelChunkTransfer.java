@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import org.springframework.util.Assert;
+
+/**
+ * Settings for transferring GridFS chunks with multiple concurrent in-flight batches. When enabled, chunks are written
+ * to and read from the {@literal chunks} collection directly via {@literal insertMany} of chunk groups and range queries
+ * on {@literal n} instead of the sequential driver {@link com.mongodb.client.gridfs.GridFSBucket} stream. The
+ * {@literal files} document is written only after all chunks have been stored successfully so that partially
+ * uploaded files never become visible. Chunks of a failed upload are removed.
+ * <p />
+ * Parallel transfer is meant for large files outside of transactions. Concurrent batches do not participate in a
+ * {@link com.mongodb.client.ClientSession}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public final class ParallelChunkTransfer {
+
+	private static final int DEFAULT_CHUNKS_PER_BATCH = 16;
+
+	private final int concurrency;
+	private final int chunksPerBatch;
+
+	private ParallelChunkTransfer(int concurrency, int chunksPerBatch) {
+
+		this.concurrency = concurrency;
+		this.chunksPerBatch = chunksPerBatch;
+	}
+
+	/**
+	 * Create new {@link ParallelChunkTransfer} allowing the given number of concurrent in-flight chunk batches.
+	 *
+	 * @param concurrency must be greater than zero.
+	 * @return new instance of {@link ParallelChunkTransfer}.
+	 */
+	public static ParallelChunkTransfer concurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+		return new ParallelChunkTransfer(concurrency, DEFAULT_CHUNKS_PER_BATCH);
+	}
+
+	/**
+	 * Set the number of chunks to group into a single {@literal insertMany} or range query.
+	 *
+	 * @param chunksPerBatch must be greater than zero.
+	 * @return new instance of {@link ParallelChunkTransfer}.
+	 */
+	public ParallelChunkTransfer chunksPerBatch(int chunksPerBatch) {
+
+		Assert.isTrue(chunksPerBatch > 0, "Chunks per batch must be greater than zero!");
+
+		return new ParallelChunkTransfer(concurrency, chunksPerBatch);
+	}
+
+	/**
+	 * @return the maximum number of concurrent in-flight batches.
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * @return the number of chunks per batch.
+	 */
+	public int getChunksPerBatch() {
+		return chunksPerBatch;
+	}
+}
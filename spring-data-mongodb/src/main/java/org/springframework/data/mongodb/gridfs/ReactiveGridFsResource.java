@@ -19,7 +19,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
 
 import org.bson.BsonValue;
 import org.reactivestreams.Publisher;
@@ -45,12 +47,16 @@ import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadPublisher;
  */
 public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<DataBuffer>> {
 
+	private static final int INPUT_STREAM_PREFETCH = 4;
+
 	private final AtomicBoolean consumed = new AtomicBoolean(false);
 
 	private final @Nullable Object id;
 	private final Options options;
 	private final String filename;
 	private final @Nullable GridFSDownloadPublisher downloadPublisher;
+	private final @Nullable Publisher<ByteBuffer> chunkedContent;
+	private final @Nullable BiFunction<Long, Long, Publisher<ByteBuffer>> rangeReader;
 	private final DataBufferFactory dataBufferFactory;
 
 	/**
@@ -78,7 +84,21 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	}
 
 	ReactiveGridFsResource(GridFSFile file, @Nullable GridFSDownloadPublisher downloadPublisher, DataBufferFactory dataBufferFactory) {
-		this(file.getId(), file.getFilename(), Options.from(file), downloadPublisher, dataBufferFactory);
+		this(file.getId(), file.getFilename(), Options.from(file), downloadPublisher, null, null, dataBufferFactory);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveGridFsResource} obtaining its content from the given {@literal chunkedContent} instead
+	 * of the {@literal downloadPublisher}, e.g. when reading chunks via {@link ParallelChunkTransfer}, and byte ranges
+	 * from the given {@literal rangeReader}.
+	 *
+	 * @since 3.3
+	 */
+	ReactiveGridFsResource(GridFSFile file, GridFSDownloadPublisher downloadPublisher,
+			@Nullable Publisher<ByteBuffer> chunkedContent,
+			@Nullable BiFunction<Long, Long, Publisher<ByteBuffer>> rangeReader, DataBufferFactory dataBufferFactory) {
+		this(file.getId(), file.getFilename(), Options.from(file), downloadPublisher, chunkedContent, rangeReader,
+				dataBufferFactory);
 	}
 
 	/**
@@ -93,11 +113,19 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	 */
 	ReactiveGridFsResource(@Nullable Object id, String filename, Options options,
 			@Nullable GridFSDownloadPublisher downloadPublisher, DataBufferFactory dataBufferFactory) {
+		this(id, filename, options, downloadPublisher, null, null, dataBufferFactory);
+	}
+
+	private ReactiveGridFsResource(@Nullable Object id, String filename, Options options,
+			@Nullable GridFSDownloadPublisher downloadPublisher, @Nullable Publisher<ByteBuffer> chunkedContent,
+			@Nullable BiFunction<Long, Long, Publisher<ByteBuffer>> rangeReader, DataBufferFactory dataBufferFactory) {
 
 		this.id = id;
 		this.filename = filename;
 		this.options = options;
 		this.downloadPublisher = downloadPublisher;
+		this.chunkedContent = chunkedContent;
+		this.rangeReader = rangeReader;
 		this.dataBufferFactory = dataBufferFactory;
 	}
 
@@ -139,21 +167,20 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	}
 
 	/**
-	 * Obtain the data as {@link InputStream}. <br />
-	 * <strong>NOTE</strong> Buffers data in memory. Use {@link #getDownloadStream()} for large files.
+	 * Obtain the data as {@link InputStream}. The returned {@link InputStream} is emitted once the first chunk of data is
+	 * available and reads the remaining content as it comes in, keeping only a bounded number of {@link DataBuffer
+	 * buffers} in memory. Buffers are {@link DataBufferUtils#release(DataBuffer) released} once read. <br />
+	 * <strong>NOTE</strong> Reading from the {@link InputStream} blocks until data is available. Make sure to
+	 * {@link InputStream#close() close} the {@link InputStream} to release buffers that have not been read.
 	 *
+	 * @return {@link Mono#empty()} if the file does not exist or has no content.
 	 * @throws IllegalStateException if the underlying {@link Publisher} has already been consumed.
 	 * @see org.springframework.core.io.InputStreamResource#getInputStream()
 	 * @see #getDownloadStream()
-	 * @see DataBufferUtils#join(Publisher)
 	 * @since 3.0
 	 */
 	public Mono<InputStream> getInputStream() throws IllegalStateException {
-
-		return getDownloadStream() //
-				.transform(DataBufferUtils::join) //
-				.as(Mono::from) //
-				.map(DataBuffer::asInputStream);
+		return BoundedDataBufferInputStream.from(getDownloadStream(), INPUT_STREAM_PREFETCH);
 	}
 
 	/**
@@ -175,6 +202,36 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 		return createDownloadStream(downloadPublisher);
 	}
 
+	/**
+	 * Obtain {@literal length} bytes of the content starting at the given {@literal offset}, e.g. to serve HTTP range
+	 * requests. Resources obtained from {@link ReactiveGridFsTemplate} only read the chunks covering the requested range.
+	 * Those range reads are independent of the {@link #getDownloadStream() download stream} and can be obtained multiple
+	 * times. Resources created via the public constructors slice the range from the {@link #getDownloadStream() download
+	 * stream} instead, which can be consumed only once. The {@literal length} is truncated to the end of the file.
+	 *
+	 * @param offset the zero based position of the first byte to read. Must not be negative.
+	 * @param length the number of bytes to read. Must not be negative.
+	 * @return {@link Flux#empty()} if the file does not exist.
+	 * @throws IllegalStateException if the range is read from the download stream that has already been consumed.
+	 * @since 3.3
+	 */
+	public Flux<DataBuffer> getRange(long offset, long length) {
+
+		Assert.isTrue(offset >= 0, "Offset must not be negative!");
+		Assert.isTrue(length >= 0, "Length must not be negative!");
+
+		if (downloadPublisher == null) {
+			return Flux.empty();
+		}
+
+		if (rangeReader != null) {
+			return Flux.from(rangeReader.apply(offset, length)).map(dataBufferFactory::wrap);
+		}
+
+		Flux<DataBuffer> content = getDownloadStream();
+		return DataBufferUtils.takeUntilByteCount(DataBufferUtils.skipUntilByteCount(content, offset), length);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsObject#getContent()
@@ -194,7 +251,9 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	}
 
 	/**
-	 * Obtain the download stream emitting chunks of data with given {@code chunkSize} as they come in.
+	 * Obtain the download stream emitting chunks of data with given {@code chunkSize} as they come in. The content is
+	 * read sequentially through the driver, bypassing parallel chunk reads, so that the requested {@code chunkSize} is
+	 * honored.
 	 *
 	 * @param chunkSize the preferred number of bytes per emitted {@link DataBuffer}.
 	 * @return {@link Flux#empty()} if the file does not exist.
@@ -210,12 +269,20 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 			return Flux.empty();
 		}
 
-		return createDownloadStream(downloadPublisher.bufferSizeBytes(chunkSize));
+		return wrapContent(downloadPublisher.bufferSizeBytes(chunkSize));
 	}
 
 	private Flux<DataBuffer> createDownloadStream(GridFSDownloadPublisher publisher) {
+		return wrapContent(chunkedContent != null ? chunkedContent : publisher);
+	}
+
+	/**
+	 * Wraps the {@link ByteBuffer}s emitted by the driver using the configured {@link DataBufferFactory} which does not
+	 * copy the buffer content.
+	 */
+	private Flux<DataBuffer> wrapContent(Publisher<ByteBuffer> content) {
 
-		return Flux.from(publisher) //
+		return Flux.from(content) //
 				.map(dataBufferFactory::wrap) //
 				.doOnSubscribe(it -> this.verifyStreamStillAvailable());
 	}
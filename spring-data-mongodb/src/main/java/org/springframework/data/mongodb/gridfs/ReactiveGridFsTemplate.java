@@ -22,7 +22,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.bson.BsonObjectId;
 import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -30,7 +36,9 @@ import org.reactivestreams.Publisher;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBuffer;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -43,6 +51,8 @@ import org.springframework.util.StringUtils;
 
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import com.mongodb.reactivestreams.client.gridfs.GridFSBucket;
 import com.mongodb.reactivestreams.client.gridfs.GridFSBuckets;
 import com.mongodb.reactivestreams.client.gridfs.GridFSFindPublisher;
@@ -50,7 +60,8 @@ import com.mongodb.reactivestreams.client.gridfs.GridFSUploadPublisher;
 
 /**
  * {@link ReactiveGridFsOperations} implementation to store content into MongoDB GridFS. Uses by default
- * {@link DefaultDataBufferFactory} to create {@link DataBuffer buffers}.
+ * {@link DefaultDataBufferFactory} to create {@link DataBuffer buffers}. Any other {@link DataBufferFactory}, such as
+ * a Netty based one, can be used to wrap the driver provided buffers without copying their content.
  *
  * @author Mark Paluch
  * @author Nick Stolwijk
@@ -65,6 +76,8 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 	private final DataBufferFactory dataBufferFactory;
 	private final @Nullable String bucket;
 
+	private @Nullable ParallelChunkTransfer parallelChunkTransfer;
+
 	/**
 	 * Creates a new {@link ReactiveGridFsTemplate} using the given {@link ReactiveMongoDatabaseFactory} and
 	 * {@link MongoConverter}.
@@ -111,6 +124,17 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 		this.bucket = bucket;
 	}
 
+	/**
+	 * Enable {@link ParallelChunkTransfer parallel chunk transfer} for storing and reading file content. Use
+	 * {@literal null} to restore the default, sequential transfer through {@link GridFSBucket}.
+	 *
+	 * @param parallelChunkTransfer can be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setParallelChunkTransfer(@Nullable ParallelChunkTransfer parallelChunkTransfer) {
+		this.parallelChunkTransfer = parallelChunkTransfer;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String, java.lang.String, java.lang.Object)
@@ -135,7 +159,18 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 		}
 
 		String filename = upload.getFilename();
-		Flux<ByteBuffer> source = Flux.from(upload.getContent()).map(DataBuffer::asByteBuffer);
+
+		if (parallelChunkTransfer != null) {
+
+			T fileId = upload.getFileId();
+			BsonValue id = fileId != null ? BsonUtils.simpleToBsonValue(fileId) : new BsonObjectId();
+
+			return dbFactory.getMongoDatabase() //
+					.flatMap(db -> uploadInParallel(db, id, filename, upload.getContent(), uploadOptions)) //
+					.then(Mono.fromSupplier(() -> fileId != null ? fileId : (T) id.asObjectId().getValue()));
+		}
+
+		Flux<ByteBuffer> source = Flux.from(upload.getContent()).map(ReactiveGridFsTemplate::toByteBuffer);
 		T fileId = upload.getFileId();
 
 		if (fileId == null) {
@@ -229,8 +264,14 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 
 		Assert.notNull(file, "GridFSFile must not be null!");
 
-		return doGetBucket()
-				.map(it -> new ReactiveGridFsResource(file, it.downloadToPublisher(file.getId()), dataBufferFactory));
+		ParallelChunkTransfer transfer = parallelChunkTransfer != null ? parallelChunkTransfer : GridFsChunks.SEQUENTIAL;
+		Publisher<ByteBuffer> chunkedContent = parallelChunkTransfer != null
+				? downloadChunks(file, GridFsChunks.range(file, 0, file.getLength()), parallelChunkTransfer)
+				: null;
+
+		return doGetBucket().map(it -> new ReactiveGridFsResource(file, it.downloadToPublisher(file.getId()),
+				chunkedContent, (offset, length) -> downloadChunks(file, GridFsChunks.range(file, offset, length), transfer),
+				dataBufferFactory));
 	}
 
 	/*
@@ -283,6 +324,107 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 		return doGetBucket().flatMapMany(callback::doInBucket);
 	}
 
+	private Mono<Void> uploadInParallel(MongoDatabase db, BsonValue fileId, String filename,
+			Publisher<DataBuffer> content, GridFSUploadOptions uploadOptions) {
+
+		MongoCollection<Document> files = db.getCollection(GridFsChunks.filesCollection(bucket));
+		MongoCollection<Document> chunks = db.getCollection(GridFsChunks.chunksCollection(bucket));
+
+		int chunkSize = GridFsChunks.chunkSize(uploadOptions);
+		AtomicLong length = new AtomicLong();
+
+		Mono<Void> indexes = Mono.from(files.createIndex(GridFsChunks.FILES_INDEX))
+				.then(Mono.from(chunks.createIndex(GridFsChunks.CHUNKS_INDEX, GridFsChunks.CHUNKS_INDEX_OPTIONS))).then();
+
+		Flux<Document> chunkDocuments = Flux.defer(() -> {
+
+			ChunkAccumulator accumulator = new ChunkAccumulator(chunkSize);
+			return Flux.from(content).concatMapIterable(accumulator::append)
+					.concatWith(Mono.fromSupplier(accumulator::remaining));
+		}).index((n, data) -> {
+
+			length.addAndGet(data.length);
+			return GridFsChunks.chunk(fileId, Math.toIntExact(n), data);
+		});
+
+		return indexes
+				.thenMany(chunkDocuments.buffer(parallelChunkTransfer.getChunksPerBatch())
+						.flatMap(chunks::insertMany, parallelChunkTransfer.getConcurrency()))
+				.then(Mono.defer(() -> Mono.from(files.insertOne(
+						GridFsChunks.file(fileId, filename, length.get(), chunkSize, uploadOptions.getMetadata())))))
+				.then() //
+				.onErrorResume(e -> Mono.from(chunks.deleteMany(GridFsChunks.chunksOf(fileId))).then(Mono.error(e)));
+	}
+
+	/**
+	 * Read the chunks covering the given {@link GridFsChunks.ChunkRange} via range queries on {@literal n}, keeping up to
+	 * {@link ParallelChunkTransfer#getConcurrency()} batches in flight, and trim the leading and trailing bytes outside
+	 * of the range.
+	 */
+	private Flux<ByteBuffer> downloadChunks(GridFSFile file, GridFsChunks.ChunkRange range,
+			ParallelChunkTransfer transfer) {
+
+		if (range.isEmpty()) {
+			return Flux.empty();
+		}
+
+		int chunksPerBatch = transfer.getChunksPerBatch();
+		int batchCount = (range.to - range.from + chunksPerBatch - 1) / chunksPerBatch;
+
+		Flux<byte[]> chunkData = dbFactory.getMongoDatabase() //
+				.map(db -> db.getCollection(GridFsChunks.chunksCollection(bucket))) //
+				.flatMapMany(chunks -> Flux.range(0, batchCount).flatMapSequential(batch -> {
+
+					int from = range.from + batch * chunksPerBatch;
+					int to = Math.min(from + chunksPerBatch, range.to);
+
+					return Flux.from(chunks.find(GridFsChunks.chunkRange(file.getId(), from, to)) //
+							.sort(new Document(GridFsChunks.N, 1)) //
+							.batchSize(to - from)) //
+							.collectList() //
+							.map(it -> GridFsChunks.readChunks(file, it, from, to));
+				}, transfer.getConcurrency())) //
+				.concatMapIterable(it -> it);
+
+		return Flux.defer(() -> {
+
+			AtomicInteger skip = new AtomicInteger(range.skip);
+			AtomicLong remaining = new AtomicLong(range.length);
+
+			return chunkData.map(data -> {
+
+				int offset = skip.getAndSet(0);
+				int length = (int) Math.min(data.length - offset, remaining.get());
+				remaining.addAndGet(-length);
+
+				return ByteBuffer.wrap(data, offset, length);
+			});
+		});
+	}
+
+	/**
+	 * Obtain a {@link ByteBuffer} for the driver. {@link PooledDataBuffer Pooled buffers} are copied and
+	 * {@link DataBufferUtils#release(DataBuffer) released} right away as the driver consumes the {@link ByteBuffer}
+	 * asynchronously and does not release the source buffer. Other buffers are exposed without copying.
+	 */
+	private static ByteBuffer toByteBuffer(DataBuffer buffer) {
+
+		if (!(buffer instanceof PooledDataBuffer)) {
+			return buffer.asByteBuffer();
+		}
+
+		try {
+
+			ByteBuffer copy = ByteBuffer.allocate(buffer.readableByteCount());
+			copy.put(buffer.asByteBuffer());
+			copy.flip();
+
+			return copy;
+		} finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
 	protected Mono<GridFSBucket> doGetBucket() {
 		return dbFactory.getMongoDatabase()
 				.map(db -> bucket == null ? GridFSBuckets.create(db) : GridFSBuckets.create(db, bucket));
@@ -389,6 +531,53 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 		}
 	}
 
+	/**
+	 * Accumulates incoming {@link DataBuffer buffers} into byte arrays of exactly {@literal chunkSize} bytes.
+	 */
+	private static class ChunkAccumulator {
+
+		private final int chunkSize;
+		private byte[] chunk;
+		private int position = 0;
+
+		ChunkAccumulator(int chunkSize) {
+
+			this.chunkSize = chunkSize;
+			this.chunk = new byte[chunkSize];
+		}
+
+		List<byte[]> append(DataBuffer buffer) {
+
+			try {
+
+				List<byte[]> completed = new ArrayList<>(1);
+
+				while (buffer.readableByteCount() > 0) {
+
+					int count = Math.min(buffer.readableByteCount(), chunkSize - position);
+					buffer.read(chunk, position, count);
+					position += count;
+
+					if (position == chunkSize) {
+
+						completed.add(chunk);
+						chunk = new byte[chunkSize];
+						position = 0;
+					}
+				}
+
+				return completed;
+			} finally {
+				DataBufferUtils.release(buffer);
+			}
+		}
+
+		@Nullable
+		byte[] remaining() {
+			return position > 0 ? Arrays.copyOf(chunk, position) : null;
+		}
+	}
+
 	private static class DeleteCallback implements ReactiveBucketCallback<Void> {
 
 		private final BsonValue id;
@@ -16,17 +16,18 @@
 package org.springframework.data.mongodb.monitor;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.springframework.util.Assert;
 
 import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoDatabase;
-import com.mongodb.connection.ServerDescription;
 
 /**
- * Base class to encapsulate common configuration settings when connecting to a database
+ * Base class to encapsulate common configuration settings when connecting to a database. The {@literal serverStatus} is
+ * obtained through a {@link ServerStatusSampler} which can be shared across monitors to serve all attribute reads
+ * within a time window from a single command execution.
  *
  * @author Mark Pollack
  * @author Oliver Gierke
@@ -35,17 +36,30 @@ import com.mongodb.connection.ServerDescription;
 public abstract class AbstractMonitor {
 
 	private final MongoClient mongoClient;
+	private final ServerStatusSampler sampler;
 
 	/**
 	 * @param mongoClient must not be {@literal null}.
 	 * @since 2.2
 	 */
 	protected AbstractMonitor(MongoClient mongoClient) {
-		this.mongoClient = mongoClient;
+		this(new ServerStatusSampler(mongoClient));
+	}
+
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	protected AbstractMonitor(ServerStatusSampler sampler) {
+
+		Assert.notNull(sampler, "ServerStatusSampler must not be null!");
+
+		this.mongoClient = sampler.getMongoClient();
+		this.sampler = sampler;
 	}
 
 	public Document getServerStatus() {
-		return getDb("admin").runCommand(new Document("serverStatus", 1).append("rangeDeleter", 1).append("repl", 1));
+		return sampler.getServerStatus();
 	}
 
 	public MongoDatabase getDb(String databaseName) {
@@ -56,9 +70,15 @@ public abstract class AbstractMonitor {
 		return mongoClient;
 	}
 
-	protected List<ServerAddress> hosts() {
+	/**
+	 * @return the {@link ServerStatusSampler} in use.
+	 * @since 3.3
+	 */
+	protected ServerStatusSampler getSampler() {
+		return sampler;
+	}
 
-		return mongoClient.getClusterDescription().getServerDescriptions().stream().map(ServerDescription::getAddress)
-				.collect(Collectors.toList());
+	protected List<ServerAddress> hosts() {
+		return sampler.hosts();
 	}
 }
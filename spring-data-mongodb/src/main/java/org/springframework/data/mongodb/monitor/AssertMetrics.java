@@ -38,6 +38,14 @@ public class AssertMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public AssertMetrics(ServerStatusSampler sampler) {
+		super(sampler);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Regular")
 	public int getRegular() {
 		return getBtree("regular");
@@ -40,6 +40,14 @@ public class BackgroundFlushingMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public BackgroundFlushingMetrics(ServerStatusSampler sampler) {
+		super(sampler);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Flushes")
 	public int getFlushes() {
 		return getFlushingData("flushes", java.lang.Integer.class);
@@ -38,6 +38,14 @@ public class BtreeIndexCounters extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public BtreeIndexCounters(ServerStatusSampler sampler) {
+		super(sampler);
+	}
+
 	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Accesses")
 	public int getAccesses() {
 		return getBtree("accesses");
@@ -38,6 +38,14 @@ public class ConnectionMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public ConnectionMetrics(ServerStatusSampler sampler) {
+		super(sampler);
+	}
+
 	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Current Connections")
 	public int getCurrent() {
 		return getConnectionData("current", java.lang.Integer.class);
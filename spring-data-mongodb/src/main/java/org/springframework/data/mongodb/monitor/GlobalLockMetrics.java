@@ -39,6 +39,14 @@ public class GlobalLockMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public GlobalLockMetrics(ServerStatusSampler sampler) {
+		super(sampler);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Total time")
 	public double getTotalTime() {
 		return getGlobalLockData("totalTime", java.lang.Double.class);
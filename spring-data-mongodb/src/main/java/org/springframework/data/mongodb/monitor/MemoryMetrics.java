@@ -38,6 +38,14 @@ public class MemoryMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public MemoryMetrics(ServerStatusSampler sampler) {
+		super(sampler);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Memory address size")
 	public int getBits() {
 		return getMemData("bits", java.lang.Integer.class);
@@ -39,6 +39,14 @@ public class OperationCounters extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public OperationCounters(ServerStatusSampler sampler) {
+		super(sampler);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Insert operation count")
 	public int getInsertCount() {
 		return getOpCounter("insert");
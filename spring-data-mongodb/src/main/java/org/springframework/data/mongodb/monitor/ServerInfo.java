@@ -43,6 +43,14 @@ public class ServerInfo extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * @param sampler must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public ServerInfo(ServerStatusSampler sampler) {
+		super(sampler);
+	}
+
 	/**
 	 * Returns the hostname of the used server reported by MongoDB.
 	 *
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.connection.ServerDescription;
+
+/**
+ * Samples the {@literal serverStatus} command and keeps the result for a configurable time window. All reads within
+ * the window are served from the same snapshot and concurrent callers requesting an expired snapshot are coalesced
+ * into a single command execution. A single {@link ServerStatusSampler} can be shared across multiple
+ * {@link AbstractMonitor monitors} so that reading all their attributes issues only one command per window.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public class ServerStatusSampler {
+
+	/**
+	 * The default time window a sampled {@literal serverStatus} is kept.
+	 */
+	public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(1);
+
+	private static final Document SERVER_STATUS = new Document("serverStatus", 1).append("rangeDeleter", 1)
+			.append("repl", 1);
+
+	private final MongoClient mongoClient;
+	private final long windowNanos;
+	private final Object serverStatusMonitor = new Object();
+
+	private volatile @Nullable Snapshot serverStatus;
+
+	/**
+	 * Creates a new {@link ServerStatusSampler} using the {@link #DEFAULT_WINDOW}.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 */
+	public ServerStatusSampler(MongoClient mongoClient) {
+		this(mongoClient, DEFAULT_WINDOW);
+	}
+
+	/**
+	 * Creates a new {@link ServerStatusSampler} keeping snapshots for the given {@link Duration}.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 * @param window must not be {@literal null} nor negative. {@link Duration#ZERO} disables caching, but still coalesces
+	 *          concurrent callers.
+	 */
+	public ServerStatusSampler(MongoClient mongoClient, Duration window) {
+
+		Assert.notNull(mongoClient, "MongoClient must not be null!");
+		Assert.notNull(window, "Window must not be null!");
+		Assert.isTrue(!window.isNegative(), "Window must not be negative!");
+
+		this.mongoClient = mongoClient;
+		this.windowNanos = window.toNanos();
+	}
+
+	/**
+	 * @return the {@link MongoClient} used for sampling.
+	 */
+	public MongoClient getMongoClient() {
+		return mongoClient;
+	}
+
+	/**
+	 * Obtain the {@literal serverStatus} of the server selected by the {@link MongoClient}. Returns the current snapshot
+	 * if it is still within the configured window, runs the command otherwise.
+	 *
+	 * @return a copy of the snapshot that can be modified without affecting other readers. Never {@literal null}.
+	 */
+	public Document getServerStatus() {
+		return BsonUtils.deepCopy(getSnapshot());
+	}
+
+	private Document getSnapshot() {
+
+		Snapshot snapshot = this.serverStatus;
+		if (snapshot != null && !snapshot.isExpired(windowNanos)) {
+			return snapshot.value;
+		}
+
+		synchronized (serverStatusMonitor) {
+
+			snapshot = this.serverStatus;
+			if (snapshot != null && !snapshot.isExpired(windowNanos)) {
+				return snapshot.value;
+			}
+
+			Document status = mongoClient.getDatabase("admin").runCommand(SERVER_STATUS);
+			this.serverStatus = new Snapshot(status);
+			return status;
+		}
+	}
+
+	/**
+	 * @return the addresses of all servers known to the {@link MongoClient}.
+	 */
+	public List<ServerAddress> hosts() {
+
+		return mongoClient.getClusterDescription().getServerDescriptions().stream().map(ServerDescription::getAddress)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Discard the current snapshot so that the next read runs the command again.
+	 */
+	public void invalidate() {
+		this.serverStatus = null;
+	}
+
+	private static class Snapshot {
+
+		private final Document value;
+		private final long createdAt;
+
+		Snapshot(Document value) {
+
+			this.value = value;
+			this.createdAt = System.nanoTime();
+		}
+
+		boolean isExpired(long windowNanos) {
+			return System.nanoTime() - createdAt >= windowNanos;
+		}
+	}
+}
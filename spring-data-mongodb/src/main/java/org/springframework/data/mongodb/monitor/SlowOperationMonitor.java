@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.core.SlowOperation;
+import org.springframework.data.mongodb.core.SlowOperationDetector;
+import org.springframework.jmx.export.annotation.ManagedMetric;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.support.MetricType;
+import org.springframework.util.Assert;
+
+/**
+ * Expose the slow operations recorded by a {@link SlowOperationDetector} via JMX.
+ *
+ * @author agent
+ * @since 3.3
+ */
+@ManagedResource(description = "Slow Operations")
+public class SlowOperationMonitor {
+
+	private final SlowOperationDetector detector;
+
+	/**
+	 * @param detector must not be {@literal null}.
+	 */
+	public SlowOperationMonitor(SlowOperationDetector detector) {
+
+		Assert.notNull(detector, "SlowOperationDetector must not be null!");
+		this.detector = detector;
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Slow operation shapes")
+	public int getSlowOperationCount() {
+		return detector.getSlowOperations().size();
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Slow operation shapes using a collection scan")
+	public long getCollectionScanCount() {
+		return detector.getSlowOperations().stream().filter(SlowOperation::isCollectionScan).count();
+	}
+
+	@ManagedOperation(description = "Slow operations, the slowest first")
+	public String[] getSlowOperations() {
+
+		List<SlowOperation> operations = detector.getSlowOperations();
+		return operations.stream().map(SlowOperation::toString).toArray(String[]::new);
+	}
+
+	@ManagedOperation(description = "Explain plan of the slowest operation matching the given shape")
+	public String getExplainPlan(String shape) {
+
+		return detector.getSlowOperations().stream() //
+				.filter(it -> it.getShape().equals(shape) && it.getExplainPlan() != null) //
+				.map(it -> it.getExplainPlan().toJson()) //
+				.findFirst() //
+				.orElse("");
+	}
+
+	@ManagedOperation(description = "Remove all slow operations")
+	public void clear() {
+		detector.clear();
+	}
+}
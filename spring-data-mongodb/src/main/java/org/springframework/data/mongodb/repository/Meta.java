@@ -76,4 +76,24 @@ public @interface Meta {
 	 */
 	boolean allowDiskUse() default false;
 
+	/**
+	 * Set the latency budget in milliseconds for the query method. The budget is sent to the server as
+	 * {@literal maxTimeMS} unless {@link #maxExecutionTimeMs()} is set.
+	 *
+	 * @return {@literal -1} by default.
+	 * @since 3.3
+	 * @see org.springframework.data.mongodb.core.HedgedReadPolicy
+	 */
+	long latencyBudgetMs() default -1;
+
+	/**
+	 * When set to {@literal true}, slow reads are hedged by issuing a duplicate read against another eligible replica set
+	 * member, taking the result of the one responding first.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 3.3
+	 * @see org.springframework.data.mongodb.core.HedgedReadPolicy
+	 */
+	boolean hedgeReads() default false;
+
 }
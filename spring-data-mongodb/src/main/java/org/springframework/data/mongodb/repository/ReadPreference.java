@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare the {@link com.mongodb.ReadPreference} used by repository methods. Annotations on methods take
+ * precedence over the one on the repository interface. Applies to reads only, write operations are always routed to
+ * the primary.
+ *
+ * <pre class="code">
+ * &#64;ReadPreference(value = "secondaryPreferred", tags = "usage:reporting", maxStalenessSeconds = 120)
+ * interface PersonRepository extends CrudRepository&lt;Person, String&gt; {
+ *
+ * 	&#64;ReadPreference("primary")
+ * 	Person findByEmail(String email);
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since 3.3
+ * @see com.mongodb.ReadPreference
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface ReadPreference {
+
+	/**
+	 * The name of the read preference mode, e.g. {@literal primary}, {@literal primaryPreferred}, {@literal secondary},
+	 * {@literal secondaryPreferred} or {@literal nearest}.
+	 *
+	 * @return never {@literal null}.
+	 * @see com.mongodb.ReadPreference#valueOf(String)
+	 */
+	String value();
+
+	/**
+	 * The tag sets to select eligible members by, in order of preference. Each tag set is given as comma separated list of
+	 * {@code name:value} pairs, e.g. {@code "dc:east,usage:reporting"}. An empty {@link String} matches any eligible
+	 * member. Not applicable to the {@literal primary} mode.
+	 *
+	 * @return empty by default.
+	 */
+	String[] tags() default {};
+
+	/**
+	 * The maximum replication lag, in seconds, for a secondary to be eligible. Not applicable to the {@literal primary}
+	 * mode.
+	 *
+	 * @return {@literal -1} by default, imposing no limit.
+	 */
+	long maxStalenessSeconds() default -1;
+}
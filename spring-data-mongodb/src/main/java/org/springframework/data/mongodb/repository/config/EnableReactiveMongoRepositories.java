@@ -133,6 +133,16 @@ public @interface EnableReactiveMongoRepositories {
 	 */
 	boolean createIndexesForQueryMethods() default false;
 
+	/**
+	 * Whether to compile derived query methods into plans that bind method arguments to already mapped criteria instead
+	 * of creating and mapping the query on each invocation. Query methods using keywords or properties that require
+	 * query mapping, like geospatial queries or references, are not affected.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 3.3
+	 */
+	boolean compileDerivedQueries() default false;
+
 	/**
 	 * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
 	 * repositories infrastructure.
@@ -41,6 +41,7 @@ public class MongoRepositoryConfigurationExtension extends RepositoryConfigurati
 
 	private static final String MONGO_TEMPLATE_REF = "mongo-template-ref";
 	private static final String CREATE_QUERY_INDEXES = "create-query-indexes";
+	private static final String COMPILE_DERIVED_QUERIES = "compile-derived-queries";
 
 	/*
 	 * (non-Javadoc)
@@ -97,6 +98,7 @@ public class MongoRepositoryConfigurationExtension extends RepositoryConfigurati
 
 		ParsingUtils.setPropertyReference(builder, element, MONGO_TEMPLATE_REF, "mongoOperations");
 		ParsingUtils.setPropertyValue(builder, element, CREATE_QUERY_INDEXES, "createIndexesForQueryMethods");
+		ParsingUtils.setPropertyValue(builder, element, COMPILE_DERIVED_QUERIES, "compileDerivedQueries");
 	}
 
 	/*
@@ -110,6 +112,7 @@ public class MongoRepositoryConfigurationExtension extends RepositoryConfigurati
 
 		builder.addPropertyReference("mongoOperations", attributes.getString("mongoTemplateRef"));
 		builder.addPropertyValue("createIndexesForQueryMethods", attributes.getBoolean("createIndexesForQueryMethods"));
+		builder.addPropertyValue("compileDerivedQueries", attributes.getBoolean("compileDerivedQueries"));
 	}
 
 	/*
@@ -41,6 +41,7 @@ public class ReactiveMongoRepositoryConfigurationExtension extends MongoReposito
 
 	private static final String MONGO_TEMPLATE_REF = "reactive-mongo-template-ref";
 	private static final String CREATE_QUERY_INDEXES = "create-query-indexes";
+	private static final String COMPILE_DERIVED_QUERIES = "compile-derived-queries";
 
 	/*
 	 * (non-Javadoc)
@@ -79,6 +80,7 @@ public class ReactiveMongoRepositoryConfigurationExtension extends MongoReposito
 
 		ParsingUtils.setPropertyReference(builder, element, MONGO_TEMPLATE_REF, "reactiveMongoOperations");
 		ParsingUtils.setPropertyValue(builder, element, CREATE_QUERY_INDEXES, "createIndexesForQueryMethods");
+		ParsingUtils.setPropertyValue(builder, element, COMPILE_DERIVED_QUERIES, "compileDerivedQueries");
 	}
 
 	/*
@@ -92,6 +94,7 @@ public class ReactiveMongoRepositoryConfigurationExtension extends MongoReposito
 
 		builder.addPropertyReference("reactiveMongoOperations", attributes.getString("reactiveMongoTemplateRef"));
 		builder.addPropertyValue("createIndexesForQueryMethods", attributes.getBoolean("createIndexesForQueryMethods"));
+		builder.addPropertyValue("compileDerivedQueries", attributes.getBoolean("compileDerivedQueries"));
 	}
 
 	/*
@@ -15,13 +15,19 @@
  */
 package org.springframework.data.mongodb.repository.query;
 
+import java.util.Collection;
+
 import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
+import org.springframework.data.mongodb.MongoDatabaseUtils;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.ExecutableFind;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.FindWithQuery;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.TerminatingFind;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvent;
+import org.springframework.data.mongodb.core.metrics.FlightRecorderEvents;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.DeleteExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.GeoNearExecution;
@@ -101,10 +107,21 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		ConvertingParameterAccessor accessor = new ConvertingParameterAccessor(operations.getConverter(),
 				new MongoParametersParameterAccessor(method, parameters));
 
+		FlightRecorderEvent event = FlightRecorderEvents.beginRepositoryQuery(method.getName());
+
 		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
 		Class<?> typeToRead = processor.getReturnedType().getTypeToRead();
 
-		return processor.processResult(doExecute(method, processor, accessor, typeToRead));
+		Object result = processor.processResult(doExecute(method, processor, accessor, typeToRead));
+
+		if (event.isRecording()) {
+
+			MongoEntityMetadata<?> metadata = method.getEntityInformation();
+			event.end(metadata.getJavaType(), metadata.getCollectionName(),
+					result instanceof Collection ? ((Collection<?>) result).size() : result != null ? 1 : 0);
+		}
+
+		return result;
 	}
 
 	/**
@@ -122,6 +139,7 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		Query query = createQuery(accessor);
 
 		applyQueryMetaAttributesWhenPresent(query);
+		applyAnnotatedReadPreferenceIfPresent(query);
 		query = applyAnnotatedDefaultSortIfPresent(query);
 		query = applyAnnotatedCollationIfPresent(query, accessor);
 
@@ -170,6 +188,32 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		return query;
 	}
 
+	/**
+	 * Route the given {@link Query} to the members matching the
+	 * {@link org.springframework.data.mongodb.repository.ReadPreference} declared on the query method or repository
+	 * interface if present. Queries participating in a transaction are left untouched as those must read from the
+	 * primary.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the query with potential read preference applied.
+	 * @since 3.3
+	 */
+	Query applyAnnotatedReadPreferenceIfPresent(Query query) {
+
+		if (isTransactionActive()) {
+			return query;
+		}
+
+		method.getAnnotatedReadPreference().ifPresent(query::withReadPreference);
+		return query;
+	}
+
+	private boolean isTransactionActive() {
+
+		return operations instanceof MongoTemplate
+				&& MongoDatabaseUtils.isTransactionActive(((MongoTemplate) operations).getMongoDatabaseFactory());
+	}
+
 	/**
 	 * Add a default sort derived from {@link org.springframework.data.mongodb.repository.Query#sort()} to the given
 	 * {@link Query} if present.
@@ -211,7 +255,7 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 	 * @return
 	 */
 	protected Query createCountQuery(ConvertingParameterAccessor accessor) {
-		return applyQueryMetaAttributesWhenPresent(createQuery(accessor));
+		return applyAnnotatedReadPreferenceIfPresent(applyQueryMetaAttributesWhenPresent(createQuery(accessor)));
 	}
 
 	/**
@@ -149,6 +149,7 @@ public abstract class AbstractReactiveMongoQuery implements RepositoryQuery {
 
 			Query query = it;
 			applyQueryMetaAttributesWhenPresent(query);
+			applyAnnotatedReadPreferenceIfPresent(query);
 			query = applyAnnotatedDefaultSortIfPresent(query);
 			query = applyAnnotatedCollationIfPresent(query, accessor);
 
@@ -217,6 +218,21 @@ public abstract class AbstractReactiveMongoQuery implements RepositoryQuery {
 		return query;
 	}
 
+	/**
+	 * Route the given {@link Query} to the members matching the
+	 * {@link org.springframework.data.mongodb.repository.ReadPreference} declared on the query method or repository
+	 * interface if present.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the query with potential read preference applied.
+	 * @since 3.3
+	 */
+	Query applyAnnotatedReadPreferenceIfPresent(Query query) {
+
+		method.getAnnotatedReadPreference().ifPresent(query::withReadPreference);
+		return query;
+	}
+
 	/**
 	 * Add a default sort derived from {@link org.springframework.data.mongodb.repository.Query#sort()} to the given
 	 * {@link Query} if present.
@@ -258,7 +274,8 @@ public abstract class AbstractReactiveMongoQuery implements RepositoryQuery {
 	 * @return
 	 */
 	protected Mono<Query> createCountQuery(ConvertingParameterAccessor accessor) {
-		return createQuery(accessor).map(this::applyQueryMetaAttributesWhenPresent);
+		return createQuery(accessor).map(this::applyQueryMetaAttributesWhenPresent)
+				.map(this::applyAnnotatedReadPreferenceIfPresent);
 	}
 
 	/**
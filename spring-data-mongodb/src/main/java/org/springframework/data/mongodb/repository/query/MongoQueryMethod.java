@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.repository.query;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,7 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -61,6 +63,7 @@ public class MongoQueryMethod extends QueryMethod {
 	private final Method method;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final Map<Class<? extends Annotation>, Optional<Annotation>> annotationCache;
+	private final Lazy<Optional<com.mongodb.ReadPreference>> readPreference;
 
 	private @Nullable MongoEntityMetadata<?> metadata;
 
@@ -82,6 +85,7 @@ public class MongoQueryMethod extends QueryMethod {
 		this.method = method;
 		this.mappingContext = mappingContext;
 		this.annotationCache = new ConcurrentReferenceHashMap<>();
+		this.readPreference = Lazy.of(() -> ReadPreferenceUtils.lookup(method, metadata.getRepositoryInterface()));
 	}
 
 	/*
@@ -297,6 +301,14 @@ public class MongoQueryMethod extends QueryMethod {
 			metaAttributes.setAllowDiskUse(meta.allowDiskUse());
 		}
 
+		if (meta.latencyBudgetMs() > 0) {
+			metaAttributes.setLatencyBudget(Duration.ofMillis(meta.latencyBudgetMs()));
+		}
+
+		if (meta.hedgeReads()) {
+			metaAttributes.setHedgedReads(true);
+		}
+
 		return metaAttributes;
 	}
 
@@ -358,6 +370,17 @@ public class MongoQueryMethod extends QueryMethod {
 								"Expected to find @Query annotation but did not. Make sure to check hasAnnotatedCollation() before.")));
 	}
 
+	/**
+	 * Get the {@link com.mongodb.ReadPreference} declared via
+	 * {@link org.springframework.data.mongodb.repository.ReadPreference} on the method or the repository interface.
+	 *
+	 * @return {@link Optional#empty()} if none declared.
+	 * @since 3.3
+	 */
+	public Optional<com.mongodb.ReadPreference> getAnnotatedReadPreference() {
+		return readPreference.get();
+	}
+
 	/**
 	 * Returns whether the method has an annotated query.
 	 *
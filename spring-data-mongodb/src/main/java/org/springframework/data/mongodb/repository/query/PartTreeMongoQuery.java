@@ -21,6 +21,7 @@ import org.bson.json.JsonParseException;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Field;
@@ -33,6 +34,7 @@ import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -49,6 +51,9 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	private final boolean isGeoNearQuery;
 	private final MappingContext<?, MongoPersistentProperty> context;
 	private final ResultProcessor processor;
+	private final MongoConverter converter;
+
+	private @Nullable PartTreeQueryPlan plan;
 
 	/**
 	 * Creates a new {@link PartTreeMongoQuery} from the given {@link QueryMethod} and {@link MongoTemplate}.
@@ -67,6 +72,7 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 		this.tree = new PartTree(method.getName(), processor.getReturnedType().getDomainType());
 		this.isGeoNearQuery = method.isGeoNearQuery();
 		this.context = mongoOperations.getConverter().getMappingContext();
+		this.converter = mongoOperations.getConverter();
 	}
 
 	/**
@@ -78,6 +84,24 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 		return tree;
 	}
 
+	/**
+	 * Compile the {@link PartTree} into a plan binding method arguments directly to already mapped criteria, bypassing
+	 * the {@link MongoQueryCreator} and query mapping of property paths. Has no effect if the tree uses keywords or
+	 * properties the plan does not support.
+	 *
+	 * @since 3.3
+	 */
+	public void compileQueryPlan() {
+
+		Class<?> domainType = processor.getReturnedType().getDomainType();
+
+		if (isGeoNearQuery || !domainType.equals(getQueryMethod().getEntityInformation().getJavaType())) {
+			return;
+		}
+
+		this.plan = PartTreeQueryPlan.compile(tree, domainType, converter).orElse(null);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#createQuery(org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor, boolean)
@@ -85,8 +109,11 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-		MongoQueryCreator creator = new MongoQueryCreator(tree, accessor, context, isGeoNearQuery);
-		Query query = creator.createQuery();
+		Query query = plan != null ? plan.createQuery(accessor) : null;
+
+		if (query == null) {
+			query = new MongoQueryCreator(tree, accessor, context, isGeoNearQuery).createQuery();
+		}
 
 		if (tree.isLimiting()) {
 			query.limit(tree.getMaxResults());
@@ -134,7 +161,9 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	 */
 	@Override
 	protected Query createCountQuery(ConvertingParameterAccessor accessor) {
-		return new MongoQueryCreator(tree, accessor, context, false).createQuery();
+
+		Query query = plan != null ? plan.createQuery(accessor) : null;
+		return query != null ? query : new MongoQueryCreator(tree, accessor, context, false).createQuery();
 	}
 
 	/*
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.domain.Example;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.geo.GeoJson;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.MappedCriteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.DBObject;
+
+/**
+ * Execution plan of a derived query compiled once from its {@link PartTree}. Property paths are resolved to field names
+ * up front, so that creating the {@link Query} for a method invocation only converts the arguments and puts them into
+ * {@link MappedCriteria} the {@link QueryMapper} takes over as they are.
+ * <p />
+ * Only trees consisting of plain comparisons on simple properties can be compiled. Arguments the {@link QueryMapper}
+ * treats in a special way, like {@link Document documents} or {@link Example examples}, are not bound by the plan.
+ * {@link #createQuery(ConvertingParameterAccessor)} returns {@literal null} for those, leaving query creation to the
+ * {@link MongoQueryCreator}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+class PartTreeQueryPlan {
+
+	private static final Set<Type> SUPPORTED_TYPES = EnumSet.of(Type.SIMPLE_PROPERTY, Type.NEGATING_SIMPLE_PROPERTY,
+			Type.GREATER_THAN, Type.GREATER_THAN_EQUAL, Type.AFTER, Type.LESS_THAN, Type.LESS_THAN_EQUAL, Type.BEFORE,
+			Type.IN, Type.NOT_IN, Type.IS_NULL, Type.IS_NOT_NULL, Type.TRUE, Type.FALSE, Type.EXISTS);
+
+	private static final Set<Type> SUPPORTED_ID_TYPES = EnumSet.of(Type.SIMPLE_PROPERTY, Type.NEGATING_SIMPLE_PROPERTY,
+			Type.IN, Type.NOT_IN);
+
+	private final PartTree tree;
+	private final MongoConverter converter;
+	private final List<List<Slot>> orParts;
+
+	private PartTreeQueryPlan(PartTree tree, MongoConverter converter, List<List<Slot>> orParts) {
+
+		this.tree = tree;
+		this.converter = converter;
+		this.orParts = orParts;
+	}
+
+	/**
+	 * Compile the given {@link PartTree} into a {@link PartTreeQueryPlan}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param domainType the type the query is run against. Must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return {@link Optional#empty()} if the tree uses keywords or properties that cannot be compiled.
+	 */
+	static Optional<PartTreeQueryPlan> compile(PartTree tree, Class<?> domainType, MongoConverter converter) {
+
+		MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> context = converter
+				.getMappingContext();
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(domainType);
+
+		if (entity == null) {
+			return Optional.empty();
+		}
+
+		QueryMapper queryMapper = new QueryMapper(converter);
+		List<List<Slot>> orParts = new ArrayList<>();
+
+		for (OrPart orPart : tree) {
+
+			List<Slot> slots = new ArrayList<>();
+			Set<String> fields = new HashSet<>();
+
+			for (Part part : orPart) {
+
+				Slot slot = compile(part, entity, context, queryMapper);
+
+				// the same field used twice within one and-branch is rejected by Criteria
+				if (slot == null || !fields.add(slot.field)) {
+					return Optional.empty();
+				}
+
+				slots.add(slot);
+			}
+
+			orParts.add(slots);
+		}
+
+		return Optional.of(new PartTreeQueryPlan(tree, converter, orParts));
+	}
+
+	/**
+	 * Create the {@link Query} for the arguments of the given {@link ConvertingParameterAccessor}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return {@literal null} if an argument needs to be mapped by the {@link QueryMapper}.
+	 */
+	@Nullable
+	Query createQuery(ConvertingParameterAccessor accessor) {
+
+		Iterator<Object> parameters = accessor.iterator();
+		List<Document> criteria = new ArrayList<>(orParts.size());
+
+		for (List<Slot> slots : orParts) {
+
+			Document document = new Document();
+
+			for (Slot slot : slots) {
+				if (!slot.appendTo(document, parameters, converter)) {
+					return null;
+				}
+			}
+
+			criteria.add(document);
+		}
+
+		Query query = criteria.isEmpty() ? new Query()
+				: new Query(MappedCriteria.of(criteria.size() == 1 ? criteria.get(0) : new Document("$or", criteria)));
+		return query.with(tree.getSort().and(accessor.getSort()));
+	}
+
+	@Nullable
+	private static Slot compile(Part part, MongoPersistentEntity<?> entity,
+			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> context, QueryMapper queryMapper) {
+
+		if (!SUPPORTED_TYPES.contains(part.getType()) || !isSimpleComparisonPossible(part)) {
+			return null;
+		}
+
+		PersistentPropertyPath<MongoPersistentProperty> path = context.getPersistentPropertyPath(part.getProperty());
+
+		for (MongoPersistentProperty property : path) {
+
+			if (property.isAssociation() || property.isUnwrapped() || property.hasExplicitWriteTarget()) {
+				return null;
+			}
+		}
+
+		MongoPersistentProperty leaf = path.getLeafProperty();
+
+		if (leaf == null || leaf.isEntity() || leaf.isMap() || leaf.isTextScoreProperty()) {
+			return null;
+		}
+
+		if (leaf.isIdProperty() && !SUPPORTED_ID_TYPES.contains(part.getType())) {
+			return null;
+		}
+
+		String field = queryMapper.getMappedSort(new Document(path.toDotPath(), 1), entity).keySet().iterator().next();
+
+		return new Slot(field, part.getType(), leaf.isIdProperty() ? leaf.getFieldType() : null);
+	}
+
+	private static boolean isSimpleComparisonPossible(Part part) {
+
+		switch (part.shouldIgnoreCase()) {
+			case NEVER:
+				return true;
+			case WHEN_POSSIBLE:
+				return part.getProperty().getType() != String.class;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * A single comparison of an already mapped field.
+	 *
+	 * @author agent
+	 * @since 3.3
+	 */
+	private static class Slot {
+
+		private final String field;
+		private final Type type;
+		private final @Nullable Class<?> idType;
+
+		Slot(String field, Type type, @Nullable Class<?> idType) {
+
+			this.field = field;
+			this.type = type;
+			this.idType = idType;
+		}
+
+		/**
+		 * Append the comparison to the given {@link Document} consuming the required number of arguments.
+		 *
+		 * @return {@literal false} if the argument cannot be bound without the {@link QueryMapper}.
+		 */
+		boolean appendTo(Document document, Iterator<Object> parameters, MongoConverter converter) {
+
+			switch (type) {
+				case IS_NULL:
+					document.put(field, null);
+					return true;
+				case IS_NOT_NULL:
+					document.put(field, new Document("$ne", null));
+					return true;
+				case TRUE:
+					document.put(field, true);
+					return true;
+				case FALSE:
+					document.put(field, false);
+					return true;
+				default:
+			}
+
+			Object value = parameters.next();
+
+			if (requiresQueryMapper(value)) {
+				return false;
+			}
+
+			switch (type) {
+				case SIMPLE_PROPERTY:
+					document.put(field, convert(value, converter));
+					return true;
+				case NEGATING_SIMPLE_PROPERTY:
+					document.put(field, new Document("$ne", convert(value, converter)));
+					return true;
+				case AFTER:
+				case GREATER_THAN:
+					document.put(field, new Document("$gt", convert(value, converter)));
+					return true;
+				case GREATER_THAN_EQUAL:
+					document.put(field, new Document("$gte", convert(value, converter)));
+					return true;
+				case BEFORE:
+				case LESS_THAN:
+					document.put(field, new Document("$lt", convert(value, converter)));
+					return true;
+				case LESS_THAN_EQUAL:
+					document.put(field, new Document("$lte", convert(value, converter)));
+					return true;
+				case IN:
+					document.put(field, new Document("$in", convertAll(value, converter)));
+					return true;
+				case NOT_IN:
+					document.put(field, new Document("$nin", convertAll(value, converter)));
+					return true;
+				case EXISTS:
+					document.put(field, new Document("$exists", convert(value, converter)));
+					return true;
+				default:
+					throw new IllegalStateException(String.format("Unsupported keyword %s!", type));
+			}
+		}
+
+		@Nullable
+		private Object convert(@Nullable Object value, MongoConverter converter) {
+			return idType != null ? converter.convertId(value, idType)
+					: converter.convertToMongoType(value, (TypeInformation<?>) null);
+		}
+
+		private Object convertAll(@Nullable Object value, MongoConverter converter) {
+
+			List<Object> values = new ArrayList<>();
+
+			if (value instanceof Collection) {
+				values.addAll((Collection<?>) value);
+			} else if (ObjectUtils.isArray(value)) {
+				values.addAll(Arrays.asList(ObjectUtils.toObjectArray(value)));
+			} else {
+				values.add(value);
+			}
+
+			if (idType == null) {
+				return converter.convertToMongoType(values, (TypeInformation<?>) null);
+			}
+
+			List<Object> ids = new ArrayList<>(values.size());
+			for (Object id : values) {
+				ids.add(converter.convertId(id, idType));
+			}
+			return ids;
+		}
+
+		private static boolean requiresQueryMapper(@Nullable Object value) {
+
+			return value instanceof Bson || value instanceof Map || value instanceof DBObject || value instanceof BsonValue
+					|| value instanceof Example || value instanceof MongoExpression || value instanceof GeoJson;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import org.bson.json.JsonParseException;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Query;
@@ -33,6 +34,7 @@ import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -48,6 +50,9 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 	private final boolean isGeoNearQuery;
 	private final MappingContext<?, MongoPersistentProperty> context;
 	private final ResultProcessor processor;
+	private final MongoConverter converter;
+
+	private @Nullable PartTreeQueryPlan plan;
 
 	/**
 	 * Creates a new {@link ReactivePartTreeMongoQuery} from the given {@link QueryMethod} and {@link MongoTemplate}.
@@ -66,6 +71,7 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 		this.tree = new PartTree(method.getName(), processor.getReturnedType().getDomainType());
 		this.isGeoNearQuery = method.isGeoNearQuery();
 		this.context = mongoOperations.getConverter().getMappingContext();
+		this.converter = mongoOperations.getConverter();
 	}
 
 	/**
@@ -77,6 +83,24 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 		return tree;
 	}
 
+	/**
+	 * Compile the {@link PartTree} into a plan binding method arguments directly to already mapped criteria, bypassing
+	 * the {@link MongoQueryCreator} and query mapping of property paths. Has no effect if the tree uses keywords or
+	 * properties the plan does not support.
+	 *
+	 * @since 3.3
+	 */
+	public void compileQueryPlan() {
+
+		Class<?> domainType = processor.getReturnedType().getDomainType();
+
+		if (isGeoNearQuery || !domainType.equals(getQueryMethod().getEntityInformation().getJavaType())) {
+			return;
+		}
+
+		this.plan = PartTreeQueryPlan.compile(tree, domainType, converter).orElse(null);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#createQuery(org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor, boolean)
@@ -97,8 +121,11 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 
 	private Query createQueryInternal(ConvertingParameterAccessor accessor, boolean isCountQuery) {
 
-		MongoQueryCreator creator = new MongoQueryCreator(tree, accessor, context, isCountQuery ? false : isGeoNearQuery);
-		Query query = creator.createQuery();
+		Query query = plan != null ? plan.createQuery(accessor) : null;
+
+		if (query == null) {
+			query = new MongoQueryCreator(tree, accessor, context, isCountQuery ? false : isGeoNearQuery).createQuery();
+		}
 
 		if (isCountQuery) {
 			return query;
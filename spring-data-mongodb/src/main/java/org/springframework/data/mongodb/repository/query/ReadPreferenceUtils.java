@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.mongodb.repository.ReadPreference;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.mongodb.Tag;
+import com.mongodb.TagSet;
+
+/**
+ * Utility class resolving the {@link com.mongodb.ReadPreference} declared via {@link ReadPreference} on repository
+ * methods and interfaces. Used by query methods as well as by the repository base implementations.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public abstract class ReadPreferenceUtils {
+
+	private ReadPreferenceUtils() {}
+
+	/**
+	 * Look up the {@link ReadPreference} annotated on the given {@link Method} falling back to the one annotated on the
+	 * repository interface.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return {@link Optional#empty()} if neither the method nor the repository interface are annotated.
+	 */
+	public static Optional<com.mongodb.ReadPreference> lookup(Method method, Class<?> repositoryInterface) {
+
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(repositoryInterface, "RepositoryInterface must not be null!");
+
+		Optional<ReadPreference> annotation = findAnnotation(method);
+
+		if (!annotation.isPresent()) {
+			annotation = findAnnotation(repositoryInterface);
+		}
+
+		return annotation.map(ReadPreferenceUtils::toReadPreference);
+	}
+
+	/**
+	 * Create the {@link com.mongodb.ReadPreference} described by the given {@link ReadPreference annotation}.
+	 *
+	 * @param annotation must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws IllegalArgumentException if the mode is unknown or does not support tag sets or max staleness.
+	 */
+	public static com.mongodb.ReadPreference toReadPreference(ReadPreference annotation) {
+
+		Assert.notNull(annotation, "ReadPreference annotation must not be null!");
+		Assert.hasText(annotation.value(), "ReadPreference mode must not be empty!");
+
+		List<TagSet> tagSets = new ArrayList<>(annotation.tags().length);
+		for (String tagSet : annotation.tags()) {
+			tagSets.add(parseTagSet(tagSet));
+		}
+
+		if (annotation.maxStalenessSeconds() >= 0) {
+			return com.mongodb.ReadPreference.valueOf(annotation.value(), tagSets, annotation.maxStalenessSeconds(),
+					TimeUnit.SECONDS);
+		}
+
+		return tagSets.isEmpty() ? com.mongodb.ReadPreference.valueOf(annotation.value())
+				: com.mongodb.ReadPreference.valueOf(annotation.value(), tagSets);
+	}
+
+	private static Optional<ReadPreference> findAnnotation(AnnotatedElement element) {
+		return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(element, ReadPreference.class));
+	}
+
+	private static TagSet parseTagSet(String source) {
+
+		if (!StringUtils.hasText(source)) {
+			return new TagSet();
+		}
+
+		List<Tag> tags = new ArrayList<>();
+
+		for (String tag : StringUtils.commaDelimitedListToStringArray(source)) {
+
+			int separator = tag.indexOf(':');
+
+			Assert.isTrue(separator > 0, () -> String.format("Invalid tag '%s'! Expected name:value.", tag.trim()));
+			tags.add(new Tag(tag.substring(0, separator).trim(), tag.substring(separator + 1).trim()));
+		}
+
+		return new TagSet(tags);
+	}
+}
@@ -98,7 +98,7 @@ public class StringBasedAggregation extends AbstractMongoQuery {
 			targetType = method.getReturnType().getRequiredActualType().getRequiredComponentType().getType();
 		}
 
-		AggregationOptions options = computeOptions(method, accessor);
+		AggregationOptions options = computeOptions(method, accessor, isRawAggregationResult);
 		TypedAggregation<?> aggregation = new TypedAggregation<>(sourceType, pipeline, options);
 
 		AggregationResults<?> result = mongoOperations.aggregate(aggregation, targetType);
@@ -153,10 +153,15 @@ public class StringBasedAggregation extends AbstractMongoQuery {
 		return ctx -> ctx.getMappedObject(codec.decode(source, bindingContext), getQueryMethod().getDomainClass());
 	}
 
-	private AggregationOptions computeOptions(MongoQueryMethod method, ConvertingParameterAccessor accessor) {
+	private AggregationOptions computeOptions(MongoQueryMethod method, ConvertingParameterAccessor accessor,
+			boolean retainRawResults) {
 
 		AggregationOptions.Builder builder = Aggregation.newAggregationOptions();
 
+		if (!retainRawResults) {
+			builder.discardRawResults();
+		}
+
 		AggregationUtils.applyCollation(builder, method.getAnnotatedCollation(), accessor, method.getParameters(),
 				expressionParser, evaluationContextProvider);
 		AggregationUtils.applyMeta(builder, method);
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.support;
+
+import java.util.Optional;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * Interface to abstract {@link CrudMethodMetadata} that provide the {@link ReadPreference} to be used for query
+ * execution of the repository method currently invoked.
+ *
+ * @author agent
+ * @since 3.3
+ */
+public interface CrudMethodMetadata {
+
+	/**
+	 * @return the {@link ReadPreference} declared via {@link org.springframework.data.mongodb.repository.ReadPreference}
+	 *         on the invoked method or the repository interface. {@link Optional#empty()} if none declared.
+	 */
+	Optional<ReadPreference> getReadPreference();
+}
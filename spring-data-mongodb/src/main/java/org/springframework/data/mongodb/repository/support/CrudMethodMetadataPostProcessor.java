@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.data.mongodb.repository.query.ReadPreferenceUtils;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.lang.Nullable;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * {@link RepositoryProxyPostProcessor} that sets up interceptors to read metadata information from the invoked method.
+ * This is necessary to allow redeclaration of CRUD methods in repository interfaces and configure read routing
+ * information on them. The {@link CrudMethodMetadata} exposed via {@link #getCrudMethodMetadata()} resolves the
+ * metadata of the method currently invoked on the calling thread.
+ *
+ * @author agent
+ * @since 3.3
+ */
+class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor {
+
+	private static final ThreadLocal<CrudMethodMetadata> CURRENT = new NamedThreadLocal<>(
+			"Current MongoDB repository method metadata");
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryProxyPostProcessor#postProcess(org.springframework.aop.framework.ProxyFactory, org.springframework.data.repository.core.RepositoryInformation)
+	 */
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+		factory.addAdvice(new CrudMethodMetadataPopulatingMethodInterceptor(repositoryInformation.getRepositoryInterface()));
+	}
+
+	/**
+	 * Returns a {@link CrudMethodMetadata} resolving the metadata of the repository method currently invoked.
+	 *
+	 * @return never {@literal null}.
+	 */
+	CrudMethodMetadata getCrudMethodMetadata() {
+		return ThreadBoundCrudMethodMetadata.INSTANCE;
+	}
+
+	/**
+	 * {@link MethodInterceptor} binding the {@link CrudMethodMetadata} of the invoked method to the current thread for
+	 * the time of the invocation.
+	 *
+	 * @author agent
+	 */
+	static class CrudMethodMetadataPopulatingMethodInterceptor implements MethodInterceptor {
+
+		private final Class<?> repositoryInterface;
+		private final Map<Method, CrudMethodMetadata> metadataCache = new ConcurrentHashMap<>();
+
+		CrudMethodMetadataPopulatingMethodInterceptor(Class<?> repositoryInterface) {
+			this.repositoryInterface = repositoryInterface;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Nullable
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			CrudMethodMetadata metadata = metadataCache.computeIfAbsent(invocation.getMethod(),
+					method -> new DefaultCrudMethodMetadata(ReadPreferenceUtils.lookup(method, repositoryInterface)));
+			CrudMethodMetadata previous = CURRENT.get();
+
+			CURRENT.set(metadata);
+
+			try {
+				return invocation.proceed();
+			} finally {
+
+				if (previous != null) {
+					CURRENT.set(previous);
+				} else {
+					CURRENT.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Default {@link CrudMethodMetadata} implementation.
+	 *
+	 * @author agent
+	 */
+	private static class DefaultCrudMethodMetadata implements CrudMethodMetadata {
+
+		private final Optional<ReadPreference> readPreference;
+
+		DefaultCrudMethodMetadata(Optional<ReadPreference> readPreference) {
+			this.readPreference = readPreference;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.support.CrudMethodMetadata#getReadPreference()
+		 */
+		@Override
+		public Optional<ReadPreference> getReadPreference() {
+			return readPreference;
+		}
+	}
+
+	/**
+	 * {@link CrudMethodMetadata} delegating to the one bound to the current thread.
+	 *
+	 * @author agent
+	 */
+	private enum ThreadBoundCrudMethodMetadata implements CrudMethodMetadata {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.support.CrudMethodMetadata#getReadPreference()
+		 */
+		@Override
+		public Optional<ReadPreference> getReadPreference() {
+
+			CrudMethodMetadata current = CURRENT.get();
+			return current != null ? current.getReadPreference() : Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.mongodb.core.metrics.CurrentRepositoryMethod;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link RepositoryProxyPostProcessor} exposing the name of the invoked repository method via
+ * {@link CurrentRepositoryMethod}, so that {@link org.springframework.data.mongodb.core.metrics.OperationMetrics} can
+ * attribute template operations to it. The name is bound to the calling thread for the time of the invocation and, for
+ * reactive return types, written to the subscriber {@link reactor.util.context.Context}.
+ *
+ * @author agent
+ * @since 3.3
+ */
+class CurrentRepositoryMethodPostProcessor implements RepositoryProxyPostProcessor {
+
+	private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+			CurrentRepositoryMethodPostProcessor.class.getClassLoader());
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryProxyPostProcessor#postProcess(org.springframework.aop.framework.ProxyFactory, org.springframework.data.repository.core.RepositoryInformation)
+	 */
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+		factory.addAdvice(new CurrentRepositoryMethodInterceptor(repositoryInformation.getRepositoryInterface()));
+	}
+
+	/**
+	 * {@link MethodInterceptor} binding the name of the invoked method for the time of the invocation.
+	 *
+	 * @author agent
+	 */
+	static class CurrentRepositoryMethodInterceptor implements MethodInterceptor {
+
+		private final Class<?> repositoryInterface;
+		private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+		CurrentRepositoryMethodInterceptor(Class<?> repositoryInterface) {
+			this.repositoryInterface = repositoryInterface;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Nullable
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			String name = names.computeIfAbsent(invocation.getMethod(),
+					method -> repositoryInterface.getSimpleName() + "." + method.getName());
+			String previous = CurrentRepositoryMethod.bind(name);
+
+			try {
+
+				Object result = invocation.proceed();
+				return REACTOR_PRESENT ? ReactorSupport.bind(result, name) : result;
+			} finally {
+				CurrentRepositoryMethod.bind(previous);
+			}
+		}
+	}
+
+	/**
+	 * Writes the repository method name to the {@link reactor.util.context.Context} of reactive results. Separate class
+	 * to avoid loading Reactor types when Reactor is not on the classpath.
+	 *
+	 * @author agent
+	 */
+	static class ReactorSupport {
+
+		@Nullable
+		static Object bind(@Nullable Object result, String name) {
+
+			if (result instanceof Mono) {
+				return ((Mono<?>) result).contextWrite(context -> context.put(CurrentRepositoryMethod.CONTEXT_KEY, name));
+			}
+
+			if (result instanceof Flux) {
+				return ((Flux<?>) result).contextWrite(context -> context.put(CurrentRepositoryMethod.CONTEXT_KEY, name));
+			}
+
+			return result;
+		}
+	}
+}
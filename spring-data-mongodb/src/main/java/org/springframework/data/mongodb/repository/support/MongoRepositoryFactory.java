@@ -24,6 +24,7 @@ import java.util.Optional;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -63,6 +64,7 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 	private final MongoOperations operations;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private final CrudMethodMetadataPostProcessor crudMethodMetadataPostProcessor = new CrudMethodMetadataPostProcessor();
 
 	/**
 	 * Creates a new {@link MongoRepositoryFactory} with the given {@link MongoOperations}.
@@ -75,6 +77,12 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 		this.operations = mongoOperations;
 		this.mappingContext = mongoOperations.getConverter().getMappingContext();
+
+		addRepositoryProxyPostProcessor(crudMethodMetadataPostProcessor);
+
+		if (mongoOperations instanceof MongoTemplate && ((MongoTemplate) mongoOperations).hasOperationMetrics()) {
+			addRepositoryProxyPostProcessor(new CurrentRepositoryMethodPostProcessor());
+		}
 	}
 
 	/*
@@ -124,7 +132,14 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 		MongoEntityInformation<?, Serializable> entityInformation = getEntityInformation(information.getDomainType(),
 				information);
-		return getTargetRepositoryViaReflection(information, entityInformation, operations);
+		Object targetRepository = getTargetRepositoryViaReflection(information, entityInformation, operations);
+
+		if (targetRepository instanceof SimpleMongoRepository) {
+			((SimpleMongoRepository<?, ?>) targetRepository)
+					.setRepositoryMethodMetadata(crudMethodMetadataPostProcessor.getCrudMethodMetadata());
+		}
+
+		return targetRepository;
 	}
 
 	/*
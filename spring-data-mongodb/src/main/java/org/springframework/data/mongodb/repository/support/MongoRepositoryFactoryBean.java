@@ -36,6 +36,7 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 
 	private @Nullable MongoOperations operations;
 	private boolean createIndexesForQueryMethods = false;
+	private boolean compileDerivedQueries = false;
 	private boolean mappingContextConfigured = false;
 
 	/**
@@ -65,6 +66,16 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.createIndexesForQueryMethods = createIndexesForQueryMethods;
 	}
 
+	/**
+	 * Configures whether to compile derived query methods into plans binding arguments to already mapped criteria.
+	 *
+	 * @param compileDerivedQueries the compileDerivedQueries to set
+	 * @since 3.3
+	 */
+	public void setCompileDerivedQueries(boolean compileDerivedQueries) {
+		this.compileDerivedQueries = compileDerivedQueries;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -93,6 +104,10 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 					new IndexEnsuringQueryCreationListener((collectionName, javaType) -> operations.indexOps(javaType)));
 		}
 
+		if (compileDerivedQueries) {
+			factory.addQueryCreationListener(new QueryPlanCompilingQueryCreationListener());
+		}
+
 		return factory;
 	}
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.support;
+
+import org.springframework.data.mongodb.repository.query.PartTreeMongoQuery;
+import org.springframework.data.mongodb.repository.query.ReactivePartTreeMongoQuery;
+import org.springframework.data.repository.core.support.QueryCreationListener;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+/**
+ * {@link QueryCreationListener} compiling the query plan of {@link PartTreeMongoQuery derived queries} once they are
+ * created.
+ *
+ * @author agent
+ * @since 3.3
+ */
+class QueryPlanCompilingQueryCreationListener implements QueryCreationListener<RepositoryQuery> {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.QueryCreationListener#onCreation(org.springframework.data.repository.query.RepositoryQuery)
+	 */
+	@Override
+	public void onCreation(RepositoryQuery query) {
+
+		if (query instanceof PartTreeMongoQuery) {
+			((PartTreeMongoQuery) query).compileQueryPlan();
+		} else if (query instanceof ReactivePartTreeMongoQuery) {
+			((ReactivePartTreeMongoQuery) query).compileQueryPlan();
+		}
+	}
+}
@@ -23,6 +23,7 @@ import java.util.Optional;
 
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
@@ -76,6 +77,11 @@ public class ReactiveMongoRepositoryFactory extends ReactiveRepositoryFactorySup
 		this.operations = mongoOperations;
 		this.mappingContext = mongoOperations.getConverter().getMappingContext();
 		setEvaluationContextProvider(ReactiveQueryMethodEvaluationContextProvider.DEFAULT);
+
+		if (mongoOperations instanceof ReactiveMongoTemplate
+				&& ((ReactiveMongoTemplate) mongoOperations).hasOperationMetrics()) {
+			addRepositoryProxyPostProcessor(new CurrentRepositoryMethodPostProcessor());
+		}
 	}
 
 	/*
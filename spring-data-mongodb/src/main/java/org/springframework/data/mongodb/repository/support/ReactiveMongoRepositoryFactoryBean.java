@@ -46,6 +46,7 @@ public class ReactiveMongoRepositoryFactoryBean<T extends Repository<S, ID>, S,
 
 	private @Nullable ReactiveMongoOperations operations;
 	private boolean createIndexesForQueryMethods = false;
+	private boolean compileDerivedQueries = false;
 	private boolean mappingContextConfigured = false;
 
 	/**
@@ -75,6 +76,16 @@ public class ReactiveMongoRepositoryFactoryBean<T extends Repository<S, ID>, S,
 		this.createIndexesForQueryMethods = createIndexesForQueryMethods;
 	}
 
+	/**
+	 * Configures whether to compile derived query methods into plans binding arguments to already mapped criteria.
+	 *
+	 * @param compileDerivedQueries the compileDerivedQueries to set
+	 * @since 3.3
+	 */
+	public void setCompileDerivedQueries(boolean compileDerivedQueries) {
+		this.compileDerivedQueries = compileDerivedQueries;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -100,6 +111,10 @@ public class ReactiveMongoRepositoryFactoryBean<T extends Repository<S, ID>, S,
 					(collectionName, javaType) -> IndexOperationsAdapter.blocking(operations.indexOps(javaType))));
 		}
 
+		if (compileDerivedQueries) {
+			factory.addQueryCreationListener(new QueryPlanCompilingQueryCreationListener());
+		}
+
 		return factory;
 	}
 
@@ -30,6 +30,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoDatabaseUtils;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -42,6 +43,7 @@ import org.springframework.data.util.Streamable;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import com.mongodb.ReadPreference;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -58,6 +60,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 
 	private final MongoOperations mongoOperations;
 	private final MongoEntityInformation<T, ID> entityInformation;
+	private @Nullable CrudMethodMetadata crudMethodMetadata;
 
 	/**
 	 * Creates a new {@link SimpleMongoRepository} for the given {@link MongoEntityInformation} and {@link MongoTemplate}.
@@ -74,6 +77,18 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 		this.mongoOperations = mongoOperations;
 	}
 
+	/**
+	 * Configures the {@link CrudMethodMetadata} providing the
+	 * {@link org.springframework.data.mongodb.repository.ReadPreference} to use for read operations of the repository
+	 * method currently invoked.
+	 *
+	 * @param crudMethodMetadata can be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setRepositoryMethodMetadata(@Nullable CrudMethodMetadata crudMethodMetadata) {
+		this.crudMethodMetadata = crudMethodMetadata;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods from CrudRepository
 	// -------------------------------------------------------------------------
@@ -112,6 +127,12 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 			return new ArrayList<>(mongoOperations.insert(result, entityInformation.getCollectionName()));
 		}
 
+		if (entityInformation.isVersioned()) {
+
+			List<S> result = source.stream().collect(Collectors.toList());
+			return new ArrayList<>(mongoOperations.saveAll(result, entityInformation.getCollectionName()));
+		}
+
 		return source.stream().map(this::save).collect(Collectors.toList());
 	}
 
@@ -124,6 +145,13 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 
 		Assert.notNull(id, "The given id must not be null!");
 
+		Optional<ReadPreference> readPreference = getReadPreference();
+
+		if (readPreference.isPresent()) {
+			return Optional.ofNullable(mongoOperations.findOne(getIdQuery(id).withReadPreference(readPreference.get()),
+					entityInformation.getJavaType(), entityInformation.getCollectionName()));
+		}
+
 		return Optional.ofNullable(
 				mongoOperations.findById(id, entityInformation.getJavaType(), entityInformation.getCollectionName()));
 	}
@@ -137,7 +165,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 
 		Assert.notNull(id, "The given id must not be null!");
 
-		return mongoOperations.exists(getIdQuery(id), entityInformation.getJavaType(),
+		return mongoOperations.exists(applyReadPreference(getIdQuery(id)), entityInformation.getJavaType(),
 				entityInformation.getCollectionName());
 	}
 
@@ -168,7 +196,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 	 */
 	@Override
 	public long count() {
-		return mongoOperations.count(new Query(), entityInformation.getCollectionName());
+		return mongoOperations.count(applyReadPreference(new Query()), entityInformation.getCollectionName());
 	}
 
 	/*
@@ -316,6 +344,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 
 		Query query = new Query(new Criteria().alike(example)) //
 				.collation(entityInformation.getCollation());
+		applyReadPreference(query);
 
 		return Optional
 				.ofNullable(mongoOperations.findOne(query, example.getProbeType(), entityInformation.getCollectionName()));
@@ -343,6 +372,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 		Query query = new Query(new Criteria().alike(example)) //
 				.collation(entityInformation.getCollation()) //
 				.with(sort);
+		applyReadPreference(query);
 
 		return mongoOperations.find(query, example.getProbeType(), entityInformation.getCollectionName());
 	}
@@ -359,6 +389,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 
 		Query query = new Query(new Criteria().alike(example)) //
 				.collation(entityInformation.getCollation()).with(pageable); //
+		applyReadPreference(query);
 
 		List<S> list = mongoOperations.find(query, example.getProbeType(), entityInformation.getCollectionName());
 
@@ -377,6 +408,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 
 		Query query = new Query(new Criteria().alike(example)) //
 				.collation(entityInformation.getCollation());
+		applyReadPreference(query);
 
 		return mongoOperations.count(query, example.getProbeType(), entityInformation.getCollectionName());
 	}
@@ -392,6 +424,7 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 
 		Query query = new Query(new Criteria().alike(example)) //
 				.collation(entityInformation.getCollation());
+		applyReadPreference(query);
 
 		return mongoOperations.exists(query, example.getProbeType(), entityInformation.getCollectionName());
 	}
@@ -425,7 +458,30 @@ public class SimpleMongoRepository<T, ID> implements MongoRepository<T, ID> {
 			return Collections.emptyList();
 		}
 
-		return mongoOperations.find(query, entityInformation.getJavaType(), entityInformation.getCollectionName());
+		return mongoOperations.find(applyReadPreference(query), entityInformation.getJavaType(),
+				entityInformation.getCollectionName());
+	}
+
+	private Optional<ReadPreference> getReadPreference() {
+
+		// operations within a transaction must use the primary
+		if (crudMethodMetadata == null || isTransactionActive()) {
+			return Optional.empty();
+		}
+
+		return crudMethodMetadata.getReadPreference();
+	}
+
+	private boolean isTransactionActive() {
+
+		return mongoOperations instanceof MongoTemplate
+				&& MongoDatabaseUtils.isTransactionActive(((MongoTemplate) mongoOperations).getMongoDatabaseFactory());
+	}
+
+	private Query applyReadPreference(Query query) {
+
+		getReadPreference().ifPresent(query::withReadPreference);
+		return query;
 	}
 
 }
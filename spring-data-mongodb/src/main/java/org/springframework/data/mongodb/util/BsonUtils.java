@@ -15,10 +15,12 @@
  */
 package org.springframework.data.mongodb.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.function.Function;
@@ -506,6 +508,38 @@ public class BsonUtils {
 		return source.getClass().isArray() ? CollectionUtils.arrayToList(source) : Collections.singleton(source);
 	}
 
+	/**
+	 * Create a copy of the given {@link Document} that does not share any nested {@link Document documents} or
+	 * {@link Collection collections} with the source. Other values are considered immutable and are copied by reference.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 3.3
+	 */
+	public static Document deepCopy(Document source) {
+
+		Document target = new Document();
+		source.forEach((key, value) -> target.put(key, deepCopyValue(value)));
+		return target;
+	}
+
+	@Nullable
+	private static Object deepCopyValue(@Nullable Object value) {
+
+		if (value instanceof Document) {
+			return deepCopy((Document) value);
+		}
+
+		if (value instanceof Collection) {
+
+			List<Object> target = new ArrayList<>(((Collection<?>) value).size());
+			((Collection<?>) value).forEach(it -> target.add(deepCopyValue(it)));
+			return target;
+		}
+
+		return value;
+	}
+
 	@Nullable
 	private static String toJson(@Nullable Object value) {
 
@@ -283,4 +283,40 @@ class MongoDatabaseUtilsUnitTests {
 		verify(session).abortTransaction();
 		verify(session).close();
 	}
+
+	@Test
+	void causallyConsistentSessionScopeBindsSingleSessionForAllOperations() {
+
+		MongoDatabaseFactory sessionBoundFactory = mock(MongoDatabaseFactory.class);
+
+		when(dbFactory.getSession(any())).thenReturn(session);
+		when(dbFactory.withSession(session)).thenReturn(sessionBoundFactory);
+		when(sessionBoundFactory.getMongoDatabase()).thenReturn(db);
+
+		CausallyConsistentSessionScope.run(dbFactory, () -> {
+
+			assertThat(MongoDatabaseUtils.getDatabase(dbFactory)).isSameAs(db);
+			assertThat(MongoDatabaseUtils.getDatabase(dbFactory)).isSameAs(db);
+		});
+
+		verify(dbFactory).getSession(argThat(options -> options.isCausallyConsistent()));
+		verify(dbFactory, times(1)).withSession(session);
+		verify(session, never()).startTransaction();
+		verify(session).close();
+	}
+
+	@Test
+	void causallyConsistentSessionScopeParticipatesInBoundSession() {
+
+		TransactionSynchronizationManager.bindResource(dbFactory, new MongoResourceHolder(session, dbFactory));
+
+		try {
+			assertThat(CausallyConsistentSessionScope.execute(dbFactory, () -> "result")).isEqualTo("result");
+		} finally {
+			TransactionSynchronizationManager.unbindResource(dbFactory);
+		}
+
+		verify(dbFactory, never()).getSession(any());
+		verify(session, never()).close();
+	}
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.QueryResultCache.Key;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * Unit tests for {@link DefaultQueryResultCache}.
+ *
+ * @author agent
+ */
+class DefaultQueryResultCacheUnitTests {
+
+	static final List<Document> RESULT = Collections.singletonList(new Document("_id", "id-1"));
+
+	@Test
+	void distinguishesKeysByReadPreference() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1024, Duration.ofMinutes(1));
+
+		put(cache, key("person", ReadPreference.primary()));
+
+		assertThat(cache.get(key("person", ReadPreference.primary()))).isEqualTo(RESULT);
+		assertThat(cache.get(key("person", ReadPreference.secondary()))).isNull();
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isOne();
+	}
+
+	@Test
+	void evictsAllEntriesOfCollection() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1024, Duration.ofMinutes(1));
+
+		put(cache, key("person", ReadPreference.primary()));
+		put(cache, key("person", ReadPreference.secondary()));
+		put(cache, key("address", ReadPreference.primary()));
+
+		cache.evict("person");
+
+		assertThat(cache.get(key("person", ReadPreference.primary()))).isNull();
+		assertThat(cache.get(key("address", ReadPreference.primary()))).isEqualTo(RESULT);
+		assertThat(cache.getEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	void evictsCollectionAfterEntriesWereRemovedOtherwise() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1024, Duration.ofMinutes(1));
+
+		put(cache, key("person", ReadPreference.primary()));
+		cache.clear();
+		put(cache, key("person", ReadPreference.secondary()));
+
+		long size = cache.getSize();
+		cache.evict("person");
+
+		assertThat(cache.get(key("person", ReadPreference.secondary()))).isNull();
+		assertThat(cache.getSize()).isZero();
+		assertThat(size).isPositive();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntriesWhenExceedingSize() {
+
+		DefaultQueryResultCache probe = new DefaultQueryResultCache(1024, Duration.ofMinutes(1));
+		put(probe, key("person", null));
+		long size = probe.getSize();
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(size * 2, Duration.ofMinutes(1));
+
+		put(cache, key("person", null));
+		put(cache, key("address", null));
+		cache.get(key("person", null));
+		put(cache, key("order", null));
+
+		assertThat(cache.get(key("address", null))).isNull();
+		assertThat(cache.get(key("person", null))).isNotNull();
+		assertThat(cache.getSize()).isEqualTo(size * 2);
+	}
+
+	@Test
+	void doesNotCacheResultsLargerThanLimit() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1, Duration.ofMinutes(1));
+
+		put(cache, key("person", null));
+
+		assertThat(cache.get(key("person", null))).isNull();
+		assertThat(cache.getSize()).isZero();
+	}
+
+	@Test
+	void expiresEntriesAfterTimeToLive() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1024, Duration.ZERO);
+
+		put(cache, key("person", null));
+
+		assertThat(cache.get(key("person", null))).isNull();
+	}
+
+	@Test
+	void doesNotCacheResultLoadedBeforeEviction() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1024, Duration.ofMinutes(1));
+
+		long generation = cache.getGeneration("person");
+		cache.evict("person");
+		cache.put(key("person", null), RESULT, generation);
+
+		assertThat(cache.get(key("person", null))).isNull();
+
+		generation = cache.getGeneration("person");
+		cache.clear();
+		cache.put(key("person", null), RESULT, generation);
+
+		assertThat(cache.get(key("person", null))).isNull();
+	}
+
+	@Test
+	void copiesDocumentsOnReadAndWrite() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1024, Duration.ofMinutes(1));
+		Document document = new Document("_id", "id-1").append("address", new Document("city", "Berlin"));
+
+		cache.put(key("person", null), Collections.singletonList(document), cache.getGeneration("person"));
+		document.get("address", Document.class).put("city", "Hamburg");
+
+		cache.get(key("person", null)).get(0).get("address", Document.class).put("city", "Munich");
+
+		assertThat(cache.get(key("person", null)).get(0)).containsEntry("address", new Document("city", "Berlin"));
+	}
+
+	@Test
+	void estimatesSizeOfValuesWithoutCodec() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1024, Duration.ofMinutes(1));
+
+		put(cache, key("person", null), new Document("_id", UUID.randomUUID()).append("tags", Arrays.asList("a", "b")));
+
+		assertThat(cache.get(key("person", null))).hasSize(1);
+		assertThat(cache.getSize()).isPositive();
+	}
+
+	private static void put(DefaultQueryResultCache cache, Key key) {
+		cache.put(key, RESULT, cache.getGeneration(key.getCollectionName()));
+	}
+
+	private static void put(DefaultQueryResultCache cache, Key key, Document document) {
+		cache.put(key, Collections.singletonList(document), cache.getGeneration(key.getCollectionName()));
+	}
+
+	private static Key key(String collection, ReadPreference readPreference) {
+		return Key.of(collection, new Document(), new Document(), new Document(), 0, 0, readPreference);
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HedgedReadPolicyMetrics}.
+ *
+ * @author agent
+ */
+class HedgedReadPolicyMetricsUnitTests {
+
+	@Test
+	void exposesPolicyCounters() {
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		HedgedReadPolicy policy = new HedgedReadPolicy();
+
+		new HedgedReadPolicyMetrics(policy, Tags.of("template", "reactive")).bindTo(registry);
+
+		policy.recordHedge();
+		policy.recordHedge();
+		policy.recordHedgeWin();
+		policy.recordBudgetExceeded();
+
+		assertThat(registry.get("spring.data.mongodb.hedged-reads.issued").tag("template", "reactive")
+				.functionCounter().count()).isEqualTo(2);
+		assertThat(registry.get("spring.data.mongodb.hedged-reads.won").functionCounter().count()).isOne();
+		assertThat(registry.get("spring.data.mongodb.latency-budget.exceeded").functionCounter().count()).isOne();
+	}
+}
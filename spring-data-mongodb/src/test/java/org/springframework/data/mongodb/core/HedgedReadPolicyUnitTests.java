@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.mongodb.MongoExecutionTimeoutException;
+
+/**
+ * Unit tests for {@link HedgedReadPolicy}.
+ *
+ * @author agent
+ */
+class HedgedReadPolicyUnitTests {
+
+	@Test
+	void doesNotHedgeBeforeEnoughLatenciesObserved() {
+
+		HedgedReadPolicy policy = new HedgedReadPolicy();
+
+		for (int i = 0; i < 99; i++) {
+			policy.recordLatency("person", TimeUnit.MILLISECONDS.toNanos(10));
+		}
+
+		assertThat(policy.getHedgeDelay("person")).isNull();
+		assertThat(policy.getHedgeDelay("address")).isNull();
+	}
+
+	@Test
+	void derivesHedgeDelayFromPercentile() {
+
+		HedgedReadPolicy policy = new HedgedReadPolicy(0.9, Duration.ZERO);
+
+		for (int i = 1; i <= 128; i++) {
+			policy.recordLatency("person", TimeUnit.MILLISECONDS.toNanos(i));
+		}
+
+		assertThat(policy.getHedgeDelay("person")).isEqualTo(Duration.ofMillis(116));
+	}
+
+	@Test
+	void hedgeDelayIsAtLeastMinimumDelay() {
+
+		HedgedReadPolicy policy = new HedgedReadPolicy(0.9, Duration.ofMillis(50));
+
+		for (int i = 0; i < 128; i++) {
+			policy.recordLatency("person", TimeUnit.MILLISECONDS.toNanos(1));
+		}
+
+		assertThat(policy.getHedgeDelay("person")).isEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	void detectsServerSideTimeouts() {
+
+		MongoExecutionTimeoutException timeout = new MongoExecutionTimeoutException(50, "operation exceeded time limit");
+
+		assertThat(HedgedReadPolicy.isBudgetExceeded(timeout)).isTrue();
+		assertThat(HedgedReadPolicy.isBudgetExceeded(new QueryTimeoutException("timeout", timeout))).isTrue();
+		assertThat(HedgedReadPolicy.isBudgetExceeded(new IllegalStateException())).isFalse();
+	}
+
+	@Test
+	void rejectsInvalidPercentile() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new HedgedReadPolicy(1, Duration.ZERO));
+		assertThatIllegalArgumentException().isThrownBy(() -> new HedgedReadPolicy(0, Duration.ZERO));
+	}
+}
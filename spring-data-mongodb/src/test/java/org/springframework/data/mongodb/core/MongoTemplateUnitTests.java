@@ -58,6 +58,7 @@ import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.annotation.Version;
@@ -75,12 +76,20 @@ import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.IndexAdvice;
+import org.springframework.data.mongodb.core.index.IndexAdvice.Support;
+import org.springframework.data.mongodb.core.index.IndexAdvisor;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexReport;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.Sharded;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
@@ -89,6 +98,7 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
+import org.springframework.data.mongodb.core.metrics.OperationSample;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -97,6 +107,9 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.lang.Nullable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 import org.springframework.util.CollectionUtils;
 
 import com.mongodb.MongoClientSettings;
@@ -106,6 +119,7 @@ import com.mongodb.ReadPreference;
 import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
@@ -114,15 +128,19 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndReplaceOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.MapReduceAction;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -386,6 +404,28 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		}));
 	}
 
+	@Test
+	void findWithFrozenQueryUsesMappedQuery() {
+
+		Query query = Query.query(Criteria.where("name").is("luke")).freeze();
+
+		template.find(query, Jedi.class);
+		template.find(query, Jedi.class);
+
+		verify(collection, times(2)).find(eq(new org.bson.Document("firstname", "luke")), any(Class.class));
+	}
+
+	@Test
+	void findOneWithSortDoesNotModifyFrozenQuery() {
+
+		Query query = Query.query(Criteria.where("name").is("luke")).with(Sort.by("name")).freeze();
+
+		template.findOne(query, Jedi.class);
+
+		assertThat(query.getLimit()).isZero();
+		verify(findIterable).limit(1);
+	}
+
 	@Test // DATAMONGO-566
 	void findAllAndRemoveShouldRetrieveMatchingDocumentsPriorToRemoval() {
 
@@ -1987,7 +2027,7 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 	void saveVersionedShouldProjectOnShardKeyWhenLoadingExistingDocument() {
 
 		when(collection.replaceOne(any(), any(), any(ReplaceOptions.class)))
-				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+				.thenReturn(UpdateResult.acknowledged(0, 0L, null), UpdateResult.acknowledged(1, 1L, null));
 		when(findIterable.first()).thenReturn(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
 
 		template.save(new ShardedVersionedEntityWithNonDefaultShardKey("id-1", 1L, "AT", 4230));
@@ -1995,6 +2035,137 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(findIterable).projection(new Document("country", 1).append("userid", 1));
 	}
 
+	@Test
+	void saveVersionedShouldNotLoadExistingDocumentIfShardKeyOfEntityMatches() {
+
+		when(collection.replaceOne(any(), any(), any(ReplaceOptions.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		template.save(new ShardedVersionedEntityWithNonDefaultShardKey("id-1", 1L, "AT", 4230));
+
+		verify(collection, never()).find(any(Bson.class), any(Class.class));
+		verify(collection, times(1)).replaceOne(any(), any(), any(ReplaceOptions.class));
+	}
+
+	@Test
+	void saveVersionedShouldRetryWithShardKeyOfExistingDocument() {
+
+		when(collection.replaceOne(any(), any(), any(ReplaceOptions.class)))
+				.thenReturn(UpdateResult.acknowledged(0, 0L, null), UpdateResult.acknowledged(1, 1L, null));
+		when(findIterable.first()).thenReturn(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
+
+		template.save(new ShardedVersionedEntityWithNonDefaultShardKey("id-1", 1L, "AT", 4230));
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection, times(2)).replaceOne(filter.capture(), any(), any());
+
+		assertThat(filter.getAllValues()).containsExactly(
+				new Document("_id", "id-1").append("version", 1L).append("country", "AT").append("userid", 4230),
+				new Document("_id", "id-1").append("version", 1L).append("country", "US").append("userid", 4230));
+	}
+
+	@Test
+	void saveVersionedShouldFailIfNoDocumentMatchesVersion() {
+
+		when(collection.replaceOne(any(), any(), any(ReplaceOptions.class)))
+				.thenReturn(UpdateResult.acknowledged(0, 0L, null));
+		when(findIterable.first()).thenReturn(null);
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> template.save(new ShardedVersionedEntityWithNonDefaultShardKey("id-1", 1L, "AT", 4230)));
+
+		verify(collection, times(1)).replaceOne(any(), any(), any(ReplaceOptions.class));
+	}
+
+	@Test
+	void saveAllReplacesVersionedEntitiesInSingleBulkWrite() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenReturn(BulkWriteResult.acknowledged(1, 1, 0, 1, Collections.emptyList(), Collections.emptyList()));
+
+		VersionedEntity existing = new VersionedEntity();
+		existing.id = 1;
+		existing.version = 10;
+
+		VersionedEntity fresh = new VersionedEntity();
+		fresh.id = 2;
+
+		Collection<VersionedEntity> saved = template.saveAll(Arrays.asList(existing, fresh), "versioned");
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+		verify(collection, never()).replaceOne(any(), any(), any(ReplaceOptions.class));
+
+		List<WriteModel<Document>> writes = captor.getValue();
+		assertThat(writes).hasSize(2);
+		assertThat(writes.get(0)).isInstanceOf(ReplaceOneModel.class);
+		assertThat(((ReplaceOneModel<Document>) writes.get(0)).getFilter())
+				.isEqualTo(new Document("_id", 1).append("version", 10));
+		assertThat(((ReplaceOneModel<Document>) writes.get(0)).getReplacement()).containsEntry("version", 11);
+		assertThat(writes.get(1)).isInstanceOf(InsertOneModel.class);
+		assertThat(((InsertOneModel<Document>) writes.get(1)).getDocument()).containsEntry("version", 0);
+
+		assertThat(saved).extracting(it -> it.version).containsExactly(11, 0);
+	}
+
+	@Test
+	void saveAllThrowsOptimisticLockingFailureIfVersionDoesNotMatch() {
+
+		List<Object> afterSave = new ArrayList<>();
+		AbstractMongoEventListener<VersionedEntity> eventListener = new AbstractMongoEventListener<VersionedEntity>() {
+
+			@Override
+			public void onAfterSave(AfterSaveEvent<VersionedEntity> event) {
+				afterSave.add(event.getSource().id);
+			}
+		};
+
+		StaticApplicationContext ctx = new StaticApplicationContext();
+		ctx.registerBean(ApplicationListener.class, () -> eventListener);
+		ctx.refresh();
+		template.setApplicationContext(ctx);
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenReturn(BulkWriteResult.acknowledged(1, 1, 0, 1, Collections.emptyList(), Collections.emptyList()));
+		when(findIterable.into(any())).thenReturn(Arrays.asList(new Document("_id", 1).append("version", 11),
+				new Document("_id", 2).append("version", 5)));
+
+		VersionedEntity first = new VersionedEntity();
+		first.id = 1;
+		first.version = 10;
+
+		VersionedEntity second = new VersionedEntity();
+		second.id = 2;
+		second.version = 3;
+
+		VersionedEntity fresh = new VersionedEntity();
+		fresh.id = 3;
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> template.saveAll(Arrays.asList(first, second, fresh), "versioned"))
+				.withMessageContaining("1 of 2");
+
+		verify(collection).find(new Document("_id", new Document("$in", Arrays.asList(1, 2))), Document.class);
+		verify(findIterable).projection(new Document("version", 1));
+		assertThat(afterSave).containsExactly(1, 3);
+	}
+
+	@Test
+	void saveAllSavesVersionedEntitiesWithMutableShardKeyOneByOne() {
+
+		when(collection.replaceOne(any(), any(), any(ReplaceOptions.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+		when(findIterable.first())
+				.thenReturn(new Document("_id", "id-1").append("country", "US").append("userid", 4230));
+
+		template.saveAll(
+				Collections.singletonList(new ShardedVersionedEntityWithNonDefaultShardKey("id-1", 1L, "AT", 4230)),
+				"sharded");
+
+		verify(collection, never()).bulkWrite(anyList(), any(BulkWriteOptions.class));
+		verify(collection).replaceOne(any(), any(), any(ReplaceOptions.class));
+	}
+
 	@Test // DATAMONGO-2479
 	void findShouldInvokeAfterConvertCallback() {
 
@@ -2225,6 +2396,394 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(collection).estimatedDocumentCount(any());
 	}
 
+	@Test
+	void reusesPreparedCollection() {
+
+		template.setReadPreference(ReadPreference.secondary());
+
+		template.estimatedCount(Person.class);
+		template.estimatedCount(Person.class);
+
+		verify(db, times(1)).getCollection("star-wars", Document.class);
+		verify(collection, times(1)).withReadPreference(ReadPreference.secondary());
+	}
+
+	@Test
+	void preparesCollectionPerDatabaseInstance() {
+
+		MongoDatabase otherDb = mock(MongoDatabase.class);
+		when(otherDb.getCollection(any(String.class), eq(Document.class))).thenReturn(collection);
+		when(factory.getMongoDatabase()).thenReturn(db, otherDb);
+
+		template.estimatedCount(Person.class);
+		template.estimatedCount(Person.class);
+
+		verify(db).getCollection("star-wars", Document.class);
+		verify(otherDb).getCollection("star-wars", Document.class);
+	}
+
+	@Test
+	void carriesHintAndReadPreferenceIntoDbRefLookup() {
+
+		when(aggregateIterable.hint(any())).thenReturn(aggregateIterable);
+
+		template.find(new Query().withHint("{ 'name' : 1 }").withReadPreference(ReadPreference.secondary())
+				.resolveDbRefsViaLookup(), WithEagerDbRef.class);
+
+		verify(collection).withReadPreference(ReadPreference.secondary());
+		verify(collection).aggregate(anyList(), eq(Document.class));
+		verify(aggregateIterable).hint(new Document("name", 1));
+	}
+
+	@Test
+	void usesFindForDbRefLookupHintedByIndexName() {
+
+		when(findIterable.hintString(anyString())).thenReturn(findIterable);
+
+		template.find(new Query().withHint("name_1").resolveDbRefsViaLookup(), WithEagerDbRef.class);
+
+		verify(collection, never()).aggregate(anyList(), eq(Document.class));
+		verify(findIterable).hintString("name_1");
+	}
+
+	@Test
+	void createsDbRefLookupPipeline() {
+
+		template.find(new Query(Criteria.where("id").is("1")).with(Sort.by("id")).skip(1).limit(2)
+				.resolveDbRefsViaLookup(), WithEagerDbRef.class);
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(captor.capture(), eq(Document.class));
+
+		List<Document> pipeline = captor.getValue();
+		assertThat(pipeline).extracting(stage -> stage.keySet().iterator().next()).containsExactly("$match", "$sort",
+				"$skip", "$limit", "$addFields", "$lookup", "$project");
+		assertThat(pipeline.get(0)).isEqualTo(new Document("$match", new Document("_id", "1")));
+		assertThat(pipeline.get(1)).isEqualTo(new Document("$sort", new Document("_id", 1)));
+		assertThat(pipeline.get(2)).isEqualTo(new Document("$skip", 1L));
+		assertThat(pipeline.get(3)).isEqualTo(new Document("$limit", 2));
+		assertThat(pipeline.get(5).get("$lookup", Document.class)) //
+				.containsEntry("from", "withNamedFields") //
+				.containsEntry("localField", "__dbref_ids_reference") //
+				.containsEntry("foreignField", "_id") //
+				.containsEntry("as", MappingMongoConverter.RESOLVED_DBREF_FIELD_PREFIX + "reference");
+		assertThat(pipeline.get(6)).isEqualTo(new Document("$project", new Document("__dbref_ids_reference", 0)));
+	}
+
+	@Test
+	void usesFindForDbRefLookupWithTextQuery() {
+
+		template.find(new BasicQuery("{ '$text' : { '$search' : 'luke' } }").resolveDbRefsViaLookup(),
+				WithEagerDbRef.class);
+
+		verify(collection, never()).aggregate(anyList(), eq(Document.class));
+		verify(collection).find(any(Bson.class), eq(Document.class));
+	}
+
+	@Test
+	void usesFindForDbRefLookupWithNestedNearQuery() {
+
+		template.find(new Query(new Criteria().orOperator(Criteria.where("location").near(new Point(1, 2)),
+				Criteria.where("location").nearSphere(new Point(3, 4)))).resolveDbRefsViaLookup(), WithEagerDbRef.class);
+
+		verify(collection, never()).aggregate(anyList(), eq(Document.class));
+		verify(collection).find(any(Bson.class), eq(Document.class));
+	}
+
+	@Test
+	void usesFindForDbRefLookupWithWhereQuery() {
+
+		template.find(new BasicQuery("{ '$where' : 'this.id == 1' }").resolveDbRefsViaLookup(), WithEagerDbRef.class);
+
+		verify(collection, never()).aggregate(anyList(), eq(Document.class));
+		verify(collection).find(any(Bson.class), eq(Document.class));
+	}
+
+	@Test
+	void removesResolvedDbRefFieldsBeforePublishingEvents() {
+
+		List<Document> loaded = new ArrayList<>();
+		List<Document> converted = new ArrayList<>();
+		AbstractMongoEventListener<WithEagerDbRef> eventListener = new AbstractMongoEventListener<WithEagerDbRef>() {
+
+			@Override
+			public void onAfterLoad(AfterLoadEvent<WithEagerDbRef> event) {
+				loaded.add(new Document(event.getDocument()));
+			}
+
+			@Override
+			public void onAfterConvert(AfterConvertEvent<WithEagerDbRef> event) {
+				converted.add(new Document(event.getDocument()));
+			}
+		};
+
+		StaticApplicationContext ctx = new StaticApplicationContext();
+		ctx.registerBean(ApplicationListener.class, () -> eventListener);
+		ctx.refresh();
+		template.setApplicationContext(ctx);
+
+		template.find(new Query().resolveDbRefsViaLookup(), WithEagerDbRef.class);
+
+		ArgumentCaptor<com.mongodb.Function<Document, Object>> captor = ArgumentCaptor
+				.forClass(com.mongodb.Function.class);
+		verify(aggregateIterable).map(captor.capture());
+
+		Object result = captor.getValue().apply(new Document("_id", "1")
+				.append(MappingMongoConverter.RESOLVED_DBREF_FIELD_PREFIX + "reference", Collections.emptyList()));
+
+		assertThat(result).isInstanceOf(WithEagerDbRef.class);
+		assertThat(loaded).containsExactly(new Document("_id", "1"));
+		assertThat(converted).containsExactly(new Document("_id", "1"));
+	}
+
+	@Test
+	void doesNotReusePreparedCollectionIfDisabled() {
+
+		template = new MongoTemplate(factory, converter) {
+
+			@Override
+			protected boolean isPreparedCollectionReusable() {
+				return false;
+			}
+		};
+
+		template.estimatedCount(Person.class);
+		template.estimatedCount(Person.class);
+
+		verify(db, times(2)).getCollection("star-wars", Document.class);
+	}
+
+	@Test
+	void doesNotReusePreparedCollectionIfPrepareCollectionIsOverridden() {
+
+		template = new MongoTemplate(factory, converter) {
+
+			@Override
+			protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+				return super.prepareCollection(collection);
+			}
+		};
+
+		template.estimatedCount(Person.class);
+		template.estimatedCount(Person.class);
+
+		verify(db, times(2)).getCollection("star-wars", Document.class);
+	}
+
+	@Test
+	void doesNotReusePreparedCollectionWithinTransaction() {
+
+		when(factory.isTransactionActive()).thenReturn(true);
+
+		template.estimatedCount(Person.class);
+		template.estimatedCount(Person.class);
+
+		verify(db, times(2)).getCollection("star-wars", Document.class);
+	}
+
+	@Test
+	void preparesCollectionAgainAfterReadPreferenceChange() {
+
+		template.estimatedCount(Person.class);
+		template.setReadPreference(ReadPreference.secondary());
+		template.estimatedCount(Person.class);
+
+		verify(db, times(2)).getCollection("star-wars", Document.class);
+		verify(collection).withReadPreference(ReadPreference.secondary());
+	}
+
+	@Test
+	void servesRepeatedFindFromQueryResultCache() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new org.bson.Document("_id", "id-1").append("firstname", "luke"));
+
+		template.setQueryResultCache(new DefaultQueryResultCache(1024, Duration.ofMinutes(1)));
+
+		template.find(new Query(), Person.class);
+
+		assertThat(template.find(new Query(), Person.class)).extracting(it -> it.firstname).containsExactly("luke");
+		verify(collection, times(1)).find(any(org.bson.Document.class), any(Class.class));
+	}
+
+	@Test
+	void evictsQueryResultCacheAgainAfterTransactionCompletion() {
+
+		DefaultQueryResultCache cache = new DefaultQueryResultCache(1024, Duration.ofMinutes(1));
+		template.setQueryResultCache(cache);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			template.remove(new Query(), Person.class);
+
+			org.bson.Document empty = new org.bson.Document();
+			cache.put(QueryResultCache.Key.of("person", empty, empty, empty, 0, 0),
+					Collections.singletonList(new org.bson.Document("_id", "id-1")), cache.getGeneration("person"));
+			assertThat(cache.getSize()).isPositive();
+
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+					TransactionSynchronization.STATUS_COMMITTED);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(cache.getSize()).isZero();
+	}
+
+	@Test
+	void evictsQueryResultCacheOnWrite() {
+
+		template.setQueryResultCache(new DefaultQueryResultCache(1024, Duration.ofMinutes(1)));
+
+		template.find(new Query(), Person.class);
+		template.remove(new Query(), Person.class);
+		template.find(new Query(), Person.class);
+
+		verify(collection, times(2)).find(any(org.bson.Document.class), any(Class.class));
+	}
+
+	@Test
+	void evictsQueryResultCacheOfAggregationOutputCollection() {
+
+		QueryResultCache cache = mock(QueryResultCache.class);
+		template.setQueryResultCache(cache);
+
+		template.aggregate(newAggregation(Aggregation.unwind("foo"), Aggregation.out("target")), "collection-1",
+				Wrapper.class);
+		template.aggregate(
+				newAggregation(Aggregation.unwind("foo"), Aggregation.merge().intoCollection("merged").build()),
+				"collection-1", Wrapper.class);
+
+		verify(cache).evict("target");
+		verify(cache).evict("merged");
+		verify(cache, never()).evict("collection-1");
+	}
+
+	@Test
+	void evictsQueryResultCacheOfMapReduceOutputCollection() {
+
+		QueryResultCache cache = mock(QueryResultCache.class);
+		template.setQueryResultCache(cache);
+
+		template.mapReduce("collection-1", "function() {}", "function(key,values) {}",
+				MapReduceOptions.options().outputCollection("target"), Wrapper.class);
+
+		verify(cache).evict("target");
+	}
+
+	@Test
+	void recordsFindWithOperationMetrics() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new org.bson.Document("_id", "id-1").append("firstname", "luke"));
+
+		List<String> recordings = new ArrayList<>();
+		template.setOperationMetrics((operation, collectionName, entityType, repositoryMethod, startNanos) -> {
+
+			recordings.add(operation + ":" + collectionName + ":" + entityType.getSimpleName());
+			return new OperationSample() {
+
+				@Override
+				public void recordMapping(long nanos) {
+					recordings.add("mapping");
+				}
+
+				@Override
+				public void recordConversion(long nanos, org.bson.Document document) {
+					recordings.add("conversion:" + document.get("_id"));
+				}
+
+				@Override
+				public void stop(@Nullable Throwable error) {
+					recordings.add("stop");
+				}
+			};
+		});
+
+		template.find(new Query(), Person.class);
+
+		assertThat(recordings).containsExactly("find:person:Person", "mapping", "conversion:id-1", "stop");
+	}
+
+	@Test
+	void recordsButDoesNotExplainSlowFindWithinTransaction() {
+
+		when(factory.isTransactionActive()).thenReturn(true);
+
+		SlowOperationDetector detector = new SlowOperationDetector(Duration.ZERO, 16);
+		detector.setExecutor(Runnable::run);
+		template.setSlowOperationDetector(detector);
+
+		template.find(Query.query(Criteria.where("firstname").is("luke")), Person.class);
+
+		assertThat(detector.getSlowOperations()).hasSize(1);
+		verify(db, never()).runCommand(any(Document.class), eq(Document.class));
+	}
+
+	@Test
+	void recordsAndExplainsSlowFind() {
+
+		commandResultDocument.put("queryPlanner", new Document("winningPlan", new Document("stage", "COLLSCAN")));
+
+		SlowOperationDetector detector = new SlowOperationDetector(Duration.ZERO, 16);
+		detector.setExecutor(Runnable::run);
+		template.setSlowOperationDetector(detector);
+
+		template.find(Query.query(Criteria.where("firstname").is("luke")), Person.class);
+		template.find(Query.query(Criteria.where("firstname").is("leia")), Person.class);
+
+		assertThat(detector.getSlowOperations()).hasSize(1);
+
+		SlowOperation slowOperation = detector.getSlowOperations().get(0);
+		assertThat(slowOperation.getCount()).isEqualTo(2);
+		assertThat(slowOperation.getCommand()).containsEntry("filter", new Document("firstname", "luke"));
+		assertThat(slowOperation.isCollectionScan()).isTrue();
+
+		ArgumentCaptor<Document> explain = ArgumentCaptor.forClass(Document.class);
+		verify(db).runCommand(explain.capture(), eq(Document.class));
+		assertThat(explain.getValue()).containsEntry("verbosity", "queryPlanner");
+	}
+
+	@Test
+	void recordsCursorOptionsOfSlowFind() {
+
+		SlowOperationDetector detector = new SlowOperationDetector(Duration.ZERO, 16);
+		detector.setExecutor(Runnable::run);
+		template.setSlowOperationDetector(detector);
+
+		Query query = Query.query(Criteria.where("firstname").is("luke")).withHint("firstname_1").skip(10).limit(5)
+				.collation(Collation.of("de"));
+		template.find(query, Person.class);
+
+		assertThat(detector.getSlowOperations()).hasSize(1);
+		assertThat(detector.getSlowOperations().get(0).getCommand()) //
+				.containsEntry("hint", "firstname_1") //
+				.containsEntry("skip", 10L) //
+				.containsEntry("limit", 5) //
+				.containsEntry("collation", Collation.of("de").toDocument());
+	}
+
+	@Test
+	void recordsQueryShapesWithIndexAdvisor() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		template.setIndexAdvisor(advisor);
+
+		template.find(Query.query(Criteria.where("firstname").is("luke")).with(Sort.by("id")), Person.class);
+		template.count(Query.query(Criteria.where("firstname").is("leia")), Person.class);
+
+		IndexReport report = advisor.advise("person",
+				Collections.singletonList(new IndexInfo(Collections.singletonList(IndexField.create("firstname",
+						Sort.Direction.ASC)), "firstname_1", false, false, "")));
+
+		assertThat(advisor.getCollectionNames()).containsExactly("person");
+		assertThat(report.getAdvice()).extracting(IndexAdvice::getSupport).containsExactlyInAnyOrder(Support.FULL,
+				Support.PARTIAL);
+	}
+
 	@Test // GH-2911
 	void insertErrorsOnCustomIteratorImplementation() {
 
@@ -2326,6 +2885,12 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		@Field("custom-named-field") String customName;
 	}
 
+	static class WithEagerDbRef {
+
+		@Id String id;
+		@org.springframework.data.mongodb.core.mapping.DBRef WithNamedFields reference;
+	}
+
 	@org.springframework.data.mongodb.core.mapping.Document(collation = "de_AT")
 	static class Sith {
 
@@ -16,8 +16,10 @@
 package org.springframework.data.mongodb.core;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +35,9 @@ import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOpe
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 
 /**
  * Unit tests for {@link QueryOperations}.
@@ -109,6 +114,22 @@ class QueryOperationsUnitTests {
 		assertThat(ctx.getAggregationOperationContext()).isInstanceOf(TypeBasedAggregationOperationContext.class);
 	}
 
+	@Test
+	void mapsFrozenQueryOnlyOnce() {
+
+		when(queryMapper.getMappedObject(any(), (MongoPersistentEntity<?>) isNull()))
+				.thenAnswer(it -> new Document("mapped", it.getArgument(0)));
+
+		Query query = Query.query(Criteria.where("name").is("foo")).freeze();
+
+		queryOperations.createQueryContext(query).getMappedQuery(null).put("name", "bar");
+		Document mapped = queryOperations.createQueryContext(Query.query(Criteria.where("name").is("foo")).freeze())
+				.getMappedQuery(null);
+
+		assertThat(mapped).isEqualTo(new Document("mapped", new Document("name", "foo")));
+		verify(queryMapper, times(1)).getMappedObject(any(), (MongoPersistentEntity<?>) isNull());
+	}
+
 	static class Person {
 
 	}
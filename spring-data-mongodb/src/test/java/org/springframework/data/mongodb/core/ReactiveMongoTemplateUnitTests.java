@@ -35,6 +35,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.assertj.core.api.Assertions;
@@ -89,6 +90,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.CollectionUtils;
 
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.ReadPreference;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
@@ -103,6 +105,7 @@ import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
 import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.DistinctPublisher;
 import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MapReducePublisher;
@@ -1400,6 +1403,46 @@ public class ReactiveMongoTemplateUnitTests {
 		verify(collection).estimatedDocumentCount(any());
 	}
 
+	@Test
+	void reusesPreparedCollection() {
+
+		template.estimatedCount(Person.class).subscribe();
+		template.estimatedCount(Person.class).subscribe();
+
+		verify(db, times(1)).getCollection("star-wars", Document.class);
+	}
+
+	@Test
+	void doesNotReusePreparedCollectionIfPrepareCollectionIsOverridden() {
+
+		template = new ReactiveMongoTemplate(factory, converter) {
+
+			@Override
+			protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+				return super.prepareCollection(collection);
+			}
+		};
+
+		template.estimatedCount(Person.class).subscribe();
+		template.estimatedCount(Person.class).subscribe();
+
+		verify(db, times(2)).getCollection("star-wars", Document.class);
+	}
+
+	@Test
+	void preparesCollectionPerDatabaseInstance() {
+
+		MongoDatabase otherDb = mock(MongoDatabase.class);
+		when(otherDb.getCollection(any(String.class), eq(Document.class))).thenReturn(collection);
+		when(factory.getMongoDatabase()).thenReturn(Mono.just(db), Mono.just(otherDb));
+
+		template.estimatedCount(Person.class).subscribe();
+		template.estimatedCount(Person.class).subscribe();
+
+		verify(db).getCollection("star-wars", Document.class);
+		verify(otherDb).getCollection("star-wars", Document.class);
+	}
+
 	@Test // GH-2911
 	void insertErrorsOnPublisher() {
 
@@ -1409,6 +1452,116 @@ public class ReactiveMongoTemplateUnitTests {
 				.isThrownBy(() -> template.insert(publisher));
 	}
 
+	@Test
+	void findAppliesLatencyBudgetAndCountsServerTimeouts() {
+
+		HedgedReadPolicy policy = new HedgedReadPolicy();
+		template.setHedgedReadPolicy(policy);
+
+		when(findPublisher.maxTime(anyLong(), any())).thenReturn(findPublisher);
+		doAnswer(invocation -> {
+			Flux.<Document> error(new MongoExecutionTimeoutException(50, "operation exceeded time limit"))
+					.subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		Query query = new Query();
+		query.getMeta().setLatencyBudget(Duration.ofMillis(50));
+
+		template.find(query, Person.class).as(StepVerifier::create).verifyError();
+
+		verify(findPublisher).maxTime(50, TimeUnit.MILLISECONDS);
+		assertThat(policy.getBudgetExceededCount()).isOne();
+	}
+
+	@Test
+	void findIssuesHedgedReadWhenExceedingLatencyPercentile() {
+
+		HedgedReadPolicy policy = new HedgedReadPolicy(0.5, Duration.ofMillis(1));
+		for (int i = 0; i < 128; i++) {
+			policy.recordLatency("star-wars", TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		template.setHedgedReadPolicy(policy);
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		doAnswer(invocation -> {
+
+			Subscriber<Document> subscriber = invocation.getArgument(0);
+			Flux<Document> response = subscriptions.incrementAndGet() == 1 ? Flux.never()
+					: Flux.just(new Document("_id", "id-1"));
+			response.subscribe(subscriber);
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		Query query = new Query().withReadPreference(ReadPreference.secondary());
+		query.getMeta().setHedgedReads(true);
+
+		template.find(query, Person.class).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		assertThat(subscriptions).hasValue(2);
+		assertThat(policy.getHedgeCount()).isOne();
+		assertThat(policy.getHedgeWinCount()).isOne();
+	}
+
+	@Test
+	void findDoesNotHedgeReadsFromPrimary() {
+
+		HedgedReadPolicy policy = new HedgedReadPolicy(0.5, Duration.ofMillis(1));
+		for (int i = 0; i < 128; i++) {
+			policy.recordLatency("star-wars", TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		template.setHedgedReadPolicy(policy);
+		stubFindSubscribe(new Document("_id", "id-1"));
+
+		Query query = new Query();
+		query.getMeta().setHedgedReads(true);
+
+		template.find(query, Person.class).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		verify(findPublisher, times(1)).subscribe(any());
+		assertThat(policy.getHedgeCount()).isZero();
+	}
+
+	@Test
+	void findDoesNotHedgeReadsFromPrimaryPreferred() {
+
+		HedgedReadPolicy policy = new HedgedReadPolicy(0.5, Duration.ofMillis(1));
+		for (int i = 0; i < 128; i++) {
+			policy.recordLatency("star-wars", TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		template.setHedgedReadPolicy(policy);
+		stubFindSubscribe(new Document("_id", "id-1"));
+
+		Query query = new Query().withReadPreference(ReadPreference.primaryPreferred());
+		query.getMeta().setHedgedReads(true);
+
+		template.find(query, Person.class).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		verify(findPublisher, times(1)).subscribe(any());
+		assertThat(policy.getHedgeCount()).isZero();
+	}
+
+	@Test
+	void findDoesNotHedgeReadsBoundToSession() {
+
+		HedgedReadPolicy policy = new HedgedReadPolicy(0.5, Duration.ofMillis(1));
+		for (int i = 0; i < 128; i++) {
+			policy.recordLatency("star-wars", TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		template.setHedgedReadPolicy(policy);
+		stubFindSubscribe(new Document("_id", "id-1"));
+
+		Query query = new Query().withReadPreference(ReadPreference.secondary());
+		query.getMeta().setHedgedReads(true);
+
+		template.find(query, Person.class)
+				.contextWrite(ctx -> ReactiveMongoContext.setSession(ctx, Mono.just(mock(ClientSession.class))))
+				.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		verify(findPublisher, times(1)).subscribe(any());
+		assertThat(policy.getHedgeCount()).isZero();
+	}
+
 	private void stubFindSubscribe(Document document) {
 
 		Publisher<Document> realPublisher = Flux.just(document);
@@ -67,6 +67,17 @@ class SimpleMongoClientDatabaseFactoryUnitTests {
 		new SimpleMongoClientDatabaseFactory(mongo, "foo01231bar");
 	}
 
+	@Test
+	void reusesDatabase() {
+
+		when(mongo.getDatabase("foo")).thenReturn(database);
+
+		MongoDatabaseFactory factory = new SimpleMongoClientDatabaseFactory(mongo, "foo");
+
+		assertThat(factory.getMongoDatabase()).isSameAs(factory.getMongoDatabase());
+		verify(mongo, times(1)).getDatabase("foo");
+	}
+
 	@Test // DATADOC-295
 	void mongoUriConstructor() {
 
@@ -103,6 +114,16 @@ class SimpleMongoClientDatabaseFactoryUnitTests {
 		assertThat(singletonTarget).isSameAs(database);
 	}
 
+	@Test
+	void sessionBoundFactoryReusesDecoratedDatabase() {
+
+		when(mongo.getDatabase("foo")).thenReturn(database);
+
+		MongoDatabaseFactory factory = new SimpleMongoClientDatabaseFactory(mongo, "foo").withSession(clientSession);
+
+		assertThat(factory.getMongoDatabase()).isSameAs(factory.getMongoDatabase());
+	}
+
 	private void rejectsDatabaseName(String databaseName) {
 		assertThatThrownBy(() -> new SimpleMongoClientDatabaseFactory(mongo, databaseName))
 				.isInstanceOf(IllegalArgumentException.class);
@@ -63,6 +63,17 @@ class SimpleReactiveMongoDatabaseFactoryUnitTests {
 		assertThat(singletonTarget).isSameAs(database);
 	}
 
+	@Test
+	void sessionBoundFactoryReusesDecoratedDatabase() {
+
+		when(mongoClient.getDatabase("foo")).thenReturn(database);
+
+		ReactiveMongoDatabaseFactory factory = new SimpleReactiveMongoDatabaseFactory(mongoClient, "foo")
+				.withSession(clientSession);
+
+		assertThat(factory.getMongoDatabase().block()).isSameAs(factory.getMongoDatabase().block());
+	}
+
 	@Test // DATAMONGO-1903
 	void rejectsIllegalDatabaseNames() {
 
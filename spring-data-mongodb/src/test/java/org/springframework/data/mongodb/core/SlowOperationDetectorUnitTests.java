@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SlowOperationDetector}.
+ *
+ * @author agent
+ */
+class SlowOperationDetectorUnitTests {
+
+	static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+	@Test
+	void ignoresOperationsBelowThreshold() {
+
+		SlowOperationDetector detector = new SlowOperationDetector(Duration.ofMillis(100), 16);
+
+		assertThat(detector.record("find", "person", () -> find("luke"), TimeUnit.MILLISECONDS.toNanos(50))).isNull();
+		assertThat(detector.getSlowOperations()).isEmpty();
+	}
+
+	@Test
+	void deduplicatesOperationsByShape() {
+
+		SlowOperationDetector detector = new SlowOperationDetector(Duration.ofMillis(100), 16);
+
+		assertThat(detector.record("find", "person", () -> find("luke"), SLOW)).isNotNull();
+		assertThat(detector.record("find", "person", () -> find("leia"), SLOW * 2)).isNull();
+		assertThat(detector.record("find", "person", () -> new Document("find", "person").append("filter",
+				new Document("lastname", "skywalker")), SLOW)).isNotNull();
+
+		assertThat(detector.getSlowOperations()).hasSize(2);
+
+		SlowOperation slowest = detector.getSlowOperations().get(0);
+		assertThat(slowest.getCount()).isEqualTo(2);
+		assertThat(slowest.getMaxDuration()).isEqualTo(Duration.ofNanos(SLOW * 2));
+		assertThat(slowest.getCommand()).isEqualTo(find("luke"));
+	}
+
+	@Test
+	void evictsLeastRecentlySeenShapeWhenExceedingCapacity() {
+
+		SlowOperationDetector detector = new SlowOperationDetector(Duration.ofMillis(100), 2);
+
+		detector.record("find", "person", () -> find("luke"), SLOW);
+		detector.record("count", "person", () -> new Document("count", "person"), SLOW);
+		detector.record("find", "person", () -> find("leia"), SLOW);
+		detector.record("aggregate", "person", () -> new Document("aggregate", "person"), SLOW);
+
+		assertThat(detector.getSlowOperations()).extracting(SlowOperation::getOperation)
+				.containsExactlyInAnyOrder("find", "aggregate");
+	}
+
+	@Test
+	void explainsNewShapes() {
+
+		SlowOperationDetector detector = new SlowOperationDetector(Duration.ofMillis(100), 16);
+		detector.setExecutor(Runnable::run);
+		detector.setVerbosity(SlowOperationDetector.Verbosity.EXECUTION_STATS);
+
+		SlowOperation slowOperation = detector.record("find", "person", () -> find("luke"), SLOW);
+		detector.explain(slowOperation, command -> {
+
+			assertThat(command).containsEntry("explain", find("luke")).containsEntry("verbosity", "executionStats");
+			return new Document("queryPlanner", new Document("winningPlan",
+					new Document("stage", "FETCH").append("inputStage", new Document("stage", "IXSCAN"))));
+		});
+
+		assertThat(slowOperation.getExplainPlan()).isNotNull();
+		assertThat(slowOperation.isCollectionScan()).isFalse();
+	}
+
+	@Test
+	void detectsCollectionScanInNestedPlans() {
+
+		SlowOperationDetector detector = new SlowOperationDetector(Duration.ofMillis(100), 16);
+		detector.setExecutor(Runnable::run);
+
+		SlowOperation slowOperation = detector.record("find", "person", () -> find("luke"), SLOW);
+		detector.explain(slowOperation, command -> new Document("queryPlanner", new Document("winningPlan",
+				new Document("stage", "OR").append("inputStages",
+						Arrays.asList(new Document("stage", "IXSCAN"), new Document("stage", "COLLSCAN"))))));
+
+		assertThat(slowOperation.isCollectionScan()).isTrue();
+	}
+
+	private static Document find(String firstname) {
+		return new Document("find", "person").append("filter", new Document("firstname", firstname));
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.aggregation.PreparedAggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link PreparedAggregation}.
+ *
+ * @author agent
+ */
+class PreparedAggregationUnitTests {
+
+	MongoMappingContext mappingContext;
+	QueryMapper queryMapper;
+
+	@BeforeEach
+	void beforeEach() {
+
+		mappingContext = new MongoMappingContext();
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+		queryMapper = new QueryMapper(converter);
+	}
+
+	@Test
+	void rendersMappedPipelineWithBoundValues() {
+
+		PreparedAggregation<TypedAggregation<Order>> prepared = PreparedAggregation
+				.of(newAggregation(Order.class, match(where("status").is(parameter("status"))), limit(10)));
+
+		assertThat(prepared.bind("status", "OPEN").toPipeline(context())).containsExactly(
+				Document.parse("{ $match : { order_status : 'OPEN' } }"), new Document("$limit", 10L));
+		assertThat(prepared.bind("status", "CLOSED").toPipeline(context()))
+				.contains(Document.parse("{ $match : { order_status : 'CLOSED' } }"));
+	}
+
+	@Test
+	void rendersPipelineOncePerContext() {
+
+		AtomicInteger renderings = new AtomicInteger();
+		AggregationOperation operation = context -> {
+
+			if (context instanceof TypeBasedAggregationOperationContext) {
+				renderings.incrementAndGet();
+			}
+			return new Document("$match", context.getMappedObject(new Document("status", parameter("status"))));
+		};
+
+		PreparedAggregation<TypedAggregation<Order>> prepared = PreparedAggregation
+				.of(newAggregation(Order.class, operation));
+
+		prepared.bind("status", "OPEN").toPipeline(context());
+		prepared.bind("status", "CLOSED").toPipeline(context());
+
+		assertThat(renderings).hasValue(1);
+	}
+
+	@Test
+	void retainsBindingWhenApplyingOptions() {
+
+		TypedAggregation<Order> aggregation = PreparedAggregation
+				.of(newAggregation(Order.class, match(where("status").is(parameter("status"))))).bind("status", "OPEN")
+				.withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+		assertThat(aggregation.getOptions().isAllowDiskUse()).isTrue();
+		assertThat(aggregation.toPipeline(context()))
+				.containsExactly(Document.parse("{ $match : { order_status : 'OPEN' } }"));
+	}
+
+	@Test
+	void rejectsMissingParameterValue() {
+
+		PreparedAggregation<Aggregation> prepared = PreparedAggregation
+				.of(newAggregation(match(where("status").is(parameter("status")))));
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> prepared.bind("state", "OPEN").toPipeline(Aggregation.DEFAULT_CONTEXT));
+	}
+
+	private AggregationOperationContext context() {
+		return new TypeBasedAggregationOperationContext(Order.class, mappingContext, queryMapper);
+	}
+
+	static class Order {
+
+		String id;
+		@Field("order_status") String status;
+	}
+}
@@ -946,6 +946,13 @@ public class SpelExpressionTransformerUnitTests {
 		assertThat(transform("round(field, 2)")).isEqualTo(Document.parse("{ \"$round\" : [\"$field\", 2]}"));
 	}
 
+	@Test
+	public void shouldBindParametersOfRepeatedlyUsedExpression() {
+
+		assertThat(transform("[0] + a", 1)).isEqualTo(Document.parse("{ \"$add\" : [ 1 , \"$a\"]}"));
+		assertThat(transform("[0] + a", 2)).isEqualTo(Document.parse("{ \"$add\" : [ 2 , \"$a\"]}"));
+	}
+
 	private Object transform(String expression, Object... params) {
 		Object result = transformer.transform(expression, Aggregation.DEFAULT_CONTEXT, params);
 		return result == null ? null : (!(result instanceof org.bson.Document) ? result.toString() : result);
@@ -664,6 +664,53 @@ public class DbRefMappingMongoConverterUnitTests {
 		verify(converterSpy, never()).readRef(any());
 	}
 
+	@Test
+	void readsEagerDbRefsFromResolvedDocuments() {
+
+		Document source = new Document("_id", "id-1") //
+				.append("references", Arrays.asList(new DBRef("lazyDbRefTarget", "2"), new DBRef("lazyDbRefTarget", "1"))) //
+				.append("reference", new DBRef("lazyDbRefTarget", "1")) //
+				.append(MappingMongoConverter.RESOLVED_DBREF_FIELD_PREFIX + "references",
+						Arrays.asList(new Document("_id", "1").append("value", "one"),
+								new Document("_id", "2").append("value", "two"))) //
+				.append(MappingMongoConverter.RESOLVED_DBREF_FIELD_PREFIX + "reference",
+						Collections.singletonList(new Document("_id", "1").append("value", "one")));
+
+		ClassWithEagerDbRefs result = converter.read(ClassWithEagerDbRefs.class, source);
+
+		assertThat(result.references).extracting(LazyDbRefTarget::getValue).containsExactly("two", "one");
+		assertThat(result.reference.getValue()).isEqualTo("one");
+
+		verify(dbRefResolver, never()).resolveDbRef(any(), any(), any(), any());
+	}
+
+	@Test
+	void resolvesEagerDbRefsNotContainedInResolvedDocuments() {
+
+		LazyDbRefTarget missing = new LazyDbRefTarget("3", "three");
+		LazyDbRefTarget elsewhere = new LazyDbRefTarget("1", "one-elsewhere");
+
+		doAnswer(invocation -> invocation.<MongoPersistentProperty> getArgument(0).isCollectionLike()
+				? Collections.singletonList(missing)
+				: elsewhere).when(dbRefResolver).resolveDbRef(any(), any(), any(), any());
+
+		Document source = new Document("_id", "id-1") //
+				.append("references",
+						Arrays.asList(new DBRef("lazyDbRefTarget", "1"), new DBRef("lazyDbRefTarget", "3"))) //
+				.append("reference", new DBRef("otherCollection", "1")) //
+				.append(MappingMongoConverter.RESOLVED_DBREF_FIELD_PREFIX + "references",
+						Collections.singletonList(new Document("_id", "1").append("value", "one"))) //
+				.append(MappingMongoConverter.RESOLVED_DBREF_FIELD_PREFIX + "reference",
+						Collections.singletonList(new Document("_id", "1").append("value", "one")));
+
+		ClassWithEagerDbRefs result = converter.read(ClassWithEagerDbRefs.class, source);
+
+		assertThat(result.references).containsExactly(missing);
+		assertThat(result.reference).isSameAs(elsewhere);
+
+		verify(dbRefResolver, times(2)).resolveDbRef(any(), any(), any(), any());
+	}
+
 	private Object transport(Object result) {
 		return SerializationUtils.deserialize(SerializationUtils.serialize(result));
 	}
@@ -696,6 +743,13 @@ public class DbRefMappingMongoConverterUnitTests {
 				lazy = true) LazyDbRefTargetWithPeristenceConstructorWithoutDefaultConstructor dbRefToConcreteTypeWithPersistenceConstructorWithoutDefaultConstructor;
 	}
 
+	static class ClassWithEagerDbRefs {
+
+		@Id String id;
+		@org.springframework.data.mongodb.core.mapping.DBRef List<LazyDbRefTarget> references;
+		@org.springframework.data.mongodb.core.mapping.DBRef LazyDbRefTarget reference;
+	}
+
 	static class ClassWithDbRefSetConstructor {
 
 		final @org.springframework.data.mongodb.core.mapping.DBRef Set<LazyDbRefTarget> dbRefToInterface;
@@ -132,4 +132,83 @@ class DefaultDbRefResolverUnitTests {
 
 		assertThat(resolver.bulkFetch(Arrays.asList(ref1, ref2))).containsExactly(document, document);
 	}
+
+	@Test
+	void bulkFetchOnlyLoadsDocumentsNotPresentInIdentityMap() {
+
+		Document o1 = new Document("_id", new ObjectId());
+		Document o2 = new Document("_id", new ObjectId());
+
+		DBRef ref1 = new DBRef("collection-1", o1.get("_id"));
+		DBRef ref2 = new DBRef("collection-1", o2.get("_id"));
+
+		when(cursorMock.into(any())).then(invocation -> Collections.singletonList(o1)) //
+				.then(invocation -> Collections.singletonList(o2));
+
+		try (DbRefIdentityMap ignored = DbRefIdentityMap.open()) {
+
+			assertThat(resolver.bulkFetch(Collections.singletonList(ref1))).containsExactly(o1);
+			assertThat(resolver.bulkFetch(Arrays.asList(ref1, ref2))).containsExactly(o1, o2);
+			assertThat(resolver.bulkFetch(Arrays.asList(ref2, ref1))).containsExactly(o2, o1);
+		}
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(collectionMock, times(2)).find(captor.capture());
+
+		assertThat(captor.getAllValues().get(1))
+				.isEqualTo(new Document("_id", new Document("$in", Collections.singletonList(o2.get("_id")))));
+	}
+
+	@Test
+	void doesNotRetainDocumentsOutsideOfIdentityMap() {
+
+		DBRef ref = new DBRef("collection-1", new ObjectId());
+
+		when(cursorMock.into(any())).then(invocation -> Collections.singletonList(new Document("_id", ref.getId())));
+
+		DbRefIdentityMap.execute(() -> resolver.bulkFetch(Collections.singletonList(ref)));
+		resolver.bulkFetch(Collections.singletonList(ref));
+
+		assertThat(DbRefIdentityMap.getCurrent()).isNull();
+		verify(collectionMock, times(2)).find(any(Document.class));
+	}
+
+	@Test
+	void bulkFetchServesDocumentsFromReferenceCache() {
+
+		Document o1 = new Document("_id", new ObjectId());
+		Document o2 = new Document("_id", new ObjectId());
+
+		DBRef ref1 = new DBRef("collection-1", o1.get("_id"));
+		DBRef ref2 = new DBRef("collection-1", o2.get("_id"));
+
+		ReferenceDocumentCache cache = mock(ReferenceDocumentCache.class);
+		when(cache.get(ref1)).thenReturn(o1);
+		when(cursorMock.into(any())).then(invocation -> Collections.singletonList(o2));
+
+		resolver.setReferenceCache(cache);
+
+		assertThat(resolver.bulkFetch(Arrays.asList(ref1, ref2))).containsExactly(o1, o2);
+
+		verify(collectionMock).find(new Document("_id", new Document("$in", Collections.singletonList(o2.get("_id")))));
+		verify(cache).put(new DBRef(null, "collection-1", o2.get("_id")), o2);
+	}
+
+	@Test
+	void bypassesReferenceCacheWithinTransaction() {
+
+		Document o1 = new Document("_id", new ObjectId());
+		DBRef ref1 = new DBRef("collection-1", o1.get("_id"));
+
+		ReferenceDocumentCache cache = mock(ReferenceDocumentCache.class);
+		when(factoryMock.isTransactionActive()).thenReturn(true);
+		when(cursorMock.into(any())).then(invocation -> Collections.singletonList(o1));
+
+		resolver.setReferenceCache(cache);
+
+		assertThat(resolver.bulkFetch(Collections.singletonList(ref1))).containsExactly(o1);
+
+		verify(cache, never()).get(any());
+		verify(cache, never()).put(any(), any());
+	}
 }
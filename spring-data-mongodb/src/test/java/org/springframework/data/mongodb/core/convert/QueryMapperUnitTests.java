@@ -56,6 +56,7 @@ import org.springframework.data.mongodb.core.mapping.TextScore;
 import org.springframework.data.mongodb.core.mapping.Unwrapped;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.MappedCriteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.TextQuery;
 
@@ -1257,6 +1258,18 @@ public class QueryMapperUnitTests {
 		assertThat(document).isEqualTo(new org.bson.Document("double_underscore.renamed", new org.bson.Document("$exists", true)));
 	}
 
+	@Test
+	void takesOverMappedCriteriaAsIs() {
+
+		String id = new ObjectId().toHexString();
+		Query query = new Query(MappedCriteria.of(new org.bson.Document("_id", id)));
+
+		org.bson.Document document = mapper.getMappedObject(query.getQueryObject(),
+				context.getPersistentEntity(Sample.class));
+
+		assertThat(document).isEqualTo(new org.bson.Document("_id", id));
+	}
+
 	class WithDeepArrayNesting {
 
 		List<WithNestedArray> level0;
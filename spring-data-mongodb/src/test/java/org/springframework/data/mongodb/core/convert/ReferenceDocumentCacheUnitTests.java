@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.CachedReference;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link ReferenceDocumentCache}.
+ *
+ * @author agent
+ */
+class ReferenceDocumentCacheUnitTests {
+
+	MongoMappingContext mappingContext;
+	ReferenceDocumentCache cache;
+
+	@BeforeEach
+	void beforeEach() {
+
+		mappingContext = new MongoMappingContext();
+		mappingContext.getPersistentEntity(Order.class);
+
+		cache = new ReferenceDocumentCache(mappingContext);
+	}
+
+	@Test
+	void cachesDocumentsOfAnnotatedEntity() {
+
+		com.mongodb.DBRef ref = new com.mongodb.DBRef("country", "de");
+		Document document = new Document("_id", "de");
+
+		assertThat(cache.get(ref)).isNull();
+
+		cache.put(ref, document);
+
+		assertThat(cache.get(ref)).isEqualTo(document).isNotSameAs(document);
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isOne();
+	}
+
+	@Test
+	void copiesDocumentsOnReadAndWrite() {
+
+		com.mongodb.DBRef ref = new com.mongodb.DBRef("country", "de");
+		Document document = new Document("_id", "de").append("address", new Document("city", "Berlin"));
+
+		cache.put(ref, document);
+		document.get("address", Document.class).put("city", "Hamburg");
+
+		Document read = cache.get(ref);
+		read.get("address", Document.class).put("city", "Munich");
+
+		assertThat(cache.get(ref)).containsEntry("address", new Document("city", "Berlin"));
+	}
+
+	@Test
+	void notifiesListenersAboutCollectionsCachedFirstTime() {
+
+		List<String> collections = new ArrayList<>();
+		cache.addCollectionListener(collections::add);
+
+		cache.put(new com.mongodb.DBRef("country", "de"), new Document("_id", "de"));
+		cache.put(new com.mongodb.DBRef("country", "fr"), new Document("_id", "fr"));
+		cache.put(new com.mongodb.DBRef("customer", "c-1"), new Document("_id", "c-1"));
+
+		assertThat(collections).containsExactly("country");
+
+		List<String> late = new ArrayList<>();
+		cache.addCollectionListener(late::add);
+
+		assertThat(late).containsExactly("country");
+	}
+
+	@Test
+	void cachesDocumentsReferencedByAnnotatedProperty() {
+
+		assertThat(cache.isCacheable("category")).isTrue();
+		assertThat(cache.isCacheable("customer")).isFalse();
+		assertThat(cache.getCacheableCollections()).containsExactlyInAnyOrder("country", "category");
+	}
+
+	@Test
+	void doesNotCacheDocumentsOfOtherCollections() {
+
+		com.mongodb.DBRef ref = new com.mongodb.DBRef("customer", "c-1");
+
+		cache.put(ref, new Document("_id", "c-1"));
+
+		assertThat(cache.get(ref)).isNull();
+		assertThat(cache.getMissCount()).isZero();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedDocumentWhenFull() {
+
+		com.mongodb.DBRef first = new com.mongodb.DBRef("category", 1);
+		com.mongodb.DBRef second = new com.mongodb.DBRef("category", 2);
+		com.mongodb.DBRef third = new com.mongodb.DBRef("category", 3);
+
+		cache.put(first, new Document("_id", 1));
+		cache.put(second, new Document("_id", 2));
+		cache.get(first);
+		cache.put(third, new Document("_id", 3));
+
+		assertThat(cache.get(first)).isNotNull();
+		assertThat(cache.get(second)).isNull();
+		assertThat(cache.getEvictionCount()).isOne();
+	}
+
+	@Test
+	void expiresDocumentsAfterTimeToLive() {
+
+		com.mongodb.DBRef ref = new com.mongodb.DBRef("category", 1);
+
+		mappingContext.getPersistentEntity(Tag.class);
+		cache = new ReferenceDocumentCache(mappingContext);
+
+		com.mongodb.DBRef tag = new com.mongodb.DBRef("tag", 1);
+		cache.put(tag, new Document("_id", 1));
+		cache.put(ref, new Document("_id", 1));
+
+		assertThat(cache.get(tag)).isNull();
+		assertThat(cache.get(ref)).isNotNull();
+	}
+
+	@Test
+	void evictsById() {
+
+		com.mongodb.DBRef ref = new com.mongodb.DBRef("country", "de");
+
+		cache.put(ref, new Document("_id", "de"));
+		cache.evict("country", "de");
+
+		assertThat(cache.get(ref)).isNull();
+		assertThat(cache.getEvictionCount()).isOne();
+	}
+
+	@Test
+	void picksUpCacheableEntitiesAddedToMappingContextLater() {
+
+		assertThat(cache.isCacheable("tag")).isFalse();
+
+		mappingContext.getPersistentEntity(Tag.class);
+
+		assertThat(cache.isCacheable("tag")).isTrue();
+	}
+
+	static class Order {
+
+		String id;
+		@DBRef Customer customer;
+		@DBRef Country country;
+		@DBRef @CachedReference(maxSize = 2) Category category;
+	}
+
+	static class Customer {
+		String id;
+	}
+
+	@CachedReference
+	static class Country {
+		String id;
+	}
+
+	static class Category {
+		Integer id;
+	}
+
+	@CachedReference(timeToLive = 0)
+	static class Tag {
+		Integer id;
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.IndexAdvice.Support;
+
+/**
+ * Unit tests for {@link IndexAdvisor} and {@link QueryShape}.
+ *
+ * @author agent
+ */
+class IndexAdvisorUnitTests {
+
+	static final IndexInfo ID_INDEX = index("_id_", "_id", Direction.ASC);
+
+	@Test
+	void normalizesQueryIntoEqualitySortAndRangeFields() {
+
+		Document query = new Document("lastname", "skywalker") //
+				.append("age", new Document("$gt", 18)) //
+				.append("firstname", Pattern.compile("^l")) //
+				.append("$and", Collections.singletonList(new Document("planet", new Document("$eq", "tatooine"))));
+
+		List<QueryShape> shapes = QueryShape.of("person", query, new Document("createdAt", -1));
+
+		assertThat(shapes).hasSize(1);
+		assertThat(shapes.get(0).getEqualityFields()).containsExactly("lastname", "planet");
+		assertThat(shapes.get(0).getRangeFields()).containsExactly("age", "firstname");
+		assertThat(shapes.get(0).getSortFields()).containsEntry("createdAt", -1);
+		assertThat(shapes.get(0).toIndexDefinition())
+				.isEqualTo("{'lastname': 1, 'planet': 1, 'createdAt': -1, 'age': 1, 'firstname': 1}");
+	}
+
+	@Test
+	void treatsInAsRangeWhenSorted() {
+
+		Document query = new Document("lastname", new Document("$in", Arrays.asList("skywalker", "solo")));
+
+		assertThat(QueryShape.of("person", query, null).get(0).getEqualityFields()).containsExactly("lastname");
+		assertThat(QueryShape.of("person", query, new Document("age", 1)).get(0).getRangeFields())
+				.containsExactly("lastname");
+	}
+
+	@Test
+	void createsShapePerOrBranch() {
+
+		Document query = new Document("lastname", "skywalker").append("$or",
+				Arrays.asList(new Document("firstname", "luke"), new Document("age", new Document("$lt", 30))));
+
+		List<QueryShape> shapes = QueryShape.of("person", query, null);
+
+		assertThat(shapes).hasSize(2);
+		assertThat(shapes.get(0).getEqualityFields()).containsExactly("firstname", "lastname");
+		assertThat(shapes.get(1).getEqualityFields()).containsExactly("lastname");
+		assertThat(shapes.get(1).getRangeFields()).containsExactly("age");
+	}
+
+	@Test
+	void reportsFullSupportForIndexFollowingEqualitySortRange() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document("lastname", "skywalker").append("age", new Document("$gt", 18)),
+				new Document("createdAt", 1));
+
+		IndexInfo esr = new IndexInfo(Arrays.asList(IndexField.create("lastname", Direction.ASC),
+				IndexField.create("createdAt", Direction.DESC), IndexField.create("age", Direction.ASC)), "esr", false,
+				false, "");
+
+		IndexReport report = advisor.advise("person", Arrays.asList(ID_INDEX, esr));
+
+		assertThat(report.getAdvice()).hasSize(1);
+		assertThat(report.getAdvice().get(0).getSupport()).isEqualTo(Support.FULL);
+		assertThat(report.getAdvice().get(0).getIndexName()).isEqualTo("esr");
+		assertThat(report.getAdvice().get(0).getSuggestion()).isNull();
+		assertThat(report.isEmpty()).isTrue();
+	}
+
+	@Test
+	void reportsPartialSupportWhenRangePrecedesSort() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document("lastname", "skywalker").append("age", new Document("$gt", 18)),
+				new Document("createdAt", 1));
+
+		IndexInfo ers = new IndexInfo(Arrays.asList(IndexField.create("lastname", Direction.ASC),
+				IndexField.create("age", Direction.ASC), IndexField.create("createdAt", Direction.ASC)), "ers", false,
+				false, "");
+
+		IndexAdvice advice = advisor.advise("person", Arrays.asList(ID_INDEX, ers)).getAdvice().get(0);
+
+		assertThat(advice.getSupport()).isEqualTo(Support.PARTIAL);
+		assertThat(advice.getIndexName()).isEqualTo("ers");
+		assertThat(advice.getSuggestion())
+				.isEqualTo("@CompoundIndex(def = \"{'lastname': 1, 'createdAt': 1, 'age': 1}\")");
+	}
+
+	@Test
+	void reportsUnindexedShapesAndUnusedIndexes() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document("firstname", "luke"), null);
+		advisor.record("person", new Document("firstname", "leia"), null);
+
+		IndexReport report = advisor.advise("person", Arrays.asList(ID_INDEX, index("age_1", "age", Direction.ASC)));
+
+		assertThat(report.getUnsupportedShapes()).hasSize(1);
+		assertThat(report.getUnsupportedShapes().get(0).getSupport()).isEqualTo(Support.NONE);
+		assertThat(report.getUnsupportedShapes().get(0).getCount()).isEqualTo(2);
+		assertThat(report.getUnusedIndexes()).containsEntry("person", Collections.singleton("age_1"));
+	}
+
+	@Test
+	void reportsUnusedUniqueTtlPartialAndSparseIndexesAsNotQueryServing() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document("firstname", "luke"), null);
+
+		IndexInfo unique = new IndexInfo(Collections.singletonList(IndexField.create("email", Direction.ASC)), "email_1",
+				true, false, "");
+		IndexInfo sparse = new IndexInfo(Collections.singletonList(IndexField.create("nickname", Direction.ASC)),
+				"nickname_1", false, true, "");
+		IndexInfo ttl = IndexInfo.indexInfoOf(new Document("key", new Document("createdAt", 1))
+				.append("name", "createdAt_1").append("expireAfterSeconds", 3600));
+		IndexInfo partial = IndexInfo.indexInfoOf(new Document("key", new Document("age", 1)).append("name", "age_1")
+				.append("partialFilterExpression", new Document("age", new Document("$gt", 18))));
+
+		IndexReport report = advisor.advise("person", Arrays.asList(ID_INDEX, unique, sparse, ttl, partial,
+				index("firstname_1", "firstname", Direction.ASC), index("lastname_1", "lastname", Direction.ASC)));
+
+		assertThat(report.getUnusedIndexes()).containsEntry("person", Collections.singleton("lastname_1"));
+		assertThat(report.getNonQueryServingIndexes().get("person")).containsExactly("email_1", "nickname_1",
+				"createdAt_1", "age_1");
+	}
+
+	@Test
+	void matchesPartialIndexesOnlyForShapesConstrainingTheirFilterFieldsAndNeverSparseOnes() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document("nickname", "luke"), null);
+		advisor.record("person", new Document("lastname", "skywalker"), null);
+		advisor.record("person", new Document("lastname", "solo").append("age", new Document("$gt", 21)), null);
+
+		IndexInfo sparse = new IndexInfo(Collections.singletonList(IndexField.create("nickname", Direction.ASC)),
+				"nickname_1", false, true, "");
+		IndexInfo partial = IndexInfo.indexInfoOf(new Document("key", new Document("lastname", 1))
+				.append("name", "lastname_1").append("partialFilterExpression",
+						new Document("$and", Collections.singletonList(new Document("age", new Document("$gt", 18))))));
+
+		IndexReport report = advisor.advise("person", Arrays.asList(ID_INDEX, sparse, partial));
+
+		assertThat(report.getAdvice()).extracting(it -> it.getShape().getEqualityFields(), IndexAdvice::getSupport,
+				IndexAdvice::getIndexName).containsExactlyInAnyOrder( //
+						tuple(Collections.singleton("nickname"), Support.NONE, null), //
+						tuple(Collections.singleton("lastname"), Support.NONE, null), //
+						tuple(Collections.singleton("lastname"), Support.PARTIAL, "lastname_1"));
+		assertThat(report.getNonQueryServingIndexes().get("person")).containsExactly("nickname_1");
+	}
+
+	@Test
+	void doesNotReportDeclaredUniqueIndexAsUnused() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document("_id", "id-1"), null);
+
+		IndexReport report = advisor.adviseDeclared("person",
+				Collections.singletonList(new Index("email", Direction.ASC).named("email").unique()));
+
+		assertThat(report.getUnusedIndexes()).isEmpty();
+		assertThat(report.getNonQueryServingIndexes()).containsEntry("person", Collections.singleton("email"));
+		assertThat(report.isEmpty()).isTrue();
+	}
+
+	@Test
+	void matchesInvertedSortDirection() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document(), new Document("lastname", -1).append("age", 1));
+
+		IndexInfo index = new IndexInfo(Arrays.asList(IndexField.create("lastname", Direction.ASC),
+				IndexField.create("age", Direction.DESC)), "lastname_1_age_-1", false, false, "");
+
+		assertThat(advisor.advise("person", Collections.singletonList(index)).getAdvice().get(0).getSupport())
+				.isEqualTo(Support.FULL);
+	}
+
+	@Test
+	void matchesShapesAgainstDeclaredIndexes() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document("_id", "id-1"), null);
+		advisor.record("person", new Document("lastname", "skywalker"), new Document("firstname", 1));
+
+		IndexReport report = advisor.adviseDeclared("person", Collections.singletonList(
+				new CompoundIndexDefinition(new Document("lastname", 1).append("firstname", 1)).named("name")));
+
+		assertThat(report.getAdvice()).extracting(IndexAdvice::getIndexName).containsExactlyInAnyOrder("_id_", "name");
+		assertThat(report.isEmpty()).isTrue();
+	}
+
+	@Test
+	void ignoresShapesExceedingCapacity() {
+
+		IndexAdvisor advisor = new IndexAdvisor(1);
+		advisor.record("person", new Document("firstname", "luke"), null);
+		advisor.record("planet", new Document("name", "tatooine"), null);
+
+		assertThat(advisor.getCollectionNames()).containsExactly("person");
+	}
+
+	private static IndexInfo index(String name, String field, Direction direction) {
+		return new IndexInfo(Collections.singletonList(IndexField.create(field, direction)), name, false, false, "");
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.IndexAdvice.Support;
+
+/**
+ * Unit tests for {@link ReactiveIndexAdvisor}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveIndexAdvisorUnitTests {
+
+	@Mock ReactiveIndexOperations indexOperations;
+
+	@Test
+	void matchesRecordedShapesAgainstExistingIndexes() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		advisor.record("person", new Document("firstname", "luke"), null);
+
+		IndexInfo index = new IndexInfo(Collections.singletonList(IndexField.create("firstname", Direction.ASC)),
+				"firstname_1", false, false, "");
+		when(indexOperations.getIndexInfo()).thenReturn(Flux.just(index));
+
+		new ReactiveIndexAdvisor(advisor).advise(collectionName -> indexOperations) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(report -> {
+
+					assertThat(report.getAdvice()).extracting(IndexAdvice::getSupport).containsExactly(Support.FULL);
+					assertThat(report.isEmpty()).isTrue();
+				}) //
+				.verifyComplete();
+
+		verify(indexOperations).getIndexInfo();
+	}
+}
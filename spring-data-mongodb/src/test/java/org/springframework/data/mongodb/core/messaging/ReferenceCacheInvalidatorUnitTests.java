@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.messaging;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.mongodb.core.convert.ReferenceDocumentCache;
+import org.springframework.data.mongodb.core.mapping.CachedReference;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.DBRef;
+
+/**
+ * Unit tests for {@link ReferenceCacheInvalidator}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ReferenceCacheInvalidatorUnitTests {
+
+	@Mock MessageListenerContainer container;
+	@Mock Subscription subscription;
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void subscribesToCollectionsCachedAfterRegistration() {
+
+		when(container.register(any(ChangeStreamRequest.class), eq(Object.class))).thenReturn(subscription);
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		ReferenceDocumentCache cache = new ReferenceDocumentCache(mappingContext);
+		ReferenceCacheInvalidator invalidator = new ReferenceCacheInvalidator(cache);
+
+		assertThat(invalidator.register(container)).isEmpty();
+		verifyNoInteractions(container);
+
+		mappingContext.getPersistentEntity(Country.class);
+		cache.put(new DBRef("country", "de"), new Document("_id", "de"));
+		cache.put(new DBRef("country", "fr"), new Document("_id", "fr"));
+
+		ArgumentCaptor<ChangeStreamRequest> request = ArgumentCaptor.forClass(ChangeStreamRequest.class);
+		verify(container).register(request.capture(), eq(Object.class));
+
+		assertThat(request.getValue().getRequestOptions().getCollectionName()).isEqualTo("country");
+		assertThat(invalidator.getSubscriptions()).containsExactly(subscription);
+	}
+
+	@CachedReference
+	static class Country {
+		String id;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FlightRecorderEvents} and {@link FlightRecorderOperationMetrics}.
+ *
+ * @author agent
+ */
+class FlightRecorderEventsUnitTests {
+
+	@Test
+	void doesNotRecordEventsUnlessEnabled() {
+		assertThat(FlightRecorderEvents.beginRead()).isSameAs(FlightRecorderEvent.NONE);
+	}
+
+	@Test
+	void recordsEnabledEvent() throws Exception {
+
+		List<RecordedEvent> events = record("org.springframework.data.mongodb.RepositoryQuery",
+				() -> FlightRecorderEvents.beginRepositoryQuery("findByLastname").end(Person.class, "person", 2));
+
+		assertThat(events).hasSize(1);
+
+		RecordedEvent event = events.get(0);
+		assertThat(event.getString("method")).isEqualTo("findByLastname");
+		assertThat(event.getString("collection")).isEqualTo("person");
+		assertThat(event.getLong("documentCount")).isEqualTo(2);
+		assertThat(event.getClass("entityType").getName()).isEqualTo(Person.class.getName());
+	}
+
+	@Test
+	void recordsOperationEvent() throws Exception {
+
+		List<RecordedEvent> events = record("org.springframework.data.mongodb.Operation", () -> {
+
+			OperationSample sample = new FlightRecorderOperationMetrics().start("find", "person", Person.class, null,
+					System.nanoTime());
+			sample.recordMapping(10);
+			sample.stop(new IllegalStateException());
+		});
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("operation")).isEqualTo("find");
+		assertThat(events.get(0).getDuration("mappingTime")).isEqualTo(Duration.ofNanos(10));
+		assertThat(events.get(0).getString("exception")).isEqualTo("IllegalStateException");
+	}
+
+	private static List<RecordedEvent> record(String eventName, Runnable runnable) throws Exception {
+
+		Path file = Files.createTempFile("spring-data-mongodb", ".jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable(eventName).withoutThreshold();
+			recording.start();
+
+			runnable.run();
+
+			recording.stop();
+			recording.dump(file);
+
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	static class Person {}
+}
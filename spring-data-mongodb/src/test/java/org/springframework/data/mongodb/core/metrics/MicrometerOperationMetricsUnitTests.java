@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Unit tests for {@link MicrometerOperationMetrics}.
+ *
+ * @author agent
+ */
+class MicrometerOperationMetricsUnitTests {
+
+	SimpleMeterRegistry registry;
+	MicrometerOperationMetrics metrics;
+
+	@BeforeEach
+	void beforeEach() {
+
+		registry = new SimpleMeterRegistry();
+		metrics = new MicrometerOperationMetrics(registry);
+	}
+
+	@Test
+	void recordsOperationTaggedWithEntityAndRepositoryMethod() {
+
+		metrics.setRecordDocumentSize(true);
+
+		OperationSample sample = metrics.start("find", "person", Person.class, "PersonRepository.findByName",
+				System.nanoTime());
+		sample.recordConversion(10, new Document("_id", "id-1"));
+		sample.recordConversion(10, new Document("_id", "id-2"));
+		sample.stop(null);
+
+		Timer timer = registry.get("spring.data.mongodb.operations").tag("operation", "find").tag("collection", "person")
+				.tag("entity", "Person").tag("method", "PersonRepository.findByName").tag("exception", "none").timer();
+
+		assertThat(timer.count()).isOne();
+		assertThat(registry.get("spring.data.mongodb.operations.documents").summary().totalAmount()).isEqualTo(2);
+		assertThat(registry.get("spring.data.mongodb.operations.documents.size").summary().totalAmount()).isPositive();
+		assertThat(registry.get("spring.data.mongodb.operations.invocations").counter().count()).isOne();
+	}
+
+	@Test
+	void omitsHighCardinalityTagsIfConfigured() {
+
+		metrics.setLowCardinalityTags(true);
+
+		metrics.start("count", "person", Person.class, "PersonRepository.countByName", System.nanoTime()).stop(null);
+
+		Timer timer = registry.get("spring.data.mongodb.operations").timer();
+
+		assertThat(timer.getId().getTag("operation")).isEqualTo("count");
+		assertThat(timer.getId().getTag("entity")).isNull();
+		assertThat(timer.getId().getTag("method")).isNull();
+	}
+
+	@Test
+	void splitsServerTimeFromMappingAndConversion() {
+
+		long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(100);
+
+		OperationSample sample = metrics.start("find", "person", null, null, start);
+		sample.recordMapping(TimeUnit.MILLISECONDS.toNanos(20));
+		sample.recordConversion(TimeUnit.MILLISECONDS.toNanos(30), new Document());
+		sample.stop(null);
+
+		double total = registry.get("spring.data.mongodb.operations").timer().totalTime(TimeUnit.MILLISECONDS);
+		double server = registry.get("spring.data.mongodb.operations.server").timer().totalTime(TimeUnit.MILLISECONDS);
+
+		assertThat(registry.get("spring.data.mongodb.operations.mapping").timer().totalTime(TimeUnit.MILLISECONDS))
+				.isEqualTo(20);
+		assertThat(registry.get("spring.data.mongodb.operations.conversion").timer().totalTime(TimeUnit.MILLISECONDS))
+				.isEqualTo(30);
+		assertThat(server).isCloseTo(total - 50, offset(0.001));
+	}
+
+	@Test
+	void tagsFailedOperationsWithException() {
+
+		metrics.start("update", "person", null, null, System.nanoTime()).stop(new IllegalStateException());
+
+		assertThat(registry.get("spring.data.mongodb.operations").tag("exception", "IllegalStateException").timer().count())
+				.isOne();
+	}
+
+	@Test
+	void countsButDoesNotTimeOperationsNotSampled() {
+
+		metrics.setSampleRate(Double.MIN_VALUE);
+
+		OperationSample sample = metrics.start("find", "person", null, null, System.nanoTime());
+		sample.stop(null);
+
+		assertThat(sample.isRecording()).isFalse();
+		assertThat(registry.get("spring.data.mongodb.operations.invocations").counter().count()).isOne();
+		assertThat(registry.find("spring.data.mongodb.operations").timer()).isNull();
+	}
+
+	@Test
+	void skipsDocumentSizeByDefault() {
+
+		OperationSample sample = metrics.start("find", "person", null, null, System.nanoTime());
+		sample.recordConversion(10, new Document("_id", "id-1"));
+		sample.stop(null);
+
+		DistributionSummary documents = registry.get("spring.data.mongodb.operations.documents").summary();
+
+		assertThat(documents.totalAmount()).isOne();
+		assertThat(registry.find("spring.data.mongodb.operations.documents.size").summary()).isNull();
+	}
+
+	@Test
+	void recordsDocumentSizeUsingConfiguredCodecRegistry() {
+
+		metrics.setRecordDocumentSize(true);
+		metrics.setCodecRegistry(CodecRegistries.withUuidRepresentation(MongoClientSettings.getDefaultCodecRegistry(),
+				UuidRepresentation.STANDARD));
+
+		OperationSample sample = metrics.start("find", "person", null, null, System.nanoTime());
+		sample.recordConversion(10, new Document("_id", UUID.randomUUID()));
+		sample.stop(null);
+
+		assertThat(registry.get("spring.data.mongodb.operations.documents.size").summary().totalAmount()).isPositive();
+	}
+
+	static class Person {}
+}
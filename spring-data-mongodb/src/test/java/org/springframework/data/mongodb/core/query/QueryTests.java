@@ -19,6 +19,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.bson.Document;
 import org.junit.jupiter.api.Test;
 import org.springframework.aop.framework.ProxyFactory;
@@ -28,6 +31,8 @@ import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
 import org.springframework.data.mongodb.core.SpecialDoc;
 
+import com.mongodb.ReadPreference;
+
 /**
  * Unit tests for {@link Query}.
  *
@@ -350,6 +355,91 @@ class QueryTests {
 		compareQueries(target, source);
 	}
 
+	@Test
+	void frozenQueryRendersSameDocumentsAsSource() {
+
+		Query source = query(where("name").is("foo").and("age").gt(18)).with(Sort.by("name")).skip(5).limit(10)
+				.withHint("the hint").restrict(SpecialDoc.class);
+		source.fields().include("name");
+
+		Query frozen = source.freeze();
+
+		assertThat(frozen.isFrozen()).isTrue();
+		assertThat(frozen.isSorted()).isTrue();
+		compareQueries(frozen, source);
+	}
+
+	@Test
+	void frozenQueryRejectsModification() {
+
+		Query frozen = query(where("name").is("foo")).freeze();
+
+		assertThatExceptionOfType(InvalidMongoDbApiUsageException.class).isThrownBy(() -> frozen.limit(1));
+		assertThatExceptionOfType(InvalidMongoDbApiUsageException.class)
+				.isThrownBy(() -> frozen.addCriteria(where("age").is(18)));
+		assertThatExceptionOfType(InvalidMongoDbApiUsageException.class).isThrownBy(frozen::fields);
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> frozen.getRestrictedTypes().add(SpecialDoc.class));
+	}
+
+	@Test
+	void frozenQueryDoesNotCopyRenderedDocumentsOnAccess() {
+
+		Query frozen = query(where("name").is("foo")).with(Sort.by("name")).freeze();
+
+		assertThat(frozen.getQueryObject()).isSameAs(frozen.getQueryObject()).isEqualTo(new Document("name", "foo"));
+		assertThat(frozen.getSortObject()).isSameAs(frozen.getSortObject()).isEqualTo(new Document("name", 1));
+	}
+
+	@Test
+	void frozenQueryIsNotAffectedByChangesToNestedDocumentsOfSource() {
+
+		Document queryObject = new Document("address.city", new Document("$in", Arrays.asList("Berlin", "Hamburg")));
+		BasicQuery source = new BasicQuery(queryObject);
+		Query frozen = source.freeze();
+
+		queryObject.get("address.city", Document.class).put("$in", "Munich");
+
+		assertThat(frozen.getQueryObject().get("address.city", Document.class).get("$in", List.class))
+				.containsExactly("Berlin", "Hamburg");
+	}
+
+	@Test
+	void frozenQueryRejectsMetaModification() {
+
+		Query source = query(where("name").is("foo")).comment("find foo");
+		Query frozen = source.freeze();
+
+		assertThatExceptionOfType(InvalidMongoDbApiUsageException.class)
+				.isThrownBy(() -> frozen.getMeta().setComment("changed"));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> frozen.getMeta().getFlags().add(Meta.CursorOption.NO_TIMEOUT));
+		assertThat(frozen.getMeta().getComment()).isEqualTo("find foo");
+
+		source.getMeta().setComment("changed");
+		assertThat(frozen.getMeta().getComment()).isEqualTo("find foo");
+		assertThat(Query.of(frozen).getMeta().addFlag(Meta.CursorOption.NO_TIMEOUT)).isTrue();
+	}
+
+	@Test
+	void freezingFrozenQueryReturnsSameInstance() {
+
+		Query frozen = query(where("name").is("foo")).freeze();
+
+		assertThat(frozen.freeze()).isSameAs(frozen);
+		assertThat(frozen).isEqualTo(query(where("name").is("foo")).freeze());
+	}
+
+	@Test
+	void copiesReadPreference() {
+
+		Query source = query(where("name").is("foo")).withReadPreference(ReadPreference.secondary());
+
+		assertThat(Query.of(source).getReadPreference()).isEqualTo(ReadPreference.secondary());
+		assertThat(source.freeze().getReadPreference()).isEqualTo(ReadPreference.secondary());
+		assertThat(source).isNotEqualTo(query(where("name").is("foo")));
+	}
+
 	private void compareQueries(Query actual, Query expected) {
 
 		assertThat(actual.getCollation()).isEqualTo(expected.getCollation());
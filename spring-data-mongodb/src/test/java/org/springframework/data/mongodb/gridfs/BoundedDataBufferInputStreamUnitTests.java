@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Unit tests for {@link BoundedDataBufferInputStream}.
+ *
+ * @author agent
+ */
+class BoundedDataBufferInputStreamUnitTests {
+
+	DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+
+	@Test
+	void readsAllBuffersInOrder() throws Exception {
+
+		Flux<DataBuffer> source = Flux.just("foo", "bar", "baz")
+				.map(it -> factory.wrap(it.getBytes(StandardCharsets.UTF_8)));
+
+		InputStream stream = BoundedDataBufferInputStream.from(source, 1).block();
+
+		assertThat(StreamUtils.copyToString(stream, StandardCharsets.UTF_8)).isEqualTo("foobarbaz");
+	}
+
+	@Test
+	void requestsBoundedNumberOfBuffers() throws Exception {
+
+		AtomicLong requested = new AtomicLong();
+		Flux<DataBuffer> source = Flux.range(0, 100).map(it -> factory.wrap(new byte[] { it.byteValue() }))
+				.doOnRequest(requested::addAndGet);
+
+		InputStream stream = BoundedDataBufferInputStream.from(source, 2).block();
+
+		assertThat(stream.read()).isEqualTo(0);
+		assertThat(requested.get()).isLessThanOrEqualTo(3);
+
+		stream.close();
+	}
+
+	@Test
+	void emptySourceCompletesEmpty() {
+		BoundedDataBufferInputStream.from(Flux.empty(), 1).as(StepVerifier::create).verifyComplete();
+	}
+
+	@Test
+	void errorBeforeFirstElementIsPropagated() {
+
+		BoundedDataBufferInputStream.from(Flux.error(new IllegalStateException()), 1).as(StepVerifier::create)
+				.verifyError(IllegalStateException.class);
+	}
+
+	@Test
+	void cancellationClosesStreamAndCancelsSource() {
+
+		AtomicBoolean cancelled = new AtomicBoolean();
+		Flux<DataBuffer> source = Flux.<DataBuffer> never().doOnCancel(() -> cancelled.set(true));
+
+		BoundedDataBufferInputStream.from(source, 1).as(StepVerifier::create) //
+				.expectSubscription() //
+				.thenCancel() //
+				.verify();
+
+		assertThat(cancelled).isTrue();
+	}
+}
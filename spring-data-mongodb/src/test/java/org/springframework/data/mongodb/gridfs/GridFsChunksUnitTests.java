@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Unit tests for {@link GridFsChunks}.
+ *
+ * @author agent
+ */
+class GridFsChunksUnitTests {
+
+	@Test
+	void readChunkSplitsContent() throws Exception {
+
+		ByteArrayInputStream content = new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 });
+
+		assertThat(GridFsChunks.readChunk(content, 2)).containsExactly(1, 2);
+		assertThat(GridFsChunks.readChunk(content, 2)).containsExactly(3, 4);
+		assertThat(GridFsChunks.readChunk(content, 2)).containsExactly(5);
+		assertThat(GridFsChunks.readChunk(content, 2)).isNull();
+	}
+
+	@Test
+	void computesChunkCount() {
+
+		assertThat(GridFsChunks.chunkCount(file(0, 2))).isZero();
+		assertThat(GridFsChunks.chunkCount(file(4, 2))).isEqualTo(2);
+		assertThat(GridFsChunks.chunkCount(file(5, 2))).isEqualTo(3);
+	}
+
+	@Test
+	void readChunksVerifiesRange() {
+
+		GridFSFile file = file(5, 2);
+
+		assertThat(GridFsChunks.readChunks(file,
+				Arrays.asList(GridFsChunks.chunk(file.getId(), 1, new byte[] { 3, 4 }),
+						GridFsChunks.chunk(file.getId(), 2, new byte[] { 5 })),
+				1, 3)).containsExactly(new byte[] { 3, 4 }, new byte[] { 5 });
+
+		assertThatExceptionOfType(MongoGridFSException.class).isThrownBy(() -> GridFsChunks.readChunks(file,
+				Arrays.asList(GridFsChunks.chunk(file.getId(), 0, new byte[] { 1, 2 })), 0, 2));
+
+		assertThatExceptionOfType(MongoGridFSException.class).isThrownBy(() -> GridFsChunks.readChunks(file,
+				Arrays.asList(GridFsChunks.chunk(file.getId(), 2, new byte[] { 5, 6 })), 2, 3));
+	}
+
+	@Test
+	void computesChunkRange() {
+
+		GridFsChunks.ChunkRange range = GridFsChunks.range(file(10, 4), 5, 4);
+
+		assertThat(range.from).isEqualTo(1);
+		assertThat(range.to).isEqualTo(3);
+		assertThat(range.skip).isEqualTo(1);
+		assertThat(range.length).isEqualTo(4);
+	}
+
+	@Test
+	void truncatesChunkRangeToFileLength() {
+
+		GridFsChunks.ChunkRange range = GridFsChunks.range(file(10, 4), 8, 100);
+
+		assertThat(range.from).isEqualTo(2);
+		assertThat(range.to).isEqualTo(3);
+		assertThat(range.skip).isZero();
+		assertThat(range.length).isEqualTo(2);
+
+		assertThat(GridFsChunks.range(file(10, 4), 20, 5).isEmpty()).isTrue();
+	}
+
+	private static GridFSFile file(long length, int chunkSize) {
+		return new GridFSFile(new BsonObjectId(), "foo", length, chunkSize, new Date(), new Document());
+	}
+}
@@ -17,12 +17,16 @@ package org.springframework.data.mongodb.gridfs;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bson.BsonObjectId;
 import org.bson.Document;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.StreamUtils;
 
 import com.mongodb.MongoGridFSException;
 import com.mongodb.client.gridfs.model.GridFSFile;
@@ -99,4 +103,37 @@ public class GridFsResourceUnitTests {
 		assertThat(absent.getDescription()).contains("GridFs resource [foo]");
 		assertThat(absent.getFilename()).isEqualTo("foo");
 	}
+
+	@Test
+	public void shouldOpenInputStreamLazily() throws Exception {
+
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 0, 0, new Date(), new Document());
+		AtomicInteger opened = new AtomicInteger();
+		GridFsResource resource = new GridFsResource(file, () -> {
+
+			opened.incrementAndGet();
+			return new ByteArrayInputStream(new byte[] { 1 });
+		});
+
+		assertThat(opened).hasValue(0);
+		assertThat(resource.isOpen()).isFalse();
+
+		try (InputStream stream = resource.getInputStream()) {
+			assertThat(stream.read()).isEqualTo(1);
+		}
+
+		resource.getInputStream();
+
+		assertThat(opened).hasValue(2);
+	}
+
+	@Test
+	public void shouldReadRangeFromContent() throws Exception {
+
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 5, 2, new Date(), new Document());
+		GridFsResource resource = new GridFsResource(file, () -> new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 }));
+
+		assertThat(StreamUtils.copyToByteArray(resource.getRange(1, 3))).containsExactly(2, 3, 4);
+		assertThat(StreamUtils.copyToByteArray(resource.getRange(3, 10))).containsExactly(4, 5);
+	}
 }
@@ -16,16 +16,21 @@
 package org.springframework.data.mongodb.gridfs;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.nio.ByteBuffer;
+import java.util.Date;
 
+import org.bson.BsonObjectId;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadPublisher;
@@ -67,8 +72,33 @@ class ReactiveGridFsResourceUnitTests {
 		resource.getDownloadStream().as(StepVerifier::create).verifyComplete();
 	}
 
+	@Test
+	void downloadStreamWithChunkSizeReadsThroughDriverInsteadOfChunkedContent() {
+
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "file.name", 3, 1, new Date(), null);
+		GridFSDownloadPublisher downloadPublisher = mock(GridFSDownloadPublisher.class);
+		when(downloadPublisher.bufferSizeBytes(2))
+				.thenReturn(new StubGridFSDownloadPublisher(ByteBuffer.wrap(new byte[] { 1, 2 })));
+
+		Flux<ByteBuffer> chunkedContent = Flux.error(new IllegalStateException("Parallel chunks must not be read"));
+		ReactiveGridFsResource resource = new ReactiveGridFsResource(file, downloadPublisher, chunkedContent, null,
+				new DefaultDataBufferFactory());
+
+		resource.getDownloadStream(2).as(StepVerifier::create) //
+				.consumeNextWith(it -> assertThat(it.readableByteCount()).isEqualTo(2)) //
+				.verifyComplete();
+
+		verify(downloadPublisher).bufferSizeBytes(2);
+	}
+
 	private static class StubGridFSDownloadPublisher implements GridFSDownloadPublisher {
 
+		private final ByteBuffer[] content;
+
+		StubGridFSDownloadPublisher(ByteBuffer... content) {
+			this.content = content;
+		}
+
 		@Override
 		public Publisher<GridFSFile> getGridFSFile() {
 			return Mono.empty();
@@ -82,6 +112,11 @@ class ReactiveGridFsResourceUnitTests {
 		@Override
 		public void subscribe(Subscriber<? super ByteBuffer> s) {
 
+			if (content.length > 0) {
+				Flux.fromArray(content).subscribe(s);
+				return;
+			}
+
 			s.onSubscribe(new Subscription() {
 				@Override
 				public void request(long n) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link ServerStatusSampler}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ServerStatusSamplerUnitTests {
+
+	@Mock MongoClient client;
+	@Mock MongoDatabase admin;
+
+	@BeforeEach
+	void beforeEach() {
+
+		when(client.getDatabase("admin")).thenReturn(admin);
+		when(admin.runCommand(any(Bson.class))).thenReturn(
+				new Document("opcounters", new Document("insert", 1)).append("connections", new Document("current", 2)));
+	}
+
+	@Test
+	void servesAllMonitorsFromSingleCommandWithinWindow() {
+
+		ServerStatusSampler sampler = new ServerStatusSampler(client, Duration.ofMinutes(1));
+
+		OperationCounters operationCounters = new OperationCounters(sampler);
+		ConnectionMetrics connectionMetrics = new ConnectionMetrics(sampler);
+
+		assertThat(operationCounters.getInsertCount()).isEqualTo(1);
+		assertThat(connectionMetrics.getCurrent()).isEqualTo(2);
+
+		verify(admin, times(1)).runCommand(any(Bson.class));
+	}
+
+	@Test
+	void runsCommandAgainAfterInvalidation() {
+
+		ServerStatusSampler sampler = new ServerStatusSampler(client, Duration.ofMinutes(1));
+
+		sampler.getServerStatus();
+		sampler.invalidate();
+		sampler.getServerStatus();
+
+		verify(admin, times(2)).runCommand(any(Bson.class));
+	}
+
+	@Test
+	void zeroWindowDisablesCaching() {
+
+		ServerStatusSampler sampler = new ServerStatusSampler(client, Duration.ZERO);
+
+		sampler.getServerStatus();
+		sampler.getServerStatus();
+
+		verify(admin, times(2)).runCommand(any(Bson.class));
+	}
+
+	@Test
+	void returnsCopyOfSnapshot() {
+
+		ServerStatusSampler sampler = new ServerStatusSampler(client, Duration.ofMinutes(1));
+
+		sampler.getServerStatus().get("opcounters", Document.class).put("insert", 42);
+		sampler.getServerStatus().remove("connections");
+
+		assertThat(sampler.getServerStatus().get("opcounters", Document.class)).containsEntry("insert", 1);
+		assertThat(sampler.getServerStatus()).containsKey("connections");
+		verify(admin, times(1)).runCommand(any(Bson.class));
+	}
+}
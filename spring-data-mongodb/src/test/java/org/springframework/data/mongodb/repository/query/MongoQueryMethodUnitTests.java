@@ -18,8 +18,11 @@ package org.springframework.data.mongodb.repository.query;
 import static org.assertj.core.api.Assertions.*;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -37,11 +40,15 @@ import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.Contact;
 import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.Person;
+import org.springframework.data.mongodb.repository.ReadPreference;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 
+import com.mongodb.Tag;
+import com.mongodb.TagSet;
+
 /**
  * Unit test for {@link MongoQueryMethod}.
  *
@@ -231,6 +238,45 @@ public class MongoQueryMethodUnitTests {
 		Assertions.assertThat(method.getAnnotatedCollation()).isEqualTo("de_AT");
 	}
 
+	@Test
+	public void createsMetaWithLatencyBudgetAndHedgedReads() throws Exception {
+
+		MongoQueryMethod method = queryMethod(PersonRepository.class, "metaWithLatencyBudget");
+
+		assertThat(method.getQueryMetaAttributes().getLatencyBudget()).isEqualTo(Duration.ofMillis(20));
+		assertThat(method.getQueryMetaAttributes().getMaxTimeMsec()).isEqualTo(20L);
+		assertThat(method.getQueryMetaAttributes().getHedgedReads()).isTrue();
+	}
+
+	@Test
+	public void explicitMaxExecutionTimeTakesPrecedenceOverLatencyBudget() throws Exception {
+
+		MongoQueryMethod method = queryMethod(PersonRepository.class, "metaWithLatencyBudgetAndMaxExecutionTime");
+
+		assertThat(method.getQueryMetaAttributes().getLatencyBudget()).isEqualTo(Duration.ofMillis(20));
+		assertThat(method.getQueryMetaAttributes().getMaxTimeMsec()).isEqualTo(100L);
+		assertThat(method.getQueryMetaAttributes().getHedgedReads()).isNull();
+	}
+
+	@Test
+	public void detectsAnnotatedReadPreference() throws Exception {
+
+		MongoQueryMethod method = queryMethod(PersonRepository.class, "findByAge", int.class);
+
+		assertThat(method.getAnnotatedReadPreference())
+				.contains(com.mongodb.ReadPreference.secondaryPreferred(Arrays.asList(new TagSet(new Tag("dc", "east"))),
+						120, TimeUnit.SECONDS));
+		assertThat(queryMethod(PersonRepository.class, "emptyMetaAnnotation").getAnnotatedReadPreference()).isEmpty();
+	}
+
+	@Test
+	public void fallsBackToReadPreferenceOfRepositoryInterface() throws Exception {
+
+		MongoQueryMethod method = queryMethod(ReadPreferenceRepository.class, "findByFirstname", String.class);
+
+		assertThat(method.getAnnotatedReadPreference()).contains(com.mongodb.ReadPreference.nearest());
+	}
+
 	private MongoQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters) throws Exception {
 
 		Method method = repository.getMethod(name, parameters);
@@ -285,6 +331,21 @@ public class MongoQueryMethodUnitTests {
 		@Aggregation(pipeline = "{'$group': { _id: '$templateId', maxVersion : { $max : '$version'} } }",
 				collation = "de_AT")
 		List<User> findByAggregationWithCollation();
+
+		@Meta(latencyBudgetMs = 20, hedgeReads = true)
+		List<User> metaWithLatencyBudget();
+
+		@Meta(latencyBudgetMs = 20, maxExecutionTimeMs = 100)
+		List<User> metaWithLatencyBudgetAndMaxExecutionTime();
+
+		@ReadPreference(value = "secondaryPreferred", tags = "dc:east", maxStalenessSeconds = 120)
+		List<User> findByAge(int age);
+	}
+
+	@ReadPreference("nearest")
+	interface ReadPreferenceRepository extends Repository<User, Long> {
+
+		List<User> findByFirstname(String firstname);
 	}
 
 	interface SampleRepository extends Repository<Contact, Long> {
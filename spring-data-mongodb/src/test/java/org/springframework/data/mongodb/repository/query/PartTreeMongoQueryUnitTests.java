@@ -20,6 +20,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.mongodb.test.util.Assertions.*;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 
 import org.bson.Document;
@@ -38,6 +39,7 @@ import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -168,6 +170,62 @@ public class PartTreeMongoQueryUnitTests {
 		assertThat(query.getFieldsObject().get("firstname")).isEqualTo(1);
 	}
 
+	@Test
+	void compiledQueryConvertsParametersToMappedCriteria() {
+
+		PartTreeMongoQuery partTreeQuery = createQueryForMethod("findBySexAndAddressZipCode", Sex.class, String.class);
+		partTreeQuery.compileQueryPlan();
+
+		org.springframework.data.mongodb.core.query.Query query = deriveQuery(partTreeQuery, Sex.FEMALE, "12345");
+		Document mapped = new QueryMapper(mongoOperationsMock.getConverter()).getMappedObject(query.getQueryObject(),
+				mappingContext.getPersistentEntity(Person.class));
+
+		assertThat(query.getQueryObject()).doesNotContainKey("sex");
+		assertThat(mapped).isEqualTo(new Document("sex", "FEMALE").append("add.zipCode", "12345"));
+	}
+
+	@Test
+	void compiledQueryCombinesOrPartsAndKeepsFieldSpecification() {
+
+		PartTreeMongoQuery partTreeQuery = createQueryForMethod("findByFirstnameOrAgeGreaterThan", String.class,
+				Integer.class);
+		partTreeQuery.compileQueryPlan();
+
+		org.springframework.data.mongodb.core.query.Query query = deriveQuery(partTreeQuery, "Dave", 42);
+		Document mapped = new QueryMapper(mongoOperationsMock.getConverter()).getMappedObject(query.getQueryObject(),
+				mappingContext.getPersistentEntity(Person.class));
+
+		assertThat(mapped).isEqualTo(new Document("$or", Arrays.asList(new Document("firstname", "Dave"),
+				new Document("age", new Document("$gt", 42)))));
+		assertThat(query.getFieldsObject().get("firstname")).isEqualTo(1);
+	}
+
+	@Test
+	void compiledQueryCombinesMultipleOrPartsIntoSingleOr() {
+
+		PartTreeMongoQuery partTreeQuery = createQueryForMethod("findByFirstnameOrLastnameOrAgeGreaterThan",
+				String.class, String.class, Integer.class);
+		partTreeQuery.compileQueryPlan();
+
+		org.springframework.data.mongodb.core.query.Query query = deriveQuery(partTreeQuery, "Dave", "Matthews", 42);
+		Document mapped = new QueryMapper(mongoOperationsMock.getConverter()).getMappedObject(query.getQueryObject(),
+				mappingContext.getPersistentEntity(Person.class));
+
+		assertThat(mapped).isEqualTo(new Document("$or", Arrays.asList(new Document("firstname", "Dave"),
+				new Document("lastname", "Matthews"), new Document("age", new Document("$gt", 42)))));
+	}
+
+	@Test
+	void fallsBackToQueryCreatorForKeywordsNotSupportedByQueryPlan() {
+
+		PartTreeMongoQuery partTreeQuery = createQueryForMethod("findByFirstnameLike", String.class);
+		partTreeQuery.compileQueryPlan();
+
+		org.springframework.data.mongodb.core.query.Query query = deriveQuery(partTreeQuery, "Da*");
+
+		assertThat(query.getQueryObject()).containsKey("firstname");
+	}
+
 	@Test // DATAMONGO-1729, DATAMONGO-1735
 	public void doesNotCreateFieldsObjectForOpenProjection() {
 
@@ -194,7 +252,11 @@ public class PartTreeMongoQueryUnitTests {
 			types[i] = args[i].getClass();
 		}
 
-		PartTreeMongoQuery partTreeQuery = createQueryForMethod(method, types);
+		return deriveQuery(createQueryForMethod(method, types), args);
+	}
+
+	private org.springframework.data.mongodb.core.query.Query deriveQuery(PartTreeMongoQuery partTreeQuery,
+			Object... args) {
 
 		MongoParameterAccessor accessor = new MongoParametersParameterAccessor(partTreeQuery.getQueryMethod(), args);
 		return partTreeQuery.createQuery(new ConvertingParameterAccessor(mongoOperationsMock.getConverter(), accessor));
@@ -249,6 +311,15 @@ public class PartTreeMongoQueryUnitTests {
 		OpenProjection findAllBy();
 
 		Person findFirstBy();
+
+		List<Person> findBySexAndAddressZipCode(Sex sex, String zipCode);
+
+		@Query(fields = "{ 'firstname' : 1 }")
+		List<Person> findByFirstnameOrAgeGreaterThan(String firstname, Integer age);
+
+		List<Person> findByFirstnameOrLastnameOrAgeGreaterThan(String firstname, String lastname, Integer age);
+
+		List<Person> findByFirstnameLike(String firstname);
 	}
 
 	interface PersonProjection {
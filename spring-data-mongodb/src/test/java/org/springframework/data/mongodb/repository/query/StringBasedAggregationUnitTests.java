@@ -172,6 +172,24 @@ public class StringBasedAggregationUnitTests {
 		assertThat(executeAggregation("returnRawResultType").result).isEqualTo(aggregationResults);
 	}
 
+	@Test
+	public void discardsRawResultsWhenNotReturned() {
+
+		when(aggregationResults.getMappedResults()).thenReturn(Collections.emptyList());
+
+		AggregationInvocation invocation = executeAggregation("returnCollection");
+
+		assertThat(invocation.aggregation.getOptions().isRetainRawResults()).isFalse();
+	}
+
+	@Test
+	public void retainsRawResultsWhenReturned() {
+
+		AggregationInvocation invocation = executeAggregation("returnRawResultType");
+
+		assertThat(invocation.aggregation.getOptions().isRetainRawResults()).isTrue();
+	}
+
 	@Test // DATAMONGO-2153
 	public void plainStringAggregationWithSortParameter() {
 
@@ -26,12 +26,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.repository.Person;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
+import org.springframework.data.mongodb.repository.support.CurrentRepositoryMethodPostProcessor.CurrentRepositoryMethodInterceptor;
 import org.springframework.data.repository.Repository;
 
 /**
@@ -79,6 +82,22 @@ public class MongoRepositoryFactoryUnitTests {
 		assertThat(repository).isNotNull();
 	}
 
+	@Test
+	void bindsCurrentRepositoryMethodOnlyIfOperationMetricsConfigured() {
+
+		when(mappingContext.getRequiredPersistentEntity(Person.class)).thenReturn(entity);
+
+		MyPersonRepository repository = new MongoRepositoryFactory(template).getRepository(MyPersonRepository.class);
+		assertThat(((Advised) repository).getAdvisors()).extracting(Advisor::getAdvice)
+				.noneMatch(CurrentRepositoryMethodInterceptor.class::isInstance);
+
+		when(template.hasOperationMetrics()).thenReturn(true);
+
+		repository = new MongoRepositoryFactory(template).getRepository(MyPersonRepository.class);
+		assertThat(((Advised) repository).getAdvisors()).extracting(Advisor::getAdvice)
+				.anyMatch(CurrentRepositoryMethodInterceptor.class::isInstance);
+	}
+
 	interface MyPersonRepository extends Repository<Person, Long> {
 
 	}
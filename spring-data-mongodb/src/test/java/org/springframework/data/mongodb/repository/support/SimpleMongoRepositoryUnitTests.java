@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,11 +31,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 
+import com.mongodb.ReadPreference;
+
 /**
  * @author Christoph Strobl
  */
@@ -133,6 +139,45 @@ public class SimpleMongoRepositoryUnitTests {
 		assertThat(query.getValue().getCollation()).contains(collation);
 	}
 
+	@Test
+	void appliesReadPreferenceOfCrudMethodMetadata() {
+
+		when(entityInformation.getCollectionName()).thenReturn("dummy");
+		repository.setRepositoryMethodMetadata(() -> Optional.of(ReadPreference.secondaryPreferred()));
+
+		repository.count();
+		repository.findById("id-1");
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		verify(mongoOperations).count(query.capture(), eq("dummy"));
+		assertThat(query.getValue().getReadPreference()).isEqualTo(ReadPreference.secondaryPreferred());
+
+		verify(mongoOperations).findOne(query.capture(), any(), any());
+		assertThat(query.getValue().getReadPreference()).isEqualTo(ReadPreference.secondaryPreferred());
+		verify(mongoOperations, never()).findById(any(), any(), any());
+	}
+
+	@Test
+	void doesNotApplyReadPreferenceOfCrudMethodMetadataWithinTransaction() {
+
+		MongoTemplate template = mock(MongoTemplate.class);
+		MongoDatabaseFactory factory = mock(MongoDatabaseFactory.class);
+		when(template.getMongoDatabaseFactory()).thenReturn(factory);
+		when(factory.isTransactionActive()).thenReturn(true);
+		when(entityInformation.getCollectionName()).thenReturn("dummy");
+
+		SimpleMongoRepository<Object, Object> repository = new SimpleMongoRepository<>(entityInformation, template);
+		repository.setRepositoryMethodMetadata(() -> Optional.of(ReadPreference.secondaryPreferred()));
+
+		repository.count();
+		repository.findById("id-1");
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		verify(template).count(query.capture(), eq("dummy"));
+		assertThat(query.getValue().getReadPreference()).isNull();
+		verify(template).findById(eq("id-1"), any(), eq("dummy"));
+	}
+
 	static class TestDummy {
 
 	}